@@ -10,6 +10,7 @@ import org.msgpack.value.Value;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -65,6 +66,52 @@ public interface TarantoolCallOperations {
     CompletableFuture<List<?>> call(String functionName, List<?> arguments, MessagePackMapper mapper)
         throws TarantoolClientException;
 
+    /**
+     * Execute a function defined on Tarantool instance, receiving the values sent by the function with
+     * <code>box.session.push()</code> before it returns. The pushed values are passed to the handler one by one as
+     * they arrive, so the function may stream a result of any size in bounded chunks instead of returning it at once.
+     * The value mapper specified in the client configuration will be used for converting the arguments, the pushed
+     * values and the result values.
+     * <p>
+     * The handler is called in the network I/O thread and must not block. If it throws an exception, the returned
+     * future completes exceptionally with it and the remaining pushed values are skipped.
+     * <p>
+     * The default implementation does not support the pushed values: it ignores them and returns the function result
+     * only. The client implementations override it.
+     *
+     * @param functionName function name, must not be null or empty
+     * @param arguments    list of function arguments
+     * @param pushHandler  handler receiving the pushed values, must not be null
+     * @return some result
+     * @throws TarantoolClientException if the client is not connected or some other error occurred
+     */
+    default CompletableFuture<List<?>> call(String functionName, List<?> arguments, Consumer<Object> pushHandler)
+        throws TarantoolClientException {
+        return call(functionName, arguments);
+    }
+
+    /**
+     * Execute a function defined on Tarantool instance, receiving the values sent by the function with
+     * <code>box.session.push()</code> before it returns
+     *
+     * @param functionName function name, must not be null or empty
+     * @param arguments    list of function arguments
+     * @param mapper       mapper for arguments object-to-MessagePack entity conversion, pushed values and result
+     *                     values conversion
+     * @param pushHandler  handler receiving the pushed values, must not be null
+     * @return some result
+     * @throws TarantoolClientException if the client is not connected or some other error occurred
+     * @see #call(String, List, Consumer)
+     */
+    default CompletableFuture<List<?>> call(
+        String functionName,
+        List<?> arguments,
+        MessagePackMapper mapper,
+        Consumer<Object> pushHandler)
+        throws TarantoolClientException {
+        return call(functionName, arguments, mapper);
+    }
+
     /**
      * Execute a function defined on Tarantool instance. The call result is interpreted as an array of tuples. The value
      * mapper specified in the client configuration will be used for converting the result values from MessagePack
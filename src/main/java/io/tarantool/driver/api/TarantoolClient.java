@@ -16,7 +16,7 @@ import java.util.Collection;
  * @author Alexey Kuzin
  */
 public interface TarantoolClient<T extends Packable, R extends Collection<T>>
-    extends AutoCloseable, TarantoolCallOperations, TarantoolEvalOperations {
+    extends AutoCloseable, TarantoolCallOperations, TarantoolEvalOperations, TarantoolSqlOperations {
     /**
      * Provides implementation of retrieving the metadata for spaces and instances from Tarantool servers
      *
@@ -57,6 +57,20 @@ public interface TarantoolClient<T extends Packable, R extends Collection<T>>
      */
     TarantoolSpaceOperations<T, R> space(int spaceId) throws TarantoolClientException;
 
+    /**
+     * Create a pipeline for sending several operations together over one connection with one flush
+     *
+     * @return new pipeline instance
+     */
+    TarantoolPipeline<T, R> pipeline();
+
+    /**
+     * Create a transaction for executing several operations atomically on one Tarantool server
+     *
+     * @return new transaction instance
+     */
+    TarantoolTransaction<T, R> transaction();
+
     /**
      * Provides operations for Tarantool spaces and indexes metadata
      *
@@ -1,8 +1,11 @@
 package io.tarantool.driver.api;
 
+import io.netty.channel.ChannelOption;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.handler.ssl.SslContext;
 import io.tarantool.driver.api.connection.ConnectionSelectionStrategyFactory;
 import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategyType;
+import io.tarantool.driver.api.connection.TarantoolTransportType;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.auth.TarantoolCredentials;
 import io.tarantool.driver.mappers.DefaultMessagePackMapper;
@@ -11,6 +14,7 @@ import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
 
 import java.net.InetSocketAddress;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.UnaryOperator;
 
 /**
@@ -155,7 +159,8 @@ public interface TarantoolClientBuilder extends TarantoolClientConfigurator<Tara
     TarantoolClientBuilder withConnectTimeout(int connectTimeout);
 
     /**
-     * Specify a response reading timeout. The default is 1000 milliseconds.
+     * Specify a response reading timeout. It limits the time of waiting for the ping responses, if the pings are
+     * enabled. The default is 1000 milliseconds.
      *
      * @param readTimeout the timeout for reading the responses from Tarantool server, in milliseconds
      * @return this instance of builder {@link TarantoolClientBuilder}
@@ -185,7 +190,12 @@ public interface TarantoolClientBuilder extends TarantoolClientConfigurator<Tara
     /**
      * Select a built-in connection selection strategy factory. The default strategy types include simple round-robin
      * algorithms, good enough for balancing the requests between several connections with a single server (ROUND_ROBIN)
-     * or multiple servers (PARALLEL_ROUND_ROBIN).
+     * or multiple servers (PARALLEL_ROUND_ROBIN), a load-aware algorithm preferring the connections with fewer
+     * requests waiting for the responses (LEAST_OUTSTANDING_REQUESTS), a latency-aware algorithm preferring the
+     * connections with lower response time (LATENCY_AWARE), and a weighted algorithm using the server priorities and
+     * statuses received from the cluster discovery (WEIGHTED). The WEIGHTED strategy takes the server weight from the
+     * node "weight" field or, if it is absent, from the node "priority" field, so that a node with a higher priority
+     * receives proportionally more requests. The priority 0 means no preference and gives the default weight 1.
      *
      * @param connectionSelectionStrategyType built-in connection selection strategy factory type
      * @return this instance of builder {@link TarantoolClientBuilder}
@@ -220,6 +230,224 @@ public interface TarantoolClientBuilder extends TarantoolClientConfigurator<Tara
      */
     TarantoolClientBuilder withEventLoopThreadsNumber(int eventLoopThreadsNumber);
 
+    /**
+     * Keep the response data (IPROTO_DATA) as raw MessagePack bytes until the result mapper needs it. The data is
+     * unpacked when the result is mapped, so it is not held in memory twice. Disabled by default
+     *
+     * @param lazyResponseBody boolean flag
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     */
+    TarantoolClientBuilder withLazyResponseBody(boolean lazyResponseBody);
+
+    /**
+     * Specify the executor for mapping the response data to the result objects and completing the request futures.
+     * Dependent non-async stages of the request futures will run in this executor as well. Responses smaller than
+     * the result mapping threshold are still mapped in the network I/O threads. By default, all the results are
+     * mapped in the network I/O threads
+     *
+     * @param resultMappingExecutor executor instance, for example a dedicated thread pool or
+     *                              {@link java.util.concurrent.ForkJoinPool#commonPool()}
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     */
+    TarantoolClientBuilder withResultMappingExecutor(Executor resultMappingExecutor);
+
+    /**
+     * Specify the minimal response size for mapping the result in the result mapping executor. Smaller responses
+     * are mapped in the network I/O threads, since handing them over to the executor costs more than mapping them.
+     * Default is 1024 bytes
+     *
+     * @param resultMappingThreshold number of bytes, must not be negative
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     */
+    TarantoolClientBuilder withResultMappingThreshold(int resultMappingThreshold);
+
+    /**
+     * Specify the receiver of the client runtime measurements. By default, the measurements are dropped
+     *
+     * @param clientMetrics metrics receiver
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     */
+    TarantoolClientBuilder withClientMetrics(TarantoolClientMetrics clientMetrics);
+
+    /**
+     * Specify the maximum number of requests sent over one connection and waiting for a response. When the limit is
+     * reached or the connection is not writable, the new requests are queued for at most the in-flight queue timeout,
+     * at most the same number of requests per connection. The requests that cannot be queued are failed with
+     * {@link io.tarantool.driver.exceptions.TarantoolInFlightRequestsLimitException}. By default, there is no limit
+     *
+     * @param maxInFlightRequests number of requests, 0 means no limit
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     */
+    TarantoolClientBuilder withMaxInFlightRequests(int maxInFlightRequests);
+
+    /**
+     * Specify the time a request may wait for being sent when the in-flight requests limit is reached or the
+     * connection is not writable. By default, such requests are rejected immediately
+     *
+     * @param inFlightQueueTimeout timeout value in milliseconds, 0 means rejecting the requests immediately
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     */
+    TarantoolClientBuilder withInFlightQueueTimeout(int inFlightQueueTimeout);
+
+    /**
+     * Specify the outbound buffer size limits for the connections. When the outbound buffer grows above the high
+     * water mark, the connection becomes not writable and the new requests are queued as if the in-flight requests
+     * limit was reached, until the buffer shrinks below the low water mark. The requests are queued only if the
+     * in-flight requests limit is set. By default, the Netty defaults are used
+     *
+     * @param writeBufferWaterMark low and high water marks in bytes
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     */
+    TarantoolClientBuilder withWriteBufferWaterMark(WriteBufferWaterMark writeBufferWaterMark);
+
+    /**
+     * Specify the number of requests written to a connection after which the pending requests are flushed without
+     * waiting for the end of the event loop tick. The requests written within one tick are flushed together, that
+     * reduces the number of system calls for a burst of small requests. Value 1 disables the flush coalescing.
+     * Default is 64
+     *
+     * @param maxPendingWrites number of requests, must be positive
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     */
+    TarantoolClientBuilder withMaxPendingWrites(int maxPendingWrites);
+
+    /**
+     * Specify the total size of requests written to a connection after which the pending requests are flushed
+     * without waiting for the end of the event loop tick. Default is 64 KiB
+     *
+     * @param maxPendingWriteBytes number of bytes, must be positive
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     */
+    TarantoolClientBuilder withMaxPendingWriteBytes(int maxPendingWriteBytes);
+
+    /**
+     * Specify the network transport for the connections. The native transports give lower latency and support
+     * additional channel options, but require the corresponding Netty artifacts on the classpath. If the specified
+     * transport is not available, NIO is used. By default, epoll is used if available
+     *
+     * @param transportType transport type
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     */
+    TarantoolClientBuilder withTransportType(TarantoolTransportType transportType);
+
+    /**
+     * Specify the channel option for the connections which use any transport. The specified options override
+     * the default ones, for example, {@code SO_KEEPALIVE} or {@code TCP_NODELAY}
+     *
+     * @param option channel option
+     * @param value  option value
+     * @param <V>    option value type
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     */
+    <V> TarantoolClientBuilder withChannelOption(ChannelOption<V> option, V value);
+
+    /**
+     * Specify the channel option for the connections which use the specified transport. The option is ignored
+     * if another transport is used, so the native transport options like {@code EpollChannelOption.TCP_QUICKACK}
+     * can be specified without checking the transport availability
+     *
+     * @param transportType transport type, must not be {@link TarantoolTransportType#AUTO}
+     * @param option        channel option
+     * @param value         option value
+     * @param <V>           option value type
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     */
+    <V> TarantoolClientBuilder withChannelOption(
+        TarantoolTransportType transportType, ChannelOption<V> option, V value);
+
+    /**
+     * Specify the event loops, timers and executors shared with other clients. The client retains the resources
+     * and releases them when closed. The transport type and the event loop threads number of the resources are
+     * used instead of the client ones. By default, each client creates its own resources
+     *
+     * @param clientResources client resources
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     */
+    TarantoolClientBuilder withClientResources(TarantoolClientResources clientResources);
+
+    /**
+     * Enable or disable the background reconnection of the lost connections. If enabled, a lost connection is
+     * re-established by a background task with exponential backoff, and the requests are sent over the remaining
+     * connections in the meantime. If disabled, the lost connections are re-established by the next request for
+     * a connection. Enabled by default
+     *
+     * @param backgroundReconnect true, if the lost connections must be re-established in the background
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     */
+    TarantoolClientBuilder withBackgroundReconnect(boolean backgroundReconnect);
+
+    /**
+     * Specify the delay before the first background reconnection attempt. The delay is doubled after each failed
+     * attempt up to the maximum delay, and a random jitter of up to a half of the delay is subtracted, so that the
+     * clients do not reconnect to a restarted server all at once. Default is 100 milliseconds
+     *
+     * @param reconnectInitialDelay delay in milliseconds, must be greater than 0
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     */
+    TarantoolClientBuilder withReconnectInitialDelay(int reconnectInitialDelay);
+
+    /**
+     * Specify the maximum delay between the background reconnection attempts. Default is 30 seconds
+     *
+     * @param reconnectMaxDelay delay in milliseconds, must be greater than 0
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     */
+    TarantoolClientBuilder withReconnectMaxDelay(int reconnectMaxDelay);
+
+    /**
+     * Enable the adaptive connection pool with the specified maximum number of connections per Tarantool server.
+     * The number of connections specified by {@link #withConnections(int)} becomes the minimum pool size. The pool
+     * of a server grows when the connections are overloaded, see {@link #withConnectionGrowthThreshold(int)}, and
+     * shrinks when the extra connections are idle, see {@link #withIdleConnectionTimeout(int)}. By default, the
+     * pool size is fixed
+     *
+     * @param maxConnections number of connections, 0 for the fixed pool size
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     */
+    TarantoolClientBuilder withMaxConnections(int maxConnections);
+
+    /**
+     * Specify the average number of requests waiting for the responses per connection, at which the adaptive
+     * connection pool of a server grows. The pool also grows when the outbound buffer of a connection exceeds the
+     * high water mark. Default is 16
+     *
+     * @param connectionGrowthThreshold number of requests, must be greater than 0
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     */
+    TarantoolClientBuilder withConnectionGrowthThreshold(int connectionGrowthThreshold);
+
+    /**
+     * Specify the time after which the connections exceeding the minimum size of the adaptive connection pool are
+     * closed if they receive no requests. Default is 60 seconds
+     *
+     * @param idleConnectionTimeout timeout in milliseconds, must be greater than 0
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     */
+    TarantoolClientBuilder withIdleConnectionTimeout(int idleConnectionTimeout);
+
+    /**
+     * Enable the connection health checks. If no data is received over a connection for the specified time,
+     * an IPROTO_PING request is sent. If the ping response is not received within the read timeout, the
+     * connection is closed as dead, so that it is re-established before the user requests fail by timeout. The
+     * ping round-trip time is also included into the connection response time average. By default, the pings are
+     * disabled
+     *
+     * @param pingInterval interval in milliseconds, 0 for disabling the pings
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     * @see #withReadTimeout(int)
+     */
+    TarantoolClientBuilder withPingInterval(int pingInterval);
+
+    /**
+     * Specify the maximum number of prepared SQL statements kept for each connection. The least recently used
+     * statements are unprepared when the limit is exceeded. Set to 0 for sending the SQL text with each request
+     * instead of preparing the statements. Default is 64
+     *
+     * @param statementCacheSize number of statements, must not be negative
+     * @return this instance of builder {@link TarantoolClientBuilder}
+     */
+    TarantoolClientBuilder withStatementCacheSize(int statementCacheSize);
+
     /**
      * Build the configured Tarantool client instance. Call this when you have specified all necessary settings.
      *
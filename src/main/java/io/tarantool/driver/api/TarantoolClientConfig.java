@@ -1,8 +1,11 @@
 package io.tarantool.driver.api;
 
+import io.netty.channel.ChannelOption;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.handler.ssl.SslContext;
 import io.tarantool.driver.api.connection.ConnectionSelectionStrategyFactory;
 import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies;
+import io.tarantool.driver.api.connection.TarantoolTransportType;
 import io.tarantool.driver.api.retry.RequestRetryPolicy;
 import io.tarantool.driver.auth.SimpleTarantoolCredentials;
 import io.tarantool.driver.auth.TarantoolCredentials;
@@ -10,6 +13,11 @@ import io.tarantool.driver.mappers.MessagePackMapper;
 import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
 import io.tarantool.driver.utils.Assert;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -22,11 +30,25 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public class TarantoolClientConfig {
 
     private static final int DEFAULT_CONNECT_TIMEOUT = 1000; // milliseconds
-    private static final int DEFAULT_READ_TIMEOUT = 1000; // milliseconds
+    /**
+     * Default timeout for receiving a response, in milliseconds
+     */
+    public static final int DEFAULT_READ_TIMEOUT = 1000; // milliseconds
     private static final int DEFAULT_REQUEST_TIMEOUT = 2000; // milliseconds
     private static final int DEFAULT_CONNECTIONS = 1;
     private static final int DEFAULT_CURSOR_BATCH_SIZE = 100;
     private static final int DEFAULT_EVENT_LOOP_THREADS_NUMBER = 0;
+    /**
+     * Default minimal response size for mapping the result in the result mapping executor, in bytes
+     */
+    public static final int DEFAULT_RESULT_MAPPING_THRESHOLD = 1024; // bytes
+    private static final int DEFAULT_MAX_PENDING_WRITES = 64;
+    private static final int DEFAULT_MAX_PENDING_WRITE_BYTES = 64 * 1024; // bytes
+    private static final int DEFAULT_RECONNECT_INITIAL_DELAY = 100; // milliseconds
+    private static final int DEFAULT_RECONNECT_MAX_DELAY = 30000; // milliseconds
+    private static final int DEFAULT_CONNECTION_GROWTH_THRESHOLD = 16;
+    private static final int DEFAULT_IDLE_CONNECTION_TIMEOUT = 60000; // milliseconds
+    private static final int DEFAULT_STATEMENT_CACHE_SIZE = 64;
 
     private TarantoolCredentials credentials;
     private int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
@@ -40,6 +62,28 @@ public class TarantoolClientConfig {
         TarantoolConnectionSelectionStrategies.ParallelRoundRobinStrategyFactory.INSTANCE;
     private final AtomicBoolean isSecure = new AtomicBoolean(false);
     private SslContext sslContext;
+    private boolean lazyResponseBody;
+    private Executor resultMappingExecutor;
+    private int resultMappingThreshold = DEFAULT_RESULT_MAPPING_THRESHOLD;
+    private TarantoolClientMetrics clientMetrics = TarantoolClientMetrics.NOOP;
+    private int maxInFlightRequests;
+    private int inFlightQueueTimeout;
+    private WriteBufferWaterMark writeBufferWaterMark;
+    private int maxPendingWrites = DEFAULT_MAX_PENDING_WRITES;
+    private int maxPendingWriteBytes = DEFAULT_MAX_PENDING_WRITE_BYTES;
+    private TarantoolTransportType transportType = TarantoolTransportType.defaultType();
+    private final Map<ChannelOption<?>, Object> channelOptions = new LinkedHashMap<>();
+    private final Map<TarantoolTransportType, Map<ChannelOption<?>, Object>> transportChannelOptions =
+        new EnumMap<>(TarantoolTransportType.class);
+    private TarantoolClientResources clientResources;
+    private boolean backgroundReconnect = true;
+    private int reconnectInitialDelay = DEFAULT_RECONNECT_INITIAL_DELAY;
+    private int reconnectMaxDelay = DEFAULT_RECONNECT_MAX_DELAY;
+    private int maxConnections;
+    private int connectionGrowthThreshold = DEFAULT_CONNECTION_GROWTH_THRESHOLD;
+    private int idleConnectionTimeout = DEFAULT_IDLE_CONNECTION_TIMEOUT;
+    private int pingInterval;
+    private int statementCacheSize = DEFAULT_STATEMENT_CACHE_SIZE;
 
     /**
      * Basic constructor.
@@ -63,6 +107,28 @@ public class TarantoolClientConfig {
         this.isSecure.set(config.isSecure.get());
         this.sslContext = config.getSslContext();
         this.eventLoopThreadsNumber = config.getEventLoopThreadsNumber();
+        this.lazyResponseBody = config.isLazyResponseBody();
+        this.resultMappingExecutor = config.getResultMappingExecutor();
+        this.resultMappingThreshold = config.getResultMappingThreshold();
+        this.clientMetrics = config.getClientMetrics();
+        this.maxInFlightRequests = config.getMaxInFlightRequests();
+        this.inFlightQueueTimeout = config.getInFlightQueueTimeout();
+        this.writeBufferWaterMark = config.getWriteBufferWaterMark();
+        this.maxPendingWrites = config.getMaxPendingWrites();
+        this.maxPendingWriteBytes = config.getMaxPendingWriteBytes();
+        this.transportType = config.getTransportType();
+        this.channelOptions.putAll(config.channelOptions);
+        config.transportChannelOptions.forEach(
+            (type, options) -> this.transportChannelOptions.put(type, new LinkedHashMap<>(options)));
+        this.clientResources = config.getClientResources();
+        this.backgroundReconnect = config.isBackgroundReconnect();
+        this.reconnectInitialDelay = config.getReconnectInitialDelay();
+        this.reconnectMaxDelay = config.getReconnectMaxDelay();
+        this.maxConnections = config.getMaxConnections();
+        this.connectionGrowthThreshold = config.getConnectionGrowthThreshold();
+        this.idleConnectionTimeout = config.getIdleConnectionTimeout();
+        this.pingInterval = config.getPingInterval();
+        this.statementCacheSize = config.getStatementCacheSize();
     }
 
     /**
@@ -268,6 +334,392 @@ public class TarantoolClientConfig {
         this.eventLoopThreadsNumber = eventLoopThreadsNumber;
     }
 
+    /**
+     * Get the flag which determines whether the response data is kept as raw MessagePack bytes until the result
+     * mapper needs it
+     *
+     * @return boolean flag
+     */
+    public boolean isLazyResponseBody() {
+        return lazyResponseBody;
+    }
+
+    /**
+     * Keep the response data as raw MessagePack bytes until the result mapper needs it, instead of unpacking it
+     * when the response frame is decoded. The data of the requests with streaming result mappers is kept as raw
+     * bytes regardless of this option, since it is read directly by the result mapper.
+     *
+     * @param lazyResponseBody boolean flag
+     */
+    public void setLazyResponseBody(boolean lazyResponseBody) {
+        this.lazyResponseBody = lazyResponseBody;
+    }
+
+    /**
+     * Get the executor for mapping the response data to the result objects
+     *
+     * @return executor instance or null, if the results are mapped in the network I/O threads
+     */
+    public Executor getResultMappingExecutor() {
+        return resultMappingExecutor;
+    }
+
+    /**
+     * Set the executor for mapping the response data to the result objects
+     *
+     * @param resultMappingExecutor executor instance or null
+     */
+    public void setResultMappingExecutor(Executor resultMappingExecutor) {
+        this.resultMappingExecutor = resultMappingExecutor;
+    }
+
+    /**
+     * Get the minimal response size for mapping the result in the result mapping executor
+     *
+     * @return number of bytes
+     */
+    public int getResultMappingThreshold() {
+        return resultMappingThreshold;
+    }
+
+    /**
+     * Set the minimal response size for mapping the result in the result mapping executor
+     *
+     * @param resultMappingThreshold number of bytes
+     */
+    public void setResultMappingThreshold(int resultMappingThreshold) {
+        this.resultMappingThreshold = resultMappingThreshold;
+    }
+
+    /**
+     * Get the receiver of the client runtime measurements
+     *
+     * @return metrics receiver
+     */
+    public TarantoolClientMetrics getClientMetrics() {
+        return clientMetrics;
+    }
+
+    /**
+     * Set the receiver of the client runtime measurements
+     *
+     * @param clientMetrics metrics receiver
+     */
+    public void setClientMetrics(TarantoolClientMetrics clientMetrics) {
+        this.clientMetrics = clientMetrics;
+    }
+
+    /**
+     * Get the maximum number of requests sent over one connection and waiting for a response
+     *
+     * @return number of requests, 0 means no limit
+     */
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    /**
+     * Set the maximum number of requests sent over one connection and waiting for a response
+     *
+     * @param maxInFlightRequests number of requests, 0 means no limit
+     */
+    public void setMaxInFlightRequests(int maxInFlightRequests) {
+        this.maxInFlightRequests = maxInFlightRequests;
+    }
+
+    /**
+     * Get the time a request may wait for being sent when the in-flight requests limit is reached
+     *
+     * @return timeout value in milliseconds
+     */
+    public int getInFlightQueueTimeout() {
+        return inFlightQueueTimeout;
+    }
+
+    /**
+     * Set the time a request may wait for being sent when the in-flight requests limit is reached
+     *
+     * @param inFlightQueueTimeout timeout value in milliseconds
+     */
+    public void setInFlightQueueTimeout(int inFlightQueueTimeout) {
+        this.inFlightQueueTimeout = inFlightQueueTimeout;
+    }
+
+    /**
+     * Get the outbound buffer size limits which determine when a connection stops accepting new requests
+     *
+     * @return water mark or null, if the Netty defaults are used
+     */
+    public WriteBufferWaterMark getWriteBufferWaterMark() {
+        return writeBufferWaterMark;
+    }
+
+    /**
+     * Set the outbound buffer size limits which determine when a connection stops accepting new requests
+     *
+     * @param writeBufferWaterMark water mark or null
+     */
+    public void setWriteBufferWaterMark(WriteBufferWaterMark writeBufferWaterMark) {
+        this.writeBufferWaterMark = writeBufferWaterMark;
+    }
+
+    /**
+     * Get the number of requests written to a connection after which the pending requests are flushed without
+     * waiting for the end of the event loop tick
+     *
+     * @return number of requests
+     */
+    public int getMaxPendingWrites() {
+        return maxPendingWrites;
+    }
+
+    /**
+     * Set the number of requests written to a connection after which the pending requests are flushed without
+     * waiting for the end of the event loop tick
+     *
+     * @param maxPendingWrites number of requests
+     */
+    public void setMaxPendingWrites(int maxPendingWrites) {
+        this.maxPendingWrites = maxPendingWrites;
+    }
+
+    /**
+     * Get the total size of requests written to a connection after which the pending requests are flushed without
+     * waiting for the end of the event loop tick
+     *
+     * @return number of bytes
+     */
+    public int getMaxPendingWriteBytes() {
+        return maxPendingWriteBytes;
+    }
+
+    /**
+     * Set the total size of requests written to a connection after which the pending requests are flushed without
+     * waiting for the end of the event loop tick
+     *
+     * @param maxPendingWriteBytes number of bytes
+     */
+    public void setMaxPendingWriteBytes(int maxPendingWriteBytes) {
+        this.maxPendingWriteBytes = maxPendingWriteBytes;
+    }
+
+    /**
+     * Get the network transport type for the connections
+     *
+     * @return transport type
+     */
+    public TarantoolTransportType getTransportType() {
+        return transportType;
+    }
+
+    /**
+     * Set the network transport type for the connections
+     *
+     * @param transportType transport type
+     */
+    public void setTransportType(TarantoolTransportType transportType) {
+        this.transportType = transportType;
+    }
+
+    /**
+     * Get the channel options for the connections which use the specified transport. The options set for all
+     * transports are overridden by the options set for the specified one
+     *
+     * @param transportType transport type
+     * @return channel options and their values
+     */
+    public Map<ChannelOption<?>, Object> getChannelOptions(TarantoolTransportType transportType) {
+        Map<ChannelOption<?>, Object> options = new LinkedHashMap<>(channelOptions);
+        options.putAll(transportChannelOptions.getOrDefault(transportType, Collections.emptyMap()));
+        return options;
+    }
+
+    /**
+     * Set the channel option for the connections which use any transport
+     *
+     * @param option channel option
+     * @param value  option value
+     * @param <V>    option value type
+     */
+    public <V> void setChannelOption(ChannelOption<V> option, V value) {
+        channelOptions.put(option, value);
+    }
+
+    /**
+     * Set the channel option for the connections which use the specified transport. The transport-specific options,
+     * like {@code EpollChannelOption.TCP_QUICKACK}, must be set this way
+     *
+     * @param transportType transport type
+     * @param option        channel option
+     * @param value         option value
+     * @param <V>           option value type
+     */
+    public <V> void setChannelOption(TarantoolTransportType transportType, ChannelOption<V> option, V value) {
+        transportChannelOptions.computeIfAbsent(transportType, type -> new LinkedHashMap<>()).put(option, value);
+    }
+
+    /**
+     * Get the resources shared with other clients
+     *
+     * @return client resources or null, if the client creates its own ones
+     */
+    public TarantoolClientResources getClientResources() {
+        return clientResources;
+    }
+
+    /**
+     * Set the resources shared with other clients
+     *
+     * @param clientResources client resources or null
+     */
+    public void setClientResources(TarantoolClientResources clientResources) {
+        this.clientResources = clientResources;
+    }
+
+    /**
+     * Get the flag enabling the background reconnection of the lost connections
+     *
+     * @return true, if the lost connections are re-established in the background
+     */
+    public boolean isBackgroundReconnect() {
+        return backgroundReconnect;
+    }
+
+    /**
+     * Set the flag enabling the background reconnection of the lost connections
+     *
+     * @param backgroundReconnect true, if the lost connections must be re-established in the background
+     */
+    public void setBackgroundReconnect(boolean backgroundReconnect) {
+        this.backgroundReconnect = backgroundReconnect;
+    }
+
+    /**
+     * Get the delay before the first background reconnection attempt
+     *
+     * @return delay in milliseconds
+     */
+    public int getReconnectInitialDelay() {
+        return reconnectInitialDelay;
+    }
+
+    /**
+     * Set the delay before the first background reconnection attempt
+     *
+     * @param reconnectInitialDelay delay in milliseconds
+     */
+    public void setReconnectInitialDelay(int reconnectInitialDelay) {
+        this.reconnectInitialDelay = reconnectInitialDelay;
+    }
+
+    /**
+     * Get the maximum delay between the background reconnection attempts
+     *
+     * @return delay in milliseconds
+     */
+    public int getReconnectMaxDelay() {
+        return reconnectMaxDelay;
+    }
+
+    /**
+     * Set the maximum delay between the background reconnection attempts
+     *
+     * @param reconnectMaxDelay delay in milliseconds
+     */
+    public void setReconnectMaxDelay(int reconnectMaxDelay) {
+        this.reconnectMaxDelay = reconnectMaxDelay;
+    }
+
+    /**
+     * Get the maximum number of connections per Tarantool server for the adaptive connection pool
+     *
+     * @return number of connections, 0 if the pool size is fixed
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Set the maximum number of connections per Tarantool server for the adaptive connection pool
+     *
+     * @param maxConnections number of connections, 0 if the pool size is fixed
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Get the average number of pending requests per connection, at which the adaptive connection pool grows
+     *
+     * @return number of requests
+     */
+    public int getConnectionGrowthThreshold() {
+        return connectionGrowthThreshold;
+    }
+
+    /**
+     * Set the average number of pending requests per connection, at which the adaptive connection pool grows
+     *
+     * @param connectionGrowthThreshold number of requests
+     */
+    public void setConnectionGrowthThreshold(int connectionGrowthThreshold) {
+        this.connectionGrowthThreshold = connectionGrowthThreshold;
+    }
+
+    /**
+     * Get the time after which the idle extra connections of the adaptive connection pool are closed
+     *
+     * @return timeout in milliseconds
+     */
+    public int getIdleConnectionTimeout() {
+        return idleConnectionTimeout;
+    }
+
+    /**
+     * Set the time after which the idle extra connections of the adaptive connection pool are closed
+     *
+     * @param idleConnectionTimeout timeout in milliseconds
+     */
+    public void setIdleConnectionTimeout(int idleConnectionTimeout) {
+        this.idleConnectionTimeout = idleConnectionTimeout;
+    }
+
+    /**
+     * Get the time without the incoming data after which the connection is checked with a ping request
+     *
+     * @return interval in milliseconds, 0 if the pings are disabled
+     */
+    public int getPingInterval() {
+        return pingInterval;
+    }
+
+    /**
+     * Set the time without the incoming data after which the connection is checked with a ping request
+     *
+     * @param pingInterval interval in milliseconds, 0 for disabling the pings
+     */
+    public void setPingInterval(int pingInterval) {
+        this.pingInterval = pingInterval;
+    }
+
+    /**
+     * Get the maximum number of prepared SQL statements kept for each connection
+     *
+     * @return number of statements
+     */
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    /**
+     * Set the maximum number of prepared SQL statements kept for each connection
+     *
+     * @param statementCacheSize number of statements
+     */
+    public void setStatementCacheSize(int statementCacheSize) {
+        this.statementCacheSize = statementCacheSize;
+    }
+
     /**
      * A builder for {@link TarantoolClientConfig}
      */
@@ -305,7 +757,8 @@ public class TarantoolClientConfig {
         }
 
         /**
-         * Specify response reading timeout. Default is 1000 milliseconds
+         * Specify response reading timeout. It limits the time of waiting for the ping responses, if the pings are
+         * enabled. Default is 1000 milliseconds
          *
          * @param readTimeout the timeout for reading the responses from Tarantool server, in milliseconds
          * @return builder
@@ -419,6 +872,311 @@ public class TarantoolClientConfig {
             return this;
         }
 
+        /**
+         * Keep the response data (IPROTO_DATA) as raw MessagePack bytes until the result mapper needs it. The data is
+         * unpacked when the result is mapped, so it is not held in memory twice. Disabled by default
+         *
+         * @param lazyResponseBody boolean flag
+         * @return builder
+         */
+        public Builder withLazyResponseBody(boolean lazyResponseBody) {
+            config.setLazyResponseBody(lazyResponseBody);
+            return this;
+        }
+
+        /**
+         * Specify the executor for mapping the response data to the result objects and completing the request futures.
+         * Dependent non-async stages of the request futures will run in this executor as well. Responses smaller than
+         * the result mapping threshold are still mapped in the network I/O threads. By default, all the results are
+         * mapped in the network I/O threads
+         *
+         * @param resultMappingExecutor executor instance, for example a dedicated thread pool or
+         *                              {@link java.util.concurrent.ForkJoinPool#commonPool()}
+         * @return builder
+         */
+        public Builder withResultMappingExecutor(Executor resultMappingExecutor) {
+            Assert.notNull(resultMappingExecutor, "Result mapping executor must not be null");
+            config.setResultMappingExecutor(resultMappingExecutor);
+            return this;
+        }
+
+        /**
+         * Specify the minimal response size for mapping the result in the result mapping executor. Smaller responses
+         * are mapped in the network I/O threads, since handing them over to the executor costs more than mapping them.
+         * Default is 1024 bytes
+         *
+         * @param resultMappingThreshold number of bytes, must not be negative
+         * @return builder
+         */
+        public Builder withResultMappingThreshold(int resultMappingThreshold) {
+            Assert.state(resultMappingThreshold >= 0, "Result mapping threshold must not be negative");
+            config.setResultMappingThreshold(resultMappingThreshold);
+            return this;
+        }
+
+        /**
+         * Specify the receiver of the client runtime measurements. By default, the measurements are dropped
+         *
+         * @param clientMetrics metrics receiver
+         * @return builder
+         */
+        public Builder withClientMetrics(TarantoolClientMetrics clientMetrics) {
+            Assert.notNull(clientMetrics, "Client metrics must not be null");
+            config.setClientMetrics(clientMetrics);
+            return this;
+        }
+
+        /**
+         * Specify the maximum number of requests sent over one connection and waiting for a response. When the limit
+         * is reached or the connection is not writable, the new requests are queued for at most the in-flight queue
+         * timeout, at most the same number of requests per connection. The requests that cannot be queued are failed
+         * with {@link io.tarantool.driver.exceptions.TarantoolInFlightRequestsLimitException}. By default, there is no
+         * limit
+         *
+         * @param maxInFlightRequests number of requests, 0 means no limit
+         * @return builder
+         */
+        public Builder withMaxInFlightRequests(int maxInFlightRequests) {
+            Assert.state(maxInFlightRequests >= 0, "Max in-flight requests must not be negative");
+            config.setMaxInFlightRequests(maxInFlightRequests);
+            return this;
+        }
+
+        /**
+         * Specify the time a request may wait for being sent when the in-flight requests limit is reached or the
+         * connection is not writable. By default, such requests are rejected immediately
+         *
+         * @param inFlightQueueTimeout timeout value in milliseconds, 0 means rejecting the requests immediately
+         * @return builder
+         */
+        public Builder withInFlightQueueTimeout(int inFlightQueueTimeout) {
+            Assert.state(inFlightQueueTimeout >= 0, "In-flight queue timeout must not be negative");
+            config.setInFlightQueueTimeout(inFlightQueueTimeout);
+            return this;
+        }
+
+        /**
+         * Specify the outbound buffer size limits for the connections. When the outbound buffer grows above the high
+         * water mark, the connection becomes not writable and the new requests are queued as if the in-flight
+         * requests limit was reached, until the buffer shrinks below the low water mark. The requests are queued only
+         * if the in-flight requests limit is set. By default, the Netty defaults are used
+         *
+         * @param writeBufferWaterMark low and high water marks in bytes
+         * @return builder
+         */
+        public Builder withWriteBufferWaterMark(WriteBufferWaterMark writeBufferWaterMark) {
+            Assert.notNull(writeBufferWaterMark, "Write buffer water mark must not be null");
+            config.setWriteBufferWaterMark(writeBufferWaterMark);
+            return this;
+        }
+
+        /**
+         * Specify the number of requests written to a connection after which the pending requests are flushed without
+         * waiting for the end of the event loop tick. The requests written within one tick are flushed together, that
+         * reduces the number of system calls for a burst of small requests. Value 1 disables the flush coalescing.
+         * Default is 64
+         *
+         * @param maxPendingWrites number of requests, must be positive
+         * @return builder
+         */
+        public Builder withMaxPendingWrites(int maxPendingWrites) {
+            Assert.state(maxPendingWrites > 0, "Max pending writes must be positive");
+            config.setMaxPendingWrites(maxPendingWrites);
+            return this;
+        }
+
+        /**
+         * Specify the total size of requests written to a connection after which the pending requests are flushed
+         * without waiting for the end of the event loop tick. Default is 64 KiB
+         *
+         * @param maxPendingWriteBytes number of bytes, must be positive
+         * @return builder
+         */
+        public Builder withMaxPendingWriteBytes(int maxPendingWriteBytes) {
+            Assert.state(maxPendingWriteBytes > 0, "Max pending write bytes must be positive");
+            config.setMaxPendingWriteBytes(maxPendingWriteBytes);
+            return this;
+        }
+
+        /**
+         * Specify the network transport for the connections. The native transports give lower latency and support
+         * additional channel options, but require the corresponding Netty artifacts on the classpath. If the specified
+         * transport is not available, NIO is used. By default, epoll is used if available
+         *
+         * @param transportType transport type
+         * @return builder
+         */
+        public Builder withTransportType(TarantoolTransportType transportType) {
+            Assert.notNull(transportType, "Transport type must not be null");
+            config.setTransportType(transportType);
+            return this;
+        }
+
+        /**
+         * Specify the channel option for the connections which use any transport. The specified options override
+         * the default ones, for example, {@code SO_KEEPALIVE} or {@code TCP_NODELAY}
+         *
+         * @param option channel option
+         * @param value  option value
+         * @param <V>    option value type
+         * @return builder
+         */
+        public <V> Builder withChannelOption(ChannelOption<V> option, V value) {
+            Assert.notNull(option, "Channel option must not be null");
+            Assert.notNull(value, "Channel option value must not be null");
+            config.setChannelOption(option, value);
+            return this;
+        }
+
+        /**
+         * Specify the channel option for the connections which use the specified transport. The option is ignored
+         * if another transport is used, so the native transport options like {@code EpollChannelOption.TCP_QUICKACK}
+         * can be specified without checking the transport availability
+         *
+         * @param transportType transport type, must not be {@link TarantoolTransportType#AUTO}
+         * @param option        channel option
+         * @param value         option value
+         * @param <V>           option value type
+         * @return builder
+         */
+        public <V> Builder withChannelOption(TarantoolTransportType transportType, ChannelOption<V> option, V value) {
+            Assert.notNull(transportType, "Transport type must not be null");
+            Assert.state(transportType != TarantoolTransportType.AUTO,
+                "Channel options must be specified for a concrete transport type");
+            Assert.notNull(option, "Channel option must not be null");
+            Assert.notNull(value, "Channel option value must not be null");
+            config.setChannelOption(transportType, option, value);
+            return this;
+        }
+
+        /**
+         * Specify the event loops, timers and executors shared with other clients. The client retains the resources
+         * and releases them when closed. The transport type and the event loop threads number of the resources are
+         * used instead of the client ones. By default, each client creates its own resources
+         *
+         * @param clientResources client resources
+         * @return builder
+         */
+        public Builder withClientResources(TarantoolClientResources clientResources) {
+            Assert.notNull(clientResources, "Client resources must not be null");
+            config.setClientResources(clientResources);
+            return this;
+        }
+
+        /**
+         * Enable or disable the background reconnection of the lost connections. If enabled, a lost connection is
+         * re-established by a background task with exponential backoff, and the requests are sent over the remaining
+         * connections in the meantime. If disabled, the lost connections are re-established by the next request for
+         * a connection. Enabled by default
+         *
+         * @param backgroundReconnect true, if the lost connections must be re-established in the background
+         * @return builder
+         */
+        public Builder withBackgroundReconnect(boolean backgroundReconnect) {
+            config.setBackgroundReconnect(backgroundReconnect);
+            return this;
+        }
+
+        /**
+         * Specify the delay before the first background reconnection attempt. The delay is doubled after each failed
+         * attempt up to the maximum delay, and a random jitter of up to a half of the delay is subtracted, so that the
+         * clients do not reconnect to a restarted server all at once. Default is 100 milliseconds
+         *
+         * @param reconnectInitialDelay delay in milliseconds, must be greater than 0
+         * @return builder
+         */
+        public Builder withReconnectInitialDelay(int reconnectInitialDelay) {
+            Assert.state(reconnectInitialDelay > 0, "Reconnect initial delay must be greater than 0");
+            config.setReconnectInitialDelay(reconnectInitialDelay);
+            return this;
+        }
+
+        /**
+         * Specify the maximum delay between the background reconnection attempts. Default is 30 seconds
+         *
+         * @param reconnectMaxDelay delay in milliseconds, must be greater than 0
+         * @return builder
+         */
+        public Builder withReconnectMaxDelay(int reconnectMaxDelay) {
+            Assert.state(reconnectMaxDelay > 0, "Reconnect max delay must be greater than 0");
+            config.setReconnectMaxDelay(reconnectMaxDelay);
+            return this;
+        }
+
+        /**
+         * Enable the adaptive connection pool with the specified maximum number of connections per Tarantool server.
+         * The number of connections specified by {@link #withConnections(int)} becomes the minimum pool size. The pool
+         * of a server grows when the connections are overloaded, see {@link #withConnectionGrowthThreshold(int)}, and
+         * shrinks when the extra connections are idle, see {@link #withIdleConnectionTimeout(int)}. By default, the
+         * pool size is fixed
+         *
+         * @param maxConnections number of connections, 0 for the fixed pool size
+         * @return builder
+         */
+        public Builder withMaxConnections(int maxConnections) {
+            Assert.state(maxConnections >= 0, "Max connections must not be negative");
+            config.setMaxConnections(maxConnections);
+            return this;
+        }
+
+        /**
+         * Specify the average number of requests waiting for the responses per connection, at which the adaptive
+         * connection pool of a server grows. The pool also grows when the outbound buffer of a connection exceeds the
+         * high water mark. Default is 16
+         *
+         * @param connectionGrowthThreshold number of requests, must be greater than 0
+         * @return builder
+         */
+        public Builder withConnectionGrowthThreshold(int connectionGrowthThreshold) {
+            Assert.state(connectionGrowthThreshold > 0, "Connection growth threshold must be greater than 0");
+            config.setConnectionGrowthThreshold(connectionGrowthThreshold);
+            return this;
+        }
+
+        /**
+         * Specify the time after which the connections exceeding the minimum size of the adaptive connection pool are
+         * closed if they receive no requests. Default is 60 seconds
+         *
+         * @param idleConnectionTimeout timeout in milliseconds, must be greater than 0
+         * @return builder
+         */
+        public Builder withIdleConnectionTimeout(int idleConnectionTimeout) {
+            Assert.state(idleConnectionTimeout > 0, "Idle connection timeout must be greater than 0");
+            config.setIdleConnectionTimeout(idleConnectionTimeout);
+            return this;
+        }
+
+        /**
+         * Enable the connection health checks. If no data is received over a connection for the specified time,
+         * an IPROTO_PING request is sent. If the ping response is not received within the read timeout, the
+         * connection is closed as dead, so that it is re-established before the user requests fail by timeout. The
+         * ping round-trip time is also included into the connection response time average. By default, the pings are
+         * disabled
+         *
+         * @param pingInterval interval in milliseconds, 0 for disabling the pings
+         * @return builder
+         * @see #withReadTimeout(int)
+         */
+        public Builder withPingInterval(int pingInterval) {
+            Assert.state(pingInterval >= 0, "Ping interval must not be negative");
+            config.setPingInterval(pingInterval);
+            return this;
+        }
+
+        /**
+         * Specify the maximum number of prepared SQL statements kept for each connection. The least recently used
+         * statements are unprepared when the limit is exceeded. Set to 0 for sending the SQL text with each request
+         * instead of preparing the statements. Default is 64
+         *
+         * @param statementCacheSize number of statements, must not be negative
+         * @return builder
+         */
+        public Builder withStatementCacheSize(int statementCacheSize) {
+            Assert.state(statementCacheSize >= 0, "Statement cache size must not be negative");
+            config.setStatementCacheSize(statementCacheSize);
+            return this;
+        }
+
         /**
          * Build a {@link TarantoolClientConfig} instance
          *
@@ -0,0 +1,38 @@
+package io.tarantool.driver.api;
+
+/**
+ * Receives the runtime measurements of a {@link TarantoolClient} instance. Implement this interface for exporting
+ * the measurements into a metrics library.
+ * <p>
+ * The methods are called from the client internal threads, so they must be thread-safe and must not block.
+ *
+ * @author Alexey Kuzin
+ */
+public interface TarantoolClientMetrics {
+
+    /**
+     * Metrics receiver which drops all the measurements
+     */
+    TarantoolClientMetrics NOOP = new TarantoolClientMetrics() {
+    };
+
+    /**
+     * Called when a result mapping task submitted to the result mapping executor is started
+     *
+     * @param queueingDelayNanos time passed between the task submission and start, in nanoseconds
+     * @see TarantoolClientConfig#getResultMappingExecutor()
+     */
+    default void recordResultMappingQueueingDelay(long queueingDelayNanos) {
+    }
+
+    /**
+     * Called when a background attempt to re-establish the lost connections to a server completes
+     *
+     * @param address       server address
+     * @param success       true, if all missing connections to the server are established
+     * @param durationNanos time spent on establishing the connections, in nanoseconds
+     * @see TarantoolClientConfig#isBackgroundReconnect()
+     */
+    default void recordReconnectAttempt(TarantoolServerAddress address, boolean success, long durationNanos) {
+    }
+}
@@ -0,0 +1,75 @@
+package io.tarantool.driver.api;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.ReferenceCounted;
+import io.netty.util.Timer;
+import io.tarantool.driver.api.connection.TarantoolTransportType;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Threads and timers used by the clients: the network event loops, the connection and request timeout timers,
+ * the executor for the retry callbacks and the scheduler for the discovery tasks.
+ * <p>
+ * By default, each client creates its own resources. An instance of this interface can be shared by several clients,
+ * which is useful when an application works with many clusters: the number of threads stays the same. Pass it to
+ * the clients with {@link TarantoolClientBuilder#withClientResources(TarantoolClientResources)} and to the
+ * discovery providers with {@code TarantoolClusterDiscoveryConfig.Builder#withClientResources}. The default
+ * implementation is created with {@code TarantoolClientResourcesImpl.builder()}.
+ * <p>
+ * The resources are reference-counted. The creator holds one reference and releases it with {@link #close()}, each
+ * client and discovery provider retains one more reference and releases it when closed. The threads are stopped
+ * when the last reference is released. The transport settings of the clients are ignored, the transport and the
+ * number of event loop threads are specified for the resources instead.
+ *
+ * @author Alexey Kuzin
+ */
+public interface TarantoolClientResources extends ReferenceCounted, AutoCloseable {
+
+    /**
+     * Get the network transport of the event loops
+     *
+     * @return transport type, never {@link TarantoolTransportType#AUTO}
+     */
+    TarantoolTransportType getTransportType();
+
+    /**
+     * Get the event loops for the network connections
+     *
+     * @return event loop group
+     */
+    EventLoopGroup getEventLoopGroup();
+
+    /**
+     * Get the scheduler for the connection timeouts and the periodic tasks, like the cluster discovery. The tasks
+     * must not block the scheduler threads
+     *
+     * @return scheduled executor
+     */
+    ScheduledExecutorService getTimeoutScheduler();
+
+    /**
+     * Get the timer for the request timeouts. The timer is stopped when the resources are released
+     *
+     * @return timer
+     */
+    Timer getRequestTimeoutTimer();
+
+    /**
+     * Get the executor for the asynchronous callbacks, like the request retries. The executor is shut down when the
+     * resources are released
+     *
+     * @return executor
+     */
+    Executor getCallbackExecutor();
+
+    @Override
+    TarantoolClientResources retain();
+
+    /**
+     * Release the reference held by the creator
+     */
+    @Override
+    void close();
+}
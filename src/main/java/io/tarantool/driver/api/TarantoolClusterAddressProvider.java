@@ -1,6 +1,7 @@
 package io.tarantool.driver.api;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Provides a collection of Tarantool server addresses corresponding to the cluster nodes
@@ -16,6 +17,23 @@ public interface TarantoolClusterAddressProvider extends AutoCloseable {
      */
     Collection<TarantoolServerAddress> getAddresses();
 
+    /**
+     * The collection of Tarantool server nodes which belong to the same cluster. Unlike {@link #getAddresses()},
+     * does not block the calling thread if the addresses are not known yet. By default, the result of
+     * {@link #getAddresses()} is returned, override this method if the addresses are received asynchronously
+     *
+     * @return future with collection of {@link TarantoolServerAddress}
+     */
+    default CompletableFuture<Collection<TarantoolServerAddress>> getAddressesAsync() {
+        CompletableFuture<Collection<TarantoolServerAddress>> result = new CompletableFuture<>();
+        try {
+            result.complete(getAddresses());
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
     /**
      * Specify callback for refreshing connections to addresses.
      * <p>
@@ -0,0 +1,102 @@
+package io.tarantool.driver.api;
+
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.protocol.Packable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Collects several operations and sends them together over one connection with one flush, saving the round trips
+ * and system calls for batch jobs.
+ * <p>
+ * The operations are not sent until {@link #execute()} is called. Each operation returns its own future, which
+ * completes when the response for this operation is received. A pipeline is executed once and is not thread-safe.
+ * <p>
+ * Example:
+ * <pre>
+ * <code>
+ * TarantoolPipeline&lt;TarantoolTuple, TarantoolResult&lt;TarantoolTuple&gt;&gt; pipeline = client.pipeline();
+ * CompletableFuture&lt;TarantoolResult&lt;TarantoolTuple&gt;&gt; inserted = pipeline.space("test").insert(tuple);
+ * CompletableFuture&lt;List&lt;?&gt;&gt; called = pipeline.call("some_function", 1, 2);
+ * pipeline.execute().join();
+ * </code>
+ * </pre>
+ *
+ * @param <T> target tuple type
+ * @param <R> target tuple collection type
+ * @author Alexey Kuzin
+ */
+public interface TarantoolPipeline<T extends Packable, R extends Collection<T>> {
+    /**
+     * Add a call of a stored function to the pipeline
+     *
+     * @param functionName function name, must not be null or empty
+     * @param arguments    function arguments
+     * @return future with the function call result, which completes after the pipeline is executed
+     * @throws TarantoolClientException in case if the request cannot be built
+     */
+    CompletableFuture<List<?>> call(String functionName, Object... arguments) throws TarantoolClientException;
+
+    /**
+     * Add a call of a stored function to the pipeline
+     *
+     * @param functionName function name, must not be null or empty
+     * @param arguments    list of function arguments
+     * @return future with the function call result, which completes after the pipeline is executed
+     * @throws TarantoolClientException in case if the request cannot be built
+     */
+    CompletableFuture<List<?>> call(String functionName, List<?> arguments) throws TarantoolClientException;
+
+    /**
+     * Add a call of a stored function returning a single value to the pipeline
+     *
+     * @param functionName function name, must not be null or empty
+     * @param arguments    list of function arguments
+     * @param resultClass  target result entity class
+     * @param <S>          target result type
+     * @return future with the function call result, which completes after the pipeline is executed
+     * @throws TarantoolClientException in case if the request cannot be built
+     */
+    <S> CompletableFuture<S> callForSingleResult(String functionName, List<?> arguments, Class<S> resultClass)
+        throws TarantoolClientException;
+
+    /**
+     * Add an evaluation of a Lua expression to the pipeline
+     *
+     * @param expression Lua expression, must not be null or empty
+     * @param arguments  list of expression arguments
+     * @return future with the expression result, which completes after the pipeline is executed
+     * @throws TarantoolClientException in case if the request cannot be built
+     */
+    CompletableFuture<List<?>> eval(String expression, List<?> arguments) throws TarantoolClientException;
+
+    /**
+     * Provides CRUD and other operations for a Tarantool space. The operations are added to the pipeline
+     *
+     * @param spaceName name of the space, must not be null or empty
+     * @return Tarantool space operations interface
+     * @throws TarantoolClientException if the space metadata cannot be retrieved
+     */
+    TarantoolSpaceOperations<T, R> space(String spaceName) throws TarantoolClientException;
+
+    /**
+     * Provides CRUD and other operations for a Tarantool space. The operations are added to the pipeline
+     *
+     * @param spaceId ID of the space, must be greater than 0
+     * @return Tarantool space operations interface
+     * @throws TarantoolClientException if the space metadata cannot be retrieved
+     */
+    TarantoolSpaceOperations<T, R> space(int spaceId) throws TarantoolClientException;
+
+    /**
+     * Send all collected operations over one connection and flush them once
+     *
+     * @return future which completes when all operations are completed, or completes exceptionally if any of the
+     * operations fails
+     * @throws IllegalStateException if the pipeline is already executed
+     */
+    CompletableFuture<Void> execute();
+}
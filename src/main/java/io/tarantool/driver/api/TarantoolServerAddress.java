@@ -4,9 +4,13 @@ import io.tarantool.driver.exceptions.TarantoolSocketException;
 
 import java.io.Serializable;
 import java.net.InetSocketAddress;
+import java.util.Objects;
 
 /**
- * Represents the location of a Tarantool server - server name and port number
+ * Represents the location of a Tarantool server - server name and port number, or the path of a Unix domain socket.
+ * <p>
+ * An address may also carry the routing attributes received from the cluster discovery: the server weight and
+ * health. They are used by the connection selection strategies and do not affect the address equality.
  *
  * @author Sergey Volgin
  * @author Oleg Kuznetsov
@@ -14,7 +18,20 @@ import java.net.InetSocketAddress;
 public class TarantoolServerAddress implements Serializable {
     private static final long serialVersionUID = 7327851568010264254L;
 
+    private static final String UNIX_SOCKET_PREFIX = "unix:";
+    private static final String TARANTOOL_UNIX_SOCKET_PREFIX = "unix/:";
+    private static final String UNIX_SOCKET_HOST = "unix/";
+
+    /**
+     * Routing weight of the addresses without the weight specified
+     */
+    public static final int DEFAULT_WEIGHT = 1;
+
     private final InetSocketAddress socketAddress;
+    private final String socketPath;
+    // routing attributes, not a part of the address identity
+    private int weight = DEFAULT_WEIGHT;
+    private boolean healthy = true;
 
     /**
      * Creates a TarantoolServerAddress with default host and port
@@ -31,16 +48,24 @@ public class TarantoolServerAddress implements Serializable {
      */
     public TarantoolServerAddress(final String host, final int port) {
         this.socketAddress = new InetSocketAddress(host, port);
+        this.socketPath = null;
     }
 
     /**
      * Create a TarantoolServerAddress from connection string
-     * e.g. 127.0.0.1:3301, localhost:3301, [::1]:3301, user:password@localhost:3301, user:password@[::1]:3301
+     * e.g. 127.0.0.1:3301, localhost:3301, [::1]:3301, user:password@localhost:3301, user:password@[::1]:3301.
+     * Unix domain socket addresses are specified as unix:/path/to/socket or unix/:/path/to/socket
      *
      * @param address address to Tarantool
      */
     public TarantoolServerAddress(final String address) {
         String hostToUse = splitHostByUser(address);
+        String pathToUse = parseSocketPath(hostToUse);
+        if (pathToUse != null) {
+            this.socketAddress = null;
+            this.socketPath = pathToUse;
+            return;
+        }
         Integer portToUse = null;
         if (hostToUse.startsWith("[")) {
             int idx = address.indexOf("]");
@@ -76,6 +101,22 @@ public class TarantoolServerAddress implements Serializable {
         }
 
         this.socketAddress = new InetSocketAddress(hostToUse.toLowerCase(), portToUse);
+        this.socketPath = null;
+    }
+
+    private static String parseSocketPath(String address) {
+        String path;
+        if (address.startsWith(TARANTOOL_UNIX_SOCKET_PREFIX)) {
+            path = address.substring(TARANTOOL_UNIX_SOCKET_PREFIX.length());
+        } else if (address.startsWith(UNIX_SOCKET_PREFIX)) {
+            path = address.substring(UNIX_SOCKET_PREFIX.length());
+        } else {
+            return null;
+        }
+        if (path.isEmpty()) {
+            throw new IllegalArgumentException(String.format("Invalid address: %s, socket path is empty", address));
+        }
+        return path;
     }
 
     private String splitHostByUser(String host) {
@@ -111,35 +152,108 @@ public class TarantoolServerAddress implements Serializable {
      */
     public TarantoolServerAddress(InetSocketAddress socketAddress) {
         this.socketAddress = socketAddress;
+        this.socketPath = null;
     }
 
     /**
      * Get the hostname
      *
-     * @return hostname
+     * @return hostname, or "unix/" for a Unix domain socket address
      */
     public String getHost() {
-        return this.socketAddress.getHostName();
+        return isUnixSocket() ? UNIX_SOCKET_HOST : this.socketAddress.getHostName();
     }
 
     /**
      * Get the port number
      *
-     * @return port
+     * @return port, or 0 for a Unix domain socket address
      */
     public int getPort() {
-        return this.socketAddress.getPort();
+        return isUnixSocket() ? 0 : this.socketAddress.getPort();
+    }
+
+    /**
+     * Check if this address points to a Unix domain socket
+     *
+     * @return true, if the address is a Unix domain socket path
+     */
+    public boolean isUnixSocket() {
+        return this.socketPath != null;
+    }
+
+    /**
+     * Get the Unix domain socket path
+     *
+     * @return socket path, or null if the address is not a Unix domain socket address
+     */
+    public String getSocketPath() {
+        return this.socketPath;
     }
 
     /**
      * Get the socket address
      *
      * @return socket address
+     * @throws TarantoolSocketException if the address is a Unix domain socket address
      */
     public InetSocketAddress getSocketAddress() throws TarantoolSocketException {
+        if (isUnixSocket()) {
+            throw new TarantoolSocketException("Unix domain socket address has no TCP socket address", this);
+        }
         return this.socketAddress;
     }
 
+    /**
+     * Get the routing weight of the server. The connection selection strategies may use it for distributing the
+     * requests between the servers proportionally to their weights
+     *
+     * @return non-negative weight, {@link #DEFAULT_WEIGHT} if not specified
+     */
+    public int getWeight() {
+        return weight;
+    }
+
+    /**
+     * Check if the server is reported healthy, for example, by the cluster discovery. The connection selection
+     * strategies may stop sending the requests to the unhealthy servers before the connections to them fail
+     *
+     * @return true, if the server is healthy or its health is not known
+     */
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * Create a copy of this address with the specified routing attributes. The routing attributes are not compared
+     * in {@link #equals(Object)}, the copy is equal to this address.
+     *
+     * @param weight  non-negative routing weight
+     * @param healthy whether the server is healthy
+     * @return new address instance
+     */
+    public TarantoolServerAddress withRouting(int weight, boolean healthy) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Routing weight must not be negative");
+        }
+        TarantoolServerAddress address = isUnixSocket() ?
+            new TarantoolServerAddress(UNIX_SOCKET_PREFIX + socketPath) :
+            new TarantoolServerAddress(socketAddress);
+        address.weight = weight;
+        address.healthy = healthy;
+        return address;
+    }
+
+    /**
+     * Check if the routing attributes of this address differ from the ones of the passed address
+     *
+     * @param other address to compare with
+     * @return true, if the weight or the health differ
+     */
+    public boolean isRoutingChanged(TarantoolServerAddress other) {
+        return weight != other.weight || healthy != other.healthy;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -149,16 +263,17 @@ public class TarantoolServerAddress implements Serializable {
             return false;
         }
         TarantoolServerAddress that = (TarantoolServerAddress) o;
-        return this.socketAddress.equals(that.socketAddress);
+        return Objects.equals(this.socketAddress, that.socketAddress) &&
+            Objects.equals(this.socketPath, that.socketPath);
     }
 
     @Override
     public int hashCode() {
-        return this.socketAddress.hashCode();
+        return isUnixSocket() ? this.socketPath.hashCode() : this.socketAddress.hashCode();
     }
 
     @Override
     public String toString() {
-        return this.socketAddress.toString();
+        return isUnixSocket() ? TARANTOOL_UNIX_SOCKET_PREFIX + this.socketPath : this.socketAddress.toString();
     }
 }
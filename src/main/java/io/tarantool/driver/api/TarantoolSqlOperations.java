@@ -0,0 +1,53 @@
+package io.tarantool.driver.api;
+
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.MessagePackMapper;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Aggregates all SQL operation variants.
+ * <p>
+ * The statements are prepared on the server when they are executed for the first time over a connection, and the
+ * subsequent executions over the same connection refer to the prepared statement by its ID. The number of prepared
+ * statements kept for each connection is limited, see {@link TarantoolClientConfig#getStatementCacheSize()}.
+ *
+ * @author Alexey Kuzin
+ */
+public interface TarantoolSqlOperations {
+    /**
+     * Execute an SQL statement in the Tarantool instance. The mapper specified in the client configuration will be
+     * used for converting the result values.
+     *
+     * @param statement SQL statement text, must not be null or empty
+     * @return the returned rows or the data modification statement info
+     * @throws TarantoolClientException if the client is not connected
+     */
+    CompletableFuture<TarantoolSqlResult> execute(String statement) throws TarantoolClientException;
+
+    /**
+     * Execute an SQL statement with parameters in the Tarantool instance. The mapper specified in the client
+     * configuration will be used for converting the parameter and result values.
+     *
+     * @param statement  SQL statement text with placeholders, must not be null or empty
+     * @param parameters values bound to the statement placeholders in order
+     * @return the returned rows or the data modification statement info
+     * @throws TarantoolClientException if the client is not connected
+     */
+    CompletableFuture<TarantoolSqlResult> execute(String statement, List<?> parameters)
+        throws TarantoolClientException;
+
+    /**
+     * Execute an SQL statement with parameters in the Tarantool instance.
+     *
+     * @param statement  SQL statement text with placeholders, must not be null or empty
+     * @param parameters values bound to the statement placeholders in order
+     * @param mapper     mapper for parameter object-to-MessagePack entity conversion and result values
+     *                   MessagePack entity-to-object conversion
+     * @return the returned rows or the data modification statement info
+     * @throws TarantoolClientException if the client is not connected
+     */
+    CompletableFuture<TarantoolSqlResult> execute(String statement, List<?> parameters, MessagePackMapper mapper)
+        throws TarantoolClientException;
+}
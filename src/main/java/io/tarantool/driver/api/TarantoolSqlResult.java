@@ -0,0 +1,36 @@
+package io.tarantool.driver.api;
+
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.tuple.TarantoolTupleResult;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Result of an SQL statement execution. Contains the rows returned by a query, with the field names and types taken
+ * from the column metadata, or the information about the changes made by a data modification statement.
+ *
+ * @author Alexey Kuzin
+ */
+public interface TarantoolSqlResult extends TarantoolTupleResult {
+    /**
+     * Get the result columns metadata
+     *
+     * @return columns metadata or empty, if the statement does not return rows
+     */
+    Optional<TarantoolSpaceMetadata> getMetadata();
+
+    /**
+     * Get the number of rows changed by a data modification statement or returned by a query
+     *
+     * @return number of rows
+     */
+    long getRowCount();
+
+    /**
+     * Get the values generated for the autoincrement primary key fields by an insert statement
+     *
+     * @return list of generated values, empty if no values are generated
+     */
+    List<Long> getAutoincrementIds();
+}
@@ -0,0 +1,50 @@
+package io.tarantool.driver.api;
+
+import io.tarantool.driver.protocol.Packable;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Collects several operations and executes them atomically in an interactive transaction on one Tarantool server.
+ * The server must support the IPROTO streams and transactions (Tarantool 2.10+), and the memtx spaces require the
+ * MVCC mode enabled (<code>box.cfg.memtx_use_mvcc_engine</code>).
+ * <p>
+ * The operations are collected like in {@link TarantoolPipeline} and are not sent until {@link #commit()} is called.
+ * The transaction start and all the operations are sent together over one connection in a separate stream. When all
+ * the operations are completed, the transaction is committed, or it is rolled back if any of the operations fails.
+ * A transaction is committed once and is not thread-safe.
+ * <p>
+ * Example:
+ * <pre>
+ * <code>
+ * TarantoolTransaction&lt;TarantoolTuple, TarantoolResult&lt;TarantoolTuple&gt;&gt; transaction = client.transaction();
+ * transaction.space("accounts").update(debitConditions, debit);
+ * transaction.space("accounts").update(creditConditions, credit);
+ * transaction.commit().join();
+ * </code>
+ * </pre>
+ *
+ * @param <T> target tuple type
+ * @param <R> target tuple collection type
+ * @author Alexey Kuzin
+ */
+public interface TarantoolTransaction<T extends Packable, R extends Collection<T>> extends TarantoolPipeline<T, R> {
+    /**
+     * Send all collected operations in a new transaction and commit it, if all the operations succeed. The same as
+     * {@link #execute()}
+     *
+     * @return future which completes when the transaction is committed, or completes exceptionally with the first
+     * operation failure cause after the transaction is rolled back
+     * @throws IllegalStateException if the transaction is already committed or rolled back
+     */
+    CompletableFuture<Void> commit();
+
+    /**
+     * Discard all collected operations. Nothing is sent to the server, the operation futures complete exceptionally
+     *
+     * @return completed future
+     * @throws IllegalStateException if the transaction is already committed or rolled back
+     */
+    CompletableFuture<Void> rollback();
+}
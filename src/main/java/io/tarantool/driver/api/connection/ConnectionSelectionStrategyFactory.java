@@ -1,8 +1,12 @@
 package io.tarantool.driver.api.connection;
 
 import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolServerAddress;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Manages instantiation of connection selection strategies. A strategy contains the algorithm of selecting connections
@@ -20,4 +24,22 @@ public interface ConnectionSelectionStrategyFactory {
      * @return a connection selection strategy instance
      */
     ConnectionSelectionStrategy create(TarantoolClientConfig config, Collection<TarantoolConnection> connections);
+
+    /**
+     * Take the Tarantool server connections grouped by the server addresses and instantiate a strategy. The addresses
+     * may carry the routing attributes, see {@link TarantoolServerAddress#getWeight()} and
+     * {@link TarantoolServerAddress#isHealthy()}. By default, the addresses are ignored and the strategy is created
+     * for all connections with {@link #create(TarantoolClientConfig, Collection)}
+     *
+     * @param config               client configuration
+     * @param connectionsByAddress established connections for each server address
+     * @return a connection selection strategy instance
+     */
+    default ConnectionSelectionStrategy createForAddresses(
+        TarantoolClientConfig config,
+        Map<TarantoolServerAddress, List<TarantoolConnection>> connectionsByAddress) {
+        return create(config, connectionsByAddress.values().stream()
+            .flatMap(Collection::stream)
+            .collect(Collectors.toList()));
+    }
 }
@@ -4,20 +4,35 @@ import io.netty.channel.Channel;
 import io.tarantool.driver.TarantoolVersion;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.TarantoolProtocolFeature;
 import io.tarantool.driver.protocol.TarantoolRequest;
 
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Collections;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 public interface TarantoolConnection extends AutoCloseable {
     /**
      * Get the Tarantool server address for this connection
      *
-     * @return server address
+     * @return server address, or null if the connection uses a Unix domain socket
      * @throws TarantoolClientException if the client is not connected
+     * @see #getRemoteSocketAddress()
      */
     InetSocketAddress getRemoteAddress() throws TarantoolClientException;
 
+    /**
+     * Get the Tarantool server address for this connection, including the Unix domain socket addresses
+     *
+     * @return server address, an {@link InetSocketAddress} or a Unix domain socket address
+     * @throws TarantoolClientException if the client is not connected
+     */
+    default SocketAddress getRemoteSocketAddress() throws TarantoolClientException {
+        return getRemoteAddress();
+    }
+
     /**
      * Get the Tarantool server version
      *
@@ -43,6 +58,80 @@ public interface TarantoolConnection extends AutoCloseable {
      */
     <T> CompletableFuture<T> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper);
 
+    /**
+     * Run the passed action sending several requests with {@link #sendRequest(TarantoolRequest,
+     * MessagePackValueMapper)}, so that the requests are written together and the buffer is flushed once after the
+     * action is completed. The action may be run asynchronously in the connection I/O thread. By default, the action
+     * is run in place and each request is flushed separately
+     *
+     * @param batch action sending the requests over this connection
+     */
+    default void sendBatch(Runnable batch) {
+        batch.run();
+    }
+
+    /**
+     * Get the number of requests sent over this connection and waiting for the responses. Used by the connection
+     * selection strategies for estimating the connection load
+     *
+     * @return number of pending requests, 0 if the connection does not track them
+     */
+    default int getPendingRequestsCount() {
+        return 0;
+    }
+
+    /**
+     * Get the exponentially weighted moving average of the response time of the requests sent over this connection.
+     * Used by the connection selection strategies for estimating the connection latency
+     *
+     * @return average response time in nanoseconds, 0 if it is not measured yet or the connection does not track it
+     */
+    default long getAverageResponseTime() {
+        return 0;
+    }
+
+    /**
+     * Get the time passed since the last response was received over this connection, or since the connection was
+     * established. Used by the connection manager for closing the idle connections
+     *
+     * @return idle time in nanoseconds, 0 if there are pending requests or the connection does not track it
+     */
+    default long getIdleTime() {
+        return 0;
+    }
+
+    /**
+     * Get the round-trip time of the last successful ping request sent over this connection
+     *
+     * @return time in nanoseconds, 0 if no pings are completed yet or the pings are disabled
+     * @see io.tarantool.driver.api.TarantoolClientConfig#getPingInterval()
+     */
+    default long getPingTime() {
+        return 0;
+    }
+
+    /**
+     * Get the database schema version returned by the server in the last response received over this connection.
+     * The server increments the schema version on each change of the spaces, indexes, functions or other schema
+     * objects
+     *
+     * @return schema version, 0 if no responses are received yet or the connection does not track it
+     */
+    default long getSchemaVersion() {
+        return 0;
+    }
+
+    /**
+     * Get the binary protocol features supported by both the client and the server. The features are negotiated
+     * with an IPROTO_ID request on the first call, the subsequent calls return the same result. The servers which do
+     * not support the IPROTO_ID request (older than 2.10) do not support any of the features
+     *
+     * @return future with the supported features, empty if the connection does not negotiate them
+     */
+    default CompletableFuture<Set<TarantoolProtocolFeature>> getProtocolFeatures() {
+        return CompletableFuture.completedFuture(Collections.emptySet());
+    }
+
     /**
      * Get the Netty channel baking this connection
      *
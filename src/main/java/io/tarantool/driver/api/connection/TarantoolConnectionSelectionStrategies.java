@@ -1,12 +1,21 @@
 package io.tarantool.driver.api.connection;
 
 import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolServerAddress;
 import io.tarantool.driver.core.connection.TarantoolConnectionIterator;
 import io.tarantool.driver.exceptions.NoAvailableConnectionsException;
 import io.tarantool.driver.utils.Assert;
 import io.tarantool.driver.utils.CyclingIterator;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -48,12 +57,11 @@ public final class TarantoolConnectionSelectionStrategies {
 
         @Override
         public TarantoolConnection next() throws NoAvailableConnectionsException {
-            if (available.get() > 0) {
-                while (connectionIterator.hasNext()) {
-                    TarantoolConnection connection = connectionIterator.next();
-                    if (connection.isConnected()) {
-                        return connection;
-                    }
+            // re-check the counter on each step, a connection may be closed while we are iterating
+            while (available.get() > 0 && connectionIterator.hasNext()) {
+                TarantoolConnection connection = connectionIterator.next();
+                if (connection.isConnected()) {
+                    return connection;
                 }
             }
             throw new NoAvailableConnectionsException();
@@ -64,7 +72,8 @@ public final class TarantoolConnectionSelectionStrategies {
      * Instantiates a {@link ParallelRoundRobinStrategy}, which is applicable for multiple
      * connections to several servers and expects equal number of connections per server. The connections are split into
      * parts with equal amounts and selected in the order according to the passed collection, with switching between
-     * parts in the same order
+     * parts in the same order. If the connections are grouped by the server addresses, each part contains the
+     * connections to one server
      */
     public enum ParallelRoundRobinStrategyFactory implements ConnectionSelectionStrategyFactory {
         INSTANCE;
@@ -77,38 +86,278 @@ public final class TarantoolConnectionSelectionStrategies {
 
             return new ParallelRoundRobinStrategy(config, connections);
         }
+
+        @Override
+        public ConnectionSelectionStrategy createForAddresses(
+            TarantoolClientConfig config,
+            Map<TarantoolServerAddress, List<TarantoolConnection>> connectionsByAddress) {
+            Assert.notNull(connectionsByAddress, "The collection of Tarantool connections should not be null");
+
+            // the number of connections per server may differ if the pool size is adaptive
+            return new ParallelRoundRobinStrategy(connectionsByAddress.values());
+        }
     }
 
     static final class ParallelRoundRobinStrategy implements ConnectionSelectionStrategy {
 
-        private final TarantoolClientConfig config;
         private final CyclingIterator<TarantoolConnectionIterator> iteratorsIterator;
-        private final AtomicInteger available;
+        private final AtomicInteger available = new AtomicInteger();
 
         ParallelRoundRobinStrategy(TarantoolClientConfig config, Collection<TarantoolConnection> connections) {
-            this.config = config;
-            this.available = new AtomicInteger(connections.size());
-            this.iteratorsIterator = new CyclingIterator<>(populateIterators(connections));
+            this(splitIntoGroups(connections, config.getConnections()));
         }
 
-        private Collection<TarantoolConnectionIterator> populateIterators(
-            Collection<TarantoolConnection> connections) {
-            int groupSize = config.getConnections();
+        /**
+         * Create a strategy switching between the passed groups of connections, normally one group per server
+         *
+         * @param groups groups of connections
+         */
+        ParallelRoundRobinStrategy(Collection<? extends Collection<TarantoolConnection>> groups) {
+            this.iteratorsIterator = new CyclingIterator<>(groups.stream()
+                .peek(group -> group.forEach(conn -> {
+                    available.getAndIncrement();
+                    conn.addConnectionCloseListener(c -> available.getAndDecrement());
+                }))
+                .map(TarantoolConnectionIterator::new)
+                .filter(TarantoolConnectionIterator::hasNext)
+                .collect(Collectors.toList()));
+        }
+
+        private static Collection<List<TarantoolConnection>> splitIntoGroups(
+            Collection<TarantoolConnection> connections, int groupSize) {
             AtomicInteger currentSize = new AtomicInteger(0);
             return connections.stream()
+                .collect(Collectors.groupingBy(conn -> currentSize.getAndIncrement() / groupSize))
+                .values();
+        }
+
+        @Override
+        public TarantoolConnection next() throws NoAvailableConnectionsException {
+            // re-check the counter on each step, a connection may be closed while we are iterating
+            while (available.get() > 0 && iteratorsIterator.hasNext()) {
+                TarantoolConnection connection = iteratorsIterator.next().next();
+                if (connection.isConnected()) {
+                    return connection;
+                }
+            }
+            throw new NoAvailableConnectionsException();
+        }
+    }
+
+    /**
+     * Instantiates a {@link LeastOutstandingRequestsStrategy}, which selects the connection with the least number of
+     * requests waiting for the responses. The connection is chosen from two randomly sampled ones (the "power of two
+     * choices"), so the selection cost does not depend on the number of connections. Applicable for multiple
+     * connections to several servers, when some servers may respond slower than others.
+     */
+    public enum LeastOutstandingRequestsStrategyFactory implements ConnectionSelectionStrategyFactory {
+        INSTANCE;
+
+        @Override
+        public ConnectionSelectionStrategy create(
+            TarantoolClientConfig config,
+            Collection<TarantoolConnection> connections) {
+            Assert.notNull(connections, "The collection of Tarantool connections should not be null");
+
+            return new LeastOutstandingRequestsStrategy(connections);
+        }
+    }
+
+    /**
+     * Instantiates a {@link LatencyAwareStrategy}, which prefers the connections with lower response time. The cost of
+     * a connection is the moving average of its response time multiplied by the number of pending requests plus one,
+     * the cheaper of two randomly sampled connections is selected. A small share of requests is sent to a random
+     * connection, so that the connections with high cost get the fresh response time samples and get the traffic back
+     * when they recover. If the pings are enabled, their round-trip time is included into the average, so the
+     * estimates of the idle connections stay fresh. Applicable for connections to servers with different network
+     * latency, for example, located in different availability zones.
+     */
+    public static final class LatencyAwareStrategyFactory implements ConnectionSelectionStrategyFactory {
+
+        /**
+         * Default share of requests sent to a random connection
+         */
+        public static final double DEFAULT_PROBE_RATIO = 0.05;
+
+        /**
+         * Factory instance with the default settings
+         */
+        public static final LatencyAwareStrategyFactory INSTANCE = new LatencyAwareStrategyFactory();
+
+        private final double probeRatio;
+
+        /**
+         * Create a factory with the default share of probing requests
+         */
+        public LatencyAwareStrategyFactory() {
+            this(DEFAULT_PROBE_RATIO);
+        }
+
+        /**
+         * Create a factory with the specified share of probing requests
+         *
+         * @param probeRatio share of requests sent to a random connection, from 0 (inclusive) to 1 (exclusive)
+         */
+        public LatencyAwareStrategyFactory(double probeRatio) {
+            Assert.state(probeRatio >= 0 && probeRatio < 1, "Probe ratio must be in the range [0, 1)");
+            this.probeRatio = probeRatio;
+        }
+
+        @Override
+        public ConnectionSelectionStrategy create(
+            TarantoolClientConfig config,
+            Collection<TarantoolConnection> connections) {
+            Assert.notNull(connections, "The collection of Tarantool connections should not be null");
+
+            return new LatencyAwareStrategy(connections, probeRatio);
+        }
+    }
+
+    /**
+     * Instantiates a {@link WeightedStrategy}, which selects the connections randomly in proportion to the weights of
+     * their servers, see {@link TarantoolServerAddress#getWeight()}. The servers marked as unhealthy by the cluster
+     * discovery are drained: their weights decrease linearly to zero during the drain period, so that the traffic is
+     * moved to the healthy servers gradually. If the selected connection is closed, another alive connection to a
+     * healthy server is selected, then to a server still being drained, and only if there are none, any alive
+     * connection including the ones to the drained servers and to the servers with zero weight. Applicable together
+     * with the cluster discovery, which provides the server priorities and statuses.
+     * <p>
+     * The drain period of a server starts when the factory creates a strategy with the server marked as unhealthy for
+     * the first time, and is not restarted when the strategy is recreated on reconnection or pool resizing. The
+     * server drain is reset once it is marked as healthy again or leaves the cluster. The drain state is kept in the
+     * factory, so a separate factory instance must be used for each client.
+     */
+    public static final class WeightedStrategyFactory implements ConnectionSelectionStrategyFactory {
+
+        /**
+         * Default period of draining the traffic from unhealthy servers, in milliseconds
+         */
+        public static final long DEFAULT_DRAIN_PERIOD = 10_000;
+
+        private final long drainPeriod;
+        // System.nanoTime() of the first strategy creation with the server marked as unhealthy
+        private final Map<TarantoolServerAddress, Long> unhealthySince = new ConcurrentHashMap<>();
+
+        /**
+         * Create a factory with the default drain period
+         */
+        public WeightedStrategyFactory() {
+            this(DEFAULT_DRAIN_PERIOD);
+        }
+
+        /**
+         * Create a factory with the specified drain period
+         *
+         * @param drainPeriod period of draining the traffic from unhealthy servers, in milliseconds. If 0, the
+         *                    unhealthy servers are excluded immediately
+         */
+        public WeightedStrategyFactory(long drainPeriod) {
+            Assert.state(drainPeriod >= 0, "Drain period must not be negative");
+            this.drainPeriod = drainPeriod;
+        }
+
+        @Override
+        public ConnectionSelectionStrategy create(
+            TarantoolClientConfig config,
+            Collection<TarantoolConnection> connections) {
+            Assert.notNull(connections, "The collection of Tarantool connections should not be null");
+
+            // the server addresses are unknown, all connections have the default weight
+            double[] weights = new double[connections.size()];
+            Arrays.fill(weights, TarantoolServerAddress.DEFAULT_WEIGHT);
+            return new WeightedStrategy(
+                new ArrayList<>(connections), weights, new long[connections.size()], connections.size(), drainPeriod);
+        }
+
+        @Override
+        public ConnectionSelectionStrategy createForAddresses(
+            TarantoolClientConfig config,
+            Map<TarantoolServerAddress, List<TarantoolConnection>> connectionsByAddress) {
+            Assert.notNull(connectionsByAddress, "The collection of Tarantool connections should not be null");
+
+            long now = System.nanoTime();
+            // forget the servers which have left the cluster
+            unhealthySince.keySet().retainAll(connectionsByAddress.keySet());
+            // the connections to the healthy servers go first
+            List<TarantoolConnection> connections = new ArrayList<>();
+            List<Integer> weights = new ArrayList<>();
+            List<Long> since = new ArrayList<>();
+            int healthyCount = 0;
+            for (boolean healthy : new boolean[]{true, false}) {
+                for (Map.Entry<TarantoolServerAddress, List<TarantoolConnection>> entry :
+                    connectionsByAddress.entrySet()) {
+                    TarantoolServerAddress address = entry.getKey();
+                    if (address.isHealthy() != healthy) {
+                        continue;
+                    }
+                    int serverConnections = entry.getValue().size();
+                    long serverUnhealthySince = 0;
+                    if (healthy) {
+                        unhealthySince.remove(address);
+                        healthyCount += serverConnections;
+                    } else {
+                        serverUnhealthySince = unhealthySince.computeIfAbsent(address, key -> now);
+                    }
+                    connections.addAll(entry.getValue());
+                    weights.addAll(Collections.nCopies(serverConnections, address.getWeight()));
+                    since.addAll(Collections.nCopies(serverConnections, serverUnhealthySince));
+                }
+            }
+            return new WeightedStrategy(connections, weights.stream().mapToDouble(Integer::doubleValue).toArray(),
+                since.stream().mapToLong(Long::longValue).toArray(), healthyCount, drainPeriod);
+        }
+    }
+
+    /**
+     * Selects the cheaper of two randomly sampled connections ("power of two choices")
+     */
+    abstract static class PowerOfTwoChoicesStrategy implements ConnectionSelectionStrategy {
+
+        private final TarantoolConnection[] connections;
+        private final AtomicInteger available;
+        private final double probeRatio;
+
+        PowerOfTwoChoicesStrategy(Collection<TarantoolConnection> connections, double probeRatio) {
+            this.available = new AtomicInteger(connections.size());
+            this.connections = connections.stream()
                 .peek(conn -> conn.addConnectionCloseListener(c -> available.getAndDecrement()))
-                .collect(Collectors.groupingBy(
-                    conn -> currentSize.getAndIncrement() / groupSize)).values().stream()
-                .map(TarantoolConnectionIterator::new)
-                .filter(TarantoolConnectionIterator::hasNext)
-                .collect(Collectors.toList());
+                .toArray(TarantoolConnection[]::new);
+            this.probeRatio = probeRatio;
         }
 
+        /**
+         * Estimate the cost of sending a request over the connection
+         *
+         * @param connection alive connection
+         * @return cost, the lower is the better
+         */
+        protected abstract double cost(TarantoolConnection connection);
+
         @Override
         public TarantoolConnection next() throws NoAvailableConnectionsException {
-            if (available.get() > 0) {
-                while (iteratorsIterator.hasNext()) {
-                    TarantoolConnection connection = iteratorsIterator.next().next();
+            int size = connections.length;
+            if (size > 0 && available.get() > 0) {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int firstIndex = random.nextInt(size);
+                TarantoolConnection connection = connections[firstIndex];
+                // a probing request goes to the first sampled connection regardless of its cost
+                if (size > 1 && (probeRatio == 0 || random.nextDouble() >= probeRatio)) {
+                    // the second sample is always different from the first one
+                    int secondIndex = random.nextInt(size - 1);
+                    if (secondIndex >= firstIndex) {
+                        secondIndex++;
+                    }
+                    TarantoolConnection second = connections[secondIndex];
+                    if (second.isConnected() && (!connection.isConnected() || cost(second) < cost(connection))) {
+                        connection = second;
+                    }
+                }
+                if (connection.isConnected()) {
+                    return connection;
+                }
+                // the sampled connections are closed, look for any alive one
+                for (int i = 1; i < size && available.get() > 0; i++) {
+                    connection = connections[(firstIndex + i) % size];
                     if (connection.isConnected()) {
                         return connection;
                     }
@@ -117,4 +366,155 @@ public final class TarantoolConnectionSelectionStrategies {
             throw new NoAvailableConnectionsException();
         }
     }
+
+    static final class LeastOutstandingRequestsStrategy extends PowerOfTwoChoicesStrategy {
+
+        LeastOutstandingRequestsStrategy(Collection<TarantoolConnection> connections) {
+            super(connections, 0);
+        }
+
+        @Override
+        protected double cost(TarantoolConnection connection) {
+            return connection.getPendingRequestsCount();
+        }
+    }
+
+    static final class LatencyAwareStrategy extends PowerOfTwoChoicesStrategy {
+
+        LatencyAwareStrategy(Collection<TarantoolConnection> connections, double probeRatio) {
+            super(connections, probeRatio);
+        }
+
+        @Override
+        protected double cost(TarantoolConnection connection) {
+            // the connections without the response time samples are the cheapest, they get the requests first
+            return (double) connection.getAverageResponseTime() * (connection.getPendingRequestsCount() + 1);
+        }
+    }
+
+    /**
+     * Selects a random connection with probability proportional to its weight. The cumulative weights of the
+     * connections to healthy servers are precomputed, so their selection takes logarithmic time. The connections to
+     * unhealthy servers are placed after the healthy ones, and their weights are scaled down with time since their
+     * servers were first seen unhealthy.
+     */
+    static final class WeightedStrategy implements ConnectionSelectionStrategy {
+
+        private final TarantoolConnection[] connections;
+        private final double[] weights;
+        private final double[] cumulativeWeights;
+        private final long[] unhealthySince;
+        private final int healthyCount;
+        private final double healthyWeight;
+        private final long drainPeriod;
+        private final long drainedAt;
+        private final AtomicInteger available;
+
+        WeightedStrategy(
+            List<TarantoolConnection> connections, double[] weights, long[] unhealthySince, int healthyCount,
+            long drainPeriod) {
+            this.available = new AtomicInteger(connections.size());
+            this.connections = connections.stream()
+                .peek(conn -> conn.addConnectionCloseListener(c -> available.getAndDecrement()))
+                .toArray(TarantoolConnection[]::new);
+            this.weights = weights;
+            this.cumulativeWeights = new double[healthyCount];
+            double total = 0;
+            for (int i = 0; i < healthyCount; i++) {
+                total += weights[i];
+                cumulativeWeights[i] = total;
+            }
+            this.healthyWeight = total;
+            this.unhealthySince = unhealthySince;
+            this.healthyCount = healthyCount;
+            this.drainPeriod = TimeUnit.MILLISECONDS.toNanos(drainPeriod);
+            long lastUnhealthySince = Long.MIN_VALUE;
+            for (int i = healthyCount; i < unhealthySince.length; i++) {
+                lastUnhealthySince = Math.max(lastUnhealthySince, unhealthySince[i]);
+            }
+            this.drainedAt = healthyCount < unhealthySince.length ? lastUnhealthySince + this.drainPeriod : 0;
+        }
+
+        /**
+         * Weight of the connection to an unhealthy server, which decreases linearly to 0 during the drain period
+         */
+        private double drainedWeight(int index, long now) {
+            long elapsed = now - unhealthySince[index];
+            return elapsed >= drainPeriod ? 0 : weights[index] * (1 - (double) elapsed / drainPeriod);
+        }
+
+        /**
+         * Find an alive connection in the specified range of indexes, starting from a random position in it
+         */
+        private TarantoolConnection findConnected(int from, int to, int start, long now, boolean withWeightOnly) {
+            int count = to - from;
+            for (int i = 0; i < count && available.get() > 0; i++) {
+                int index = from + (start + i) % count;
+                if (withWeightOnly && (index < healthyCount ? weights[index] : drainedWeight(index, now)) <= 0) {
+                    continue;
+                }
+                TarantoolConnection connection = connections[index];
+                if (connection.isConnected()) {
+                    return connection;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public TarantoolConnection next() throws NoAvailableConnectionsException {
+            int size = connections.length;
+            if (size > 0 && available.get() > 0) {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long now = System.nanoTime();
+                // the drained servers are skipped without computing their weights
+                boolean draining = healthyCount < size && now - drainedAt < 0;
+                double unhealthyWeight = 0;
+                if (draining) {
+                    for (int i = healthyCount; i < size; i++) {
+                        unhealthyWeight += drainedWeight(i, now);
+                    }
+                }
+                double total = healthyWeight + unhealthyWeight;
+                if (total > 0) {
+                    int index;
+                    double point = random.nextDouble() * total;
+                    if (point < healthyWeight) {
+                        index = Arrays.binarySearch(cumulativeWeights, point);
+                        // find the first connection whose cumulative weight is greater than the point
+                        index = index >= 0 ? index + 1 : -index - 1;
+                        index = Math.min(index, healthyCount - 1);
+                    } else {
+                        point -= healthyWeight;
+                        index = size - 1;
+                        for (int i = healthyCount; i < size; i++) {
+                            point -= drainedWeight(i, now);
+                            if (point < 0) {
+                                index = i;
+                                break;
+                            }
+                        }
+                    }
+                    TarantoolConnection connection = connections[index];
+                    if (connection.isConnected()) {
+                        return connection;
+                    }
+                }
+                // the selected connection is closed or no servers with positive weight are left: look for an alive
+                // connection to a healthy server first, then to a draining one, and then to any server
+                int start = random.nextInt(size);
+                TarantoolConnection connection = findConnected(0, healthyCount, start, now, true);
+                if (connection == null && draining) {
+                    connection = findConnected(healthyCount, size, start, now, true);
+                }
+                if (connection == null) {
+                    connection = findConnected(0, size, start, now, false);
+                }
+                if (connection != null) {
+                    return connection;
+                }
+            }
+            throw new NoAvailableConnectionsException();
+        }
+    }
 }
@@ -1,7 +1,12 @@
 package io.tarantool.driver.api.connection;
 
+import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.LatencyAwareStrategyFactory;
+import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.LeastOutstandingRequestsStrategyFactory;
 import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.ParallelRoundRobinStrategyFactory;
 import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.RoundRobinStrategyFactory;
+import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.WeightedStrategyFactory;
+
+import java.util.function.Supplier;
 
 /**
  * Enumeration of the default types of connection selection strategies.
@@ -12,22 +17,26 @@ import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies
  */
 public enum TarantoolConnectionSelectionStrategyType {
 
-    ROUND_ROBIN(RoundRobinStrategyFactory.INSTANCE),
-    PARALLEL_ROUND_ROBIN(ParallelRoundRobinStrategyFactory.INSTANCE);
+    ROUND_ROBIN(() -> RoundRobinStrategyFactory.INSTANCE),
+    PARALLEL_ROUND_ROBIN(() -> ParallelRoundRobinStrategyFactory.INSTANCE),
+    LEAST_OUTSTANDING_REQUESTS(() -> LeastOutstandingRequestsStrategyFactory.INSTANCE),
+    LATENCY_AWARE(() -> LatencyAwareStrategyFactory.INSTANCE),
+    // keeps the drain state of the servers, so every client gets its own factory
+    WEIGHTED(WeightedStrategyFactory::new);
 
-    private final ConnectionSelectionStrategyFactory value;
+    private final Supplier<ConnectionSelectionStrategyFactory> value;
 
-    TarantoolConnectionSelectionStrategyType(ConnectionSelectionStrategyFactory value) {
+    TarantoolConnectionSelectionStrategyType(Supplier<ConnectionSelectionStrategyFactory> value) {
         this.value = value;
     }
 
     /**
-     * Value of enum
+     * Value of enum. The stateful factories are created anew on each call.
      *
      * @return {@link ConnectionSelectionStrategyFactory}
      */
     public ConnectionSelectionStrategyFactory value() {
-        return value;
+        return value.get();
     }
 
     /**
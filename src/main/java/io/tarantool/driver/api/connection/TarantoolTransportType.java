@@ -0,0 +1,37 @@
+package io.tarantool.driver.api.connection;
+
+/**
+ * Enumeration of the network transports which can be used for the connections to Tarantool servers.
+ * <p>
+ * The native transports require the corresponding Netty artifacts on the classpath, for example,
+ * {@code netty-transport-native-epoll} with the platform classifier. If the requested transport is not available,
+ * the client falls back to {@link #NIO}.
+ *
+ * @author Alexey Kuzin
+ */
+public enum TarantoolTransportType {
+
+    /**
+     * Choose the best transport available on the current platform: epoll on Linux, otherwise NIO
+     */
+    AUTO,
+    /**
+     * Java NIO transport, available on all platforms
+     */
+    NIO,
+    /**
+     * Netty native epoll transport, available on Linux only
+     */
+    EPOLL,
+    /**
+     * Netty incubator io_uring transport, available on Linux with kernel 5.9+ only
+     */
+    IO_URING;
+
+    /**
+     * @return default transport type
+     */
+    public static TarantoolTransportType defaultType() {
+        return AUTO;
+    }
+}
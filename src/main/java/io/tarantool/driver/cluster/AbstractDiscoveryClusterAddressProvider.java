@@ -1,15 +1,23 @@
 package io.tarantool.driver.cluster;
 
+import io.tarantool.driver.api.TarantoolClientResources;
 import io.tarantool.driver.api.TarantoolClusterAddressProvider;
 import io.tarantool.driver.api.TarantoolServerAddress;
 import io.tarantool.driver.core.TarantoolDaemonThreadFactory;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.util.Collection;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -19,38 +27,73 @@ import java.util.concurrent.atomic.AtomicReference;
  */
 public abstract class AbstractDiscoveryClusterAddressProvider implements TarantoolClusterAddressProvider {
 
+    private final Logger logger = LoggerFactory.getLogger(getClass().getName());
     private final TarantoolClusterDiscoveryConfig discoveryConfig;
+    private final TarantoolClientResources clientResources;
     private final ScheduledExecutorService scheduledExecutorService;
-    private final CountDownLatch initLatch = new CountDownLatch(1);
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile ScheduledFuture<?> discoveryTaskFuture;
+    private final CompletableFuture<Collection<TarantoolServerAddress>> initFuture = new CompletableFuture<>();
     private final AtomicReference<Collection<TarantoolServerAddress>> addressesHolder = new AtomicReference<>();
     private final AtomicReference<Runnable> refreshCallback;
 
     public AbstractDiscoveryClusterAddressProvider(TarantoolClusterDiscoveryConfig discoveryConfig) {
         this.discoveryConfig = discoveryConfig;
-        this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(
-            new TarantoolDaemonThreadFactory("tarantool-discovery"));
+        if (discoveryConfig.getClientResources() != null) {
+            this.clientResources = discoveryConfig.getClientResources().retain();
+            this.scheduledExecutorService = clientResources.getTimeoutScheduler();
+        } else {
+            this.clientResources = null;
+            this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(
+                new TarantoolDaemonThreadFactory("tarantool-discovery"));
+        }
         this.refreshCallback = new AtomicReference<>(() -> {
         });
     }
 
     protected void startDiscoveryTask() throws TarantoolClientException {
-        Runnable discoveryTask = () -> {
+        scheduleDiscoveryTask(0);
+    }
+
+    private void scheduleDiscoveryTask(long delay) {
+        if (closed.get()) {
+            return;
+        }
+        try {
+            this.discoveryTaskFuture = this.scheduledExecutorService.schedule(
+                this::runDiscoveryTask, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Cluster discovery task is not scheduled, the executor is shut down");
+        }
+    }
+
+    private void runDiscoveryTask() {
+        if (closed.get()) {
+            return;
+        }
+        CompletableFuture<Collection<TarantoolServerAddress>> discoveryFuture;
+        try {
+            discoveryFuture = discoverAddressesAsync();
+        } catch (Throwable e) {
+            discoveryFuture = new CompletableFuture<>();
+            discoveryFuture.completeExceptionally(e);
+        }
+        // the next task is scheduled after the current one completes, like with a fixed delay
+        discoveryFuture.whenCompleteAsync((addresses, error) -> {
             try {
-                setAddresses(discoverAddresses());
-            } finally {
-                if (initLatch.getCount() > 0) {
-                    initLatch.countDown();
+                if (error == null) {
+                    setAddresses(addresses);
+                } else {
+                    logger.warn("Cluster discovery task error", error);
                 }
+            } finally {
+                initFuture.complete(null);
+            }
+            if (error == null) {
+                this.refreshCallback.get().run();
             }
-            this.refreshCallback.get().run();
-        };
-
-        this.scheduledExecutorService.scheduleWithFixedDelay(
-            discoveryTask,
-            0,
-            discoveryConfig.getServiceDiscoveryDelay(),
-            TimeUnit.MILLISECONDS
-        );
+            scheduleDiscoveryTask(discoveryConfig.getServiceDiscoveryDelay());
+        }, this.scheduledExecutorService);
     }
 
     protected TarantoolClusterDiscoveryConfig getDiscoveryConfig() {
@@ -61,8 +104,35 @@ public abstract class AbstractDiscoveryClusterAddressProvider implements Taranto
         return scheduledExecutorService;
     }
 
+    /**
+     * Get the resources shared with the clients
+     *
+     * @return client resources or null, if the provider uses its own threads
+     */
+    protected TarantoolClientResources getClientResources() {
+        return clientResources;
+    }
+
     protected abstract Collection<TarantoolServerAddress> discoverAddresses();
 
+    /**
+     * Discover the cluster addresses without blocking the calling thread. The discovery tasks of the providers using
+     * the shared client resources run on one scheduler, so a blocking task delays the others. By default, the result
+     * of {@link #discoverAddresses()} is returned, override this method if the addresses can be received
+     * asynchronously
+     *
+     * @return future with the discovered addresses
+     */
+    protected CompletableFuture<Collection<TarantoolServerAddress>> discoverAddressesAsync() {
+        CompletableFuture<Collection<TarantoolServerAddress>> result = new CompletableFuture<>();
+        try {
+            result.complete(discoverAddresses());
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
     private void setAddresses(Collection<TarantoolServerAddress> addresses) {
         this.addressesHolder.set(addresses);
     }
@@ -70,13 +140,25 @@ public abstract class AbstractDiscoveryClusterAddressProvider implements Taranto
     @Override
     public Collection<TarantoolServerAddress> getAddresses() {
         try {
-            initLatch.await();
+            initFuture.get();
         } catch (InterruptedException e) {
             throw new TarantoolClientException("Interrupted while waiting for cluster addresses discovery");
+        } catch (ExecutionException e) {
+            throw new TarantoolClientException(e.getCause());
         }
         return addressesHolder.get();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned future is completed when the first discovery task finishes.
+     */
+    @Override
+    public CompletableFuture<Collection<TarantoolServerAddress>> getAddressesAsync() {
+        return initFuture.thenApply(v -> addressesHolder.get());
+    }
+
     @Override
     public void setRefreshCallback(Runnable runnable) {
         this.refreshCallback.set(runnable);
@@ -84,7 +166,18 @@ public abstract class AbstractDiscoveryClusterAddressProvider implements Taranto
 
     @Override
     public void close() {
-        if (scheduledExecutorService != null) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        // release the threads waiting for the first discovery
+        initFuture.completeExceptionally(new TarantoolClientException("Cluster address provider is closed"));
+        if (clientResources != null) {
+            // the shared scheduler keeps running, only the discovery task is stopped
+            if (discoveryTaskFuture != null) {
+                discoveryTaskFuture.cancel(false);
+            }
+            clientResources.release();
+        } else if (scheduledExecutorService != null) {
             scheduledExecutorService.shutdownNow();
         }
     }
@@ -11,6 +11,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -92,25 +94,38 @@ public class BinaryDiscoveryClusterAddressProvider extends AbstractDiscoveryClus
 
     protected Collection<TarantoolServerAddress> discoverAddresses() {
         try {
-            List<?> functionResult = client.call(endpoint.getDiscoveryFunction(), Collections.emptyList()).get();
-            String valueAsString = objectMapper.writeValueAsString(functionResult.get(0));
-            TypeReference<HashMap<String, ServerNodeInfo>> typeReference =
-                new TypeReference<HashMap<String, ServerNodeInfo>>() {
-                };
+            return discoverAddressesAsync().get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new TarantoolClientException("Cluster discovery task error", e);
+        }
+    }
 
-            Map<String, ServerNodeInfo> responseMap;
-            try {
-                responseMap = objectMapper.readValue(valueAsString, typeReference);
-            } catch (Exception ignored) {
-                throw new TarantoolClientException("Invalid result format (%s)", valueAsString);
-            }
+    @Override
+    protected CompletableFuture<Collection<TarantoolServerAddress>> discoverAddressesAsync() {
+        return client.call(endpoint.getDiscoveryFunction(), Collections.emptyList()).thenApply(this::toAddresses);
+    }
 
-            return responseMap.values().stream()
-                .filter(ServerNodeInfo::isAvailable)
-                .map(v -> new TarantoolServerAddress(v.getUri()))
-                .collect(Collectors.toList());
+    private Collection<TarantoolServerAddress> toAddresses(List<?> functionResult) {
+        String valueAsString;
+        try {
+            valueAsString = objectMapper.writeValueAsString(functionResult.get(0));
         } catch (Exception e) {
             throw new TarantoolClientException("Cluster discovery task error", e);
         }
+        TypeReference<HashMap<String, ServerNodeInfo>> typeReference =
+            new TypeReference<HashMap<String, ServerNodeInfo>>() {
+            };
+
+        Map<String, ServerNodeInfo> responseMap;
+        try {
+            responseMap = objectMapper.readValue(valueAsString, typeReference);
+        } catch (Exception ignored) {
+            throw new TarantoolClientException("Invalid result format (%s)", valueAsString);
+        }
+
+        return responseMap.values().stream()
+            .filter(ServerNodeInfo::isRoutable)
+            .map(ServerNodeInfo::toServerAddress)
+            .collect(Collectors.toList());
     }
 }
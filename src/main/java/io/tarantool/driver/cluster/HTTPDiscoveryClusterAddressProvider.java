@@ -5,15 +5,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.SimpleChannelInboundHandler;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpContent;
@@ -31,6 +30,7 @@ import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import io.netty.util.CharsetUtil;
 import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.core.connection.TarantoolTransport;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 
 import javax.net.ssl.SSLException;
@@ -145,10 +145,17 @@ public class HTTPDiscoveryClusterAddressProvider extends AbstractDiscoveryCluste
             throw new TarantoolClientException("Incorrect url %s, %s", endpoint.getUri(), e.getMessage());
         }
 
-        this.eventLoopGroup = new NioEventLoopGroup();
+        TarantoolTransport transport;
+        if (getClientResources() != null) {
+            transport = TarantoolTransport.forType(getClientResources().getTransportType());
+            this.eventLoopGroup = getClientResources().getEventLoopGroup();
+        } else {
+            transport = TarantoolTransport.forType(config.getTransportType());
+            this.eventLoopGroup = transport.newEventLoopGroup(0);
+        }
         this.bootstrap = new Bootstrap()
             .group(this.eventLoopGroup)
-            .channel(NioSocketChannel.class)
+            .channel(transport.getSocketChannelClass())
             .option(ChannelOption.SO_REUSEADDR, true)
             .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, endpoint.getConnectTimeout());
         startDiscoveryTask();
@@ -178,18 +185,20 @@ public class HTTPDiscoveryClusterAddressProvider extends AbstractDiscoveryCluste
 
     protected Collection<TarantoolServerAddress> discoverAddresses() {
         try {
-            CompletableFuture<Map<String, ServerNodeInfo>> completableFuture = sendRequest();
-            Map<String, ServerNodeInfo> addressMap = completableFuture.get();
-
-            return addressMap.values().stream()
-                .filter(ServerNodeInfo::isAvailable)
-                .map(v -> new TarantoolServerAddress(v.getUri())).collect(Collectors.toList());
+            return discoverAddressesAsync().get();
         } catch (InterruptedException | ExecutionException e) {
             throw new TarantoolClientException("Cluster discovery task error", e);
         }
     }
 
-    private CompletableFuture<Map<String, ServerNodeInfo>> sendRequest() throws InterruptedException {
+    @Override
+    protected CompletableFuture<Collection<TarantoolServerAddress>> discoverAddressesAsync() {
+        return sendRequest().thenApply(addressMap -> addressMap.values().stream()
+            .filter(ServerNodeInfo::isRoutable)
+            .map(ServerNodeInfo::toServerAddress).collect(Collectors.toList()));
+    }
+
+    private CompletableFuture<Map<String, ServerNodeInfo>> sendRequest() {
         CompletableFuture<Map<String, ServerNodeInfo>> completableFuture = new CompletableFuture<>();
 
         TarantoolClusterDiscoveryConfig config = getDiscoveryConfig();
@@ -204,22 +213,32 @@ public class HTTPDiscoveryClusterAddressProvider extends AbstractDiscoveryCluste
         Bootstrap bootstrap = this.bootstrap.clone()
             .handler(new SimpleHttpClientInitializer(sslContext, completableFuture));
 
-        Channel ch = bootstrap.connect(host, port).sync().channel();
-
-        HttpRequest request = new DefaultFullHttpRequest(
-            HttpVersion.HTTP_1_1, HttpMethod.GET, uri.getRawPath(), Unpooled.EMPTY_BUFFER);
-        request.headers().set(HttpHeaderNames.HOST, host);
-        request.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
-        request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, HttpHeaderValues.GZIP);
-
-        ch.writeAndFlush(request);
-        ch.closeFuture().sync();
+        bootstrap.connect(host, port).addListener((ChannelFutureListener) f -> {
+            if (!f.isSuccess()) {
+                completableFuture.completeExceptionally(f.cause());
+                return;
+            }
+            Channel ch = f.channel();
+            // the channel is closed after the response is received or the request is timed out
+            completableFuture.whenComplete((result, error) -> ch.close());
+
+            HttpRequest request = new DefaultFullHttpRequest(
+                HttpVersion.HTTP_1_1, HttpMethod.GET, uri.getRawPath(), Unpooled.EMPTY_BUFFER);
+            request.headers().set(HttpHeaderNames.HOST, host);
+            request.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+            request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, HttpHeaderValues.GZIP);
+
+            ch.writeAndFlush(request);
+        });
         return completableFuture;
     }
 
     @Override
     public void close() {
         super.close();
+        if (getClientResources() != null) {
+            return;
+        }
         try {
             eventLoopGroup.shutdownGracefully().sync();
         } catch (InterruptedException e) {
@@ -1,5 +1,7 @@
 package io.tarantool.driver.cluster;
 
+import io.tarantool.driver.api.TarantoolServerAddress;
+
 import java.util.Objects;
 
 /**
@@ -11,11 +13,13 @@ final class ServerNodeInfo {
 
     private static final String STATUS_AVAILABLE = "available";
     private static final String STATUS_HEALTHY = "healthy";
+    private static final String STATUS_UNHEALTHY = "unhealthy";
 
     private String uuid;
     private String uri;
     private String status;
     private Integer priority;
+    private Integer weight;
 
     ServerNodeInfo() {
     }
@@ -52,10 +56,47 @@ final class ServerNodeInfo {
         this.priority = priority;
     }
 
+    public Integer getWeight() {
+        return weight;
+    }
+
+    public void setWeight(Integer weight) {
+        this.weight = weight;
+    }
+
     public boolean isAvailable() {
         return this.status.equals(STATUS_AVAILABLE) || this.status.equals(STATUS_HEALTHY);
     }
 
+    /**
+     * Check whether the connections to the node may be used. Unhealthy nodes are still routable, so that the
+     * connection selection strategy drains the traffic from them gradually.
+     *
+     * @return true, if the node is available or unhealthy
+     */
+    public boolean isRoutable() {
+        return isAvailable() || this.status.equals(STATUS_UNHEALTHY);
+    }
+
+    /**
+     * Convert the node info to a server address with the routing attributes. The node weight is taken from the
+     * "weight" field, where 0 excludes the node from routing while there are other nodes. If the weight is not
+     * specified, it is taken from the "priority" field: a node with a higher priority receives proportionally more
+     * requests, and the priority 0 or a missing priority means no preference, i.e.
+     * {@link TarantoolServerAddress#DEFAULT_WEIGHT}.
+     *
+     * @return server address
+     */
+    public TarantoolServerAddress toServerAddress() {
+        int routingWeight = TarantoolServerAddress.DEFAULT_WEIGHT;
+        if (weight != null && weight >= 0) {
+            routingWeight = weight;
+        } else if (priority != null && priority > 0) {
+            routingWeight = priority;
+        }
+        return new TarantoolServerAddress(uri).withRouting(routingWeight, isAvailable());
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -68,11 +109,12 @@ final class ServerNodeInfo {
         return Objects.equals(uuid, that.uuid) &&
             Objects.equals(uri, that.uri) &&
             Objects.equals(status, that.status) &&
-            Objects.equals(priority, that.priority);
+            Objects.equals(priority, that.priority) &&
+            Objects.equals(weight, that.weight);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(uuid, uri, status, priority);
+        return Objects.hash(uuid, uri, status, priority, weight);
     }
 }
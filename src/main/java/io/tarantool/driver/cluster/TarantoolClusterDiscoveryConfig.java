@@ -1,5 +1,7 @@
 package io.tarantool.driver.cluster;
 
+import io.tarantool.driver.api.TarantoolClientResources;
+import io.tarantool.driver.api.connection.TarantoolTransportType;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.utils.Assert;
 
@@ -14,6 +16,8 @@ public final class TarantoolClusterDiscoveryConfig {
 
     private TarantoolClusterDiscoveryEndpoint endpoint;
     private int serviceDiscoveryDelay = 60_000; // milliseconds
+    private TarantoolTransportType transportType = TarantoolTransportType.defaultType();
+    private TarantoolClientResources clientResources;
 
     /**
      * Get config of service discovery endpoint
@@ -51,6 +55,42 @@ public final class TarantoolClusterDiscoveryConfig {
         this.serviceDiscoveryDelay = serviceDiscoveryDelay;
     }
 
+    /**
+     * Get the network transport type for the discovery endpoint connections
+     *
+     * @return transport type
+     */
+    public TarantoolTransportType getTransportType() {
+        return transportType;
+    }
+
+    /**
+     * Set the network transport type for the discovery endpoint connections
+     *
+     * @param transportType transport type
+     */
+    public void setTransportType(TarantoolTransportType transportType) {
+        this.transportType = transportType;
+    }
+
+    /**
+     * Get the resources shared with the clients
+     *
+     * @return client resources or null, if the discovery provider creates its own threads
+     */
+    public TarantoolClientResources getClientResources() {
+        return clientResources;
+    }
+
+    /**
+     * Set the resources shared with the clients
+     *
+     * @param clientResources client resources or null
+     */
+    public void setClientResources(TarantoolClientResources clientResources) {
+        this.clientResources = clientResources;
+    }
+
     /**
      * Create a builder instance.
      *
@@ -102,6 +142,35 @@ public final class TarantoolClusterDiscoveryConfig {
             return this;
         }
 
+        /**
+         * Specify the network transport for the discovery endpoint connections. By default, epoll is used if
+         * available
+         *
+         * @param transportType transport type, should not be null
+         * @return this builder instance
+         * @see TarantoolClusterDiscoveryConfig#setTransportType(TarantoolTransportType)
+         */
+        public Builder withTransportType(TarantoolTransportType transportType) {
+            Assert.notNull(transportType, "Transport type should not be null");
+            this.config.setTransportType(transportType);
+            return this;
+        }
+
+        /**
+         * Specify the scheduler and event loops shared with the clients. The discovery provider retains the
+         * resources and releases them when closed. The transport type of the resources is used instead of the
+         * discovery one
+         *
+         * @param clientResources client resources, should not be null
+         * @return this builder instance
+         * @see TarantoolClusterDiscoveryConfig#setClientResources(TarantoolClientResources)
+         */
+        public Builder withClientResources(TarantoolClientResources clientResources) {
+            Assert.notNull(clientResources, "Client resources should not be null");
+            this.config.setClientResources(clientResources);
+            return this;
+        }
+
         /**
          * Build a {@link TarantoolClusterDiscoveryConfig} instance
          *
@@ -0,0 +1,74 @@
+package io.tarantool.driver.codecs;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.msgpack.core.buffer.MessageBuffer;
+import org.msgpack.core.buffer.MessageBufferInput;
+
+/**
+ * Feeds the contents of a Netty {@link ByteBuf} to a {@link org.msgpack.core.MessageUnpacker}.
+ * <p>
+ * Heap buffers are wrapped without copying. Direct and composite buffers are passed in chunks through a reusable
+ * scratch array, since msgpack-core cannot wrap direct memory on newer JDKs without opening {@code java.nio}.
+ * <p>
+ * The instance is not thread-safe and is intended to be owned by a single channel handler or a single decoding
+ * procedure.
+ *
+ * @author Alexey Kuzin
+ */
+public final class ByteBufMessageBufferInput implements MessageBufferInput {
+
+    private static final int SCRATCH_SIZE = 8192;
+
+    private byte[] scratch;
+    private ByteBuf buffer = Unpooled.EMPTY_BUFFER;
+
+    /**
+     * Create an input with no data. Use {@link #reset(ByteBuf)} for specifying the data source.
+     */
+    public ByteBufMessageBufferInput() {
+    }
+
+    /**
+     * Create an input reading from the specified buffer
+     *
+     * @param buffer buffer with MessagePack data, must not be released until the data is unpacked
+     */
+    public ByteBufMessageBufferInput(ByteBuf buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Switch the input to the specified buffer. The buffer reader index is advanced while the data is consumed.
+     *
+     * @param buffer buffer with MessagePack data, must not be released until the data is unpacked
+     */
+    public void reset(ByteBuf buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public MessageBuffer next() {
+        int readable = buffer.readableBytes();
+        if (readable == 0) {
+            return null;
+        }
+        if (buffer.hasArray()) {
+            MessageBuffer next = MessageBuffer.wrap(
+                buffer.array(), buffer.arrayOffset() + buffer.readerIndex(), readable);
+            buffer.skipBytes(readable);
+            return next;
+        }
+        if (scratch == null || scratch.length < Math.min(readable, SCRATCH_SIZE)) {
+            scratch = new byte[Math.min(readable, SCRATCH_SIZE)];
+        }
+        int length = Math.min(readable, scratch.length);
+        buffer.readBytes(scratch, 0, length);
+        return MessageBuffer.wrap(scratch, 0, length);
+    }
+
+    @Override
+    public void close() {
+        buffer = Unpooled.EMPTY_BUFFER;
+    }
+}
@@ -0,0 +1,65 @@
+package io.tarantool.driver.codecs;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.msgpack.core.buffer.MessageBuffer;
+import org.msgpack.core.buffer.MessageBufferOutput;
+
+/**
+ * Writes the output of a {@link org.msgpack.core.MessagePacker} into a Netty {@link ByteBuf}.
+ * <p>
+ * Small values are collected by the packer in a reusable scratch buffer which is copied into the target buffer on
+ * each flush, large binary payloads are written into the target buffer directly. The scratch buffer is shared by
+ * all packed messages and grows if the packer requests more space, so the instance is not thread-safe and is
+ * intended to be owned by a single channel handler.
+ *
+ * @author Alexey Kuzin
+ */
+final class ByteBufMessageBufferOutput implements MessageBufferOutput {
+
+    private static final int SCRATCH_SIZE = 8192;
+
+    private MessageBuffer scratch = MessageBuffer.allocate(SCRATCH_SIZE);
+    private ByteBuf buffer = Unpooled.EMPTY_BUFFER;
+
+    /**
+     * Switch the output to the specified buffer
+     *
+     * @param buffer target buffer, the written data is appended at its writer index
+     */
+    void reset(ByteBuf buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public MessageBuffer next(int minimumSize) {
+        if (minimumSize > scratch.size()) {
+            scratch = MessageBuffer.allocate(minimumSize);
+        }
+        return scratch;
+    }
+
+    @Override
+    public void writeBuffer(int length) {
+        buffer.writeBytes(scratch.array(), scratch.arrayOffset(), length);
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) {
+        this.buffer.writeBytes(buffer, offset, length);
+    }
+
+    @Override
+    public void add(byte[] buffer, int offset, int length) {
+        this.buffer.writeBytes(buffer, offset, length);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+        buffer = Unpooled.EMPTY_BUFFER;
+    }
+}
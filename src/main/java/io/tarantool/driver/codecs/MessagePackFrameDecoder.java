@@ -1,66 +1,142 @@
 package io.tarantool.driver.codecs;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufInputStream;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.codec.ReplayingDecoder;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
 import io.tarantool.driver.protocol.TarantoolResponse;
 import org.msgpack.core.MessagePack;
 import org.msgpack.core.MessageUnpacker;
 
 import java.util.List;
+import java.util.function.LongPredicate;
 
 /**
- * Converts Tarantool server responses from MessagePack frames to Java objects
+ * Converts Tarantool server responses from MessagePack frames to Java objects.
+ * <p>
+ * The frame length is read in place from the cumulated buffer, the frame body is sliced without copying and
+ * unpacked with a {@link MessageUnpacker} which is reused for all frames received by the channel.
+ * <p>
+ * If the lazy response body mode is enabled, the IPROTO_DATA value is not unpacked, the response holds a retained
+ * slice of the frame instead. Otherwise, the raw IPROTO_DATA value is kept only for the responses accepted by the
+ * raw data predicate, e.g. for the requests which results can be read directly from the raw data. The emitted
+ * {@link TarantoolResponse} messages are reference counted and must be released by the inbound handlers.
  *
  * @author Alexey Kuzin
  */
-public class MessagePackFrameDecoder extends ReplayingDecoder<MessagePackFrameDecoder.DecoderState> {
+public class MessagePackFrameDecoder extends ByteToMessageDecoder {
 
     private static final int MINIMAL_HEADER_SIZE = 5; // MP_UINT32
-    private int size;
 
+    private final ByteBufMessageBufferInput input = new ByteBufMessageBufferInput();
+    private final MessageUnpacker unpacker = MessagePack.DEFAULT_UNPACKER_CONFIG.newUnpacker(input);
+    private final boolean lazyResponseBody;
+    private final LongPredicate keepRawData;
+
+    /**
+     * Create a decoder which unpacks the response bodies eagerly
+     */
     public MessagePackFrameDecoder() {
-        super(DecoderState.LENGTH);
+        this(false);
+    }
+
+    /**
+     * Basic constructor.
+     *
+     * @param lazyResponseBody if true, the IPROTO_DATA values will be kept in the responses as raw bytes
+     */
+    public MessagePackFrameDecoder(boolean lazyResponseBody) {
+        this(lazyResponseBody, null);
+    }
+
+    /**
+     * Create a decoder which keeps the IPROTO_DATA values as raw bytes for the specified responses
+     *
+     * @param lazyResponseBody if true, the IPROTO_DATA values will be kept in all responses as raw bytes
+     * @param keepRawData      checks by the response sync ID if the IPROTO_DATA value must be kept as raw bytes.
+     *                         Used only if the lazy response body mode is disabled, may be null
+     */
+    public MessagePackFrameDecoder(boolean lazyResponseBody, LongPredicate keepRawData) {
+        super();
+        this.lazyResponseBody = lazyResponseBody;
+        this.keepRawData = keepRawData;
     }
 
     @Override
     protected void decode(ChannelHandlerContext channelHandlerContext, ByteBuf byteBuf, List<Object> list)
         throws Exception {
-
-        switch (state()) {
-            case LENGTH:
-                ByteBuf lenBuf = byteBuf.readBytes(MINIMAL_HEADER_SIZE);
-                try (ByteBufInputStream in = new ByteBufInputStream(lenBuf)) {
-                    MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(in);
-                    size = unpacker.unpackInt();
-                    unpacker.close();
-                    checkpoint(DecoderState.BODY);
-                }
-                lenBuf.release();
-            case BODY:
-                if (size > 0) {
-                    if (byteBuf.readableBytes() < size) {
-                        return;
-                    }
-                    ByteBuf bodyBuf = byteBuf.readBytes(size);
-                    try (ByteBufInputStream in = new ByteBufInputStream(bodyBuf)) {
-                        MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(in);
-                        list.add(TarantoolResponse.fromMessagePack(unpacker));
-                        unpacker.close();
-                        size = 0;
-                    }
-                    bodyBuf.release();
+        int readableBytes = byteBuf.readableBytes();
+        if (readableBytes == 0) {
+            return;
+        }
+        int headerSize = getHeaderSize(byteBuf.getByte(byteBuf.readerIndex()));
+        if (readableBytes < headerSize) {
+            return;
+        }
+        long size = getFrameSize(byteBuf, headerSize);
+        if (size > Integer.MAX_VALUE - headerSize) {
+            throw new TarantoolProtocolException("Frame size %d exceeds the maximum allowed size", size);
+        }
+        if (readableBytes < headerSize + size) {
+            return;
+        }
+        byteBuf.skipBytes(headerSize);
+        if (size > 0) {
+            ByteBuf bodyBuf = byteBuf.readSlice((int) size);
+            try {
+                input.reset(bodyBuf);
+                unpacker.reset(input);
+                if (lazyResponseBody) {
+                    list.add(TarantoolResponse.fromMessagePack(unpacker, bodyBuf));
+                } else if (keepRawData != null) {
+                    list.add(TarantoolResponse.fromMessagePack(unpacker, bodyBuf, keepRawData));
+                } else {
+                    list.add(TarantoolResponse.fromMessagePack(unpacker));
                 }
-                checkpoint(DecoderState.LENGTH);
-                break;
+            } finally {
+                input.close();
+            }
+        }
+    }
+
+    @Override
+    protected void handlerRemoved0(ChannelHandlerContext ctx) throws Exception {
+        unpacker.close();
+    }
+
+    private static int getHeaderSize(byte prefix) throws TarantoolProtocolException {
+        if (MessagePack.Code.isPosFixInt(prefix)) {
+            return 1;
+        }
+        switch (prefix) {
+            case MessagePack.Code.UINT8:
+                return 2;
+            case MessagePack.Code.UINT16:
+                return 3;
+            case MessagePack.Code.UINT32:
+                return MINIMAL_HEADER_SIZE;
+            case MessagePack.Code.UINT64:
+                return 9;
             default:
-                throw new Error("Shouldn't reach here.");
+                throw new TarantoolProtocolException("Frame size must be of MP_UINT type, received code %d",
+                    prefix & 0xff);
         }
     }
 
-    protected enum DecoderState {
-        LENGTH,
-        BODY
+    private static long getFrameSize(ByteBuf byteBuf, int headerSize) {
+        int index = byteBuf.readerIndex();
+        switch (headerSize) {
+            case 1:
+                return byteBuf.getByte(index);
+            case 2:
+                return byteBuf.getUnsignedByte(index + 1);
+            case 3:
+                return byteBuf.getUnsignedShort(index + 1);
+            case MINIMAL_HEADER_SIZE:
+                return byteBuf.getUnsignedInt(index + 1);
+            default:
+                long size = byteBuf.getLong(index + 1);
+                return size < 0 ? Long.MAX_VALUE : size;
+        }
     }
 }
@@ -5,11 +5,15 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToByteEncoder;
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import io.tarantool.driver.protocol.TarantoolRequest;
-import org.msgpack.core.MessageBufferPacker;
 import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePacker;
 
 /**
- * Converts Tarantool requests from Java objects to MessagePack frames
+ * Converts Tarantool requests from Java objects to MessagePack frames.
+ * <p>
+ * The request is packed in one pass into the pooled outbound buffer: the fixed-size frame length slot is reserved
+ * first and filled in after the header and body are written. The {@link MessagePacker} is reused for all requests
+ * sent through the channel.
  *
  * @author Alexey Kuzin
  */
@@ -17,6 +21,8 @@ public class MessagePackFrameEncoder extends MessageToByteEncoder<TarantoolReque
 
     private static final int MINIMAL_HEADER_SIZE = 5; // MP_UINT32
     private final MessagePackObjectMapper mapper;
+    private final ByteBufMessageBufferOutput output = new ByteBufMessageBufferOutput();
+    private final MessagePacker packer = MessagePack.DEFAULT_PACKER_CONFIG.newPacker(output);
 
     public MessagePackFrameEncoder(MessagePackObjectMapper mapper) {
         super();
@@ -27,15 +33,19 @@ public class MessagePackFrameEncoder extends MessageToByteEncoder<TarantoolReque
     protected void encode(
         ChannelHandlerContext ctx, TarantoolRequest tarantoolRequest,
         ByteBuf byteBuf) throws Exception {
-        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
-        tarantoolRequest.toMessagePack(packer, mapper);
-        long outputSize = packer.getTotalWrittenBytes();
-        byteBuf.capacity((int) (outputSize + MINIMAL_HEADER_SIZE));
-        byte[] output = packer.toByteArray();
-        packer.clear();
-        packer.packLong(outputSize);
-        byteBuf.writeBytes(packer.toByteArray());
-        packer.close();
-        byteBuf.writeBytes(output);
+        int frameStart = byteBuf.writerIndex();
+        byteBuf.writeByte(MessagePack.Code.UINT32).writeInt(0);
+        output.reset(byteBuf);
+        try {
+            tarantoolRequest.toMessagePack(packer, mapper);
+            packer.flush();
+        } catch (Exception e) {
+            // drop the partially packed data, so that it does not get into the next frame
+            packer.clear();
+            throw e;
+        } finally {
+            output.close();
+        }
+        byteBuf.setInt(frameStart + 1, byteBuf.writerIndex() - frameStart - MINIMAL_HEADER_SIZE);
     }
 }
@@ -3,28 +3,36 @@ package io.tarantool.driver.core;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.ChannelOption;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import org.msgpack.value.Value;
+import org.msgpack.value.ValueType;
 
 import io.tarantool.driver.TarantoolVersion;
 import io.tarantool.driver.api.CallResult;
 import io.tarantool.driver.api.MultiValueCallResult;
 import io.tarantool.driver.api.SingleValueCallResult;
+import io.tarantool.driver.api.TarantoolCallOperations;
 import io.tarantool.driver.api.TarantoolClient;
 import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolClientResources;
+import io.tarantool.driver.api.TarantoolPipeline;
 import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.TarantoolSqlResult;
+import io.tarantool.driver.api.TarantoolTransaction;
 import io.tarantool.driver.api.connection.ConnectionSelectionStrategyFactory;
 import io.tarantool.driver.api.connection.TarantoolConnection;
 import io.tarantool.driver.api.connection.TarantoolConnectionListeners;
@@ -34,21 +42,27 @@ import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
 import io.tarantool.driver.core.connection.TarantoolConnectionFactory;
 import io.tarantool.driver.core.connection.TarantoolConnectionManager;
+import io.tarantool.driver.core.connection.TarantoolTransport;
+import io.tarantool.driver.core.metadata.SqlResponseToTarantoolSqlResultConverter;
 import io.tarantool.driver.core.metadata.SpacesMetadataProvider;
 import io.tarantool.driver.core.metadata.TarantoolMetadata;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.exceptions.TarantoolSpaceNotFoundException;
 import io.tarantool.driver.mappers.CallResultMapper;
+import io.tarantool.driver.mappers.DefaultMessagePackMapper;
 import io.tarantool.driver.mappers.MessagePackMapper;
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.mappers.converters.value.ArrayValueToTarantoolTupleConverter;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
 import io.tarantool.driver.mappers.factories.ResultMapperFactoryFactory;
 import io.tarantool.driver.mappers.factories.ResultMapperFactoryFactoryImpl;
 import io.tarantool.driver.protocol.Packable;
 import io.tarantool.driver.protocol.TarantoolProtocolException;
 import io.tarantool.driver.protocol.requests.TarantoolCallRequest;
 import io.tarantool.driver.protocol.requests.TarantoolEvalRequest;
+import io.tarantool.driver.protocol.requests.TarantoolExecuteRequest;
 import io.tarantool.driver.utils.Assert;
 
 /**
@@ -61,16 +75,31 @@ import io.tarantool.driver.utils.Assert;
 public abstract class AbstractTarantoolClient<T extends Packable, R extends Collection<T>>
     implements TarantoolClient<T, R> {
 
-    private final NioEventLoopGroup eventLoopGroup;
+    private static final int SQL_RESULT_MAPPERS_CACHE_SIZE = 16;
+
+    private final TarantoolClientResources resources;
+    private final AtomicBoolean closed = new AtomicBoolean();
     private final TarantoolClientConfig config;
     private final Bootstrap bootstrap;
     private final TarantoolConnectionFactory connectionFactory;
     private final TarantoolConnectionListeners listeners;
     private final AtomicReference<TarantoolMetadata> metadataHolder = new AtomicReference<>();
+    private final List<Runnable> schemaChangeListeners = new CopyOnWriteArrayList<>();
     private final ResultMapperFactoryFactoryImpl mapperFactoryFactory;
+    private final TarantoolCallOperationsImpl callOperations;
+    // the connections are not referenced by the caches, so the entries are removed once the connections are dropped
+    private final Map<TarantoolConnection, TarantoolStatementCache> statementCaches =
+        Collections.synchronizedMap(new WeakHashMap<>());
+    // the SQL result mappers depend only on the tuple mapper, the most recently used ones are kept
+    private final Map<MessagePackMapper, MessagePackValueMapper> sqlResultMappers =
+        Collections.synchronizedMap(new LinkedHashMap<MessagePackMapper, MessagePackValueMapper>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<MessagePackMapper, MessagePackValueMapper> eldest) {
+                return size() > SQL_RESULT_MAPPERS_CACHE_SIZE;
+            }
+        });
 
     private final SpacesMetadataProvider metadataProvider;
-    private final ScheduledExecutorService timeoutScheduler;
     private TarantoolConnectionManager connectionManager;
 
     /**
@@ -113,17 +142,29 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
 
         this.config = config;
         this.mapperFactoryFactory = new ResultMapperFactoryFactoryImpl();
-        this.eventLoopGroup = new NioEventLoopGroup(config.getEventLoopThreadsNumber());
+        this.callOperations = new TarantoolCallOperationsImpl(config, mapperFactoryFactory, this::connectionManager);
+        this.resources = config.getClientResources() != null ?
+            config.getClientResources().retain() :
+            TarantoolClientResourcesImpl.builder()
+                .withTransportType(config.getTransportType())
+                .withEventLoopThreadsNumber(config.getEventLoopThreadsNumber())
+                .build();
+        TarantoolTransport transport = resources instanceof TarantoolClientResourcesImpl ?
+            ((TarantoolClientResourcesImpl) resources).getTransport() :
+            TarantoolTransport.forType(resources.getTransportType());
         this.bootstrap = new Bootstrap()
-            .group(eventLoopGroup)
-            .channel(NioSocketChannel.class)
+            .group(resources.getEventLoopGroup())
+            .channel(transport.getSocketChannelClass())
             .option(ChannelOption.SO_REUSEADDR, true)
             .option(ChannelOption.SO_KEEPALIVE, true)
             .option(ChannelOption.TCP_NODELAY, true)
             .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.getConnectTimeout());
-        this.timeoutScheduler =
-            Executors.newSingleThreadScheduledExecutor(new TarantoolDaemonThreadFactory("tarantool-timeout"));
-        this.connectionFactory = new TarantoolConnectionFactory(config, this.bootstrap, this.timeoutScheduler);
+        if (config.getWriteBufferWaterMark() != null) {
+            this.bootstrap.option(ChannelOption.WRITE_BUFFER_WATER_MARK, config.getWriteBufferWaterMark());
+        }
+        config.getChannelOptions(transport.getType()).forEach(this::setChannelOption);
+        this.connectionFactory = new TarantoolConnectionFactory(config, this.bootstrap, transport,
+            resources.getTimeoutScheduler(), resources.getRequestTimeoutTimer(), this::onSchemaChange);
         this.listeners = listeners;
         this.metadataProvider = new SpacesMetadataProvider(this, config.getMessagePackMapper());
     }
@@ -141,7 +182,7 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         TarantoolConnectionFactory connectionFactory,
         TarantoolConnectionListeners listeners);
 
-    private TarantoolConnectionManager connectionManager() {
+    TarantoolConnectionManager connectionManager() {
         if (this.connectionManager == null) {
             synchronized (this) {
                 if (this.connectionManager == null) {
@@ -170,6 +211,11 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
 
     @Override
     public TarantoolSpaceOperations<T, R> space(String spaceName) throws TarantoolClientException {
+        return space(spaceName, connectionManager());
+    }
+
+    TarantoolSpaceOperations<T, R> space(String spaceName, TarantoolConnectionManager connectionManager)
+        throws TarantoolClientException {
         Assert.hasText(spaceName, "Space name must not be null or empty");
 
         TarantoolMetadataOperations metadata = this.metadata();
@@ -178,11 +224,16 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
             throw new TarantoolSpaceNotFoundException(spaceName);
         }
 
-        return spaceOperations(config, connectionManager(), metadata, meta.get());
+        return spaceOperations(config, connectionManager, metadata, meta.get());
     }
 
     @Override
     public TarantoolSpaceOperations<T, R> space(int spaceId) throws TarantoolClientException {
+        return space(spaceId, connectionManager());
+    }
+
+    TarantoolSpaceOperations<T, R> space(int spaceId, TarantoolConnectionManager connectionManager)
+        throws TarantoolClientException {
         Assert.state(spaceId > 0, "Space ID must be greater than 0");
 
         TarantoolMetadataOperations metadata = this.metadata();
@@ -191,7 +242,7 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
             throw new TarantoolSpaceNotFoundException(spaceId);
         }
 
-        return spaceOperations(config, connectionManager(), metadata, meta.get());
+        return spaceOperations(config, connectionManager, metadata, meta.get());
     }
 
     /**
@@ -217,38 +268,87 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         return metadataHolder.get();
     }
 
+    /**
+     * Called when a connection receives a response with a schema version different from the previously received one.
+     * The loaded metadata is refreshed in background, so the subsequent operations see the new schema.
+     *
+     * @param schemaVersion new schema version
+     */
+    void onSchemaChange(long schemaVersion) {
+        TarantoolMetadata metadata = metadataHolder.get();
+        if (metadata != null) {
+            metadata.refreshInBackground();
+        }
+        schemaChangeListeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Add a listener which is called when a schema change on the server is detected
+     *
+     * @param listener schema change listener
+     */
+    void addSchemaChangeListener(Runnable listener) {
+        schemaChangeListeners.add(listener);
+    }
+
     @Override
     public TarantoolMetadataProvider metadataProvider() {
         return metadataProvider;
     }
 
+    @Override
+    public TarantoolPipeline<T, R> pipeline() {
+        return new TarantoolPipelineImpl<>(this);
+    }
+
+    @Override
+    public TarantoolTransaction<T, R> transaction() {
+        return new TarantoolTransactionImpl<>(this);
+    }
+
     @Override
     public CompletableFuture<List<?>> call(String functionName) throws TarantoolClientException {
-        return call(functionName, Collections.emptyList());
+        return callOperations.call(functionName);
     }
 
     @Override
     public CompletableFuture<List<?>> call(String functionName, Object... arguments)
         throws TarantoolClientException {
-        return call(functionName, Arrays.asList(arguments));
+        return callOperations.call(functionName, arguments);
     }
 
     @Override
     public CompletableFuture<List<?>> call(String functionName, List<?> arguments)
         throws TarantoolClientException {
-        return call(functionName, arguments, config.getMessagePackMapper());
+        return callOperations.call(functionName, arguments);
     }
 
     @Override
     public CompletableFuture<List<?>> call(String functionName, List<?> arguments, MessagePackMapper mapper)
         throws TarantoolClientException {
-        return makeRequest(functionName, arguments, mapper, mapper);
+        return callOperations.call(functionName, arguments, mapper);
+    }
+
+    @Override
+    public CompletableFuture<List<?>> call(String functionName, List<?> arguments, Consumer<Object> pushHandler)
+        throws TarantoolClientException {
+        return callOperations.call(functionName, arguments, pushHandler);
+    }
+
+    @Override
+    public CompletableFuture<List<?>> call(
+        String functionName,
+        List<?> arguments,
+        MessagePackMapper mapper,
+        Consumer<Object> pushHandler)
+        throws TarantoolClientException {
+        return callOperations.call(functionName, arguments, mapper, pushHandler);
     }
 
     @Override
     public <T> CompletableFuture<TarantoolResult<T>> callForTupleResult(String functionName, Class<T> tupleClass)
         throws TarantoolClientException {
-        return callForTupleResult(functionName, Collections.emptyList(), tupleClass);
+        return callOperations.callForTupleResult(functionName, tupleClass);
     }
 
     @Override
@@ -256,14 +356,14 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         String functionName,
         CallResultMapper<T, SingleValueCallResult<T>> resultMapper)
         throws TarantoolClientException {
-        return call(functionName, Collections.emptyList(), resultMapper);
+        return callOperations.call(functionName, resultMapper);
     }
 
     @Override
     public <T> CompletableFuture<TarantoolResult<T>> callForTupleResult(
             String functionName, List<?> arguments, Class<T> tupleClass)
         throws TarantoolClientException {
-        return callForTupleResult(functionName, arguments, config.getMessagePackMapper(), tupleClass);
+        return callOperations.callForTupleResult(functionName, arguments, tupleClass);
     }
 
     @Override
@@ -272,7 +372,7 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         List<?> arguments,
         CallResultMapper<T, SingleValueCallResult<T>> resultMapper)
         throws TarantoolClientException {
-        return call(functionName, arguments, config.getMessagePackMapper(), resultMapper);
+        return callOperations.call(functionName, arguments, resultMapper);
     }
 
     @Override
@@ -282,8 +382,7 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         MessagePackObjectMapper argumentsMapper,
         Class<T> tupleClass)
         throws TarantoolClientException {
-        return call(functionName, arguments, argumentsMapper,
-            mapperFactoryFactory.getTarantoolResultMapper(config.getMessagePackMapper(), tupleClass));
+        return callOperations.callForTupleResult(functionName, arguments, argumentsMapper, tupleClass);
     }
 
     @Override
@@ -293,7 +392,7 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         MessagePackObjectMapper argumentsMapper,
         CallResultMapper<T, SingleValueCallResult<T>> resultMapper)
         throws TarantoolClientException {
-        return callForSingleResult(functionName, arguments, argumentsMapper, resultMapper);
+        return callOperations.call(functionName, arguments, argumentsMapper, resultMapper);
     }
 
     @Override
@@ -302,7 +401,7 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         List<?> arguments,
         Class<S> resultClass)
         throws TarantoolClientException {
-        return callForSingleResult(functionName, arguments, config.getMessagePackMapper(), resultClass);
+        return callOperations.callForSingleResult(functionName, arguments, resultClass);
     }
 
     @Override
@@ -311,7 +410,7 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         List<?> arguments,
         ValueConverter<Value, S> valueConverter)
         throws TarantoolClientException {
-        return callForSingleResult(functionName, arguments, config.getMessagePackMapper(), valueConverter);
+        return callOperations.callForSingleResult(functionName, arguments, valueConverter);
     }
 
     @Override
@@ -319,26 +418,26 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         String functionName,
         List<?> arguments,
         CallResultMapper<S, SingleValueCallResult<S>> resultMapper) throws TarantoolClientException {
-        return callForSingleResult(functionName, arguments, config.getMessagePackMapper(), resultMapper);
+        return callOperations.callForSingleResult(functionName, arguments, resultMapper);
     }
 
     @Override
     public <S> CompletableFuture<S> callForSingleResult(String functionName, Class<S> resultClass)
         throws TarantoolClientException {
-        return callForSingleResult(functionName, Collections.emptyList(), resultClass);
+        return callOperations.callForSingleResult(functionName, resultClass);
     }
 
     @Override
     public <S> CompletableFuture<S> callForSingleResult(String functionName, ValueConverter<Value, S> valueConverter)
         throws TarantoolClientException {
-        return callForSingleResult(functionName, Collections.emptyList(), valueConverter);
+        return callOperations.callForSingleResult(functionName, valueConverter);
     }
 
     @Override
     public <S> CompletableFuture<S> callForSingleResult(
         String functionName,
         CallResultMapper<S, SingleValueCallResult<S>> resultMapper) throws TarantoolClientException {
-        return callForSingleResult(functionName, Collections.emptyList(), resultMapper);
+        return callOperations.callForSingleResult(functionName, resultMapper);
     }
 
     @Override
@@ -348,8 +447,7 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         MessagePackObjectMapper argumentsMapper,
         Class<S> resultClass)
         throws TarantoolClientException {
-        return callForSingleResult(functionName, arguments, argumentsMapper,
-            mapperFactoryFactory.getDefaultSingleValueMapper(config.getMessagePackMapper(), resultClass));
+        return callOperations.callForSingleResult(functionName, arguments, argumentsMapper, resultClass);
     }
 
     @Override
@@ -359,8 +457,7 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         MessagePackObjectMapper argumentsMapper,
         ValueConverter<Value, S> valueConverter)
         throws TarantoolClientException {
-        return callForSingleResult(functionName, arguments, argumentsMapper,
-            mapperFactoryFactory.getSingleValueResultMapper(valueConverter));
+        return callOperations.callForSingleResult(functionName, arguments, argumentsMapper, valueConverter);
     }
 
     @Override
@@ -370,8 +467,7 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         MessagePackObjectMapper argumentsMapper,
         CallResultMapper<S, SingleValueCallResult<S>> resultMapper)
         throws TarantoolClientException {
-        return makeRequestForSingleResult(functionName, arguments, argumentsMapper, resultMapper)
-            .thenApply(CallResult::value);
+        return callOperations.callForSingleResult(functionName, arguments, argumentsMapper, resultMapper);
     }
 
     @Override
@@ -381,8 +477,7 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         Supplier<R> resultContainerSupplier,
         Class<T> resultClass)
         throws TarantoolClientException {
-        return callForMultiResult(
-            functionName, arguments, config.getMessagePackMapper(), resultContainerSupplier, resultClass);
+        return callOperations.callForMultiResult(functionName, arguments, resultContainerSupplier, resultClass);
     }
 
     @Override
@@ -391,8 +486,7 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         List<?> arguments,
         Supplier<R> resultContainerSupplier,
         ValueConverter<Value, T> valueConverter) throws TarantoolClientException {
-        return callForMultiResult(functionName, arguments, config.getMessagePackMapper(),
-            resultContainerSupplier, valueConverter);
+        return callOperations.callForMultiResult(functionName, arguments, resultContainerSupplier, valueConverter);
     }
 
     @Override
@@ -400,7 +494,7 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         String functionName,
         List<?> arguments,
         CallResultMapper<R, MultiValueCallResult<T, R>> resultMapper) throws TarantoolClientException {
-        return callForMultiResult(functionName, arguments, config.getMessagePackMapper(), resultMapper);
+        return callOperations.callForMultiResult(functionName, arguments, resultMapper);
     }
 
     @Override
@@ -409,7 +503,7 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         Supplier<R> resultContainerSupplier,
         Class<T> resultClass)
         throws TarantoolClientException {
-        return callForMultiResult(functionName, Collections.emptyList(), resultContainerSupplier, resultClass);
+        return callOperations.callForMultiResult(functionName, resultContainerSupplier, resultClass);
     }
 
     @Override
@@ -418,7 +512,7 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         Supplier<R> resultContainerSupplier,
         ValueConverter<Value, T> valueConverter)
         throws TarantoolClientException {
-        return callForMultiResult(functionName, Collections.emptyList(), resultContainerSupplier, valueConverter);
+        return callOperations.callForMultiResult(functionName, resultContainerSupplier, valueConverter);
     }
 
     @Override
@@ -426,7 +520,7 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         String functionName,
         CallResultMapper<R, MultiValueCallResult<T, R>> resultMapper)
         throws TarantoolClientException {
-        return callForMultiResult(functionName, Collections.emptyList(), resultMapper);
+        return callOperations.callForMultiResult(functionName, resultMapper);
     }
 
     @Override
@@ -437,8 +531,8 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         Supplier<R> resultContainerSupplier,
         Class<T> resultClass)
         throws TarantoolClientException {
-        return callForMultiResult(functionName, arguments, argumentsMapper,
-            mapperFactoryFactory.getDefaultMultiValueMapper(config.getMessagePackMapper(), resultClass));
+        return callOperations.callForMultiResult(
+            functionName, arguments, argumentsMapper, resultContainerSupplier, resultClass);
     }
 
     @Override
@@ -449,8 +543,8 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         Supplier<R> resultContainerSupplier,
         ValueConverter<Value, T> valueConverter)
         throws TarantoolClientException {
-        return callForMultiResult(functionName, arguments, argumentsMapper,
-            mapperFactoryFactory.getMultiValueResultMapper(resultContainerSupplier, valueConverter));
+        return callOperations.callForMultiResult(
+            functionName, arguments, argumentsMapper, resultContainerSupplier, valueConverter);
     }
 
     @Override
@@ -460,45 +554,7 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         MessagePackObjectMapper argumentsMapper,
         CallResultMapper<R, MultiValueCallResult<T, R>> resultMapper)
         throws TarantoolClientException {
-        return makeRequestForMultiResult(functionName, arguments, argumentsMapper, resultMapper)
-            .thenApply(CallResult::value);
-    }
-
-    private <T> CompletableFuture<CallResult<T>> makeRequestForSingleResult(
-        String functionName,
-        List<?> arguments,
-        MessagePackObjectMapper argumentsMapper,
-        CallResultMapper<T, SingleValueCallResult<T>> resultMapper) {
-        return makeRequest(functionName, arguments, argumentsMapper, resultMapper);
-    }
-
-    private <T, R extends List<T>> CompletableFuture<CallResult<R>> makeRequestForMultiResult(
-        String functionName,
-        List<?> arguments,
-        MessagePackObjectMapper argumentsMapper,
-        CallResultMapper<R, MultiValueCallResult<T, R>> resultMapper) {
-        return makeRequest(functionName, arguments, argumentsMapper, resultMapper);
-    }
-
-    private <S> CompletableFuture<S> makeRequest(
-        String functionName,
-        List<?> arguments,
-        MessagePackObjectMapper argumentsMapper,
-        MessagePackValueMapper resultMapper)
-        throws TarantoolClientException {
-        try {
-            TarantoolCallRequest.Builder builder = new TarantoolCallRequest.Builder()
-                .withFunctionName(functionName);
-
-            if (arguments.size() > 0) {
-                builder.withArguments(arguments);
-            }
-
-            TarantoolCallRequest request = builder.build(argumentsMapper);
-            return connectionManager().getConnection().thenCompose(c -> c.sendRequest(request, resultMapper));
-        } catch (TarantoolProtocolException e) {
-            throw new TarantoolClientException(e);
-        }
+        return callOperations.callForMultiResult(functionName, arguments, argumentsMapper, resultMapper);
     }
 
     @Override
@@ -526,6 +582,15 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
 
     @Override
     public CompletableFuture<List<?>> eval(
+        String expression,
+        List<?> arguments,
+        MessagePackObjectMapper argumentsMapper,
+        MessagePackValueMapper resultMapper) throws TarantoolClientException {
+        return eval(connectionManager(), expression, arguments, argumentsMapper, resultMapper);
+    }
+
+    CompletableFuture<List<?>> eval(
+        TarantoolConnectionManager connectionManager,
         String expression,
         List<?> arguments,
         MessagePackObjectMapper argumentsMapper,
@@ -535,28 +600,80 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
                 .withExpression(expression)
                 .withArguments(arguments)
                 .build(argumentsMapper);
-            return connectionManager().getConnection().thenCompose(c -> c.sendRequest(request, resultMapper));
+            return connectionManager.getConnection().thenCompose(c -> c.sendRequest(request, resultMapper));
         } catch (TarantoolProtocolException e) {
             throw new TarantoolClientException(e);
         }
     }
 
+    @Override
+    public CompletableFuture<TarantoolSqlResult> execute(String statement) throws TarantoolClientException {
+        return execute(statement, Collections.emptyList());
+    }
+
+    @Override
+    public CompletableFuture<TarantoolSqlResult> execute(String statement, List<?> parameters)
+        throws TarantoolClientException {
+        return execute(statement, parameters, config.getMessagePackMapper());
+    }
+
+    @Override
+    public CompletableFuture<TarantoolSqlResult> execute(
+        String statement,
+        List<?> parameters,
+        MessagePackMapper mapper) throws TarantoolClientException {
+        Assert.hasText(statement, "SQL statement must not be null or empty");
+        Assert.notNull(parameters, "SQL statement parameters must not be null");
+
+        MessagePackValueMapper resultMapper = sqlResultMappers.computeIfAbsent(mapper, this::sqlResultMapper);
+        int statementCacheSize = config.getStatementCacheSize();
+        return connectionManager().getConnection().thenCompose(c -> {
+            if (statementCacheSize == 0) {
+                try {
+                    TarantoolExecuteRequest request = new TarantoolExecuteRequest.Builder()
+                        .withStatementText(statement)
+                        .withParameters(parameters)
+                        .build(mapper);
+                    return c.sendRequest(request, resultMapper);
+                } catch (TarantoolProtocolException e) {
+                    throw new TarantoolClientException(e);
+                }
+            }
+            return statementCaches.computeIfAbsent(c, k -> new TarantoolStatementCache(statementCacheSize))
+                .execute(c, statement, parameters, mapper, resultMapper);
+        });
+    }
+
+    private MessagePackValueMapper sqlResultMapper(MessagePackMapper mapper) {
+        DefaultMessagePackMapper resultMapper = DefaultMessagePackMapperFactory.getInstance().emptyMapper();
+        resultMapper.registerValueConverterWithoutTargetClass(ValueType.MAP,
+            new SqlResponseToTarantoolSqlResultConverter(new ArrayValueToTarantoolTupleConverter(mapper, null)));
+        return resultMapper;
+    }
+
     @Override
     public TarantoolClientConfig getConfig() {
         return config;
     }
 
+    @SuppressWarnings("unchecked")
+    private void setChannelOption(ChannelOption<?> option, Object value) {
+        this.bootstrap.option((ChannelOption<Object>) option, value);
+    }
+
     protected Bootstrap getBootstrap() {
         return bootstrap;
     }
 
     @Override
     public void close() throws Exception {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
         try {
             connectionManager().close();
-            timeoutScheduler.shutdownNow();
         } finally {
-            eventLoopGroup.shutdownGracefully();
+            resources.release();
         }
     }
 
@@ -567,6 +684,16 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
 
     @Override
     public ResultMapperFactoryFactory getResultMapperFactoryFactory() {
-        return mapperFactoryFactory;
+        return callOperations.getResultMapperFactoryFactory();
+    }
+
+    /**
+     * Create call operations sending the requests over the connections provided by the specified connection manager
+     *
+     * @param connectionManager connection manager, e.g. provided by a pipeline
+     * @return call operations instance
+     */
+    TarantoolCallOperations callOperations(TarantoolConnectionManager connectionManager) {
+        return new TarantoolCallOperationsImpl(config, mapperFactoryFactory, () -> connectionManager);
     }
 }
@@ -6,7 +6,10 @@ import io.tarantool.driver.api.SingleValueCallResult;
 import io.tarantool.driver.api.TarantoolCallOperations;
 import io.tarantool.driver.api.TarantoolClient;
 import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolPipeline;
 import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.TarantoolSqlResult;
+import io.tarantool.driver.api.TarantoolTransaction;
 import io.tarantool.driver.api.connection.TarantoolConnectionListeners;
 import io.tarantool.driver.api.metadata.DDLMetadataContainerResult;
 import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
@@ -35,6 +38,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -87,10 +91,24 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
         this.client.getConnectionListeners().clear();
         this.metadataProvider = new ProxyMetadataProvider(client, mappingConfig.getGetSchemaFunctionName(),
             DDLTarantoolSpaceMetadataConverter.getInstance(), DDLMetadataContainerResult.class);
+        if (decoratedClient instanceof AbstractTarantoolClient) {
+            // the schema of the cluster is changed on the routers too, refresh the proxy metadata as well
+            ((AbstractTarantoolClient<?, ?>) decoratedClient).addSchemaChangeListener(() -> {
+                TarantoolMetadata metadata = metadataHolder.get();
+                if (metadata != null) {
+                    metadata.refreshInBackground();
+                }
+            });
+        }
     }
 
     @Override
     public TarantoolSpaceOperations<T, R> space(int spaceId) throws TarantoolClientException {
+        return space(spaceId, this);
+    }
+
+    private TarantoolSpaceOperations<T, R> space(int spaceId, TarantoolCallOperations callOperations)
+        throws TarantoolClientException {
         Assert.state(spaceId > 0, "Space ID must be greater than 0");
 
         TarantoolMetadataOperations metadata = this.metadata();
@@ -99,11 +117,15 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
             throw new TarantoolSpaceNotFoundException(spaceId);
         }
 
-        return spaceOperations(config, this, mappingConfig, metadata, meta.get());
+        return spaceOperations(config, callOperations, mappingConfig, metadata, meta.get());
     }
 
     @Override
     public TarantoolSpaceOperations<T, R> space(String spaceName) {
+        return space(spaceName, this);
+    }
+
+    private TarantoolSpaceOperations<T, R> space(String spaceName, TarantoolCallOperations callOperations) {
         Assert.hasText(spaceName, "Space name must not be null or empty");
 
         TarantoolMetadataOperations metadata = this.metadata();
@@ -112,7 +134,7 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
             throw new TarantoolSpaceNotFoundException(spaceName);
         }
 
-        return spaceOperations(config, this, mappingConfig, metadata, meta.get());
+        return spaceOperations(config, callOperations, mappingConfig, metadata, meta.get());
     }
 
     /**
@@ -145,6 +167,36 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
         return metadataProvider;
     }
 
+    /**
+     * Create a pipeline of the decorated client, which space operations are the proxy operations. All the operations
+     * are sent over one connection of the decorated client with one flush.
+     *
+     * @return new pipeline instance
+     * @throws TarantoolClientException if the decorated client does not provide the basic pipeline implementation
+     */
+    @Override
+    public TarantoolPipeline<T, R> pipeline() {
+        TarantoolPipeline<T, R> pipeline = client.pipeline();
+        if (!(pipeline instanceof TarantoolPipelineImpl)) {
+            throw new TarantoolClientException("The decorated client pipeline does not support the proxy operations");
+        }
+        return new ProxyPipeline((TarantoolPipelineImpl<T, R>) pipeline);
+    }
+
+    /**
+     * Create a transaction of the decorated client on one router. The {@code call} and {@code eval} operations are
+     * executed atomically on the router, so the transaction covers only the changes made by the functions on the
+     * router itself. The proxy space operations are executed by the router on the storages, which do not share the
+     * router transaction, so they cannot be added to it.
+     *
+     * @return new transaction instance, {@link TarantoolTransaction#space} methods throw
+     * {@link TarantoolClientException}
+     */
+    @Override
+    public TarantoolTransaction<T, R> transaction() {
+        return new ProxyTransaction(client.transaction());
+    }
+
     @Override
     public TarantoolClientConfig getConfig() {
         return client.getConfig();
@@ -188,6 +240,22 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
         return client.call(functionName, arguments, mapper);
     }
 
+    @Override
+    public CompletableFuture<List<?>> call(String functionName, List<?> arguments, Consumer<Object> pushHandler)
+        throws TarantoolClientException {
+        return client.call(functionName, arguments, pushHandler);
+    }
+
+    @Override
+    public CompletableFuture<List<?>> call(
+        String functionName,
+        List<?> arguments,
+        MessagePackMapper mapper,
+        Consumer<Object> pushHandler)
+        throws TarantoolClientException {
+        return client.call(functionName, arguments, mapper, pushHandler);
+    }
+
     @Override
     public <T> CompletableFuture<TarantoolResult<T>> callForTupleResult(String functionName, Class<T> entityClass)
         throws TarantoolClientException {
@@ -413,6 +481,25 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
         return client.eval(expression, arguments, argumentsMapper, resultMapper);
     }
 
+    @Override
+    public CompletableFuture<TarantoolSqlResult> execute(String statement) throws TarantoolClientException {
+        return client.execute(statement);
+    }
+
+    @Override
+    public CompletableFuture<TarantoolSqlResult> execute(String statement, List<?> parameters)
+        throws TarantoolClientException {
+        return client.execute(statement, parameters);
+    }
+
+    @Override
+    public CompletableFuture<TarantoolSqlResult> execute(
+        String statement,
+        List<?> parameters,
+        MessagePackMapper mapper) throws TarantoolClientException {
+        return client.execute(statement, parameters, mapper);
+    }
+
     @Override
     public boolean refresh() {
         return this.client.refresh();
@@ -440,4 +527,118 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
     TarantoolClient<T, R> getClient() {
         return client;
     }
+
+    /**
+     * Adds the proxy space operations to the pipeline of the decorated client
+     */
+    private final class ProxyPipeline implements TarantoolPipeline<T, R> {
+        private final TarantoolPipelineImpl<T, R> pipeline;
+
+        private ProxyPipeline(TarantoolPipelineImpl<T, R> pipeline) {
+            this.pipeline = pipeline;
+        }
+
+        @Override
+        public CompletableFuture<List<?>> call(String functionName, Object... arguments)
+            throws TarantoolClientException {
+            return pipeline.call(functionName, arguments);
+        }
+
+        @Override
+        public CompletableFuture<List<?>> call(String functionName, List<?> arguments)
+            throws TarantoolClientException {
+            return pipeline.call(functionName, arguments);
+        }
+
+        @Override
+        public <S> CompletableFuture<S> callForSingleResult(
+            String functionName, List<?> arguments, Class<S> resultClass) throws TarantoolClientException {
+            return pipeline.callForSingleResult(functionName, arguments, resultClass);
+        }
+
+        @Override
+        public CompletableFuture<List<?>> eval(String expression, List<?> arguments) throws TarantoolClientException {
+            return pipeline.eval(expression, arguments);
+        }
+
+        @Override
+        public TarantoolSpaceOperations<T, R> space(String spaceName) throws TarantoolClientException {
+            return ProxyTarantoolClient.this.space(spaceName, pipeline.callOperations());
+        }
+
+        @Override
+        public TarantoolSpaceOperations<T, R> space(int spaceId) throws TarantoolClientException {
+            return ProxyTarantoolClient.this.space(spaceId, pipeline.callOperations());
+        }
+
+        @Override
+        public CompletableFuture<Void> execute() {
+            return pipeline.execute();
+        }
+    }
+
+    /**
+     * Executes the functions in a transaction on the router, the space operations are rejected
+     */
+    private final class ProxyTransaction implements TarantoolTransaction<T, R> {
+        private final TarantoolTransaction<T, R> transaction;
+
+        private ProxyTransaction(TarantoolTransaction<T, R> transaction) {
+            this.transaction = transaction;
+        }
+
+        @Override
+        public CompletableFuture<List<?>> call(String functionName, Object... arguments)
+            throws TarantoolClientException {
+            return transaction.call(functionName, arguments);
+        }
+
+        @Override
+        public CompletableFuture<List<?>> call(String functionName, List<?> arguments)
+            throws TarantoolClientException {
+            return transaction.call(functionName, arguments);
+        }
+
+        @Override
+        public <S> CompletableFuture<S> callForSingleResult(
+            String functionName, List<?> arguments, Class<S> resultClass) throws TarantoolClientException {
+            return transaction.callForSingleResult(functionName, arguments, resultClass);
+        }
+
+        @Override
+        public CompletableFuture<List<?>> eval(String expression, List<?> arguments) throws TarantoolClientException {
+            return transaction.eval(expression, arguments);
+        }
+
+        @Override
+        public TarantoolSpaceOperations<T, R> space(String spaceName) throws TarantoolClientException {
+            throw spaceOperationsNotSupported();
+        }
+
+        @Override
+        public TarantoolSpaceOperations<T, R> space(int spaceId) throws TarantoolClientException {
+            throw spaceOperationsNotSupported();
+        }
+
+        private TarantoolClientException spaceOperationsNotSupported() {
+            return new TarantoolClientException(
+                "The proxy space operations are executed on the storages and cannot be a part of a router " +
+                    "transaction, use call operations with the functions changing the data atomically instead");
+        }
+
+        @Override
+        public CompletableFuture<Void> execute() {
+            return transaction.execute();
+        }
+
+        @Override
+        public CompletableFuture<Void> commit() {
+            return transaction.commit();
+        }
+
+        @Override
+        public CompletableFuture<Void> rollback() {
+            return transaction.rollback();
+        }
+    }
 }
@@ -1,35 +1,71 @@
 package io.tarantool.driver.core;
 
+import io.netty.util.Timer;
 import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.mappers.StreamingResultMapper;
 import io.tarantool.driver.protocol.TarantoolRequest;
 
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
 
 /**
  * Keeps track of submitted requests, finishing them by timeout and allowing asynchronous request processing
+ * <p>
+ * An instance is bound to a single connection, since the request IDs are unique only within a connection.
+ * <p>
+ * The request timeouts are tracked by a {@link Timer} shared by all connections of the client, normally a
+ * {@link io.netty.util.HashedWheelTimer}. A request is unregistered either when it is taken for handling the
+ * response, or when its timeout expires.
+ * <p>
+ * The number of pending requests and the moving average of the response time are used by the connection selection
+ * strategies for estimating the connection load and latency.
+ * <p>
+ * The schema version returned in the response headers is tracked as well. When it changes, the schema change
+ * listener is notified, so that the cached schema metadata can be refreshed.
  *
  * @author Alexey Kuzin
  */
 public class RequestFutureManager implements AutoCloseable {
-    private final ScheduledExecutorService timeoutScheduler;
+    // the time after which the weight of a response time sample in the average drops e times
+    private static final double RESPONSE_TIME_DECAY = TimeUnit.SECONDS.toNanos(1);
+
+    private final Timer timeoutTimer;
     private final TarantoolClientConfig config;
-    private final Map<Long, TarantoolRequestMetadata> requestFutures = new ConcurrentHashMap<>();
+    private final StripedLongObjectMap<TarantoolRequestMetadata> requestFutures = new StripedLongObjectMap<>();
+    private final AtomicInteger pendingRequests = new AtomicInteger();
+    private volatile double averageResponseTime;
+    private long lastResponseTimestamp;
+    private volatile long lastActivityTimestamp = System.nanoTime();
+    private volatile long schemaVersion;
+    private boolean hasResponseTime;
+    private final LongConsumer schemaChangeListener;
 
     /**
      * Basic constructor.
      *
-     * @param config           tarantool client configuration
-     * @param timeoutScheduler scheduled executor for handling request timeouts
+     * @param config       tarantool client configuration
+     * @param timeoutTimer timer for handling request timeouts
+     */
+    public RequestFutureManager(TarantoolClientConfig config, Timer timeoutTimer) {
+        this(config, timeoutTimer, null);
+    }
+
+    /**
+     * Create a manager notifying about the schema changes on the server.
+     *
+     * @param config               tarantool client configuration
+     * @param timeoutTimer         timer for handling request timeouts
+     * @param schemaChangeListener receives the new schema version when the server returns a version different from
+     *                             the previously returned one, may be null
      */
-    public RequestFutureManager(TarantoolClientConfig config, ScheduledExecutorService timeoutScheduler) {
+    public RequestFutureManager(TarantoolClientConfig config, Timer timeoutTimer, LongConsumer schemaChangeListener) {
         this.config = config;
-        this.timeoutScheduler = timeoutScheduler;
+        this.timeoutTimer = timeoutTimer;
+        this.schemaChangeListener = schemaChangeListener;
     }
 
     /**
@@ -45,6 +81,23 @@ public class RequestFutureManager implements AutoCloseable {
         return submitRequest(request, config.getRequestTimeout(), resultMapper);
     }
 
+    /**
+     * Submit a request ID for tracking, using the passed {@link CompletableFuture} for tracking the request
+     * completion. The request ID must be already assigned. The request timeout is taken from the client configuration
+     *
+     * @param request       request to Tarantool server
+     * @param requestFuture future that will be completed when a response is received from Tarantool server
+     * @param resultMapper  result message entity-to-object mapper
+     * @param <T>           target response body type
+     * @return the passed request future
+     */
+    public <T> CompletableFuture<T> submitRequest(
+        TarantoolRequest request,
+        CompletableFuture<T> requestFuture,
+        MessagePackValueMapper resultMapper) {
+        return submitRequest(request, requestFuture, config.getRequestTimeout(), resultMapper);
+    }
+
     /**
      * Submit a request ID for tracking. Provides a {@link CompletableFuture} for tracking the request completion.
      * The request timeout is taken from the client configuration
@@ -59,16 +112,39 @@ public class RequestFutureManager implements AutoCloseable {
         TarantoolRequest request,
         int requestTimeout,
         MessagePackValueMapper resultMapper) {
-        CompletableFuture<T> requestFuture = new CompletableFuture<>();
+        return submitRequest(request, new CompletableFuture<>(), requestTimeout, resultMapper);
+    }
+
+    /**
+     * Submit a request ID for tracking, using the passed {@link CompletableFuture} for tracking the request
+     * completion. The request ID must be already assigned.
+     *
+     * @param request        request to Tarantool server
+     * @param requestFuture  future that will be completed when a response is received from Tarantool server
+     * @param requestTimeout timeout after which the request will be automatically failed, milliseconds
+     * @param resultMapper   result message entity-to-object mapper
+     * @param <T>            target response body type
+     * @return the passed request future
+     */
+    public <T> CompletableFuture<T> submitRequest(
+        TarantoolRequest request,
+        CompletableFuture<T> requestFuture,
+        int requestTimeout,
+        MessagePackValueMapper resultMapper) {
         long requestId = request.getHeader().getSync();
-        requestFuture.whenComplete((r, e) -> requestFutures.remove(requestId));
-        requestFutures.put(requestId, new TarantoolRequestMetadata(requestFuture, resultMapper));
-        timeoutScheduler.schedule(() -> {
+        TarantoolRequestMetadata requestMeta =
+            new TarantoolRequestMetadata(requestFuture, resultMapper, request.getPushHandler());
+        requestFutures.put(requestId, requestMeta);
+        pendingRequests.incrementAndGet();
+        requestMeta.setTimeout(timeoutTimer.newTimeout(timeout -> {
+            if (requestFutures.remove(requestId) != null) {
+                pendingRequests.decrementAndGet();
+            }
             if (!requestFuture.isDone()) {
                 requestFuture.completeExceptionally(new TimeoutException(String.format(
                     "Failed to get response for request id: %d within %d ms", requestId, requestTimeout)));
             }
-        }, requestTimeout, TimeUnit.MILLISECONDS);
+        }, requestTimeout, TimeUnit.MILLISECONDS));
         return requestFuture;
     }
 
@@ -78,12 +154,134 @@ public class RequestFutureManager implements AutoCloseable {
      * @param requestId ID of a request to Tarantool server (sync ID)
      * @return {@link CompletableFuture} that completes when a response is received from Tarantool server
      */
-    public TarantoolRequestMetadata getRequest(Long requestId) {
+    public TarantoolRequestMetadata getRequest(long requestId) {
         return requestFutures.get(requestId);
     }
 
+    /**
+     * Check if the result of the request bound to the passed request ID may be read directly from the raw response
+     * data, that is the request result mapper is a {@link StreamingResultMapper}
+     *
+     * @param requestId ID of a request to Tarantool server (sync ID)
+     * @return true, if the request is registered and its result mapper supports streaming
+     */
+    public boolean isStreamingResultExpected(long requestId) {
+        TarantoolRequestMetadata requestMeta = requestFutures.get(requestId);
+        return requestMeta != null && requestMeta.getMapper() instanceof StreamingResultMapper;
+    }
+
+    /**
+     * Unregister the request bound to the passed request ID and cancel its timeout. Must be called before completing
+     * the request future.
+     *
+     * @param requestId ID of a request to Tarantool server (sync ID)
+     * @return request metadata or null, if the request is not registered or is already unregistered
+     */
+    public TarantoolRequestMetadata removeRequest(long requestId) {
+        TarantoolRequestMetadata requestMeta = requestFutures.remove(requestId);
+        if (requestMeta != null) {
+            pendingRequests.decrementAndGet();
+            requestMeta.cancelTimeout();
+        }
+        return requestMeta;
+    }
+
+    /**
+     * Get the number of registered requests, that is the requests waiting for the responses
+     *
+     * @return number of pending requests
+     */
+    public int getPendingRequestsCount() {
+        return pendingRequests.get();
+    }
+
+    /**
+     * Add a response time sample to the exponentially weighted moving average. The weight of the previous average
+     * decays with the time passed since the previous sample, so after a pause the average follows the new samples
+     * quickly. Must be called by one thread at a time, normally the connection I/O thread.
+     *
+     * @param responseTime time between the request registration and the response receipt, nanoseconds
+     */
+    public void recordResponseTime(long responseTime) {
+        long now = System.nanoTime();
+        updateAverageResponseTime(responseTime, now);
+        lastActivityTimestamp = now;
+    }
+
+    /**
+     * Add a ping round-trip time sample to the response time average. Unlike {@link #recordResponseTime(long)},
+     * the ping is not treated as the connection activity, so it does not reset the idle time. Must be called by one
+     * thread at a time, normally the connection I/O thread.
+     *
+     * @param pingTime time between sending the ping request and receiving the response, nanoseconds
+     */
+    public void recordPingTime(long pingTime) {
+        updateAverageResponseTime(pingTime, System.nanoTime());
+    }
+
+    private void updateAverageResponseTime(long responseTime, long now) {
+        if (hasResponseTime) {
+            double weight = Math.exp(-(now - lastResponseTimestamp) / RESPONSE_TIME_DECAY);
+            averageResponseTime = averageResponseTime * weight + responseTime * (1 - weight);
+        } else {
+            averageResponseTime = responseTime;
+            hasResponseTime = true;
+        }
+        lastResponseTimestamp = now;
+    }
+
+    /**
+     * Get the exponentially weighted moving average of the response time
+     *
+     * @return average response time in nanoseconds, 0 if no responses are received yet
+     */
+    public long getAverageResponseTime() {
+        return (long) averageResponseTime;
+    }
+
+    /**
+     * Get the time passed since the last response, or since this manager was created if no responses are received
+     *
+     * @return idle time in nanoseconds, 0 if there are pending requests
+     */
+    public long getIdleTime() {
+        return pendingRequests.get() > 0 ? 0 : System.nanoTime() - lastActivityTimestamp;
+    }
+
+    /**
+     * Remember the database schema version returned in a response header and notify the schema change listener if
+     * the version has changed. The first returned version is not treated as a change. Must be called by one thread
+     * at a time, normally the connection I/O thread.
+     *
+     * @param schemaVersion schema version, may be null if the server did not return it
+     */
+    public void recordSchemaVersion(Long schemaVersion) {
+        if (schemaVersion == null) {
+            return;
+        }
+        long previous = this.schemaVersion;
+        if (schemaVersion != previous) {
+            this.schemaVersion = schemaVersion;
+            if (previous != 0 && schemaChangeListener != null) {
+                schemaChangeListener.accept(schemaVersion);
+            }
+        }
+    }
+
+    /**
+     * Get the database schema version returned in the last response which contained it
+     *
+     * @return schema version, 0 if no responses are received yet
+     */
+    public long getSchemaVersion() {
+        return schemaVersion;
+    }
+
     @Override
     public void close() {
-        requestFutures.values().forEach(f -> f.getFuture().join());
+        requestFutures.values().stream()
+            .map(TarantoolRequestMetadata::getFuture)
+            .filter(f -> !f.isDone())
+            .forEach(CompletableFuture::join);
     }
 }
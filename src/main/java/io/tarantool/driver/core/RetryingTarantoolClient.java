@@ -5,7 +5,11 @@ import io.tarantool.driver.api.MultiValueCallResult;
 import io.tarantool.driver.api.SingleValueCallResult;
 import io.tarantool.driver.api.TarantoolClient;
 import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolClientResources;
+import io.tarantool.driver.api.TarantoolPipeline;
 import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.TarantoolSqlResult;
+import io.tarantool.driver.api.TarantoolTransaction;
 import io.tarantool.driver.api.connection.TarantoolConnectionListeners;
 import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
 import io.tarantool.driver.api.metadata.TarantoolMetadataProvider;
@@ -30,6 +34,7 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -51,7 +56,8 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
     private final Executor executor;
 
     /**
-     * Basic constructor. {@link Executors#newWorkStealingPool()} is used for executor by default.
+     * Basic constructor. The callback executor of the shared client resources is used for executor by default, if
+     * the decorated client is configured with them, otherwise {@link Executors#newWorkStealingPool()}.
      *
      * @param decoratedClient    configured Tarantool client
      * @param retryPolicyFactory request retrying policy settings
@@ -59,7 +65,7 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
     public RetryingTarantoolClient(
         TarantoolClient<T, R> decoratedClient,
         RequestRetryPolicyFactory retryPolicyFactory) {
-        this(decoratedClient, retryPolicyFactory, Executors.newWorkStealingPool());
+        this(decoratedClient, retryPolicyFactory, defaultExecutor(decoratedClient));
     }
 
     /**
@@ -78,6 +84,11 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         this.executor = executor;
     }
 
+    private static Executor defaultExecutor(TarantoolClient<?, ?> decoratedClient) {
+        TarantoolClientResources resources = decoratedClient.getConfig().getClientResources();
+        return resources != null ? resources.getCallbackExecutor() : Executors.newWorkStealingPool();
+    }
+
     @Override
     public TarantoolMetadataProvider metadataProvider() {
         return client.metadataProvider();
@@ -125,6 +136,26 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         return client.metadata();
     }
 
+    /**
+     * Create a pipeline of the decorated client. The operations in the pipeline are not retried
+     *
+     * @return new pipeline instance
+     */
+    @Override
+    public TarantoolPipeline<T, R> pipeline() {
+        return client.pipeline();
+    }
+
+    /**
+     * Create a transaction of the decorated client. The transactions are not retried
+     *
+     * @return new transaction instance
+     */
+    @Override
+    public TarantoolTransaction<T, R> transaction() {
+        return client.transaction();
+    }
+
     @Override
     public TarantoolConnectionListeners getConnectionListeners() {
         return client.getConnectionListeners();
@@ -153,6 +184,33 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         return wrapOperation(() -> client.call(functionName, arguments, mapper));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The handler receives the values pushed by each attempt, so the values may be received again if the call is
+     * retried.
+     */
+    @Override
+    public CompletableFuture<List<?>> call(String functionName, List<?> arguments, Consumer<Object> pushHandler)
+        throws TarantoolClientException {
+        return wrapOperation(() -> client.call(functionName, arguments, pushHandler));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The handler receives the values pushed by each attempt, so the values may be received again if the call is
+     * retried.
+     */
+    @Override
+    public CompletableFuture<List<?>> call(
+        String functionName,
+        List<?> arguments,
+        MessagePackMapper mapper,
+        Consumer<Object> pushHandler) throws TarantoolClientException {
+        return wrapOperation(() -> client.call(functionName, arguments, mapper, pushHandler));
+    }
+
     @Override
     public <T> CompletableFuture<TarantoolResult<T>> callForTupleResult(String functionName, Class<T> entityClass)
         throws TarantoolClientException {
@@ -391,6 +449,25 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         return wrapOperation(() -> client.eval(expression, arguments, argumentsMapper, resultMapper));
     }
 
+    @Override
+    public CompletableFuture<TarantoolSqlResult> execute(String statement) throws TarantoolClientException {
+        return wrapOperation(() -> client.execute(statement));
+    }
+
+    @Override
+    public CompletableFuture<TarantoolSqlResult> execute(String statement, List<?> parameters)
+        throws TarantoolClientException {
+        return wrapOperation(() -> client.execute(statement, parameters));
+    }
+
+    @Override
+    public CompletableFuture<TarantoolSqlResult> execute(
+        String statement,
+        List<?> parameters,
+        MessagePackMapper mapper) throws TarantoolClientException {
+        return wrapOperation(() -> client.execute(statement, parameters, mapper));
+    }
+
     @Override
     public boolean refresh() {
         return this.client.refresh();
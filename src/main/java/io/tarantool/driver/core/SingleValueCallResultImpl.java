@@ -4,10 +4,13 @@ import io.tarantool.driver.api.SingleValueCallResult;
 import io.tarantool.driver.exceptions.TarantoolFunctionCallException;
 import io.tarantool.driver.exceptions.errors.TarantoolErrorsParser;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.mappers.converters.StreamingValueConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.Value;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.function.Function;
 
@@ -30,6 +33,42 @@ public class SingleValueCallResultImpl<T> implements SingleValueCallResult<T> {
         value = parseResult(result, valueMapper::fromValue);
     }
 
+    /**
+     * Read the result directly from the unpacker. Only the {@code []} and {@code [result]} result shapes are
+     * supported, the results containing errors must be converted from {@link ArrayValue}.
+     *
+     * @param unpacker       unpacker positioned at the result array start
+     * @param valueConverter converter for the result value
+     * @throws IOException if the data cannot be read from the unpacker
+     */
+    public SingleValueCallResultImpl(MessageUnpacker unpacker, StreamingValueConverter<Value, T> valueConverter)
+        throws IOException {
+        value = hasResult(unpacker) ? valueConverter.fromUnpacker(unpacker) : null;
+    }
+
+    /**
+     * Read the result directly from the unpacker. Only the {@code []} and {@code [result]} result shapes are
+     * supported, the results containing errors must be converted from {@link ArrayValue}.
+     *
+     * @param unpacker    unpacker positioned at the result array start
+     * @param valueMapper mapper for the result value
+     * @throws IOException if the data cannot be read from the unpacker
+     */
+    public SingleValueCallResultImpl(MessageUnpacker unpacker, MessagePackValueMapper valueMapper)
+        throws IOException {
+        value = hasResult(unpacker) ? valueMapper.readValue(unpacker) : null;
+    }
+
+    private static boolean hasResult(MessageUnpacker unpacker) throws IOException {
+        int callResultSize = unpacker.unpackArrayHeader();
+        if (callResultSize > 1) {
+            throw new TarantoolFunctionCallException(
+                "Unexpected function call result size, expected \"[]\" or \"[result]\"");
+        }
+        // [nil] or [] contain no result
+        return callResultSize == 1 && !unpacker.tryUnpackNil();
+    }
+
     private T parseResult(ArrayValue result, Function<Value, T> valueGetter) {
         if (result == null) {
             throw new TarantoolFunctionCallException("Function call result is null");
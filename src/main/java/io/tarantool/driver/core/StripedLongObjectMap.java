@@ -0,0 +1,91 @@
+package io.tarantool.driver.core;
+
+import io.netty.util.collection.LongObjectHashMap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Concurrent map with primitive {@code long} keys. The entries are spread over a fixed number of stripes, each
+ * stripe is an open-addressing {@link LongObjectHashMap} guarded by its own lock, so the keys are not boxed and
+ * no per-entry nodes are allocated.
+ * <p>
+ * Sequential keys fall into different stripes, which keeps the contention low when the keys are taken from a
+ * counter.
+ *
+ * @param <V> value type
+ * @author Alexey Kuzin
+ */
+final class StripedLongObjectMap<V> {
+
+    private static final int DEFAULT_STRIPES = 16;
+    private static final int STRIPE_INITIAL_CAPACITY = 64;
+
+    private final Stripe<V>[] stripes;
+    private final int mask;
+
+    StripedLongObjectMap() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * Basic constructor.
+     *
+     * @param stripes number of stripes, must be a power of two
+     */
+    @SuppressWarnings("unchecked")
+    StripedLongObjectMap(int stripes) {
+        if (stripes <= 0 || (stripes & (stripes - 1)) != 0) {
+            throw new IllegalArgumentException("Number of stripes must be a positive power of two");
+        }
+        this.stripes = new Stripe[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe<>();
+        }
+        this.mask = stripes - 1;
+    }
+
+    private Stripe<V> stripe(long key) {
+        return stripes[(int) (key ^ (key >>> 32)) & mask];
+    }
+
+    V put(long key, V value) {
+        Stripe<V> stripe = stripe(key);
+        synchronized (stripe) {
+            return stripe.map.put(key, value);
+        }
+    }
+
+    V get(long key) {
+        Stripe<V> stripe = stripe(key);
+        synchronized (stripe) {
+            return stripe.map.get(key);
+        }
+    }
+
+    V remove(long key) {
+        Stripe<V> stripe = stripe(key);
+        synchronized (stripe) {
+            return stripe.map.remove(key);
+        }
+    }
+
+    /**
+     * Get a snapshot of the map values
+     *
+     * @return list of values
+     */
+    List<V> values() {
+        List<V> values = new ArrayList<>();
+        for (Stripe<V> stripe : stripes) {
+            synchronized (stripe) {
+                values.addAll(stripe.map.values());
+            }
+        }
+        return values;
+    }
+
+    private static final class Stripe<V> {
+        private final LongObjectHashMap<V> map = new LongObjectHashMap<>(STRIPE_INITIAL_CAPACITY);
+    }
+}
@@ -0,0 +1,375 @@
+package io.tarantool.driver.core;
+
+import io.tarantool.driver.api.CallResult;
+import io.tarantool.driver.api.MultiValueCallResult;
+import io.tarantool.driver.api.SingleValueCallResult;
+import io.tarantool.driver.api.TarantoolCallOperations;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.core.connection.TarantoolConnectionManager;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.CallResultMapper;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.mappers.factories.ResultMapperFactoryFactory;
+import io.tarantool.driver.mappers.factories.ResultMapperFactoryFactoryImpl;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.requests.TarantoolCallRequest;
+import io.tarantool.driver.utils.Assert;
+import org.msgpack.value.Value;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Basic {@link TarantoolCallOperations} implementation. The requests are sent over the connections provided by the
+ * specified connection manager, so the same operations are used by the client with its own connection manager and
+ * by the pipelines, which provide the connections when they are executed.
+ *
+ * @author Alexey Kuzin
+ */
+final class TarantoolCallOperationsImpl implements TarantoolCallOperations {
+
+    private final TarantoolClientConfig config;
+    private final ResultMapperFactoryFactoryImpl mapperFactoryFactory;
+    private final Supplier<TarantoolConnectionManager> connectionManager;
+
+    /**
+     * Basic constructor.
+     *
+     * @param config               client configuration, provides the default mapper
+     * @param mapperFactoryFactory factory for the result mappers
+     * @param connectionManager    provides the connection manager for sending the requests
+     */
+    TarantoolCallOperationsImpl(
+        TarantoolClientConfig config,
+        ResultMapperFactoryFactoryImpl mapperFactoryFactory,
+        Supplier<TarantoolConnectionManager> connectionManager) {
+        this.config = config;
+        this.mapperFactoryFactory = mapperFactoryFactory;
+        this.connectionManager = connectionManager;
+    }
+
+    @Override
+    public CompletableFuture<List<?>> call(String functionName) throws TarantoolClientException {
+        return call(functionName, Collections.emptyList());
+    }
+
+    @Override
+    public CompletableFuture<List<?>> call(String functionName, Object... arguments)
+        throws TarantoolClientException {
+        return call(functionName, Arrays.asList(arguments));
+    }
+
+    @Override
+    public CompletableFuture<List<?>> call(String functionName, List<?> arguments)
+        throws TarantoolClientException {
+        return call(functionName, arguments, config.getMessagePackMapper());
+    }
+
+    @Override
+    public CompletableFuture<List<?>> call(String functionName, List<?> arguments, MessagePackMapper mapper)
+        throws TarantoolClientException {
+        return makeRequest(functionName, arguments, mapper, mapper);
+    }
+
+    @Override
+    public CompletableFuture<List<?>> call(String functionName, List<?> arguments, Consumer<Object> pushHandler)
+        throws TarantoolClientException {
+        return call(functionName, arguments, config.getMessagePackMapper(), pushHandler);
+    }
+
+    @Override
+    public CompletableFuture<List<?>> call(
+        String functionName,
+        List<?> arguments,
+        MessagePackMapper mapper,
+        Consumer<Object> pushHandler)
+        throws TarantoolClientException {
+        Assert.notNull(pushHandler, "Push handler must not be null");
+
+        return makeRequest(functionName, arguments, mapper, mapper,
+            value -> pushHandler.accept(mapper.fromValue(value)));
+    }
+
+    @Override
+    public <T> CompletableFuture<TarantoolResult<T>> callForTupleResult(String functionName, Class<T> tupleClass)
+        throws TarantoolClientException {
+        return callForTupleResult(functionName, Collections.emptyList(), tupleClass);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> call(
+        String functionName,
+        CallResultMapper<T, SingleValueCallResult<T>> resultMapper)
+        throws TarantoolClientException {
+        return call(functionName, Collections.emptyList(), resultMapper);
+    }
+
+    @Override
+    public <T> CompletableFuture<TarantoolResult<T>> callForTupleResult(
+            String functionName, List<?> arguments, Class<T> tupleClass)
+        throws TarantoolClientException {
+        return callForTupleResult(functionName, arguments, config.getMessagePackMapper(), tupleClass);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> call(
+        String functionName,
+        List<?> arguments,
+        CallResultMapper<T, SingleValueCallResult<T>> resultMapper)
+        throws TarantoolClientException {
+        return call(functionName, arguments, config.getMessagePackMapper(), resultMapper);
+    }
+
+    @Override
+    public <T> CompletableFuture<TarantoolResult<T>> callForTupleResult(
+        String functionName,
+        List<?> arguments,
+        MessagePackObjectMapper argumentsMapper,
+        Class<T> tupleClass)
+        throws TarantoolClientException {
+        return call(functionName, arguments, argumentsMapper,
+            mapperFactoryFactory.getTarantoolResultMapper(config.getMessagePackMapper(), tupleClass));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> call(
+        String functionName,
+        List<?> arguments,
+        MessagePackObjectMapper argumentsMapper,
+        CallResultMapper<T, SingleValueCallResult<T>> resultMapper)
+        throws TarantoolClientException {
+        return callForSingleResult(functionName, arguments, argumentsMapper, resultMapper);
+    }
+
+    @Override
+    public <S> CompletableFuture<S> callForSingleResult(
+        String functionName,
+        List<?> arguments,
+        Class<S> resultClass)
+        throws TarantoolClientException {
+        return callForSingleResult(functionName, arguments, config.getMessagePackMapper(), resultClass);
+    }
+
+    @Override
+    public <S> CompletableFuture<S> callForSingleResult(
+        String functionName,
+        List<?> arguments,
+        ValueConverter<Value, S> valueConverter)
+        throws TarantoolClientException {
+        return callForSingleResult(functionName, arguments, config.getMessagePackMapper(), valueConverter);
+    }
+
+    @Override
+    public <S> CompletableFuture<S> callForSingleResult(
+        String functionName,
+        List<?> arguments,
+        CallResultMapper<S, SingleValueCallResult<S>> resultMapper) throws TarantoolClientException {
+        return callForSingleResult(functionName, arguments, config.getMessagePackMapper(), resultMapper);
+    }
+
+    @Override
+    public <S> CompletableFuture<S> callForSingleResult(String functionName, Class<S> resultClass)
+        throws TarantoolClientException {
+        return callForSingleResult(functionName, Collections.emptyList(), resultClass);
+    }
+
+    @Override
+    public <S> CompletableFuture<S> callForSingleResult(String functionName, ValueConverter<Value, S> valueConverter)
+        throws TarantoolClientException {
+        return callForSingleResult(functionName, Collections.emptyList(), valueConverter);
+    }
+
+    @Override
+    public <S> CompletableFuture<S> callForSingleResult(
+        String functionName,
+        CallResultMapper<S, SingleValueCallResult<S>> resultMapper) throws TarantoolClientException {
+        return callForSingleResult(functionName, Collections.emptyList(), resultMapper);
+    }
+
+    @Override
+    public <S> CompletableFuture<S> callForSingleResult(
+        String functionName,
+        List<?> arguments,
+        MessagePackObjectMapper argumentsMapper,
+        Class<S> resultClass)
+        throws TarantoolClientException {
+        return callForSingleResult(functionName, arguments, argumentsMapper, singleValueResultMapper(resultClass));
+    }
+
+    private <S> CallResultMapper<S, SingleValueCallResult<S>> singleValueResultMapper(Class<S> resultClass) {
+        return mapperFactoryFactory.getDefaultSingleValueMapper(config.getMessagePackMapper(), resultClass);
+    }
+
+    @Override
+    public <S> CompletableFuture<S> callForSingleResult(
+        String functionName,
+        List<?> arguments,
+        MessagePackObjectMapper argumentsMapper,
+        ValueConverter<Value, S> valueConverter)
+        throws TarantoolClientException {
+        return callForSingleResult(functionName, arguments, argumentsMapper,
+            mapperFactoryFactory.getSingleValueResultMapper(valueConverter));
+    }
+
+    @Override
+    public <S> CompletableFuture<S> callForSingleResult(
+        String functionName,
+        List<?> arguments,
+        MessagePackObjectMapper argumentsMapper,
+        CallResultMapper<S, SingleValueCallResult<S>> resultMapper)
+        throws TarantoolClientException {
+        return makeRequestForSingleResult(functionName, arguments, argumentsMapper, resultMapper)
+            .thenApply(CallResult::value);
+    }
+
+    @Override
+    public <T, R extends List<T>> CompletableFuture<R> callForMultiResult(
+        String functionName,
+        List<?> arguments,
+        Supplier<R> resultContainerSupplier,
+        Class<T> resultClass)
+        throws TarantoolClientException {
+        return callForMultiResult(
+            functionName, arguments, config.getMessagePackMapper(), resultContainerSupplier, resultClass);
+    }
+
+    @Override
+    public <T, R extends List<T>> CompletableFuture<R> callForMultiResult(
+        String functionName,
+        List<?> arguments,
+        Supplier<R> resultContainerSupplier,
+        ValueConverter<Value, T> valueConverter) throws TarantoolClientException {
+        return callForMultiResult(functionName, arguments, config.getMessagePackMapper(),
+            resultContainerSupplier, valueConverter);
+    }
+
+    @Override
+    public <T, R extends List<T>> CompletableFuture<R> callForMultiResult(
+        String functionName,
+        List<?> arguments,
+        CallResultMapper<R, MultiValueCallResult<T, R>> resultMapper) throws TarantoolClientException {
+        return callForMultiResult(functionName, arguments, config.getMessagePackMapper(), resultMapper);
+    }
+
+    @Override
+    public <T, R extends List<T>> CompletableFuture<R> callForMultiResult(
+        String functionName,
+        Supplier<R> resultContainerSupplier,
+        Class<T> resultClass)
+        throws TarantoolClientException {
+        return callForMultiResult(functionName, Collections.emptyList(), resultContainerSupplier, resultClass);
+    }
+
+    @Override
+    public <T, R extends List<T>> CompletableFuture<R> callForMultiResult(
+        String functionName,
+        Supplier<R> resultContainerSupplier,
+        ValueConverter<Value, T> valueConverter)
+        throws TarantoolClientException {
+        return callForMultiResult(functionName, Collections.emptyList(), resultContainerSupplier, valueConverter);
+    }
+
+    @Override
+    public <T, R extends List<T>> CompletableFuture<R> callForMultiResult(
+        String functionName,
+        CallResultMapper<R, MultiValueCallResult<T, R>> resultMapper)
+        throws TarantoolClientException {
+        return callForMultiResult(functionName, Collections.emptyList(), resultMapper);
+    }
+
+    @Override
+    public <T, R extends List<T>> CompletableFuture<R> callForMultiResult(
+        String functionName,
+        List<?> arguments,
+        MessagePackObjectMapper argumentsMapper,
+        Supplier<R> resultContainerSupplier,
+        Class<T> resultClass)
+        throws TarantoolClientException {
+        return callForMultiResult(functionName, arguments, argumentsMapper,
+            mapperFactoryFactory.getDefaultMultiValueMapper(config.getMessagePackMapper(), resultClass));
+    }
+
+    @Override
+    public <T, R extends List<T>> CompletableFuture<R> callForMultiResult(
+        String functionName,
+        List<?> arguments,
+        MessagePackObjectMapper argumentsMapper,
+        Supplier<R> resultContainerSupplier,
+        ValueConverter<Value, T> valueConverter)
+        throws TarantoolClientException {
+        return callForMultiResult(functionName, arguments, argumentsMapper,
+            mapperFactoryFactory.getMultiValueResultMapper(resultContainerSupplier, valueConverter));
+    }
+
+    @Override
+    public <T, R extends List<T>> CompletableFuture<R> callForMultiResult(
+        String functionName,
+        List<?> arguments,
+        MessagePackObjectMapper argumentsMapper,
+        CallResultMapper<R, MultiValueCallResult<T, R>> resultMapper)
+        throws TarantoolClientException {
+        return makeRequestForMultiResult(functionName, arguments, argumentsMapper, resultMapper)
+            .thenApply(CallResult::value);
+    }
+
+    private <T> CompletableFuture<CallResult<T>> makeRequestForSingleResult(
+        String functionName,
+        List<?> arguments,
+        MessagePackObjectMapper argumentsMapper,
+        CallResultMapper<T, SingleValueCallResult<T>> resultMapper) {
+        return makeRequest(functionName, arguments, argumentsMapper, resultMapper);
+    }
+
+    private <T, R extends List<T>> CompletableFuture<CallResult<R>> makeRequestForMultiResult(
+        String functionName,
+        List<?> arguments,
+        MessagePackObjectMapper argumentsMapper,
+        CallResultMapper<R, MultiValueCallResult<T, R>> resultMapper) {
+        return makeRequest(functionName, arguments, argumentsMapper, resultMapper);
+    }
+
+    private <S> CompletableFuture<S> makeRequest(
+        String functionName,
+        List<?> arguments,
+        MessagePackObjectMapper argumentsMapper,
+        MessagePackValueMapper resultMapper)
+        throws TarantoolClientException {
+        return makeRequest(functionName, arguments, argumentsMapper, resultMapper, null);
+    }
+
+    private <S> CompletableFuture<S> makeRequest(
+        String functionName,
+        List<?> arguments,
+        MessagePackObjectMapper argumentsMapper,
+        MessagePackValueMapper resultMapper,
+        Consumer<Value> pushHandler)
+        throws TarantoolClientException {
+        try {
+            TarantoolCallRequest.Builder builder = new TarantoolCallRequest.Builder()
+                .withFunctionName(functionName);
+
+            if (arguments.size() > 0) {
+                builder.withArguments(arguments);
+            }
+
+            TarantoolCallRequest request = builder.build(argumentsMapper);
+            request.setPushHandler(pushHandler);
+            return connectionManager.get().getConnection().thenCompose(c -> c.sendRequest(request, resultMapper));
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    @Override
+    public ResultMapperFactoryFactory getResultMapperFactoryFactory() {
+        return mapperFactoryFactory;
+    }
+}
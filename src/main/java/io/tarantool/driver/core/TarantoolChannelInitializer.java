@@ -3,7 +3,6 @@ package io.tarantool.driver.core;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
-import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.ssl.SslContext;
 import io.tarantool.driver.TarantoolVersionHolder;
 import io.tarantool.driver.api.TarantoolClientConfig;
@@ -14,6 +13,7 @@ import io.tarantool.driver.codecs.MessagePackFrameEncoder;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.handlers.TarantoolAuthenticationHandler;
 import io.tarantool.driver.handlers.TarantoolAuthenticationResponseHandler;
+import io.tarantool.driver.handlers.TarantoolFlushCoalescingHandler;
 import io.tarantool.driver.handlers.TarantoolRequestHandler;
 import io.tarantool.driver.handlers.TarantoolResponseHandler;
 import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
@@ -29,7 +29,7 @@ import java.util.concurrent.CompletableFuture;
  *
  * @author Alexey Kuzin
  */
-public class TarantoolChannelInitializer extends ChannelInitializer<SocketChannel> {
+public class TarantoolChannelInitializer extends ChannelInitializer<Channel> {
 
     private final TarantoolClientConfig config;
     private final TarantoolVersionHolder versionHolder;
@@ -48,11 +48,11 @@ public class TarantoolChannelInitializer extends ChannelInitializer<SocketChanne
     }
 
     @Override
-    protected void initChannel(SocketChannel socketChannel) {
-        final ChannelPipeline pipeline = socketChannel.pipeline();
+    protected void initChannel(Channel channel) {
+        final ChannelPipeline pipeline = channel.pipeline();
 
         if (config.isSecure()) {
-            wrapForSecure(socketChannel, pipeline);
+            wrapForSecure(channel, pipeline);
         }
 
         // greeting and authentication (will be removed after successful authentication)
@@ -63,7 +63,11 @@ public class TarantoolChannelInitializer extends ChannelInitializer<SocketChanne
                     (SimpleTarantoolCredentials) config.getCredentials(),
                     new ChapSha1TarantoolAuthenticator()))
             // frame encoder and decoder
-            .addLast("MessagePackFrameDecoder", new MessagePackFrameDecoder())
+            .addLast("MessagePackFrameDecoder", new MessagePackFrameDecoder(
+                config.isLazyResponseBody(), futureManager::isStreamingResultExpected))
+            // outbound, flushes the encoded frames together
+            .addLast("TarantoolFlushCoalescingHandler", new TarantoolFlushCoalescingHandler(
+                config.getMaxPendingWrites(), config.getMaxPendingWriteBytes()))
             .addLast("MessagePackFrameEncoder", new MessagePackFrameEncoder(
                 DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper()))
             // outbound
@@ -72,16 +76,16 @@ public class TarantoolChannelInitializer extends ChannelInitializer<SocketChanne
             .addLast("TarantoolAuthenticationResponseHandler", new TarantoolAuthenticationResponseHandler(
                 connectionFuture))
             // inbound
-            .addLast("TarantoolResponseHandler", new TarantoolResponseHandler(futureManager));
+            .addLast("TarantoolResponseHandler", new TarantoolResponseHandler(futureManager, config));
     }
 
-    private void wrapForSecure(SocketChannel socketChannel, ChannelPipeline pipeline) {
+    private void wrapForSecure(Channel channel, ChannelPipeline pipeline) {
         final SslContext sslContext = config.getSslContext();
 
         if (sslContext == null) {
             throw new TarantoolClientException("Ssl context must not be null!");
         }
 
-        pipeline.addLast(sslContext.newHandler(socketChannel.alloc()));
+        pipeline.addLast(sslContext.newHandler(channel.alloc()));
     }
 }
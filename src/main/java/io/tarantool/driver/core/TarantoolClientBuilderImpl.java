@@ -1,15 +1,20 @@
 package io.tarantool.driver.core;
 
+import io.netty.channel.ChannelOption;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.handler.ssl.SslContext;
 import io.tarantool.driver.api.MessagePackMapperBuilder;
 import io.tarantool.driver.api.TarantoolClient;
 import io.tarantool.driver.api.TarantoolClientBuilder;
 import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolClientMetrics;
+import io.tarantool.driver.api.TarantoolClientResources;
 import io.tarantool.driver.api.TarantoolClusterAddressProvider;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.TarantoolServerAddress;
 import io.tarantool.driver.api.connection.ConnectionSelectionStrategyFactory;
 import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategyType;
+import io.tarantool.driver.api.connection.TarantoolTransportType;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.auth.SimpleTarantoolCredentials;
 import io.tarantool.driver.auth.TarantoolCredentials;
@@ -20,6 +25,7 @@ import java.net.InetSocketAddress;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.UnaryOperator;
 
 /**
@@ -155,6 +161,133 @@ public class TarantoolClientBuilderImpl extends TarantoolClientConfiguratorImpl<
         return this;
     }
 
+    @Override
+    public TarantoolClientBuilder withLazyResponseBody(boolean lazyResponseBody) {
+        this.configBuilder.withLazyResponseBody(lazyResponseBody);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withResultMappingExecutor(Executor resultMappingExecutor) {
+        this.configBuilder.withResultMappingExecutor(resultMappingExecutor);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withResultMappingThreshold(int resultMappingThreshold) {
+        this.configBuilder.withResultMappingThreshold(resultMappingThreshold);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withClientMetrics(TarantoolClientMetrics clientMetrics) {
+        this.configBuilder.withClientMetrics(clientMetrics);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withMaxInFlightRequests(int maxInFlightRequests) {
+        this.configBuilder.withMaxInFlightRequests(maxInFlightRequests);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withInFlightQueueTimeout(int inFlightQueueTimeout) {
+        this.configBuilder.withInFlightQueueTimeout(inFlightQueueTimeout);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withWriteBufferWaterMark(WriteBufferWaterMark writeBufferWaterMark) {
+        this.configBuilder.withWriteBufferWaterMark(writeBufferWaterMark);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withMaxPendingWrites(int maxPendingWrites) {
+        this.configBuilder.withMaxPendingWrites(maxPendingWrites);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withMaxPendingWriteBytes(int maxPendingWriteBytes) {
+        this.configBuilder.withMaxPendingWriteBytes(maxPendingWriteBytes);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withTransportType(TarantoolTransportType transportType) {
+        this.configBuilder.withTransportType(transportType);
+        return this;
+    }
+
+    @Override
+    public <V> TarantoolClientBuilder withChannelOption(ChannelOption<V> option, V value) {
+        this.configBuilder.withChannelOption(option, value);
+        return this;
+    }
+
+    @Override
+    public <V> TarantoolClientBuilder withChannelOption(
+        TarantoolTransportType transportType, ChannelOption<V> option, V value) {
+        this.configBuilder.withChannelOption(transportType, option, value);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withClientResources(TarantoolClientResources clientResources) {
+        this.configBuilder.withClientResources(clientResources);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withBackgroundReconnect(boolean backgroundReconnect) {
+        this.configBuilder.withBackgroundReconnect(backgroundReconnect);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withReconnectInitialDelay(int reconnectInitialDelay) {
+        this.configBuilder.withReconnectInitialDelay(reconnectInitialDelay);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withReconnectMaxDelay(int reconnectMaxDelay) {
+        this.configBuilder.withReconnectMaxDelay(reconnectMaxDelay);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withMaxConnections(int maxConnections) {
+        this.configBuilder.withMaxConnections(maxConnections);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withConnectionGrowthThreshold(int connectionGrowthThreshold) {
+        this.configBuilder.withConnectionGrowthThreshold(connectionGrowthThreshold);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withIdleConnectionTimeout(int idleConnectionTimeout) {
+        this.configBuilder.withIdleConnectionTimeout(idleConnectionTimeout);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withPingInterval(int pingInterval) {
+        this.configBuilder.withPingInterval(pingInterval);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withStatementCacheSize(int statementCacheSize) {
+        this.configBuilder.withStatementCacheSize(statementCacheSize);
+        return this;
+    }
+
     @Override
     public TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> build() {
         TarantoolClientConfig config = this.config != null ? this.config : this.configBuilder.build();
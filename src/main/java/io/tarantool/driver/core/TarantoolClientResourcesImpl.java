@@ -0,0 +1,253 @@
+package io.tarantool.driver.core;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.AbstractReferenceCounted;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import io.tarantool.driver.api.TarantoolClientResources;
+import io.tarantool.driver.api.connection.TarantoolTransportType;
+import io.tarantool.driver.core.connection.TarantoolTransport;
+import io.tarantool.driver.utils.Assert;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Default {@link TarantoolClientResources} implementation.
+ * <p>
+ * The request timeout timer and the callback executor are created on the first use, so that the clients which are
+ * built but never send requests do not start their threads.
+ *
+ * @author Alexey Kuzin
+ */
+public final class TarantoolClientResourcesImpl extends AbstractReferenceCounted implements TarantoolClientResources {
+
+    private static final long REQUEST_TIMEOUT_TICK_DURATION = 10; // milliseconds
+    private static final int DEFAULT_EVENT_LOOP_THREADS_NUMBER = 0;
+    private static final int DEFAULT_SCHEDULER_THREADS_NUMBER = 1;
+
+    private final TarantoolTransport transport;
+    private final EventLoopGroup eventLoopGroup;
+    private final ScheduledExecutorService timeoutScheduler;
+    private final Timer requestTimeoutTimer = new RequestTimeoutTimer();
+    private final Executor callbackExecutor = this::executeCallback;
+    private volatile HashedWheelTimer startedRequestTimeoutTimer;
+    private volatile ExecutorService startedCallbackExecutor;
+    private boolean deallocated;
+
+    private TarantoolClientResourcesImpl(Builder builder) {
+        this.transport = TarantoolTransport.forType(builder.transportType);
+        this.eventLoopGroup = transport.newEventLoopGroup(builder.eventLoopThreadsNumber);
+        this.timeoutScheduler = Executors.newScheduledThreadPool(
+            builder.schedulerThreadsNumber, new TarantoolDaemonThreadFactory("tarantool-timeout"));
+    }
+
+    /**
+     * Create the resources with the default settings
+     *
+     * @return new resources instance holding one reference
+     */
+    public static TarantoolClientResourcesImpl create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a builder instance.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the network transport of the event loops
+     *
+     * @return transport
+     */
+    public TarantoolTransport getTransport() {
+        return transport;
+    }
+
+    @Override
+    public TarantoolTransportType getTransportType() {
+        return transport.getType();
+    }
+
+    @Override
+    public EventLoopGroup getEventLoopGroup() {
+        return eventLoopGroup;
+    }
+
+    @Override
+    public ScheduledExecutorService getTimeoutScheduler() {
+        return timeoutScheduler;
+    }
+
+    @Override
+    public Timer getRequestTimeoutTimer() {
+        return requestTimeoutTimer;
+    }
+
+    @Override
+    public Executor getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
+    private HashedWheelTimer startedRequestTimeoutTimer() {
+        HashedWheelTimer timer = startedRequestTimeoutTimer;
+        if (timer == null) {
+            synchronized (this) {
+                timer = startedRequestTimeoutTimer;
+                if (timer == null) {
+                    if (deallocated) {
+                        throw new IllegalStateException(
+                            "Cannot schedule a request timeout, the resources are released");
+                    }
+                    timer = new HashedWheelTimer(new TarantoolDaemonThreadFactory("tarantool-request-timeout"),
+                        REQUEST_TIMEOUT_TICK_DURATION, TimeUnit.MILLISECONDS);
+                    startedRequestTimeoutTimer = timer;
+                }
+            }
+        }
+        return timer;
+    }
+
+    private void executeCallback(Runnable command) {
+        ExecutorService executor = startedCallbackExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = startedCallbackExecutor;
+                if (executor == null) {
+                    if (deallocated) {
+                        throw new RejectedExecutionException("Cannot execute a callback, the resources are released");
+                    }
+                    executor = Executors.newWorkStealingPool();
+                    startedCallbackExecutor = executor;
+                }
+            }
+        }
+        executor.execute(command);
+    }
+
+    @Override
+    public TarantoolClientResourcesImpl retain() {
+        super.retain();
+        return this;
+    }
+
+    @Override
+    public TarantoolClientResourcesImpl touch(Object hint) {
+        return this;
+    }
+
+    @Override
+    protected void deallocate() {
+        HashedWheelTimer timer;
+        ExecutorService executor;
+        synchronized (this) {
+            deallocated = true;
+            timer = startedRequestTimeoutTimer;
+            executor = startedCallbackExecutor;
+        }
+        try {
+            timeoutScheduler.shutdownNow();
+            if (timer != null) {
+                timer.stop();
+            }
+            if (executor != null) {
+                executor.shutdown();
+            }
+        } finally {
+            eventLoopGroup.shutdownGracefully();
+        }
+    }
+
+    @Override
+    public void close() {
+        release();
+    }
+
+    /**
+     * Delegates to the timer which is started on the first scheduled timeout
+     */
+    private final class RequestTimeoutTimer implements Timer {
+        @Override
+        public Timeout newTimeout(TimerTask task, long delay, TimeUnit unit) {
+            return startedRequestTimeoutTimer().newTimeout(task, delay, unit);
+        }
+
+        @Override
+        public Set<Timeout> stop() {
+            // the timer is shared by the clients, it is stopped when the resources are released
+            return Collections.emptySet();
+        }
+    }
+
+    /**
+     * A builder for {@link TarantoolClientResourcesImpl}
+     */
+    public static final class Builder {
+
+        private TarantoolTransportType transportType = TarantoolTransportType.defaultType();
+        private int eventLoopThreadsNumber = DEFAULT_EVENT_LOOP_THREADS_NUMBER;
+        private int schedulerThreadsNumber = DEFAULT_SCHEDULER_THREADS_NUMBER;
+
+        private Builder() {
+        }
+
+        /**
+         * Specify the network transport for the event loops. By default, epoll is used if available
+         *
+         * @param transportType transport type
+         * @return builder
+         */
+        public Builder withTransportType(TarantoolTransportType transportType) {
+            Assert.notNull(transportType, "Transport type must not be null");
+            this.transportType = transportType;
+            return this;
+        }
+
+        /**
+         * Specify the number of event loop threads. By default, the Netty default is used, that is twice the number
+         * of available processors
+         *
+         * @param eventLoopThreadsNumber number of threads, 0 means the Netty default
+         * @return builder
+         */
+        public Builder withEventLoopThreadsNumber(int eventLoopThreadsNumber) {
+            Assert.state(eventLoopThreadsNumber >= 0, "Event loop threads number must not be negative");
+            this.eventLoopThreadsNumber = eventLoopThreadsNumber;
+            return this;
+        }
+
+        /**
+         * Specify the number of the timeout scheduler threads. Default is 1
+         *
+         * @param schedulerThreadsNumber number of threads, must be positive
+         * @return builder
+         */
+        public Builder withSchedulerThreadsNumber(int schedulerThreadsNumber) {
+            Assert.state(schedulerThreadsNumber > 0, "Scheduler threads number must be positive");
+            this.schedulerThreadsNumber = schedulerThreadsNumber;
+            return this;
+        }
+
+        /**
+         * Build a {@link TarantoolClientResourcesImpl} instance
+         *
+         * @return new resources instance holding one reference
+         */
+        public TarantoolClientResourcesImpl build() {
+            return new TarantoolClientResourcesImpl(this);
+        }
+    }
+}
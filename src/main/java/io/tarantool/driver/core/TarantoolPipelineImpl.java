@@ -0,0 +1,286 @@
+package io.tarantool.driver.core;
+
+import io.netty.channel.Channel;
+import io.tarantool.driver.TarantoolVersion;
+import io.tarantool.driver.api.TarantoolCallOperations;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolPipeline;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionCloseListener;
+import io.tarantool.driver.api.connection.TarantoolConnectionFailureListener;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.core.connection.TarantoolConnectionManager;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.protocol.TarantoolProtocolFeature;
+import io.tarantool.driver.protocol.TarantoolRequest;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Basic {@link TarantoolPipeline} implementation.
+ * <p>
+ * The operations are built by the client code as usual, but they wait for a connection provided by the pipeline.
+ * When the pipeline is executed, a connection is taken from the client connection manager, and all the operations
+ * are sent over it in one batch.
+ *
+ * @param <T> target tuple type
+ * @param <R> target tuple collection type
+ * @author Alexey Kuzin
+ */
+public class TarantoolPipelineImpl<T extends Packable, R extends Collection<T>> implements TarantoolPipeline<T, R> {
+
+    private final AbstractTarantoolClient<T, R> client;
+    private final TarantoolClientConfig config;
+    private final PipelineConnectionManager connectionManager = new PipelineConnectionManager();
+    private final TarantoolCallOperations callOperations;
+
+    /**
+     * Basic constructor.
+     *
+     * @param client client which provides the connections and the space metadata
+     */
+    public TarantoolPipelineImpl(AbstractTarantoolClient<T, R> client) {
+        this.client = client;
+        this.config = client.getConfig();
+        this.callOperations = client.callOperations(connectionManager);
+    }
+
+    @Override
+    public CompletableFuture<List<?>> call(String functionName, Object... arguments)
+        throws TarantoolClientException {
+        return call(functionName, Arrays.asList(arguments));
+    }
+
+    @Override
+    public CompletableFuture<List<?>> call(String functionName, List<?> arguments) throws TarantoolClientException {
+        return callOperations.call(functionName, arguments);
+    }
+
+    @Override
+    public <S> CompletableFuture<S> callForSingleResult(String functionName, List<?> arguments, Class<S> resultClass)
+        throws TarantoolClientException {
+        return callOperations.callForSingleResult(functionName, arguments, resultClass);
+    }
+
+    @Override
+    public CompletableFuture<List<?>> eval(String expression, List<?> arguments) throws TarantoolClientException {
+        return client.eval(connectionManager, expression, arguments,
+            config.getMessagePackMapper(), config.getMessagePackMapper());
+    }
+
+    @Override
+    public TarantoolSpaceOperations<T, R> space(String spaceName) throws TarantoolClientException {
+        return client.space(spaceName, connectionManager);
+    }
+
+    @Override
+    public TarantoolSpaceOperations<T, R> space(int spaceId) throws TarantoolClientException {
+        return client.space(spaceId, connectionManager);
+    }
+
+    @Override
+    public CompletableFuture<Void> execute() {
+        List<CompletableFuture<TarantoolConnection>> operations = takeOperations();
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        client.connectionManager().getConnection()
+            .thenCompose(connection -> sendOperations(connection, operations))
+            .whenComplete((r, ex) -> {
+                if (ex != null) {
+                    Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+                    // the operations which have not received a connection yet are failed with the same cause
+                    operations.forEach(operation -> operation.completeExceptionally(cause));
+                    result.completeExceptionally(cause);
+                } else {
+                    result.complete(null);
+                }
+            });
+        return result;
+    }
+
+    /**
+     * Get the call operations which are added to this pipeline. Used for building the operations which are
+     * implemented with the stored function calls, like the proxy space operations
+     *
+     * @return call operations instance
+     */
+    TarantoolCallOperations callOperations() {
+        return callOperations;
+    }
+
+    /**
+     * Send the collected operations over the connection taken from the client connection manager
+     *
+     * @param connection connection for sending the operations
+     * @param operations futures of the connections awaited by the operations
+     * @return future which completes when all operations are completed
+     */
+    protected CompletableFuture<Void> sendOperations(
+        TarantoolConnection connection,
+        List<CompletableFuture<TarantoolConnection>> operations) {
+        PipelineConnection pipelineConnection = new PipelineConnection(connection);
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        connection.sendBatch(() -> {
+            operations.forEach(operation -> operation.complete(pipelineConnection));
+            CompletableFuture.allOf(pipelineConnection.requestFutures.toArray(new CompletableFuture[0]))
+                .whenComplete((r, e) -> {
+                    if (e != null) {
+                        result.completeExceptionally(e);
+                    } else {
+                        result.complete(null);
+                    }
+                });
+        });
+        return result;
+    }
+
+    /**
+     * Take the collected operations, so that no more operations can be added
+     *
+     * @return futures of the connections awaited by the operations
+     * @throws IllegalStateException if the operations are already taken
+     */
+    protected List<CompletableFuture<TarantoolConnection>> takeOperations() {
+        return connectionManager.takeOperations();
+    }
+
+    /**
+     * Provides a separate connection future for each operation, the futures are completed when the pipeline is
+     * executed
+     */
+    private static final class PipelineConnectionManager implements TarantoolConnectionManager {
+        private List<CompletableFuture<TarantoolConnection>> operations = new ArrayList<>();
+
+        @Override
+        public CompletableFuture<TarantoolConnection> getConnection() {
+            if (operations == null) {
+                throw new IllegalStateException("The pipeline is already executed");
+            }
+            CompletableFuture<TarantoolConnection> operation = new CompletableFuture<>();
+            operations.add(operation);
+            return operation;
+        }
+
+        @Override
+        public boolean refresh() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private List<CompletableFuture<TarantoolConnection>> takeOperations() {
+            if (operations == null) {
+                throw new IllegalStateException("The pipeline is already executed");
+            }
+            List<CompletableFuture<TarantoolConnection>> result = operations;
+            operations = null;
+            return result;
+        }
+    }
+
+    /**
+     * Collects the futures of the requests sent over the wrapped connection
+     */
+    private static final class PipelineConnection implements TarantoolConnection {
+        private final TarantoolConnection connection;
+        private final List<CompletableFuture<?>> requestFutures = new ArrayList<>();
+
+        private PipelineConnection(TarantoolConnection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() throws TarantoolClientException {
+            return connection.getRemoteAddress();
+        }
+
+        @Override
+        public SocketAddress getRemoteSocketAddress() throws TarantoolClientException {
+            return connection.getRemoteSocketAddress();
+        }
+
+        @Override
+        public TarantoolVersion getVersion() throws TarantoolClientException {
+            return connection.getVersion();
+        }
+
+        @Override
+        public boolean isConnected() {
+            return connection.isConnected();
+        }
+
+        @Override
+        public <V> CompletableFuture<V> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+            CompletableFuture<V> requestFuture;
+            try {
+                requestFuture = connection.sendRequest(request, resultMapper);
+            } catch (RuntimeException e) {
+                requestFuture = new CompletableFuture<>();
+                requestFuture.completeExceptionally(e);
+            }
+            requestFutures.add(requestFuture);
+            return requestFuture;
+        }
+
+        @Override
+        public int getPendingRequestsCount() {
+            return connection.getPendingRequestsCount();
+        }
+
+        @Override
+        public long getAverageResponseTime() {
+            return connection.getAverageResponseTime();
+        }
+
+        @Override
+        public long getIdleTime() {
+            return connection.getIdleTime();
+        }
+
+        @Override
+        public long getPingTime() {
+            return connection.getPingTime();
+        }
+
+        @Override
+        public long getSchemaVersion() {
+            return connection.getSchemaVersion();
+        }
+
+        @Override
+        public CompletableFuture<Set<TarantoolProtocolFeature>> getProtocolFeatures() {
+            return connection.getProtocolFeatures();
+        }
+
+        @Override
+        public Channel getChannel() {
+            return connection.getChannel();
+        }
+
+        @Override
+        public void addConnectionFailureListener(TarantoolConnectionFailureListener listener) {
+            connection.addConnectionFailureListener(listener);
+        }
+
+        @Override
+        public void addConnectionCloseListener(TarantoolConnectionCloseListener listener) {
+            connection.addConnectionCloseListener(listener);
+        }
+
+        @Override
+        public void close() {
+            // the connection is owned by the client connection manager
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package io.tarantool.driver.core;
 
+import io.netty.util.Timeout;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
+import org.msgpack.value.Value;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Intermediate request metadata holder
@@ -12,10 +15,22 @@ import java.util.concurrent.CompletableFuture;
 public class TarantoolRequestMetadata {
     private final CompletableFuture<?> feature;
     private final MessagePackValueMapper mapper;
+    private final Consumer<Value> pushHandler;
+    private final long submittedAt;
+    private volatile Timeout timeout;
 
     protected TarantoolRequestMetadata(CompletableFuture<?> feature, MessagePackValueMapper mapper) {
+        this(feature, mapper, null);
+    }
+
+    protected TarantoolRequestMetadata(
+        CompletableFuture<?> feature,
+        MessagePackValueMapper mapper,
+        Consumer<Value> pushHandler) {
         this.feature = feature;
         this.mapper = mapper;
+        this.pushHandler = pushHandler;
+        this.submittedAt = System.nanoTime();
     }
 
     public CompletableFuture<?> getFuture() {
@@ -25,4 +40,33 @@ public class TarantoolRequestMetadata {
     public MessagePackValueMapper getMapper() {
         return mapper;
     }
+
+    /**
+     * Get the handler for the messages pushed by the server before the final response
+     *
+     * @return the handler or null, if the pushed messages are ignored
+     */
+    public Consumer<Value> getPushHandler() {
+        return pushHandler;
+    }
+
+    /**
+     * Get the moment when the request was registered, for measuring the response time
+     *
+     * @return {@link System#nanoTime()} value
+     */
+    public long getSubmittedAt() {
+        return submittedAt;
+    }
+
+    void setTimeout(Timeout timeout) {
+        this.timeout = timeout;
+    }
+
+    void cancelTimeout() {
+        Timeout timeout = this.timeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
 }
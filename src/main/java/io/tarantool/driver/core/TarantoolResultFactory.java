@@ -1,11 +1,16 @@
 package io.tarantool.driver.core;
 
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.mappers.converters.StreamingValueConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
 import io.tarantool.driver.mappers.converters.value.ArrayValueToTarantoolTupleConverter;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.Value;
 
+import java.io.IOException;
+import java.util.List;
+
 /**
  * Singleton Factory implementation to provide instance of TarantoolResultImpl objects.
  *
@@ -23,6 +28,16 @@ public class TarantoolResultFactory {
         return new TarantoolResultImpl<>(value, valueConverter);
     }
 
+    public <T> TarantoolResultImpl<T> createTarantoolResultImpl(MessageUnpacker unpacker,
+            StreamingValueConverter<ArrayValue, T> valueConverter) throws IOException {
+        return new TarantoolResultImpl<>(unpacker, valueConverter);
+    }
+
+    public TarantoolTupleResultImpl createTarantoolTupleResultImpl(MessageUnpacker unpacker,
+            ArrayValueToTarantoolTupleConverter tupleConverter) throws IOException {
+        return new TarantoolTupleResultImpl(unpacker, tupleConverter);
+    }
+
     public TarantoolTupleResultImpl createTarantoolTupleResultImpl(Value value,
             ArrayValueToTarantoolTupleConverter tupleConverter) {
         return new TarantoolTupleResultImpl(value, tupleConverter);
@@ -33,4 +48,12 @@ public class TarantoolResultFactory {
             ArrayValueToTarantoolTupleConverter tupleConverter) {
         return new TarantoolTupleResultImpl(rawTuples, metadata, tupleConverter);
     }
+
+    public TarantoolSqlResultImpl createTarantoolSqlResultImpl(ArrayValue rawTuples,
+            TarantoolSpaceMetadata metadata,
+            ArrayValueToTarantoolTupleConverter tupleConverter,
+            long rowCount,
+            List<Long> autoincrementIds) {
+        return new TarantoolSqlResultImpl(rawTuples, metadata, tupleConverter, rowCount, autoincrementIds);
+    }
 }
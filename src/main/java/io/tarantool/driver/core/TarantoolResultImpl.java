@@ -2,10 +2,16 @@ package io.tarantool.driver.core;
 
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.exceptions.TarantoolTupleConversionException;
+import io.tarantool.driver.mappers.converters.StreamingValueConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
 import org.msgpack.core.MessageTypeCastException;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueType;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -32,6 +38,26 @@ public class TarantoolResultImpl<T> implements TarantoolResult<T> {
         setItems(value, valueConverter);
     }
 
+    protected TarantoolResultImpl(MessageUnpacker unpacker, StreamingValueConverter<ArrayValue, T> valueConverter)
+        throws IOException {
+        // [[[],...]]
+        setItems(unpacker, valueConverter);
+    }
+
+    protected void setItems(MessageUnpacker unpacker, StreamingValueConverter<ArrayValue, T> valueConverter)
+        throws IOException {
+        int size = unpacker.unpackArrayHeader();
+        this.tuples = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (unpacker.getNextFormat().getValueType() != ValueType.ARRAY) {
+                // fail the same way as for the unpacked value
+                Value item = unpacker.unpackValue();
+                throw new TarantoolTupleConversionException(item, new MessageTypeCastException());
+            }
+            this.tuples.add(valueConverter.fromUnpacker(unpacker));
+        }
+    }
+
     protected void setItems(ArrayValue itemsArray, ValueConverter<ArrayValue, T> valueConverter) {
         this.tuples = itemsArray.list().stream()
             .map(v -> {
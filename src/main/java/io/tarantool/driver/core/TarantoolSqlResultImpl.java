@@ -0,0 +1,45 @@
+package io.tarantool.driver.core;
+
+import io.tarantool.driver.api.TarantoolSqlResult;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.mappers.converters.value.ArrayValueToTarantoolTupleConverter;
+import org.msgpack.value.ArrayValue;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Basic TarantoolSqlResult implementation
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolSqlResultImpl extends TarantoolTupleResultImpl implements TarantoolSqlResult {
+
+    private final TarantoolSpaceMetadata metadata;
+    private final long rowCount;
+    private final List<Long> autoincrementIds;
+
+    protected TarantoolSqlResultImpl(
+        ArrayValue rawTuples, TarantoolSpaceMetadata metadata, ArrayValueToTarantoolTupleConverter tupleConverter,
+        long rowCount, List<Long> autoincrementIds) {
+        super(rawTuples, metadata, tupleConverter);
+        this.metadata = metadata;
+        this.rowCount = rowCount;
+        this.autoincrementIds = autoincrementIds;
+    }
+
+    @Override
+    public Optional<TarantoolSpaceMetadata> getMetadata() {
+        return Optional.ofNullable(metadata);
+    }
+
+    @Override
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public List<Long> getAutoincrementIds() {
+        return autoincrementIds;
+    }
+}
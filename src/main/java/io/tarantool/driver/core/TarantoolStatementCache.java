@@ -0,0 +1,224 @@
+package io.tarantool.driver.core;
+
+import io.tarantool.driver.api.TarantoolSqlResult;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.TarantoolStaleStatementException;
+import io.tarantool.driver.mappers.DefaultMessagePackMapper;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.requests.TarantoolExecuteRequest;
+import io.tarantool.driver.protocol.requests.TarantoolPrepareRequest;
+import org.msgpack.value.MapValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.msgpack.value.ValueType;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Keeps the IDs of the SQL statements prepared over one connection. Each distinct statement text is prepared once,
+ * and the subsequent executions refer to the prepared statement by its ID, so the server does not parse the
+ * statement again. The number of kept statements is limited, the least recently used statements are unprepared on
+ * the server when the limit is exceeded.
+ * <p>
+ * Each execution of a prepared statement carries the schema version the statement was prepared with, so the server
+ * rejects it with {@link TarantoolStaleStatementException} after a schema change. In that case the statement is
+ * prepared again and the execution is retried once. The statement is also prepared again without a round-trip if
+ * the connection has already received a response with a newer schema version.
+ * <p>
+ * The cache does not hold a reference to the connection, the connection is passed to each operation instead.
+ *
+ * @author Alexey Kuzin
+ */
+final class TarantoolStatementCache {
+
+    private static final DefaultMessagePackMapper statementIdMapper = createStatementIdMapper();
+
+    private final int capacity;
+    private final Map<String, PreparedStatement> statements;
+
+    /**
+     * Basic constructor.
+     *
+     * @param capacity maximum number of prepared statements, must be greater than 0
+     */
+    TarantoolStatementCache(int capacity) {
+        this.capacity = capacity;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Execute an SQL statement, preparing it first if it is not prepared over the specified connection yet
+     *
+     * @param connection       connection to execute the statement over
+     * @param statement        SQL statement text
+     * @param parameters       values bound to the statement placeholders
+     * @param parametersMapper mapper for parameter object-to-MessagePack entity conversion
+     * @param resultMapper     mapper for the SQL response body conversion
+     * @return the statement execution result
+     */
+    CompletableFuture<TarantoolSqlResult> execute(
+        TarantoolConnection connection,
+        String statement,
+        List<?> parameters,
+        MessagePackObjectMapper parametersMapper,
+        MessagePackValueMapper resultMapper) {
+        PreparedStatement prepared = get(statement, connection.getSchemaVersion());
+        if (prepared == null) {
+            return prepareAndExecute(connection, statement, parameters, parametersMapper, resultMapper);
+        }
+        return this.<TarantoolSqlResult>executePrepared(
+                connection, prepared, parameters, parametersMapper, resultMapper)
+            .handle((result, error) -> {
+                if (error == null) {
+                    return CompletableFuture.completedFuture(result);
+                }
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                if (!(cause instanceof TarantoolStaleStatementException)) {
+                    CompletableFuture<TarantoolSqlResult> failed = new CompletableFuture<>();
+                    failed.completeExceptionally(cause);
+                    return failed;
+                }
+                remove(statement, prepared);
+                return prepareAndExecute(connection, statement, parameters, parametersMapper, resultMapper);
+            })
+            .thenCompose(Function.identity());
+    }
+
+    /**
+     * Get the number of the currently prepared statements
+     *
+     * @return number of statements
+     */
+    synchronized int size() {
+        return statements.size();
+    }
+
+    private CompletableFuture<TarantoolSqlResult> prepareAndExecute(
+        TarantoolConnection connection,
+        String statement,
+        List<?> parameters,
+        MessagePackObjectMapper parametersMapper,
+        MessagePackValueMapper resultMapper) {
+        TarantoolPrepareRequest request;
+        try {
+            request = new TarantoolPrepareRequest.Builder()
+                .withStatementText(statement)
+                .build(parametersMapper);
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+        return connection.<Long>sendRequest(request, statementIdMapper)
+            .thenCompose(statementId -> {
+                PreparedStatement prepared = new PreparedStatement(statementId, connection.getSchemaVersion());
+                put(connection, statement, prepared);
+                return executePrepared(connection, prepared, parameters, parametersMapper, resultMapper);
+            });
+    }
+
+    private <T> CompletableFuture<T> executePrepared(
+        TarantoolConnection connection,
+        PreparedStatement prepared,
+        List<?> parameters,
+        MessagePackObjectMapper parametersMapper,
+        MessagePackValueMapper resultMapper) {
+        TarantoolExecuteRequest.Builder builder = new TarantoolExecuteRequest.Builder()
+            .withStatementId(prepared.statementId)
+            .withParameters(parameters);
+        if (prepared.schemaVersion > 0) {
+            builder.withSchemaVersion(prepared.schemaVersion);
+        }
+        try {
+            return connection.sendRequest(builder.build(parametersMapper), resultMapper);
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    private synchronized PreparedStatement get(String statement, long schemaVersion) {
+        PreparedStatement prepared = statements.get(statement);
+        if (prepared != null && prepared.schemaVersion != schemaVersion) {
+            // the schema has changed, the statement is prepared again under the same ID
+            statements.remove(statement);
+            return null;
+        }
+        return prepared;
+    }
+
+    private synchronized void remove(String statement, PreparedStatement prepared) {
+        statements.remove(statement, prepared);
+    }
+
+    private void put(TarantoolConnection connection, String statement, PreparedStatement prepared) {
+        PreparedStatement evicted = null;
+        synchronized (this) {
+            statements.put(statement, prepared);
+            if (statements.size() > capacity) {
+                Iterator<PreparedStatement> eldest = statements.values().iterator();
+                evicted = eldest.next();
+                eldest.remove();
+            }
+        }
+        if (evicted != null && evicted.statementId != prepared.statementId) {
+            unprepare(connection, evicted);
+        }
+    }
+
+    private static void unprepare(TarantoolConnection connection, PreparedStatement prepared) {
+        try {
+            TarantoolPrepareRequest request = new TarantoolPrepareRequest.Builder()
+                .withStatementId(prepared.statementId)
+                .build(statementIdMapper);
+            // the response is not needed, the result is ignored like for the other service requests
+            connection.sendRequest(request, null);
+        } catch (TarantoolProtocolException | TarantoolClientException e) {
+            // the connection is closed, the statement is released on the server together with the session
+        }
+    }
+
+    private static DefaultMessagePackMapper createStatementIdMapper() {
+        DefaultMessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultSimpleTypeMapper();
+        mapper.registerValueConverterWithoutTargetClass(ValueType.MAP, new PrepareResponseToStatementIdConverter());
+        return mapper;
+    }
+
+    private static final class PreparedStatement {
+        private final long statementId;
+        private final long schemaVersion;
+
+        PreparedStatement(long statementId, long schemaVersion) {
+            this.statementId = statementId;
+            this.schemaVersion = schemaVersion;
+        }
+    }
+
+    /**
+     * Extracts the statement ID from the prepare response body
+     */
+    private static final class PrepareResponseToStatementIdConverter implements ValueConverter<MapValue, Long> {
+
+        private static final long serialVersionUID = 20221018L;
+
+        private static final Value IPROTO_STMT_ID = ValueFactory.newInteger(0x43);
+
+        @Override
+        public Long fromValue(MapValue value) {
+            return value.map().get(IPROTO_STMT_ID).asIntegerValue().asLong();
+        }
+
+        @Override
+        public boolean canConvertValue(MapValue value) {
+            return value.map().containsKey(IPROTO_STMT_ID);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.tarantool.driver.core;
+
+import io.tarantool.driver.api.TarantoolTransaction;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.core.connection.TarantoolStreamConnection;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.protocol.Packable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Basic {@link TarantoolTransaction} implementation.
+ * <p>
+ * The operations are collected like in the pipeline, but they are sent over a {@link TarantoolStreamConnection}
+ * executing them in an interactive transaction.
+ *
+ * @param <T> target tuple type
+ * @param <R> target tuple collection type
+ * @author Alexey Kuzin
+ */
+public class TarantoolTransactionImpl<T extends Packable, R extends Collection<T>>
+    extends TarantoolPipelineImpl<T, R> implements TarantoolTransaction<T, R> {
+
+    /**
+     * Basic constructor.
+     *
+     * @param client client which provides the connections and the space metadata
+     */
+    public TarantoolTransactionImpl(AbstractTarantoolClient<T, R> client) {
+        super(client);
+    }
+
+    @Override
+    public CompletableFuture<Void> commit() {
+        return execute();
+    }
+
+    @Override
+    public CompletableFuture<Void> rollback() {
+        TarantoolClientException cause = new TarantoolClientException("The transaction is rolled back");
+        takeOperations().forEach(operation -> operation.completeExceptionally(cause));
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    protected CompletableFuture<Void> sendOperations(
+        TarantoolConnection connection,
+        List<CompletableFuture<TarantoolConnection>> operations) {
+        return TarantoolStreamConnection.executeTransaction(connection,
+            streamConnection -> operations.forEach(operation -> operation.complete(streamConnection)));
+    }
+}
@@ -6,9 +6,11 @@ import io.tarantool.driver.api.tuple.TarantoolTupleResult;
 import io.tarantool.driver.exceptions.TarantoolTupleConversionException;
 import io.tarantool.driver.mappers.converters.value.ArrayValueToTarantoolTupleConverter;
 import org.msgpack.core.MessageTypeCastException;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.Value;
 
+import java.io.IOException;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +30,11 @@ public class TarantoolTupleResultImpl extends TarantoolResultImpl<TarantoolTuple
         setItems(value.asArrayValue(), tupleConverter);
     }
 
+    protected TarantoolTupleResultImpl(MessageUnpacker unpacker, ArrayValueToTarantoolTupleConverter tupleConverter)
+        throws IOException {
+        setItems(unpacker, tupleConverter);
+    }
+
     private void setItems(
         ArrayValue tupleArray, TarantoolSpaceMetadata responseMetadata,
         ArrayValueToTarantoolTupleConverter tupleConverter) {
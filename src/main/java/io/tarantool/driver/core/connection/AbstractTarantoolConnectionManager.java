@@ -1,5 +1,6 @@
 package io.tarantool.driver.core.connection;
 
+import io.netty.channel.Channel;
 import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.TarantoolServerAddress;
 import io.tarantool.driver.api.connection.ConnectionSelectionStrategy;
@@ -21,10 +22,19 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.Phaser;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -39,13 +49,22 @@ public abstract class AbstractTarantoolConnectionManager implements TarantoolCon
     private final TarantoolConnectionFactory connectionFactory;
     private final ConnectionSelectionStrategyFactory selectStrategyFactory;
     private final TarantoolConnectionListeners connectionListeners;
-    private Map<TarantoolServerAddress, List<TarantoolConnection>> connectionRegistry;
+    private volatile Map<TarantoolServerAddress, List<TarantoolConnection>> connectionRegistry;
     private final AtomicReference<ConnectionSelectionStrategy> connectionSelectStrategy = new AtomicReference<>();
-    // connection init sequence state
-    private final AtomicReference<ConnectionMode> connectionMode = new AtomicReference<>(ConnectionMode.FULL);
-    // resettable barrier for preventing multiple threads from running into the connection init sequence
-    private final Phaser initPhaser = new Phaser(0);
+    // connection init sequence state, the mode and the future for the requests waiting for the init completion are
+    // changed together for preventing multiple threads from running into the connection init sequence
+    private final AtomicReference<ConnectionState> connectionState =
+        new AtomicReference<>(new ConnectionState(ConnectionMode.FULL, null));
+    // guards the registry and strategy updates made by the init sequence and the background reconnection
+    private final Object registryLock = new Object();
+    private final Set<TarantoolServerAddress> reconnectingServers = ConcurrentHashMap.newKeySet();
+    private final Set<TarantoolServerAddress> growingServers = ConcurrentHashMap.newKeySet();
+    // connections removed from the adaptive pool, closed when their pending requests complete
+    private final Queue<TarantoolConnection> retiredConnections = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<ScheduledFuture<?>> poolSizingTask = new AtomicReference<>();
+    private volatile boolean closed;
 
+    private static final long POOL_SIZING_INTERVAL = 1000; // milliseconds
     private static final Logger logger = LoggerFactory.getLogger(AbstractTarantoolConnectionManager.class);
 
     /**
@@ -75,6 +94,22 @@ public abstract class AbstractTarantoolConnectionManager implements TarantoolCon
      */
     protected abstract Collection<TarantoolServerAddress> getAddresses();
 
+    /**
+     * Get server addresses to connect to without blocking the calling thread. By default, the result of
+     * {@link #getAddresses()} is returned.
+     *
+     * @return future with Tarantool server addresses
+     */
+    protected CompletableFuture<Collection<TarantoolServerAddress>> getAddressesAsync() {
+        CompletableFuture<Collection<TarantoolServerAddress>> result = new CompletableFuture<>();
+        try {
+            result.complete(getAddresses());
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
     @Override
     public CompletableFuture<TarantoolConnection> getConnection() {
         return getConnectionInternal().handle((connection, ex) -> {
@@ -83,7 +118,7 @@ public abstract class AbstractTarantoolConnectionManager implements TarantoolCon
                     ex = ex.getCause();
                 }
                 if (ex instanceof NoAvailableConnectionsException) {
-                    connectionMode.compareAndSet(ConnectionMode.OFF, ConnectionMode.FULL);
+                    compareAndSetMode(ConnectionMode.OFF, ConnectionMode.FULL);
                 }
                 throw new TarantoolConnectionException(ex);
             }
@@ -93,7 +128,7 @@ public abstract class AbstractTarantoolConnectionManager implements TarantoolCon
 
     @Override
     public boolean refresh() {
-        return connectionMode.compareAndSet(ConnectionMode.OFF, ConnectionMode.PARTIAL);
+        return compareAndSetMode(ConnectionMode.OFF, ConnectionMode.PARTIAL);
     }
 
     protected boolean areAddressesChanged() {
@@ -102,13 +137,22 @@ public abstract class AbstractTarantoolConnectionManager implements TarantoolCon
             logger.debug("The list of server addresses is not defined");
             return true;
         }
-        return !connectionRegistry.keySet().equals(new HashSet<>(addresses));
+        Map<TarantoolServerAddress, List<TarantoolConnection>> registry = connectionRegistry;
+        if (!registry.keySet().equals(new HashSet<>(addresses))) {
+            return true;
+        }
+        // the routing attributes are not compared by equals(), check them separately
+        Map<TarantoolServerAddress, TarantoolServerAddress> currentAddresses = registry.keySet().stream()
+            .collect(Collectors.toMap(Function.identity(), Function.identity()));
+        return addresses.stream().anyMatch(address -> address.isRoutingChanged(currentAddresses.get(address)));
     }
 
     protected boolean areConnectionsAlive() {
+        // the pools grown under load hold more connections than configured, up to the maximum pool size
+        int maxPoolSize = maxPoolSize();
         for (List<TarantoolConnection> connections : connectionRegistry.values()) {
             int isAliveConnections = (int) connections.stream().filter(TarantoolConnection::isConnected).count();
-            if (isAliveConnections != config.getConnections()) {
+            if (isAliveConnections < config.getConnections() || isAliveConnections > maxPoolSize) {
                 return false;
             }
         }
@@ -116,88 +160,94 @@ public abstract class AbstractTarantoolConnectionManager implements TarantoolCon
     }
 
     private CompletableFuture<TarantoolConnection> getConnectionInternal() {
-        CompletableFuture<TarantoolConnection> result;
-        ConnectionMode currentMode = connectionMode.get();
-        if (initPhaser.getRegisteredParties() == 0 &&
-            (connectionMode.compareAndSet(ConnectionMode.FULL, ConnectionMode.IN_PROGRESS) ||
-                connectionMode.compareAndSet(ConnectionMode.PARTIAL, ConnectionMode.IN_PROGRESS))) {
-            AtomicReference<Map<TarantoolServerAddress, List<TarantoolConnection>>> currentRegistry =
-                new AtomicReference<>();
-            logger.debug("Current connection mode: {}", currentMode);
-            // Only one thread can reach to this line because of CAS. Rise up the barrier for 1 thread
-            if (currentMode == ConnectionMode.FULL) {
-                // We block the incoming requests until the connections are established and the registry is updated
-                initPhaser.register();
+        ConnectionState currentState = connectionState.get();
+        ConnectionMode currentMode = currentState.mode;
+        if (currentMode == ConnectionMode.FULL || currentMode == ConnectionMode.PARTIAL) {
+            // In the FULL mode the incoming requests wait until the connections are established and the registry
+            // is updated. In the PARTIAL mode they use the current connections until the registry is updated
+            CompletableFuture<Void> pendingInit =
+                currentMode == ConnectionMode.FULL ? new CompletableFuture<>() : null;
+            // Only one thread can win the CAS and run the init sequence
+            if (connectionState.compareAndSet(currentState,
+                new ConnectionState(ConnectionMode.IN_PROGRESS, pendingInit))) {
+                logger.debug("Current connection mode: {}", currentMode);
+                return initConnections(currentMode, pendingInit);
             }
+            currentState = connectionState.get();
+        }
+        CompletableFuture<Void> pendingInit = currentState.pendingInit;
+        if (pendingInit != null && !pendingInit.isDone()) {
+            // Do not block the calling thread, the connection is selected when the init sequence completes.
+            // This may produce NoAvailableConnectionsException if the connection attempt failed, in this case
+            // the calling code may perform the request again.
+            return pendingInit.thenApply(v -> connectionSelectStrategy.get().next());
+        }
+        CompletableFuture<TarantoolConnection> result = new CompletableFuture<>();
+        try {
+            result.complete(connectionSelectStrategy.get().next());
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+        }
+        return result;
+    }
 
-            result = establishConnections()
-                .thenAccept(registry -> {
-                    if (currentMode == ConnectionMode.PARTIAL) {
-                        // We block the incoming requests just before updating the registry
-                        initPhaser.register();
-                    }
-
+    private CompletableFuture<TarantoolConnection> initConnections(
+        ConnectionMode currentMode, CompletableFuture<Void> pendingInit) {
+        AtomicReference<Map<TarantoolServerAddress, List<TarantoolConnection>>> currentRegistry =
+            new AtomicReference<>();
+        return establishConnections()
+            .thenAccept(registry -> {
+                synchronized (registryLock) {
                     currentRegistry.set(connectionRegistry);
                     // Add all alive connections
                     connectionRegistry = registry;
-                    ConnectionSelectionStrategy strategy =
-                        selectStrategyFactory.create(config, registry.values().stream()
-                            .flatMap(Collection::stream)
-                            .collect(Collectors.toList()));
-                    connectionSelectStrategy.set(strategy);
-                })
-                .thenApply(v -> connectionSelectStrategy.get().next())
-                .whenComplete((v, ex) -> {
-                    if (ex != null) {
-                        // Connection attempt failed, signal the next thread coming for connection
-                        // to start the init sequence
-                        connectionMode.set(currentMode);
-                    } else {
-                        closeOldConnections(currentRegistry.get());
-                    }
-                    // Connection init sequence completed, release all waiting threads and lower the barrier
-                    initPhaser.arriveAndDeregister();
-                    connectionMode.compareAndSet(ConnectionMode.IN_PROGRESS, ConnectionMode.OFF);
-                });
-        } else {
-            // Wait until a thread finishes the init sequence and lowers the barrier. Once the barrier is lowered, the
-            // phaser advances to the next phase.
-            // As soon as all parties have arrived (register() is called once, so a single thread), all threads blocked
-            // on awaitAdvance() continue running. getPhase() in this case returns the last phase value before
-            // the termination.
-            initPhaser.awaitAdvance(initPhaser.getPhase());
-            // This call may produce NoAvailableConnectionsException if the connection attempt failed in all threads
-            // that waited for the init sequence completion on the line above.
-            // In this case the calling code may perform the request again.
-            result = new CompletableFuture<>();
-            try {
-                result.complete(connectionSelectStrategy.get().next());
-            } catch (Throwable t) {
-                result.completeExceptionally(t);
+                    connectionSelectStrategy.set(selectStrategyFactory.createForAddresses(config, registry));
+                }
+            })
+            .thenApply(v -> connectionSelectStrategy.get().next())
+            .whenComplete((v, ex) -> {
+                if (ex != null) {
+                    // Connection attempt failed, signal the next thread coming for connection
+                    // to start the init sequence
+                    connectionState.set(new ConnectionState(currentMode, null));
+                } else {
+                    closeOldConnections(currentRegistry.get());
+                    compareAndSetMode(ConnectionMode.IN_PROGRESS, ConnectionMode.OFF);
+                    startPoolSizing();
+                }
+                // Connection init sequence completed, select connections for all waiting requests
+                if (pendingInit != null) {
+                    pendingInit.complete(null);
+                }
+            });
+    }
+
+    private boolean compareAndSetMode(ConnectionMode expectedMode, ConnectionMode newMode) {
+        ConnectionState currentState;
+        do {
+            currentState = connectionState.get();
+            if (currentState.mode != expectedMode) {
+                return false;
             }
-        }
-        return result;
+        } while (!connectionState.compareAndSet(currentState, new ConnectionState(newMode, null)));
+        return true;
     }
 
-    private CompletableFuture<Map<TarantoolServerAddress, List<TarantoolConnection>>> establishConnections()
-        throws TarantoolClientException {
-        CompletableFuture<Map<TarantoolServerAddress, List<TarantoolConnection>>> result = new CompletableFuture<>();
-        try {
+    private CompletableFuture<Map<TarantoolServerAddress, List<TarantoolConnection>>> establishConnections() {
+        // the addresses may be not discovered yet, do not block the calling thread waiting for them
+        return getAddressesAsync().thenCompose(addresses -> {
             List<CompletableFuture<Map.Entry<TarantoolServerAddress, List<TarantoolConnection>>>> endpointConnections =
-                getConnections();
-            result = CompletableFuture
+                getConnections(addresses);
+            return CompletableFuture
                 .allOf(endpointConnections.toArray(new CompletableFuture[0]))
                 .thenApply(v -> endpointConnections.parallelStream()
                     .map(CompletableFuture::join)
                     .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
-        } catch (Throwable e) {
-            result.completeExceptionally(e);
-        }
-        return result;
+        });
     }
 
-    private List<CompletableFuture<Map.Entry<TarantoolServerAddress, List<TarantoolConnection>>>> getConnections() {
-        Collection<TarantoolServerAddress> addresses = getAddresses();
+    private List<CompletableFuture<Map.Entry<TarantoolServerAddress, List<TarantoolConnection>>>> getConnections(
+        Collection<TarantoolServerAddress> addresses) {
         if (addresses == null) {
             addresses = Collections.emptyList();
             logger.debug("The list of server addresses is not defined");
@@ -216,21 +266,16 @@ public abstract class AbstractTarantoolConnectionManager implements TarantoolCon
                             return new AbstractMap.SimpleEntry<>(serverAddress, connections);
                         });
                 endpointConnections.add(connectionFuture);
-            } else if (aliveConnections.size() > config.getConnections()) {
-                int count = config.getConnections() - aliveConnections.size();
-                for (TarantoolConnection aliveConnection : aliveConnections) {
-                    if (count-- > 0) {
-                        try {
-                            logger.info("Closing connection to {}, connections size is greater than {}",
-                                aliveConnection.getRemoteAddress(), config.getConnections());
-                            aliveConnection.close();
-                        } catch (Exception e) {
-                            logger.info("Failed to close the connection: {}", e.getMessage());
-                        }
-                    } else {
-                        break;
-                    }
+            } else if (aliveConnections.size() > maxPoolSize()) {
+                int maxPoolSize = maxPoolSize();
+                for (TarantoolConnection aliveConnection :
+                    aliveConnections.subList(maxPoolSize, aliveConnections.size())) {
+                    logger.info("Closing connection to {}, connections size is greater than {}",
+                        aliveConnection.getRemoteSocketAddress(), maxPoolSize);
+                    closeConnection(aliveConnection);
                 }
+                endpointConnections.add(CompletableFuture.completedFuture(new AbstractMap.SimpleEntry<>(
+                    serverAddress, new ArrayList<>(aliveConnections.subList(0, maxPoolSize)))));
             } else {
                 endpointConnections.add(CompletableFuture.completedFuture(
                     new AbstractMap.SimpleEntry<>(serverAddress, aliveConnections)));
@@ -247,15 +292,17 @@ public abstract class AbstractTarantoolConnectionManager implements TarantoolCon
     private CompletableFuture<List<TarantoolConnection>> establishConnectionsToEndpoint(
         TarantoolServerAddress serverAddress, int connectionCount) {
         List<CompletableFuture<TarantoolConnection>> connections = connectionFactory
-            .multiConnection(serverAddress.getSocketAddress(), connectionCount, connectionListeners).stream()
+            .multiConnection(serverAddress, connectionCount, connectionListeners).stream()
             .peek(cf -> cf.thenApply(conn -> {
                     if (conn.isConnected()) {
-                        logger.info("Connected to Tarantool server at {}", conn.getRemoteAddress());
+                        logger.info("Connected to Tarantool server at {}", conn.getRemoteSocketAddress());
                     }
                     conn.addConnectionFailureListener((c, ex) -> {
-                        // Connection lost, signal the next thread coming
-                        // for connection to start the init sequence
-                        connectionMode.set(ConnectionMode.PARTIAL);
+                        if (!startReconnect(serverAddress)) {
+                            // Connection lost, signal the next thread coming
+                            // for connection to start the init sequence
+                            connectionState.set(new ConnectionState(ConnectionMode.PARTIAL, null));
+                        }
                         try {
                             c.close();
                         } catch (Exception e) {
@@ -263,7 +310,7 @@ public abstract class AbstractTarantoolConnectionManager implements TarantoolCon
                         }
                     });
                     conn.addConnectionCloseListener(
-                        c -> logger.info("Disconnected from {}", c.getRemoteAddress()));
+                        c -> logger.info("Disconnected from {}", c.getRemoteSocketAddress()));
                     return conn;
                 })
             )
@@ -276,6 +323,241 @@ public abstract class AbstractTarantoolConnectionManager implements TarantoolCon
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Start re-establishing the lost connections to the server in the background, unless it is already started
+     *
+     * @param serverAddress server address
+     * @return false, if the background reconnection is disabled
+     */
+    private boolean startReconnect(TarantoolServerAddress serverAddress) {
+        ScheduledExecutorService scheduler = connectionFactory.getTimeoutScheduler();
+        if (!config.isBackgroundReconnect() || scheduler == null || closed) {
+            return false;
+        }
+        if (reconnectingServers.add(serverAddress)) {
+            scheduleReconnect(scheduler, serverAddress, 0);
+        }
+        return true;
+    }
+
+    private void scheduleReconnect(ScheduledExecutorService scheduler, TarantoolServerAddress serverAddress,
+                                   int attempt) {
+        try {
+            scheduler.schedule(() -> reconnect(scheduler, serverAddress, attempt),
+                reconnectDelay(attempt), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // the client resources are closed
+            reconnectingServers.remove(serverAddress);
+        }
+    }
+
+    /**
+     * Exponential backoff with "equal jitter": the delay is taken randomly from the upper half of the current
+     * backoff interval, so that the clients which lost the connections at once do not reconnect at once
+     */
+    private long reconnectDelay(int attempt) {
+        long backoff = Math.min((long) config.getReconnectInitialDelay() << Math.min(attempt, 30),
+            config.getReconnectMaxDelay());
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    private void reconnect(ScheduledExecutorService scheduler, TarantoolServerAddress serverAddress, int attempt) {
+        int missingConnections = config.getConnections() - getAliveConnections(serverAddress).size();
+        if (closed || missingConnections <= 0 || !connectionRegistry.containsKey(serverAddress)) {
+            finishReconnect(scheduler, serverAddress);
+            return;
+        }
+        long startTime = System.nanoTime();
+        establishConnectionsToEndpoint(serverAddress, missingConnections)
+            .handle((connections, ex) -> {
+                if (ex != null) {
+                    logger.debug("Failed to reconnect to {}: {}", serverAddress, ex.getMessage());
+                    connections = Collections.emptyList();
+                }
+                boolean success = addConnections(serverAddress, connections, config.getConnections()) >=
+                    config.getConnections();
+                if (success) {
+                    logger.info("Reconnected to Tarantool server at {}", serverAddress);
+                }
+                config.getClientMetrics().recordReconnectAttempt(
+                    serverAddress, success, System.nanoTime() - startTime);
+                if (success || closed) {
+                    finishReconnect(scheduler, serverAddress);
+                } else {
+                    scheduleReconnect(scheduler, serverAddress, attempt + 1);
+                }
+                return null;
+            });
+    }
+
+    private void finishReconnect(ScheduledExecutorService scheduler, TarantoolServerAddress serverAddress) {
+        reconnectingServers.remove(serverAddress);
+        // a connection may have been lost while the previous one was being re-established
+        if (!closed && connectionRegistry.containsKey(serverAddress) &&
+            getAliveConnections(serverAddress).size() < config.getConnections() &&
+            reconnectingServers.add(serverAddress)) {
+            scheduleReconnect(scheduler, serverAddress, 0);
+        }
+    }
+
+    /**
+     * Add the new connections to the registry and update the connection selection strategy
+     *
+     * @param serverAddress server address
+     * @param connections   new connections to the server
+     * @param limit         maximum number of alive connections to the server, the connections over the limit are
+     *                      closed
+     * @return the number of alive connections to the server, or {@link Integer#MAX_VALUE} if the server is not in
+     * the registry anymore
+     */
+    private int addConnections(TarantoolServerAddress serverAddress, List<TarantoolConnection> connections,
+                               int limit) {
+        synchronized (registryLock) {
+            Map<TarantoolServerAddress, List<TarantoolConnection>> registry = connectionRegistry;
+            List<TarantoolConnection> serverConnections = registry.get(serverAddress);
+            if (closed || serverConnections == null) {
+                // the server is not in the cluster anymore
+                connections.forEach(AbstractTarantoolConnectionManager::closeConnection);
+                return Integer.MAX_VALUE;
+            }
+            List<TarantoolConnection> aliveConnections = serverConnections.stream()
+                .filter(TarantoolConnection::isConnected)
+                .collect(Collectors.toList());
+            for (TarantoolConnection connection : connections) {
+                if (aliveConnections.size() < limit) {
+                    aliveConnections.add(connection);
+                } else {
+                    // the init sequence has already re-established the connections
+                    closeConnection(connection);
+                }
+            }
+            if (!connections.isEmpty()) {
+                updateRegistry(registry, serverAddress, aliveConnections);
+            }
+            return aliveConnections.size();
+        }
+    }
+
+    private void updateRegistry(Map<TarantoolServerAddress, List<TarantoolConnection>> registry,
+                                TarantoolServerAddress serverAddress, List<TarantoolConnection> serverConnections) {
+        Map<TarantoolServerAddress, List<TarantoolConnection>> updatedRegistry = new HashMap<>(registry);
+        updatedRegistry.put(serverAddress, serverConnections);
+        connectionRegistry = updatedRegistry;
+        connectionSelectStrategy.set(selectStrategyFactory.createForAddresses(config, updatedRegistry));
+    }
+
+    private int maxPoolSize() {
+        return Math.max(config.getConnections(), config.getMaxConnections());
+    }
+
+    private void startPoolSizing() {
+        ScheduledExecutorService scheduler = connectionFactory.getTimeoutScheduler();
+        if (maxPoolSize() <= config.getConnections() || scheduler == null || closed ||
+            poolSizingTask.get() != null) {
+            return;
+        }
+        try {
+            ScheduledFuture<?> task = scheduler.scheduleWithFixedDelay(
+                this::resizePools, POOL_SIZING_INTERVAL, POOL_SIZING_INTERVAL, TimeUnit.MILLISECONDS);
+            if (!poolSizingTask.compareAndSet(null, task)) {
+                task.cancel(false);
+            }
+        } catch (RejectedExecutionException e) {
+            logger.debug("Failed to start the connection pool sizing task: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Grow the connection pools of the overloaded servers and shrink the pools with idle connections. The pool of
+     * a server is overloaded if the average number of pending requests per connection reaches the threshold or if
+     * the outbound buffer of any connection is over the high water mark.
+     */
+    void resizePools() {
+        closeRetiredConnections();
+        if (closed) {
+            return;
+        }
+        int minPoolSize = config.getConnections();
+        int maxPoolSize = maxPoolSize();
+        long idleTimeout = TimeUnit.MILLISECONDS.toNanos(config.getIdleConnectionTimeout());
+        connectionRegistry.forEach((serverAddress, connections) -> {
+            List<TarantoolConnection> aliveConnections = connections.stream()
+                .filter(TarantoolConnection::isConnected)
+                .collect(Collectors.toList());
+            if (aliveConnections.isEmpty()) {
+                return;
+            }
+            if (aliveConnections.size() < maxPoolSize && isOverloaded(aliveConnections)) {
+                // double the pool size, so that it catches up with a burst in a few steps
+                growPool(serverAddress, Math.min(aliveConnections.size(), maxPoolSize - aliveConnections.size()));
+            } else if (aliveConnections.size() > minPoolSize) {
+                List<TarantoolConnection> idleConnections = aliveConnections.stream()
+                    .filter(c -> c.getIdleTime() >= idleTimeout)
+                    .limit(aliveConnections.size() - minPoolSize)
+                    .collect(Collectors.toList());
+                if (!idleConnections.isEmpty()) {
+                    removeConnections(serverAddress, idleConnections);
+                }
+            }
+        });
+    }
+
+    private boolean isOverloaded(List<TarantoolConnection> connections) {
+        long pendingRequests = 0;
+        for (TarantoolConnection connection : connections) {
+            Channel channel = connection.getChannel();
+            if (channel != null && !channel.isWritable()) {
+                return true;
+            }
+            pendingRequests += connection.getPendingRequestsCount();
+        }
+        return pendingRequests >= (long) config.getConnectionGrowthThreshold() * connections.size();
+    }
+
+    private void growPool(TarantoolServerAddress serverAddress, int connectionCount) {
+        if (!growingServers.add(serverAddress)) {
+            return;
+        }
+        establishConnectionsToEndpoint(serverAddress, connectionCount)
+            .handle((connections, ex) -> {
+                if (ex != null) {
+                    logger.debug("Failed to add connections to {}: {}", serverAddress, ex.getMessage());
+                    connections = Collections.emptyList();
+                }
+                int poolSize = addConnections(serverAddress, connections, maxPoolSize());
+                logger.debug("Connection pool of {} grown to {} connections", serverAddress, poolSize);
+                growingServers.remove(serverAddress);
+                return null;
+            });
+    }
+
+    private void removeConnections(TarantoolServerAddress serverAddress, List<TarantoolConnection> connections) {
+        synchronized (registryLock) {
+            Map<TarantoolServerAddress, List<TarantoolConnection>> registry = connectionRegistry;
+            List<TarantoolConnection> serverConnections = registry.get(serverAddress);
+            if (serverConnections == null) {
+                return;
+            }
+            List<TarantoolConnection> remainingConnections = serverConnections.stream()
+                .filter(c -> c.isConnected() && !connections.contains(c))
+                .collect(Collectors.toList());
+            updateRegistry(registry, serverAddress, remainingConnections);
+            logger.debug("Connection pool of {} shrunk to {} connections", serverAddress, remainingConnections.size());
+        }
+        // the requests selected the connections before the strategy update may be still in flight
+        retiredConnections.addAll(connections);
+    }
+
+    private void closeRetiredConnections() {
+        retiredConnections.removeIf(connection -> {
+            if (closed || connection.getPendingRequestsCount() == 0) {
+                closeConnection(connection);
+                return true;
+            }
+            return false;
+        });
+    }
+
     private void closeOldConnections(Map<TarantoolServerAddress, List<TarantoolConnection>> registry) {
         registry.forEach((key, value) -> {
             if (!connectionRegistry.containsKey(key)) {
@@ -286,9 +568,22 @@ public abstract class AbstractTarantoolConnectionManager implements TarantoolCon
 
     @Override
     public void close() {
-        if (initPhaser.getRegisteredParties() > 0) {
-            initPhaser.awaitAdvance(initPhaser.getPhase());
+        closed = true;
+        ScheduledFuture<?> task = poolSizingTask.get();
+        if (task != null) {
+            task.cancel(false);
+        }
+        closeRetiredConnections();
+        CompletableFuture<Void> pendingInit = connectionState.get().pendingInit;
+        if (pendingInit != null && !pendingInit.isDone()) {
+            // do not block the calling thread, the connections are closed when the init sequence completes
+            pendingInit.whenComplete((v, ex) -> closeRegisteredConnections());
+        } else {
+            closeRegisteredConnections();
         }
+    }
+
+    private void closeRegisteredConnections() {
         connectionRegistry.values().stream()
             .flatMap(Collection::stream)
             .forEach(AbstractTarantoolConnectionManager::closeConnection);
@@ -301,4 +596,18 @@ public abstract class AbstractTarantoolConnectionManager implements TarantoolCon
             logger.warn("Failed to close connection: {}", e.getMessage());
         }
     }
+
+    /**
+     * The connection init sequence mode together with the future which is completed when the init sequence started
+     * in the FULL mode finishes
+     */
+    private static final class ConnectionState {
+        private final ConnectionMode mode;
+        private final CompletableFuture<Void> pendingInit;
+
+        private ConnectionState(ConnectionMode mode, CompletableFuture<Void> pendingInit) {
+            this.mode = mode;
+            this.pendingInit = pendingInit;
+        }
+    }
 }
@@ -7,7 +7,7 @@ package io.tarantool.driver.core.connection;
  */
 public enum ConnectionMode {
     /**
-     * Block all requests before starting the init sequence. Enabled on start and when no connections
+     * Delay all requests until the init sequence completes. Enabled on start and when no connections
      * are available
      */
     FULL,
@@ -6,6 +6,7 @@ import io.tarantool.driver.api.TarantoolServerAddress;
 import io.tarantool.driver.api.connection.TarantoolConnectionListeners;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Implementation of {@link AbstractTarantoolConnectionManager}, aware of connecting to the Tarantool cluster
@@ -44,6 +45,11 @@ public class TarantoolClusterConnectionManager extends AbstractTarantoolConnecti
         return addressProvider.getAddresses();
     }
 
+    @Override
+    protected CompletableFuture<Collection<TarantoolServerAddress>> getAddressesAsync() {
+        return addressProvider.getAddressesAsync();
+    }
+
     @Override
     public void close() {
         addressProvider.setRefreshCallback(() -> {
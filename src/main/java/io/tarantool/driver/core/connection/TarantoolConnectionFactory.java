@@ -4,23 +4,31 @@ import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelOption;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
 import io.tarantool.driver.TarantoolVersionHolder;
 import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolServerAddress;
 import io.tarantool.driver.api.connection.TarantoolConnection;
 import io.tarantool.driver.api.connection.TarantoolConnectionListener;
 import io.tarantool.driver.api.connection.TarantoolConnectionListeners;
+import io.tarantool.driver.api.connection.TarantoolTransportType;
 import io.tarantool.driver.core.RequestFutureManager;
 import io.tarantool.driver.core.TarantoolChannelInitializer;
+import io.tarantool.driver.core.TarantoolDaemonThreadFactory;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -34,6 +42,10 @@ public class TarantoolConnectionFactory {
     protected final TarantoolClientConfig config;
     protected final Bootstrap bootstrap;
     protected final ScheduledExecutorService timeoutScheduler;
+    protected final Timer requestTimeoutTimer;
+    private final TarantoolTransport transport;
+    private final Bootstrap domainSocketBootstrap;
+    private final LongConsumer schemaChangeListener;
     private final Logger logger = LoggerFactory.getLogger(getClass().getName());
 
     /**
@@ -42,14 +54,102 @@ public class TarantoolConnectionFactory {
      * @param config           Tarantool client config
      * @param bootstrap        prepared Netty's bootstrap
      * @param timeoutScheduler scheduled executor for limiting the connection tasks by timeout
+     * @deprecated the requests are limited by timeout with a timer shared by all factories created with this
+     * constructor, use {@link #TarantoolConnectionFactory(TarantoolClientConfig, Bootstrap, ScheduledExecutorService,
+     * Timer)} for specifying the timer
      */
+    @Deprecated
     public TarantoolConnectionFactory(
         TarantoolClientConfig config,
         Bootstrap bootstrap,
         ScheduledExecutorService timeoutScheduler) {
+        this(config, bootstrap, timeoutScheduler, DefaultRequestTimeoutTimer.INSTANCE);
+    }
+
+    /**
+     * Create a connection factory with the specified request timeout timer
+     *
+     * @param config              Tarantool client config
+     * @param bootstrap           prepared Netty's bootstrap
+     * @param timeoutScheduler    scheduled executor for limiting the connection tasks by timeout
+     * @param requestTimeoutTimer timer for limiting the requests by timeout, shared by all connections
+     */
+    public TarantoolConnectionFactory(
+        TarantoolClientConfig config,
+        Bootstrap bootstrap,
+        ScheduledExecutorService timeoutScheduler,
+        Timer requestTimeoutTimer) {
+        this(config, bootstrap, TarantoolTransport.forType(TarantoolTransportType.NIO),
+            timeoutScheduler, requestTimeoutTimer);
+    }
+
+    /**
+     * Create a connection factory which supports the Unix domain socket addresses if the transport supports them
+     *
+     * @param config              Tarantool client config
+     * @param bootstrap           prepared Netty's bootstrap, its event loop group must belong to the transport
+     * @param transport           network transport used by the bootstrap
+     * @param timeoutScheduler    scheduled executor for limiting the connection tasks by timeout
+     * @param requestTimeoutTimer timer for limiting the requests by timeout, shared by all connections
+     */
+    public TarantoolConnectionFactory(
+        TarantoolClientConfig config,
+        Bootstrap bootstrap,
+        TarantoolTransport transport,
+        ScheduledExecutorService timeoutScheduler,
+        Timer requestTimeoutTimer) {
+        this(config, bootstrap, transport, timeoutScheduler, requestTimeoutTimer, null);
+    }
+
+    /**
+     * Create a connection factory which notifies about the schema changes on the servers
+     *
+     * @param config               Tarantool client config
+     * @param bootstrap            prepared Netty's bootstrap, its event loop group must belong to the transport
+     * @param transport            network transport used by the bootstrap
+     * @param timeoutScheduler     scheduled executor for limiting the connection tasks by timeout
+     * @param requestTimeoutTimer  timer for limiting the requests by timeout, shared by all connections
+     * @param schemaChangeListener receives the new schema version when it changes on one of the connected servers,
+     *                             may be null
+     */
+    public TarantoolConnectionFactory(
+        TarantoolClientConfig config,
+        Bootstrap bootstrap,
+        TarantoolTransport transport,
+        ScheduledExecutorService timeoutScheduler,
+        Timer requestTimeoutTimer,
+        LongConsumer schemaChangeListener) {
         this.config = config;
         this.bootstrap = bootstrap;
+        this.transport = transport;
         this.timeoutScheduler = timeoutScheduler;
+        this.requestTimeoutTimer = requestTimeoutTimer;
+        this.schemaChangeListener = schemaChangeListener;
+        this.domainSocketBootstrap = transport.supportsDomainSockets() ? domainSocketBootstrap(bootstrap) : null;
+    }
+
+    /**
+     * Get the scheduled executor for the connection tasks
+     *
+     * @return scheduled executor
+     */
+    public ScheduledExecutorService getTimeoutScheduler() {
+        return timeoutScheduler;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Bootstrap domainSocketBootstrap(Bootstrap bootstrap) {
+        Bootstrap domainSocketBootstrap = new Bootstrap()
+            .group(bootstrap.config().group())
+            .channel(transport.getDomainSocketChannelClass());
+        bootstrap.config().options().forEach((option, value) -> {
+            // TCP-specific options are not supported by domain socket channels
+            if (option != ChannelOption.SO_REUSEADDR && option != ChannelOption.SO_KEEPALIVE &&
+                option != ChannelOption.TCP_NODELAY) {
+                domainSocketBootstrap.option((ChannelOption<Object>) option, value);
+            }
+        });
+        return domainSocketBootstrap;
     }
 
     /**
@@ -60,15 +160,16 @@ public class TarantoolConnectionFactory {
      * @return connection future
      */
     public CompletableFuture<TarantoolConnection> singleConnection(
-        InetSocketAddress serverAddress,
+        SocketAddress serverAddress,
         TarantoolConnectionListeners connectionListeners) {
         CompletableFuture<Channel> connectionFuture = new CompletableFuture<>();
-        RequestFutureManager requestManager = new RequestFutureManager(config, timeoutScheduler);
+        RequestFutureManager requestManager =
+            new RequestFutureManager(config, requestTimeoutTimer, schemaChangeListener);
         TarantoolVersionHolder versionHolder = new TarantoolVersionHolder();
         TarantoolChannelInitializer handler = new TarantoolChannelInitializer(
             config, requestManager, versionHolder, connectionFuture);
 
-        ChannelFuture future = bootstrap.clone()
+        ChannelFuture future = bootstrapFor(serverAddress).clone()
             .handler(handler)
             .remoteAddress(serverAddress)
             .connect();
@@ -89,7 +190,7 @@ public class TarantoolConnectionFactory {
         }, config.getConnectTimeout(), TimeUnit.MILLISECONDS);
 
         CompletableFuture<TarantoolConnection> result = connectionFuture
-            .thenApply(ch -> new TarantoolConnectionImpl(requestManager, versionHolder, ch));
+            .thenApply(ch -> new TarantoolConnectionImpl(requestManager, versionHolder, ch, config));
 
         for (TarantoolConnectionListener listener : connectionListeners.all()) {
             result = result.thenCompose(listener::onConnection);
@@ -104,6 +205,45 @@ public class TarantoolConnectionFactory {
         });
     }
 
+    private Bootstrap bootstrapFor(SocketAddress serverAddress) {
+        if (serverAddress instanceof InetSocketAddress) {
+            return bootstrap;
+        }
+        if (domainSocketBootstrap == null) {
+            throw new TarantoolClientException(
+                "Unix domain sockets require the epoll transport, the current transport is %s", transport.getType());
+        }
+        return domainSocketBootstrap;
+    }
+
+    /**
+     * Create several connections and return their futures
+     *
+     * @param serverAddress       Tarantool server address to connect, may be a Unix domain socket address
+     * @param connections         number of connections to create
+     * @param connectionListeners listeners for the event of establishing the connection
+     * @return a collection with specified number of connection futures, completed exceptionally if the address is
+     * a Unix domain socket address and the transport does not support them
+     */
+    public Collection<CompletableFuture<TarantoolConnection>> multiConnection(
+        TarantoolServerAddress serverAddress,
+        int connections,
+        TarantoolConnectionListeners connectionListeners) {
+        SocketAddress socketAddress;
+        try {
+            socketAddress = serverAddress.isUnixSocket() ?
+                transport.newDomainSocketAddress(serverAddress.getSocketPath()) :
+                serverAddress.getSocketAddress();
+        } catch (TarantoolClientException e) {
+            return Stream.generate(() -> {
+                CompletableFuture<TarantoolConnection> result = new CompletableFuture<>();
+                result.completeExceptionally(e);
+                return result;
+            }).limit(connections).collect(Collectors.toList());
+        }
+        return multiConnection(socketAddress, connections, connectionListeners);
+    }
+
     /**
      * Create several connections and return their futures
      *
@@ -113,7 +253,7 @@ public class TarantoolConnectionFactory {
      * @return a collection with specified number of connection futures
      */
     public Collection<CompletableFuture<TarantoolConnection>> multiConnection(
-        InetSocketAddress serverAddress,
+        SocketAddress serverAddress,
         int connections,
         TarantoolConnectionListeners connectionListeners) {
         return Stream.generate(() -> serverAddress)
@@ -121,4 +261,13 @@ public class TarantoolConnectionFactory {
             .limit(connections)
             .collect(Collectors.toList());
     }
+
+    /**
+     * Lazily created timer for the factories which are not given one. Its thread is started on the first request
+     * and is a daemon, so it does not prevent the JVM from exiting.
+     */
+    private static final class DefaultRequestTimeoutTimer {
+        private static final Timer INSTANCE = new HashedWheelTimer(
+            new TarantoolDaemonThreadFactory("tarantool-request-timeout"), 10, TimeUnit.MILLISECONDS);
+    }
 }
@@ -1,24 +1,74 @@
 package io.tarantool.driver.core.connection;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.EventLoop;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
 import io.tarantool.driver.TarantoolVersion;
 import io.tarantool.driver.TarantoolVersionHolder;
+import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.connection.TarantoolConnection;
 import io.tarantool.driver.api.connection.TarantoolConnectionCloseListener;
 import io.tarantool.driver.api.connection.TarantoolConnectionFailureListener;
 import io.tarantool.driver.core.RequestFutureManager;
 import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.TarantoolInFlightRequestsLimitException;
+import io.tarantool.driver.exceptions.TarantoolInternalException;
+import io.tarantool.driver.mappers.DefaultMessagePackMapper;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolProtocolFeature;
 import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestFieldType;
+import io.tarantool.driver.protocol.requests.TarantoolIdRequest;
+import io.tarantool.driver.protocol.requests.TarantoolPingRequest;
+import org.msgpack.value.MapValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.msgpack.value.ValueType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Connection to a Tarantool server over a Netty channel.
+ * <p>
+ * The requests are written from the channel event loop, the requests sent in a batch are flushed once. If the
+ * maximum number of in-flight requests is set, the requests exceeding it or arriving while the channel is not
+ * writable wait in a bounded queue for at most the in-flight queue timeout, or are rejected immediately with
+ * {@link TarantoolInFlightRequestsLimitException}.
+ * <p>
+ * If the ping interval is set, an IPROTO_PING request is sent when no data is received for that interval. The
+ * connection is closed if the ping response is not received within the read timeout, so the half-open connections
+ * are detected before the user requests time out.
+ * <p>
+ * The binary protocol features are negotiated with an IPROTO_ID request when they are requested for the first time,
+ * so the connections which do not use the optional features do not pay for an extra round-trip.
+ *
+ * @author Alexey Kuzin
+ */
 public class TarantoolConnectionImpl implements TarantoolConnection {
 
     protected final TarantoolVersionHolder versionHolder;
@@ -27,17 +77,82 @@ public class TarantoolConnectionImpl implements TarantoolConnection {
     private final AtomicBoolean connected = new AtomicBoolean(true);
     private final List<TarantoolConnectionFailureListener> failureListeners = new ArrayList<>();
     private final List<TarantoolConnectionCloseListener> closeListeners = new ArrayList<>();
+    private final int maxInFlightRequests;
+    private final int inFlightQueueTimeout;
+    private final int readTimeout;
+    private volatile boolean pingInProgress;
+    private volatile long pingTime;
+    // accessed only from the channel event loop
+    private long syncId = TarantoolRequest.UNASSIGNED_SYNC_ID;
+    private int inFlightRequests;
+    private boolean batching;
+    private final Deque<QueuedRequest<?>> queuedRequests = new ArrayDeque<>();
 
+    private final AtomicReference<CompletableFuture<Set<TarantoolProtocolFeature>>> protocolFeatures =
+        new AtomicReference<>();
+
+    private static final Set<TarantoolProtocolFeature> CLIENT_FEATURES = Collections.unmodifiableSet(
+        EnumSet.of(TarantoolProtocolFeature.STREAMS, TarantoolProtocolFeature.TRANSACTIONS,
+            TarantoolProtocolFeature.PAGINATION));
+    private static final DefaultMessagePackMapper protocolFeaturesMapper = createProtocolFeaturesMapper();
     private static final Logger logger = LoggerFactory.getLogger(TarantoolConnection.class);
 
+    /**
+     * Create a connection without the in-flight requests limit
+     *
+     * @param requestManager registry of the requests sent over this connection
+     * @param versionHolder  Tarantool server version holder
+     * @param channel        connected and authenticated channel
+     */
     public TarantoolConnectionImpl(
         RequestFutureManager requestManager,
         TarantoolVersionHolder versionHolder,
         Channel channel) {
+        this(requestManager, versionHolder, channel, 0, 0, TarantoolClientConfig.DEFAULT_READ_TIMEOUT, 0);
+    }
+
+    /**
+     * Basic constructor.
+     *
+     * @param requestManager registry of the requests sent over this connection
+     * @param versionHolder  Tarantool server version holder
+     * @param channel        connected and authenticated channel
+     * @param config         client configuration
+     */
+    public TarantoolConnectionImpl(
+        RequestFutureManager requestManager,
+        TarantoolVersionHolder versionHolder,
+        Channel channel,
+        TarantoolClientConfig config) {
+        this(requestManager, versionHolder, channel, config.getMaxInFlightRequests(),
+            config.getInFlightQueueTimeout(), config.getReadTimeout(), config.getPingInterval());
+    }
+
+    private TarantoolConnectionImpl(
+        RequestFutureManager requestManager,
+        TarantoolVersionHolder versionHolder,
+        Channel channel,
+        int maxInFlightRequests,
+        int inFlightQueueTimeout,
+        int readTimeout,
+        int pingInterval) {
         this.requestManager = requestManager;
         this.versionHolder = versionHolder;
         this.channel = channel;
+        this.maxInFlightRequests = maxInFlightRequests;
+        this.inFlightQueueTimeout = inFlightQueueTimeout;
+        this.readTimeout = readTimeout;
+        if (maxInFlightRequests > 0) {
+            channel.pipeline().addLast(new WritabilityChangedHandler());
+        }
+        if (pingInterval > 0) {
+            channel.pipeline()
+                .addFirst("IdleStateHandler",
+                    new IdleStateHandler(pingInterval, 0, 0, TimeUnit.MILLISECONDS))
+                .addLast("TarantoolPingHandler", new PingHandler());
+        }
         channel.closeFuture().addListener(f -> {
+            failQueuedRequests();
             if (connected.compareAndSet(true, false)) {
                 for (TarantoolConnectionFailureListener listener : failureListeners) {
                     listener.onConnectionFailure(this, f.cause());
@@ -48,7 +163,13 @@ public class TarantoolConnectionImpl implements TarantoolConnection {
 
     @Override
     public InetSocketAddress getRemoteAddress() throws TarantoolClientException {
-        return (InetSocketAddress) channel.remoteAddress();
+        SocketAddress remoteAddress = channel.remoteAddress();
+        return remoteAddress instanceof InetSocketAddress ? (InetSocketAddress) remoteAddress : null;
+    }
+
+    @Override
+    public SocketAddress getRemoteSocketAddress() throws TarantoolClientException {
+        return channel.remoteAddress();
     }
 
     @Override
@@ -64,23 +185,264 @@ public class TarantoolConnectionImpl implements TarantoolConnection {
         return connected.get();
     }
 
+    @Override
+    public int getPendingRequestsCount() {
+        return requestManager.getPendingRequestsCount();
+    }
+
+    @Override
+    public long getAverageResponseTime() {
+        return requestManager.getAverageResponseTime();
+    }
+
+    @Override
+    public long getIdleTime() {
+        return requestManager.getIdleTime();
+    }
+
+    @Override
+    public long getPingTime() {
+        return pingTime;
+    }
+
+    @Override
+    public long getSchemaVersion() {
+        return requestManager.getSchemaVersion();
+    }
+
+    @Override
+    public CompletableFuture<Set<TarantoolProtocolFeature>> getProtocolFeatures() {
+        CompletableFuture<Set<TarantoolProtocolFeature>> features = protocolFeatures.get();
+        if (features != null) {
+            return features;
+        }
+        CompletableFuture<Set<TarantoolProtocolFeature>> negotiated = new CompletableFuture<>();
+        if (!protocolFeatures.compareAndSet(null, negotiated)) {
+            return protocolFeatures.get();
+        }
+        negotiateProtocolFeatures(negotiated);
+        return negotiated;
+    }
+
+    private void negotiateProtocolFeatures(CompletableFuture<Set<TarantoolProtocolFeature>> negotiated) {
+        CompletableFuture<Set<TarantoolProtocolFeature>> response;
+        try {
+            TarantoolIdRequest request = new TarantoolIdRequest.Builder()
+                .withFeatures(CLIENT_FEATURES)
+                .build(protocolFeaturesMapper);
+            response = sendRequest(request, protocolFeaturesMapper);
+        } catch (TarantoolProtocolException | RuntimeException e) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+        }
+        response.whenComplete((serverFeatures, ex) -> {
+            if (ex == null) {
+                Set<TarantoolProtocolFeature> features = EnumSet.noneOf(TarantoolProtocolFeature.class);
+                features.addAll(serverFeatures);
+                features.retainAll(CLIENT_FEATURES);
+                negotiated.complete(Collections.unmodifiableSet(features));
+                return;
+            }
+            Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+            if (cause instanceof TarantoolInternalException) {
+                // the server does not know the IPROTO_ID request
+                logger.debug("Protocol features are not supported by {}: {}", channel.remoteAddress(),
+                    cause.getMessage());
+                negotiated.complete(Collections.emptySet());
+            } else {
+                // the request has not reached the server, the negotiation will be started again on the next call
+                protocolFeatures.compareAndSet(negotiated, null);
+                negotiated.completeExceptionally(cause);
+            }
+        });
+    }
+
     @Override
     public <T> CompletableFuture<T> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
         if (!isConnected()) {
             throw new TarantoolClientException("Not connected to Tarantool server");
         }
 
-        CompletableFuture<T> requestFuture = requestManager.submitRequest(request, resultMapper);
-        channel.writeAndFlush(request).addListener(f -> {
+        CompletableFuture<T> requestFuture = new CompletableFuture<>();
+        EventLoop eventLoop = channel.eventLoop();
+        if (eventLoop.inEventLoop()) {
+            writeRequest(request, requestFuture, resultMapper);
+        } else {
+            try {
+                eventLoop.execute(() -> writeRequest(request, requestFuture, resultMapper));
+            } catch (RejectedExecutionException e) {
+                requestFuture.completeExceptionally(
+                    new TarantoolClientException("Failed to send the request to Tarantool server", e));
+            }
+        }
+
+        return requestFuture;
+    }
+
+    @Override
+    public void sendBatch(Runnable batch) {
+        EventLoop eventLoop = channel.eventLoop();
+        if (eventLoop.inEventLoop()) {
+            writeBatch(batch);
+        } else {
+            try {
+                eventLoop.execute(() -> writeBatch(batch));
+            } catch (RejectedExecutionException e) {
+                // the requests will fail one by one
+                batch.run();
+            }
+        }
+    }
+
+    private void writeBatch(Runnable batch) {
+        boolean nested = batching;
+        batching = true;
+        try {
+            batch.run();
+        } finally {
+            if (!nested) {
+                batching = false;
+                channel.flush();
+            }
+        }
+    }
+
+    /**
+     * Write the request or queue it, if the in-flight requests limit is reached. Must be called from the channel
+     * event loop.
+     */
+    private <T> void writeRequest(
+        TarantoolRequest request,
+        CompletableFuture<T> requestFuture,
+        MessagePackValueMapper resultMapper) {
+        if (maxInFlightRequests <= 0) {
+            doWriteRequest(request, requestFuture, resultMapper);
+        } else if (inFlightRequests < maxInFlightRequests && channel.isWritable() && queuedRequests.isEmpty()) {
+            writeInFlightRequest(request, requestFuture, resultMapper);
+        } else if (inFlightQueueTimeout > 0 && queuedRequests.size() < maxInFlightRequests) {
+            queueRequest(request, requestFuture, resultMapper);
+        } else {
+            requestFuture.completeExceptionally(new TarantoolInFlightRequestsLimitException(maxInFlightRequests));
+        }
+    }
+
+    private <T> void writeInFlightRequest(
+        TarantoolRequest request,
+        CompletableFuture<T> requestFuture,
+        MessagePackValueMapper resultMapper) {
+        inFlightRequests++;
+        requestFuture.whenComplete((result, ex) -> releaseInFlightRequest());
+        doWriteRequest(request, requestFuture, resultMapper);
+    }
+
+    private void releaseInFlightRequest() {
+        EventLoop eventLoop = channel.eventLoop();
+        if (eventLoop.inEventLoop()) {
+            inFlightRequests--;
+            writeQueuedRequests();
+        } else {
+            try {
+                eventLoop.execute(this::releaseInFlightRequest);
+            } catch (RejectedExecutionException e) {
+                logger.debug("Event loop is shut down, the in-flight request slot is not released");
+            }
+        }
+    }
+
+    private <T> void queueRequest(
+        TarantoolRequest request,
+        CompletableFuture<T> requestFuture,
+        MessagePackValueMapper resultMapper) {
+        QueuedRequest<T> queuedRequest = new QueuedRequest<>(request, requestFuture, resultMapper);
+        queuedRequest.deadline = channel.eventLoop().schedule(() -> {
+            if (queuedRequests.remove(queuedRequest)) {
+                requestFuture.completeExceptionally(
+                    new TarantoolInFlightRequestsLimitException(maxInFlightRequests, inFlightQueueTimeout));
+            }
+        }, inFlightQueueTimeout, TimeUnit.MILLISECONDS);
+        queuedRequests.add(queuedRequest);
+    }
+
+    private void writeQueuedRequests() {
+        while (inFlightRequests < maxInFlightRequests && channel.isWritable() && !queuedRequests.isEmpty()) {
+            writeQueuedRequest(queuedRequests.poll());
+        }
+    }
+
+    private <T> void writeQueuedRequest(QueuedRequest<T> queuedRequest) {
+        queuedRequest.deadline.cancel(false);
+        if (!queuedRequest.future.isDone()) {
+            writeInFlightRequest(queuedRequest.request, queuedRequest.future, queuedRequest.resultMapper);
+        }
+    }
+
+    private void failQueuedRequests() {
+        QueuedRequest<?> queuedRequest;
+        while ((queuedRequest = queuedRequests.poll()) != null) {
+            queuedRequest.deadline.cancel(false);
+            queuedRequest.future.completeExceptionally(
+                new TarantoolClientException("Connection closed before the request was sent to Tarantool server"));
+        }
+    }
+
+    /**
+     * Assign the request ID and write the request to the channel. Must be called from the channel event loop, so the
+     * request IDs are taken from a plain counter and are assigned in the order the requests are written. The ID is
+     * assigned to a copy of the request, so that the same request may be sent again while it is still in flight.
+     */
+    private <T> void doWriteRequest(
+        TarantoolRequest request,
+        CompletableFuture<T> requestFuture,
+        MessagePackValueMapper resultMapper) {
+        long requestId = nextSyncId();
+        TarantoolRequest sentRequest = request.withSyncId(requestId);
+        requestManager.submitRequest(sentRequest, requestFuture, resultMapper);
+        ChannelFuture writeFuture = batching ? channel.write(sentRequest) : channel.writeAndFlush(sentRequest);
+        writeFuture.addListener(f -> {
             if (!f.isSuccess()) {
+                requestManager.removeRequest(requestId);
                 requestFuture.completeExceptionally(
                     new RuntimeException("Failed to send the request to Tarantool server", f.cause()));
             } else {
-                logger.debug("Request {} sent, status Success", request.getHeader().getSync());
+                logger.debug("Request {} sent, status Success", requestId);
             }
         });
+    }
 
-        return requestFuture;
+    /**
+     * Send a ping request bypassing the in-flight requests limit. Must be called from the channel event loop.
+     */
+    private void ping() {
+        if (pingInProgress || !isConnected()) {
+            return;
+        }
+        pingInProgress = true;
+        long startTime = System.nanoTime();
+        CompletableFuture<Object> pingFuture = new CompletableFuture<>();
+        doWriteRequest(new TarantoolPingRequest(), pingFuture, null);
+        ScheduledFuture<?> deadline = channel.eventLoop().schedule(() -> {
+            if (!pingFuture.isDone()) {
+                logger.warn("No response to ping from {} within {} ms, closing the connection",
+                    channel.remoteAddress(), readTimeout);
+                channel.close();
+            }
+        }, readTimeout, TimeUnit.MILLISECONDS);
+        pingFuture.whenComplete((result, ex) -> {
+            deadline.cancel(false);
+            if (ex == null) {
+                long roundTripTime = System.nanoTime() - startTime;
+                pingTime = roundTripTime;
+                requestManager.recordPingTime(roundTripTime);
+            } else {
+                logger.debug("Ping to {} failed: {}", channel.remoteAddress(), ex.getMessage());
+            }
+            pingInProgress = false;
+        });
+    }
+
+    private long nextSyncId() {
+        syncId = syncId == Long.MAX_VALUE ? 1 : syncId + 1;
+        return syncId;
     }
 
     @Override
@@ -108,4 +470,78 @@ public class TarantoolConnectionImpl implements TarantoolConnection {
         channel.pipeline().close();
         channel.closeFuture().syncUninterruptibly();
     }
+
+    private static DefaultMessagePackMapper createProtocolFeaturesMapper() {
+        // the feature list is sent in the request, so the list converter is needed
+        DefaultMessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        mapper.registerValueConverterWithoutTargetClass(ValueType.MAP, new IdResponseToProtocolFeaturesConverter());
+        return mapper;
+    }
+
+    /**
+     * Extracts the features supported by the server from the ID response body. The features unknown to the client
+     * are skipped
+     */
+    private static final class IdResponseToProtocolFeaturesConverter
+        implements ValueConverter<MapValue, Set<TarantoolProtocolFeature>> {
+
+        private static final long serialVersionUID = 20221018L;
+
+        private static final Value IPROTO_VERSION =
+            ValueFactory.newInteger(TarantoolRequestFieldType.IPROTO_VERSION.getCode());
+        private static final Value IPROTO_FEATURES =
+            ValueFactory.newInteger(TarantoolRequestFieldType.IPROTO_FEATURES.getCode());
+
+        @Override
+        public Set<TarantoolProtocolFeature> fromValue(MapValue value) {
+            Set<TarantoolProtocolFeature> features = EnumSet.noneOf(TarantoolProtocolFeature.class);
+            Value rawFeatures = value.map().get(IPROTO_FEATURES);
+            if (rawFeatures != null) {
+                for (Value code : rawFeatures.asArrayValue()) {
+                    TarantoolProtocolFeature.fromCode(code.asIntegerValue().asLong()).ifPresent(features::add);
+                }
+            }
+            return features;
+        }
+
+        @Override
+        public boolean canConvertValue(MapValue value) {
+            // {IPROTO_VERSION: ..., IPROTO_FEATURES: [...]}
+            return value.map().containsKey(IPROTO_VERSION) || value.map().containsKey(IPROTO_FEATURES);
+        }
+    }
+
+    private static final class QueuedRequest<T> {
+        private final TarantoolRequest request;
+        private final CompletableFuture<T> future;
+        private final MessagePackValueMapper resultMapper;
+        private ScheduledFuture<?> deadline;
+
+        private QueuedRequest(
+            TarantoolRequest request,
+            CompletableFuture<T> future,
+            MessagePackValueMapper resultMapper) {
+            this.request = request;
+            this.future = future;
+            this.resultMapper = resultMapper;
+        }
+    }
+
+    private final class PingHandler extends ChannelInboundHandlerAdapter {
+        @Override
+        public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+            if (evt instanceof IdleStateEvent && ((IdleStateEvent) evt).state() == IdleState.READER_IDLE) {
+                ping();
+            }
+            super.userEventTriggered(ctx, evt);
+        }
+    }
+
+    private final class WritabilityChangedHandler extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+            writeQueuedRequests();
+            super.channelWritabilityChanged(ctx);
+        }
+    }
 }
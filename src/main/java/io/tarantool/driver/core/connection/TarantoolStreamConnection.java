@@ -0,0 +1,251 @@
+package io.tarantool.driver.core.connection;
+
+import io.netty.channel.Channel;
+import io.tarantool.driver.TarantoolVersion;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionCloseListener;
+import io.tarantool.driver.api.connection.TarantoolConnectionFailureListener;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.DefaultMessagePackMapper;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolProtocolFeature;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.requests.TarantoolBeginRequest;
+import io.tarantool.driver.protocol.requests.TarantoolCommitRequest;
+import io.tarantool.driver.protocol.requests.TarantoolRollbackRequest;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Sends the requests over the wrapped connection in a separate IPROTO stream. The server executes the requests of
+ * one stream sequentially, so an interactive transaction can be started in the stream and all the subsequent
+ * requests of the stream are executed within it.
+ * <p>
+ * The transaction start and the operations are sent in one batch. The commit or rollback request is sent when all
+ * the operations are completed, since the server does not abort the transaction if one of its statements fails.
+ * The requests sent from the operation callbacks before that are awaited too, the requests sent after that fail.
+ *
+ * @author Alexey Kuzin
+ */
+public final class TarantoolStreamConnection implements TarantoolConnection {
+
+    private static final AtomicLong streamIds = new AtomicLong();
+    private static final DefaultMessagePackMapper mapper =
+        DefaultMessagePackMapperFactory.getInstance().defaultSimpleTypeMapper();
+
+    private final TarantoolConnection connection;
+    private final long streamId;
+    private final Queue<CompletableFuture<?>> requestFutures = new ConcurrentLinkedQueue<>();
+    private boolean finished;
+
+    private TarantoolStreamConnection(TarantoolConnection connection) {
+        this.connection = connection;
+        this.streamId = streamIds.incrementAndGet();
+    }
+
+    /**
+     * Execute the operations in an interactive transaction. The transaction is committed if all the requests sent
+     * by the operations succeed, otherwise it is rolled back. If the passed connection already belongs to a stream,
+     * the operations are executed in the current transaction of that stream.
+     *
+     * @param connection connection to a server supporting the interactive transactions
+     * @param operations action sending the requests over the passed stream connection
+     * @return future which completes when the transaction is committed, or completes exceptionally with the first
+     * operation failure cause after the transaction is rolled back
+     */
+    public static CompletableFuture<Void> executeTransaction(
+        TarantoolConnection connection,
+        Consumer<TarantoolConnection> operations) {
+        if (connection instanceof TarantoolStreamConnection) {
+            operations.accept(connection);
+            return CompletableFuture.completedFuture(null);
+        }
+        return connection.getProtocolFeatures().thenCompose(features -> {
+            if (!features.contains(TarantoolProtocolFeature.TRANSACTIONS)) {
+                throw new TarantoolClientException(
+                    "Interactive transactions are not supported by the server %s", connection.getRemoteSocketAddress());
+            }
+            return new TarantoolStreamConnection(connection).execute(operations);
+        });
+    }
+
+    private CompletableFuture<Void> execute(Consumer<TarantoolConnection> operations) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        connection.sendBatch(() -> {
+            try {
+                sendRequest(new TarantoolBeginRequest.Builder().build(mapper), null);
+                operations.accept(this);
+            } catch (TarantoolProtocolException | RuntimeException e) {
+                CompletableFuture<Void> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e);
+                requestFutures.add(failed);
+            }
+            awaitRequests(result);
+        });
+        return result;
+    }
+
+    private void awaitRequests(CompletableFuture<Void> result) {
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        CompletableFuture<?> future;
+        while ((future = requestFutures.poll()) != null) {
+            futures.add(future);
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).whenComplete((r, ex) -> {
+            synchronized (this) {
+                if (ex == null && !requestFutures.isEmpty()) {
+                    // more requests were sent from the operation callbacks
+                    awaitRequests(result);
+                    return;
+                }
+                finished = true;
+            }
+            if (ex == null) {
+                finish(new TarantoolCommitRequest(), null, result);
+            } else {
+                finish(new TarantoolRollbackRequest(), ex instanceof CompletionException ? ex.getCause() : ex,
+                    result);
+            }
+        });
+    }
+
+    private void finish(TarantoolRequest request, Throwable cause, CompletableFuture<Void> result) {
+        send(request, null).whenComplete((r, ex) -> {
+            if (cause != null) {
+                result.completeExceptionally(cause);
+            } else if (ex != null) {
+                result.completeExceptionally(ex instanceof CompletionException ? ex.getCause() : ex);
+            } else {
+                result.complete(null);
+            }
+        });
+    }
+
+    /**
+     * Get the ID of the stream the requests are sent in
+     *
+     * @return stream ID
+     */
+    public long getStreamId() {
+        return streamId;
+    }
+
+    @Override
+    public <V> CompletableFuture<V> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+        CompletableFuture<V> requestFuture = new CompletableFuture<>();
+        synchronized (this) {
+            if (finished) {
+                requestFuture.completeExceptionally(new TarantoolClientException("transaction is already finished"));
+                return requestFuture;
+            }
+            // the request is awaited after the callbacks of the returned future, which may send more requests
+            requestFutures.add(this.<V>send(request, resultMapper).whenComplete((r, ex) -> {
+                if (ex == null) {
+                    requestFuture.complete(r);
+                } else {
+                    requestFuture.completeExceptionally(ex instanceof CompletionException ? ex.getCause() : ex);
+                }
+            }));
+        }
+        return requestFuture;
+    }
+
+    private <V> CompletableFuture<V> send(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+        request.getHeader().setStreamId(streamId);
+        try {
+            return connection.sendRequest(request, resultMapper);
+        } catch (RuntimeException e) {
+            CompletableFuture<V> requestFuture = new CompletableFuture<>();
+            requestFuture.completeExceptionally(e);
+            return requestFuture;
+        }
+    }
+
+    @Override
+    public void sendBatch(Runnable batch) {
+        // the requests are already sent in the batch started by the transaction
+        batch.run();
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() throws TarantoolClientException {
+        return connection.getRemoteAddress();
+    }
+
+    @Override
+    public SocketAddress getRemoteSocketAddress() throws TarantoolClientException {
+        return connection.getRemoteSocketAddress();
+    }
+
+    @Override
+    public TarantoolVersion getVersion() throws TarantoolClientException {
+        return connection.getVersion();
+    }
+
+    @Override
+    public boolean isConnected() {
+        return connection.isConnected();
+    }
+
+    @Override
+    public int getPendingRequestsCount() {
+        return connection.getPendingRequestsCount();
+    }
+
+    @Override
+    public long getAverageResponseTime() {
+        return connection.getAverageResponseTime();
+    }
+
+    @Override
+    public long getIdleTime() {
+        return connection.getIdleTime();
+    }
+
+    @Override
+    public long getPingTime() {
+        return connection.getPingTime();
+    }
+
+    @Override
+    public long getSchemaVersion() {
+        return connection.getSchemaVersion();
+    }
+
+    @Override
+    public CompletableFuture<Set<TarantoolProtocolFeature>> getProtocolFeatures() {
+        return connection.getProtocolFeatures();
+    }
+
+    @Override
+    public Channel getChannel() {
+        return connection.getChannel();
+    }
+
+    @Override
+    public void addConnectionFailureListener(TarantoolConnectionFailureListener listener) {
+        connection.addConnectionFailureListener(listener);
+    }
+
+    @Override
+    public void addConnectionCloseListener(TarantoolConnectionCloseListener listener) {
+        connection.addConnectionCloseListener(listener);
+    }
+
+    @Override
+    public void close() {
+        // the connection is owned by the client connection manager
+    }
+}
@@ -0,0 +1,261 @@
+package io.tarantool.driver.core.connection;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.tarantool.driver.api.connection.TarantoolTransportType;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.net.SocketAddress;
+
+/**
+ * Provides the event loop group and the socket channel class for one of the Netty transports.
+ * <p>
+ * The native transports are optional dependencies: the epoll classes are loaded only if they are present on the
+ * classpath, and the incubator io_uring transport is accessed via reflection. If the requested transport is not
+ * available, the NIO transport is used instead. Only the epoll transport supports the Unix domain sockets.
+ *
+ * @author Alexey Kuzin
+ */
+public abstract class TarantoolTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(TarantoolTransport.class);
+
+    private static final String EPOLL_CLASS = "io.netty.channel.epoll.Epoll";
+    private static final String IO_URING_CLASS = "io.netty.incubator.channel.uring.IOUring";
+    private static final String IO_URING_EVENT_LOOP_GROUP_CLASS =
+        "io.netty.incubator.channel.uring.IOUringEventLoopGroup";
+    private static final String IO_URING_SOCKET_CHANNEL_CLASS =
+        "io.netty.incubator.channel.uring.IOUringSocketChannel";
+
+    private final TarantoolTransportType type;
+
+    private TarantoolTransport(TarantoolTransportType type) {
+        this.type = type;
+    }
+
+    /**
+     * Get the transport of the specified type, or the NIO transport if the specified one is not available
+     *
+     * @param type requested transport type
+     * @return transport instance
+     */
+    public static TarantoolTransport forType(TarantoolTransportType type) {
+        switch (type) {
+            case AUTO:
+                return isEpollAvailable(false) ? new EpollTransport() : new NioTransport();
+            case EPOLL:
+                return isEpollAvailable(true) ? new EpollTransport() : new NioTransport();
+            case IO_URING:
+                return isIOUringAvailable() ? new IOUringTransport() : new NioTransport();
+            default:
+                return new NioTransport();
+        }
+    }
+
+    /**
+     * Get the transport type
+     *
+     * @return transport type, never {@link TarantoolTransportType#AUTO}
+     */
+    public TarantoolTransportType getType() {
+        return type;
+    }
+
+    /**
+     * Create an event loop group suitable for the channels of this transport
+     *
+     * @param threads number of threads, 0 means the Netty default
+     * @return new event loop group
+     */
+    public abstract EventLoopGroup newEventLoopGroup(int threads);
+
+    /**
+     * Get the class of TCP socket channels of this transport
+     *
+     * @return socket channel class
+     */
+    public abstract Class<? extends SocketChannel> getSocketChannelClass();
+
+    /**
+     * Check if the channels of this transport can connect to Unix domain sockets
+     *
+     * @return true, if the Unix domain sockets are supported
+     */
+    public boolean supportsDomainSockets() {
+        return false;
+    }
+
+    /**
+     * Get the class of Unix domain socket channels of this transport
+     *
+     * @return domain socket channel class
+     * @throws TarantoolClientException if the Unix domain sockets are not supported
+     */
+    public Class<? extends Channel> getDomainSocketChannelClass() throws TarantoolClientException {
+        throw domainSocketsNotSupported();
+    }
+
+    /**
+     * Create the address of a Unix domain socket
+     *
+     * @param path socket file path
+     * @return socket address
+     * @throws TarantoolClientException if the Unix domain sockets are not supported
+     */
+    public SocketAddress newDomainSocketAddress(String path) throws TarantoolClientException {
+        throw domainSocketsNotSupported();
+    }
+
+    private TarantoolClientException domainSocketsNotSupported() {
+        return new TarantoolClientException(
+            "Unix domain sockets require the epoll transport, the current transport is %s", type);
+    }
+
+    private static boolean isClassPresent(String className) {
+        try {
+            Class.forName(className, false, TarantoolTransport.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static boolean isEpollAvailable(boolean warnIfUnavailable) {
+        if (!isClassPresent(EPOLL_CLASS)) {
+            if (warnIfUnavailable) {
+                logger.warn("Epoll transport is not found on the classpath, falling back to NIO");
+            }
+            return false;
+        }
+        if (!EpollTransport.isAvailable()) {
+            if (warnIfUnavailable) {
+                logger.warn("Epoll transport is not available, falling back to NIO",
+                    EpollTransport.unavailabilityCause());
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean isIOUringAvailable() {
+        if (!isClassPresent(IO_URING_CLASS)) {
+            logger.warn("io_uring transport is not found on the classpath, falling back to NIO");
+            return false;
+        }
+        try {
+            Class<?> ioUring = Class.forName(IO_URING_CLASS, true, TarantoolTransport.class.getClassLoader());
+            if (!(Boolean) ioUring.getMethod("isAvailable").invoke(null)) {
+                logger.warn("io_uring transport is not available, falling back to NIO",
+                    (Throwable) ioUring.getMethod("unavailabilityCause").invoke(null));
+                return false;
+            }
+            return true;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.warn("io_uring transport is not available, falling back to NIO", e);
+            return false;
+        }
+    }
+
+    private static final class NioTransport extends TarantoolTransport {
+        private NioTransport() {
+            super(TarantoolTransportType.NIO);
+        }
+
+        @Override
+        public EventLoopGroup newEventLoopGroup(int threads) {
+            return new NioEventLoopGroup(threads);
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getSocketChannelClass() {
+            return NioSocketChannel.class;
+        }
+    }
+
+    /**
+     * Must be loaded only if the epoll classes are present on the classpath
+     */
+    private static final class EpollTransport extends TarantoolTransport {
+        private EpollTransport() {
+            super(TarantoolTransportType.EPOLL);
+        }
+
+        private static boolean isAvailable() {
+            return Epoll.isAvailable();
+        }
+
+        private static Throwable unavailabilityCause() {
+            return Epoll.unavailabilityCause();
+        }
+
+        @Override
+        public EventLoopGroup newEventLoopGroup(int threads) {
+            return new EpollEventLoopGroup(threads);
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getSocketChannelClass() {
+            return EpollSocketChannel.class;
+        }
+
+        @Override
+        public boolean supportsDomainSockets() {
+            return true;
+        }
+
+        @Override
+        public Class<? extends Channel> getDomainSocketChannelClass() {
+            return EpollDomainSocketChannel.class;
+        }
+
+        @Override
+        public SocketAddress newDomainSocketAddress(String path) {
+            return new DomainSocketAddress(path);
+        }
+    }
+
+    private static final class IOUringTransport extends TarantoolTransport {
+        private final Class<? extends EventLoopGroup> eventLoopGroupClass;
+        private final Class<? extends SocketChannel> socketChannelClass;
+
+        private IOUringTransport() {
+            super(TarantoolTransportType.IO_URING);
+            ClassLoader classLoader = TarantoolTransport.class.getClassLoader();
+            try {
+                this.eventLoopGroupClass = Class.forName(IO_URING_EVENT_LOOP_GROUP_CLASS, true, classLoader)
+                    .asSubclass(EventLoopGroup.class);
+                this.socketChannelClass = Class.forName(IO_URING_SOCKET_CHANNEL_CLASS, true, classLoader)
+                    .asSubclass(SocketChannel.class);
+            } catch (ClassNotFoundException e) {
+                throw new TarantoolClientException("Failed to load io_uring transport classes", e);
+            }
+        }
+
+        @Override
+        public EventLoopGroup newEventLoopGroup(int threads) {
+            try {
+                return eventLoopGroupClass.getConstructor(int.class).newInstance(threads);
+            } catch (InvocationTargetException e) {
+                throw new TarantoolClientException("Failed to create io_uring event loop group", e.getCause());
+            } catch (ReflectiveOperationException e) {
+                throw new TarantoolClientException("Failed to create io_uring event loop group", e);
+            }
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getSocketChannelClass() {
+            return socketChannelClass;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package io.tarantool.driver.core.metadata;
+
+import io.tarantool.driver.api.TarantoolSqlResult;
+import io.tarantool.driver.api.metadata.TarantoolFieldMetadata;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.core.TarantoolResultFactory;
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.mappers.converters.value.ArrayValueToTarantoolTupleConverter;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.MapValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts the body of an SQL statement execution response to {@link TarantoolSqlResult}. A query response contains
+ * the column metadata and the rows, which are converted to tuples with the column names and types as the field
+ * names and types. A data modification statement response contains the number of changed rows and the generated
+ * autoincrement values. The columns with the same name (e.g. {@code id} of two joined tables) keep their positions:
+ * each repeated name gets a numeric suffix, so the second {@code ID} column is named {@code ID_1}, and so on.
+ * See
+ * <a href="https://www.tarantool.io/en/doc/latest/dev_guide/internals/box_protocol/#binary-protocol-responses-for-sql">
+ * https://www.tarantool.io/en/doc/latest/dev_guide/internals/box_protocol/#binary-protocol-responses-for-sql
+ * </a>
+ *
+ * @author Alexey Kuzin
+ */
+public class SqlResponseToTarantoolSqlResultConverter implements ValueConverter<MapValue, TarantoolSqlResult> {
+
+    private static final long serialVersionUID = 20221018L;
+
+    private static final Value IPROTO_DATA = ValueFactory.newInteger(0x30);
+    private static final Value IPROTO_METADATA = ValueFactory.newInteger(0x32);
+    private static final Value IPROTO_SQL_INFO = ValueFactory.newInteger(0x42);
+    private static final Value IPROTO_FIELD_NAME = ValueFactory.newInteger(0x00);
+    private static final Value IPROTO_FIELD_TYPE = ValueFactory.newInteger(0x01);
+    private static final Value IPROTO_FIELD_IS_NULLABLE = ValueFactory.newInteger(0x03);
+    private static final Value SQL_INFO_ROW_COUNT = ValueFactory.newInteger(0x00);
+    private static final Value SQL_INFO_AUTOINCREMENT_IDS = ValueFactory.newInteger(0x01);
+
+    private final ArrayValueToTarantoolTupleConverter tupleConverter;
+    private final TarantoolResultFactory tarantoolResultFactory;
+
+    public SqlResponseToTarantoolSqlResultConverter(ArrayValueToTarantoolTupleConverter tupleConverter) {
+        super();
+        this.tupleConverter = tupleConverter;
+        this.tarantoolResultFactory = TarantoolResultFactory.getInstance();
+    }
+
+    @Override
+    public TarantoolSqlResult fromValue(MapValue value) {
+        Map<Value, Value> body = value.map();
+        Value rawMetadata = body.get(IPROTO_METADATA);
+        if (rawMetadata != null) {
+            Value rawData = body.get(IPROTO_DATA);
+            ArrayValue rawTuples = rawData != null ? rawData.asArrayValue() : ValueFactory.emptyArray();
+            return tarantoolResultFactory.createTarantoolSqlResultImpl(rawTuples,
+                parseMetadata(rawMetadata.asArrayValue()), tupleConverter, rawTuples.size(), Collections.emptyList());
+        }
+
+        long rowCount = 0;
+        List<Long> autoincrementIds = Collections.emptyList();
+        Value rawInfo = body.get(IPROTO_SQL_INFO);
+        if (rawInfo != null) {
+            Map<Value, Value> info = rawInfo.asMapValue().map();
+            Value rawRowCount = info.get(SQL_INFO_ROW_COUNT);
+            if (rawRowCount != null) {
+                rowCount = rawRowCount.asIntegerValue().asLong();
+            }
+            Value rawIds = info.get(SQL_INFO_AUTOINCREMENT_IDS);
+            if (rawIds != null) {
+                autoincrementIds = new ArrayList<>(rawIds.asArrayValue().size());
+                for (Value id : rawIds.asArrayValue()) {
+                    autoincrementIds.add(id.asIntegerValue().asLong());
+                }
+            }
+        }
+        return tarantoolResultFactory.createTarantoolSqlResultImpl(
+            ValueFactory.emptyArray(), null, tupleConverter, rowCount, autoincrementIds);
+    }
+
+    @Override
+    public boolean canConvertValue(MapValue value) {
+        // {IPROTO_METADATA: [...], IPROTO_DATA: [...]} or {IPROTO_SQL_INFO: {...}}
+        Map<Value, Value> body = value.map();
+        return body.containsKey(IPROTO_METADATA) || body.containsKey(IPROTO_SQL_INFO);
+    }
+
+    private static TarantoolSpaceMetadata parseMetadata(ArrayValue rawMetadata) {
+        Map<String, TarantoolFieldMetadata> format = new LinkedHashMap<>();
+        int fieldPosition = 0;
+        for (Value column : rawMetadata) {
+            Map<Value, Value> columnMap = column.asMapValue().map();
+            String fieldName = uniqueFieldName(format, columnMap.get(IPROTO_FIELD_NAME).asStringValue().asString());
+            Value isNullable = columnMap.get(IPROTO_FIELD_IS_NULLABLE);
+            format.put(fieldName, new TarantoolFieldMetadataImpl(
+                fieldName,
+                columnMap.get(IPROTO_FIELD_TYPE).asStringValue().asString(),
+                fieldPosition,
+                isNullable != null && isNullable.asBooleanValue().getBoolean()));
+            fieldPosition++;
+        }
+        TarantoolSpaceMetadataImpl spaceMetadata = new TarantoolSpaceMetadataImpl();
+        spaceMetadata.setSpaceFormatMetadata(format);
+        return spaceMetadata;
+    }
+
+    private static String uniqueFieldName(Map<String, TarantoolFieldMetadata> format, String columnName) {
+        String fieldName = columnName;
+        for (int suffix = 1; format.containsKey(fieldName); suffix++) {
+            fieldName = columnName + "_" + suffix;
+        }
+        return fieldName;
+    }
+}
@@ -12,29 +12,69 @@ import io.tarantool.driver.exceptions.TarantoolMetadataRequestException;
 import io.tarantool.driver.exceptions.TarantoolNoSuchProcedureException;
 import io.tarantool.driver.utils.Assert;
 
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Phaser;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 /**
  * Base class for {@link TarantoolMetadataOperations} implementations
+ * <p>
+ * The metadata is loaded on the first access and after {@link #scheduleRefresh()} is called, blocking the accessing
+ * threads until it is loaded. When the client detects a schema change on the server by the schema version returned
+ * in the responses, the metadata is refreshed in background with {@link #refreshInBackground()} instead.
  *
  * @author Alexey Kuzin
  */
 public class TarantoolMetadata implements TarantoolMetadataOperations {
 
-    protected final Map<String, TarantoolSpaceMetadata> spaceMetadataByName = new ConcurrentHashMap<>();
-    protected final Map<Integer, TarantoolSpaceMetadata> spaceMetadataById = new ConcurrentHashMap<>();
+    private final AtomicReference<MetadataSnapshot> snapshot = new AtomicReference<>(MetadataSnapshot.EMPTY);
+
+    /**
+     * Read-only view of the spaces by name in the current metadata snapshot
+     *
+     * @deprecated use {@link #getSpaceMetadata()}
+     */
+    @Deprecated
+    protected final Map<String, TarantoolSpaceMetadata> spaceMetadataByName =
+        new SnapshotMapView<>(snapshot, s -> s.spaceMetadataByName);
+    /**
+     * Read-only view of the spaces by ID in the current metadata snapshot
+     *
+     * @deprecated use {@link #getSpaceMetadataById()}
+     */
+    @Deprecated
+    protected final Map<Integer, TarantoolSpaceMetadata> spaceMetadataById =
+        new SnapshotMapView<>(snapshot, s -> s.spaceMetadataById);
+    /**
+     * Read-only view of the indexes by space name in the current metadata snapshot
+     *
+     * @deprecated use {@link #getIndexMetadata()}
+     */
+    @Deprecated
     protected final Map<String, Map<String, TarantoolIndexMetadata>> indexMetadataBySpaceName =
-        new ConcurrentHashMap<>();
+        new SnapshotMapView<>(snapshot, s -> s.indexMetadataBySpaceName);
+    /**
+     * Read-only view of the indexes by space ID in the current metadata snapshot
+     *
+     * @deprecated use {@link #getIndexMetadataBySpaceId()}
+     */
+    @Deprecated
     protected final Map<Integer, Map<String, TarantoolIndexMetadata>> indexMetadataBySpaceId =
-        new ConcurrentHashMap<>();
+        new SnapshotMapView<>(snapshot, s -> s.indexMetadataBySpaceId);
+
     private final Phaser initPhaser = new Phaser(0);
     private final AtomicBoolean needRefresh = new AtomicBoolean(true);
+    private final AtomicBoolean backgroundRefreshInProgress = new AtomicBoolean();
+    private final AtomicBoolean backgroundRefreshPending = new AtomicBoolean();
     private final TarantoolMetadataProvider metadataProvider;
 
     public TarantoolMetadata(TarantoolMetadataProvider metadataProvider) {
@@ -43,22 +83,22 @@ public class TarantoolMetadata implements TarantoolMetadataOperations {
 
     protected Map<String, TarantoolSpaceMetadata> getSpaceMetadata() {
         awaitInitLatch();
-        return spaceMetadataByName;
+        return snapshot.get().spaceMetadataByName;
     }
 
     protected Map<Integer, TarantoolSpaceMetadata> getSpaceMetadataById() {
         awaitInitLatch();
-        return spaceMetadataById;
+        return snapshot.get().spaceMetadataById;
     }
 
     protected Map<String, Map<String, TarantoolIndexMetadata>> getIndexMetadata() {
         awaitInitLatch();
-        return indexMetadataBySpaceName;
+        return snapshot.get().indexMetadataBySpaceName;
     }
 
     protected Map<Integer, Map<String, TarantoolIndexMetadata>> getIndexMetadataBySpaceId() {
         awaitInitLatch();
-        return indexMetadataBySpaceId;
+        return snapshot.get().indexMetadataBySpaceId;
     }
 
     @Override
@@ -97,6 +137,36 @@ public class TarantoolMetadata implements TarantoolMetadataOperations {
         }
     }
 
+    /**
+     * Refresh the metadata in background, keeping the current metadata available until the new one is loaded. Used
+     * when the schema changes on the server. If a background refresh is already in progress, one more refresh is made
+     * after it completes, so the latest schema change is not missed. Nothing is done if the metadata is not loaded yet
+     * or is already scheduled for refresh on the next access.
+     */
+    public void refreshInBackground() {
+        if (needRefresh.get()) {
+            return;
+        }
+        backgroundRefreshPending.set(true);
+        if (backgroundRefreshInProgress.compareAndSet(false, true)) {
+            runBackgroundRefresh();
+        }
+    }
+
+    private void runBackgroundRefresh() {
+        backgroundRefreshPending.set(false);
+        populateMetadata().whenComplete((v, ex) -> {
+            if (ex != null) {
+                // the metadata will be loaded on the next access
+                needRefresh.set(true);
+            }
+            backgroundRefreshInProgress.set(false);
+            if (backgroundRefreshPending.get() && backgroundRefreshInProgress.compareAndSet(false, true)) {
+                runBackgroundRefresh();
+            }
+        });
+    }
+
     private CompletableFuture<Void> populateMetadata() {
         CompletableFuture<Void> result = new CompletableFuture<>();
         try {
@@ -104,21 +174,21 @@ public class TarantoolMetadata implements TarantoolMetadataOperations {
                 if (container == null) {
                     throw new TarantoolEmptyMetadataException();
                 }
-                spaceMetadataByName.clear();
-                spaceMetadataById.clear();
-                indexMetadataBySpaceName.clear();
-                indexMetadataBySpaceId.clear();
-
-                indexMetadataBySpaceName.putAll(container.getIndexMetadataBySpaceName());
+                Map<String, Map<String, TarantoolIndexMetadata>> indexesBySpaceName =
+                    container.getIndexMetadataBySpaceName();
+                Map<Integer, TarantoolSpaceMetadata> spacesById = new HashMap<>();
+                Map<Integer, Map<String, TarantoolIndexMetadata>> indexesBySpaceId = new HashMap<>();
                 container.getSpaceMetadataByName().forEach((spaceName, spaceMetadata) -> {
-                    spaceMetadataByName.put(spaceName, spaceMetadata);
-                    spaceMetadataById.put(spaceMetadata.getSpaceId(), spaceMetadata);
+                    spacesById.put(spaceMetadata.getSpaceId(), spaceMetadata);
                     Map<String, TarantoolIndexMetadata> indexesForSpace =
-                        indexMetadataBySpaceName.get(spaceMetadata.getSpaceName());
+                        indexesBySpaceName.get(spaceMetadata.getSpaceName());
                     if (indexesForSpace != null) {
-                        indexMetadataBySpaceId.put(spaceMetadata.getSpaceId(), indexesForSpace);
+                        indexesBySpaceId.put(spaceMetadata.getSpaceId(), indexesForSpace);
                     }
                 });
+
+                snapshot.set(new MetadataSnapshot(
+                    container.getSpaceMetadataByName(), spacesById, indexesBySpaceName, indexesBySpaceId));
             });
         } catch (Throwable e) {
             result.completeExceptionally(e);
@@ -204,4 +274,70 @@ public class TarantoolMetadata implements TarantoolMetadataOperations {
 
         return Optional.ofNullable(getIndexMetadata().get(spaceName));
     }
+
+    /**
+     * Spaces and indexes loaded at once. The refreshed metadata is published as a new snapshot, so the concurrent
+     * readers see either the old or the new metadata, but never a mix of them
+     */
+    private static final class MetadataSnapshot {
+
+        static final MetadataSnapshot EMPTY = new MetadataSnapshot(
+            Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+
+        final Map<String, TarantoolSpaceMetadata> spaceMetadataByName;
+        final Map<Integer, TarantoolSpaceMetadata> spaceMetadataById;
+        final Map<String, Map<String, TarantoolIndexMetadata>> indexMetadataBySpaceName;
+        final Map<Integer, Map<String, TarantoolIndexMetadata>> indexMetadataBySpaceId;
+
+        MetadataSnapshot(
+            Map<String, TarantoolSpaceMetadata> spaceMetadataByName,
+            Map<Integer, TarantoolSpaceMetadata> spaceMetadataById,
+            Map<String, Map<String, TarantoolIndexMetadata>> indexMetadataBySpaceName,
+            Map<Integer, Map<String, TarantoolIndexMetadata>> indexMetadataBySpaceId) {
+            this.spaceMetadataByName = Collections.unmodifiableMap(new HashMap<>(spaceMetadataByName));
+            this.spaceMetadataById = Collections.unmodifiableMap(new HashMap<>(spaceMetadataById));
+            this.indexMetadataBySpaceName = Collections.unmodifiableMap(new HashMap<>(indexMetadataBySpaceName));
+            this.indexMetadataBySpaceId = Collections.unmodifiableMap(new HashMap<>(indexMetadataBySpaceId));
+        }
+    }
+
+    /**
+     * Map delegating to the corresponding map of the current snapshot, so it always reflects the latest refresh
+     */
+    private static final class SnapshotMapView<K, V> extends AbstractMap<K, V> {
+
+        private final AtomicReference<MetadataSnapshot> snapshot;
+        private final Function<MetadataSnapshot, Map<K, V>> mapGetter;
+
+        SnapshotMapView(
+            AtomicReference<MetadataSnapshot> snapshot,
+            Function<MetadataSnapshot, Map<K, V>> mapGetter) {
+            this.snapshot = snapshot;
+            this.mapGetter = mapGetter;
+        }
+
+        private Map<K, V> current() {
+            return mapGetter.apply(snapshot.get());
+        }
+
+        @Override
+        public V get(Object key) {
+            return current().get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return current().containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return current().size();
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return Collections.unmodifiableMap(current()).entrySet();
+        }
+    }
 }
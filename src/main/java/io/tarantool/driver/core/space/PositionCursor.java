@@ -0,0 +1,109 @@
+package io.tarantool.driver.core.space;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.cursor.OffsetCursor;
+import io.tarantool.driver.api.cursor.TarantoolCursor;
+import io.tarantool.driver.api.cursor.TarantoolCursorBase;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.protocol.Packable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Cursor implementation that selects the batches after the position of the last tuple of the previous batch,
+ * returned by the server. Unlike {@link OffsetCursor}, the server does not walk over all the previous batches for
+ * selecting the next one, so the cost of each batch does not depend on its distance from the beginning.
+ * <p>
+ * The positions are supported by Tarantool 2.11+ for the TREE indexes. Otherwise, the cursor falls back to selecting
+ * the batches with growing offset.
+ * <p>
+ * Note: it is possible to use this class with standalone server only.
+ * <p>
+ * See {@link TarantoolCursor} for more details on cursors.
+ *
+ * @author Alexey Kuzin
+ */
+public class PositionCursor<T extends Packable, R extends Collection<T>> extends TarantoolCursorBase<T, R> {
+
+    private final TarantoolSpace<T, R> space;
+    private final Conditions initConditions;
+
+    // size of a batch for single invocation of client
+    private final long batchSize;
+    private long fetchedCount;
+
+    private Boolean selectByPosition;
+    private byte[] position;
+    private boolean lastBatchFetched;
+
+    private Iterator<T> resultIter = Collections.emptyIterator();
+    private T currentValue;
+
+    public PositionCursor(
+        TarantoolSpace<T, R> space,
+        Conditions conditions,
+        int batchSize) {
+        this.space = space;
+        this.initConditions = conditions;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Perform a call to server for fetching the next batch.
+     *
+     * @throws TarantoolClientException if select query was interrupted by client.
+     */
+    @Override
+    protected void fetchNextTuples() throws TarantoolClientException {
+        long limit = calcLimit(initConditions.getLimit(), batchSize, fetchedCount);
+
+        if (limit <= 0 || lastBatchFetched) {
+            return;
+        }
+
+        Conditions conditions = new Conditions(initConditions)
+            .withLimit(limit);
+
+        try {
+            if (selectByPosition == null) {
+                selectByPosition = space.canSelectByPosition(initConditions).get();
+            }
+            if (!selectByPosition) {
+                resultIter = space
+                    .select(conditions.withOffset(initConditions.getOffset() + fetchedCount))
+                    .get()
+                    .iterator();
+                return;
+            }
+            if (position != null) {
+                // the initial offset is already applied to the first batch
+                conditions.withOffset(0);
+            }
+            TarantoolSelectPage<R> page = space.selectPage(conditions, position).get();
+            position = page.getPosition();
+            lastBatchFetched = position == null || page.getTuples().size() < limit;
+            resultIter = page.getTuples().iterator();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    @Override
+    protected boolean advanceIterator() {
+        if (resultIter.hasNext()) {
+            currentValue = resultIter.next();
+            fetchedCount += 1;
+            return true;
+        }
+        currentValue = null;
+        return false;
+    }
+
+    @Override
+    protected T getCurrentValue() {
+        return currentValue;
+    }
+}
@@ -0,0 +1,36 @@
+package io.tarantool.driver.core.space;
+
+/**
+ * One page of the selected tuples with the position of the last tuple, used for selecting the next page
+ *
+ * @param <R> tuples collection type
+ * @author Alexey Kuzin
+ */
+final class TarantoolSelectPage<R> {
+
+    private final R tuples;
+    private final byte[] position;
+
+    TarantoolSelectPage(R tuples, byte[] position) {
+        this.tuples = tuples;
+        this.position = position;
+    }
+
+    /**
+     * Get the selected tuples
+     *
+     * @return tuples collection
+     */
+    R getTuples() {
+        return tuples;
+    }
+
+    /**
+     * Get the opaque position of the last selected tuple
+     *
+     * @return position bytes or null, if no tuples are selected
+     */
+    byte[] getPosition() {
+        return position;
+    }
+}
@@ -3,20 +3,27 @@ package io.tarantool.driver.core.space;
 import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.TarantoolVoidResult;
 import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.connection.TarantoolConnection;
 import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexType;
 import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
 import io.tarantool.driver.api.tuple.operations.TupleOperation;
 import io.tarantool.driver.api.tuple.operations.TupleOperations;
 import io.tarantool.driver.core.connection.TarantoolConnectionManager;
+import io.tarantool.driver.core.connection.TarantoolStreamConnection;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException;
 import io.tarantool.driver.exceptions.TarantoolSpaceOperationException;
+import io.tarantool.driver.mappers.DefaultMessagePackMapper;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
 import io.tarantool.driver.protocol.Packable;
 import io.tarantool.driver.protocol.TarantoolIndexQuery;
 import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolProtocolFeature;
 import io.tarantool.driver.protocol.TarantoolRequest;
 import io.tarantool.driver.protocol.requests.TarantoolCallRequest;
 import io.tarantool.driver.protocol.requests.TarantoolDeleteRequest;
@@ -26,9 +33,14 @@ import io.tarantool.driver.protocol.requests.TarantoolSelectRequest;
 import io.tarantool.driver.protocol.requests.TarantoolUpdateRequest;
 import io.tarantool.driver.protocol.requests.TarantoolUpsertRequest;
 import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.msgpack.value.ValueType;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
@@ -41,11 +53,14 @@ import java.util.stream.Collectors;
 public abstract class TarantoolSpace<T extends Packable, R extends Collection<T>>
     implements TarantoolSpaceOperations<T, R> {
 
+    private static final DefaultMessagePackMapper rawTuplesMapper = createRawTuplesMapper();
+
     private final int spaceId;
     private final TarantoolClientConfig config;
     private final TarantoolConnectionManager connectionManager;
     private final TarantoolSpaceMetadata spaceMetadata;
     private final TarantoolMetadataOperations metadataOperations;
+    private volatile MessagePackValueMapper selectPageMapper;
 
     public TarantoolSpace(
         TarantoolClientConfig config,
@@ -86,23 +101,34 @@ public abstract class TarantoolSpace<T extends Packable, R extends Collection<T>
         return insert(tuple, arrayTupleResultMapper());
     }
 
+    /**
+     * Insert the tuples in an interactive transaction, so either all of them are inserted or none. The server must
+     * support the interactive transactions, and the memtx spaces require the MVCC mode enabled
+     *
+     * @param tuples new data
+     * @return a future that will contain all corresponding tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
     @Override
     public CompletableFuture<R> insertMany(Collection<T> tuples) throws TarantoolClientException {
-        // TODO: add support with interactive transactions if the node has the MVCC mode enabled
-        // TODO: add support in all other cases if https://github.com/tarantool/tarantool/issues/7691 is implemented
-        throw new UnsupportedOperationException(
-            "Standalone node API does not support inserting several tuples at once yet");
+        List<TarantoolRequest> requests = new ArrayList<>(tuples.size());
+        for (T tuple : tuples) {
+            requests.add(insertRequest(tuple));
+        }
+        return sendInTransaction(requests, arrayTupleResultMapper());
     }
 
     private CompletableFuture<R> insert(T tuple, MessagePackValueMapper resultMapper)
         throws TarantoolClientException {
+        return sendRequest(insertRequest(tuple), resultMapper);
+    }
+
+    private TarantoolRequest insertRequest(T tuple) throws TarantoolClientException {
         try {
-            TarantoolInsertRequest request = new TarantoolInsertRequest.Builder()
+            return new TarantoolInsertRequest.Builder()
                 .withSpaceId(spaceId)
                 .withTuple(tuple)
                 .build(config.getMessagePackMapper());
-
-            return sendRequest(request, resultMapper);
         } catch (TarantoolProtocolException e) {
             throw new TarantoolClientException(e);
         }
@@ -113,23 +139,34 @@ public abstract class TarantoolSpace<T extends Packable, R extends Collection<T>
         return replace(tuple, arrayTupleResultMapper());
     }
 
+    /**
+     * Replace the tuples in an interactive transaction, so either all of them are replaced or none. The server must
+     * support the interactive transactions, and the memtx spaces require the MVCC mode enabled
+     *
+     * @param tuples new data
+     * @return a future that will contain all corresponding tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
     @Override
     public CompletableFuture<R> replaceMany(Collection<T> tuples) throws TarantoolClientException {
-        // TODO: add support with interactive transactions if the node has the MVCC mode enabled
-        // TODO: add support in all other cases if https://github.com/tarantool/tarantool/issues/7691 is implemented
-        throw new UnsupportedOperationException(
-            "Standalone node API does not support replacing several tuples at once yet");
+        List<TarantoolRequest> requests = new ArrayList<>(tuples.size());
+        for (T tuple : tuples) {
+            requests.add(replaceRequest(tuple));
+        }
+        return sendInTransaction(requests, arrayTupleResultMapper());
     }
 
     private CompletableFuture<R> replace(T tuple, MessagePackValueMapper resultMapper)
         throws TarantoolClientException {
+        return sendRequest(replaceRequest(tuple), resultMapper);
+    }
+
+    private TarantoolRequest replaceRequest(T tuple) throws TarantoolClientException {
         try {
-            TarantoolReplaceRequest request = new TarantoolReplaceRequest.Builder()
+            return new TarantoolReplaceRequest.Builder()
                 .withSpaceId(spaceId)
                 .withTuple(tuple)
                 .build(config.getMessagePackMapper());
-
-            return sendRequest(request, resultMapper);
         } catch (TarantoolProtocolException e) {
             throw new TarantoolClientException(e);
         }
@@ -143,15 +180,7 @@ public abstract class TarantoolSpace<T extends Packable, R extends Collection<T>
     private CompletableFuture<R> select(Conditions conditions, MessagePackValueMapper resultMapper)
         throws TarantoolClientException {
         try {
-            TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
-            TarantoolSelectRequest request = new TarantoolSelectRequest.Builder()
-                .withSpaceId(spaceId)
-                .withIndexId(indexQuery.getIndexId())
-                .withIteratorType(indexQuery.getIteratorType())
-                .withKeyValues(indexQuery.getKeyValues())
-                .withLimit(conditions.getLimit())
-                .withOffset(conditions.getOffset())
-                .build(config.getMessagePackMapper());
+            TarantoolSelectRequest request = selectRequest(conditions).build(config.getMessagePackMapper());
 
             return sendRequest(request, resultMapper);
         } catch (TarantoolProtocolException e) {
@@ -159,6 +188,78 @@ public abstract class TarantoolSpace<T extends Packable, R extends Collection<T>
         }
     }
 
+    /**
+     * Select the tuples requesting the position of the last returned tuple, so that the next page can be selected
+     * after it without walking over the previous pages on the server.
+     *
+     * @param conditions    query with options
+     * @param afterPosition position returned with the previous page or null for the first page
+     * @return a future that will contain the page of tuples once completed. The page has no position if the server
+     * returned no tuples
+     * @throws TarantoolClientException in case if the request failed
+     */
+    CompletableFuture<TarantoolSelectPage<R>> selectPage(Conditions conditions, byte[] afterPosition)
+        throws TarantoolClientException {
+        try {
+            TarantoolSelectRequest.Builder builder = selectRequest(conditions).withFetchPosition();
+            if (afterPosition != null) {
+                builder.withAfterPosition(afterPosition);
+            }
+            TarantoolSelectRequest request = builder.build(config.getMessagePackMapper());
+            MessagePackValueMapper resultMapper = selectPageMapper();
+
+            return connectionManager.getConnection().thenCompose(c -> c.sendRequest(request, resultMapper));
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    /**
+     * Check if the tuples matching the conditions can be selected by pages with {@link #selectPage}. The selected
+     * index must be a TREE index and the server must support the pagination (Tarantool 2.11+)
+     *
+     * @param conditions query with options
+     * @return a future that will contain the check result once completed
+     */
+    CompletableFuture<Boolean> canSelectByPosition(Conditions conditions) {
+        TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+        boolean treeIndex = metadataOperations.getIndexById(spaceId, indexQuery.getIndexId())
+            .map(index -> index.getIndexType() == TarantoolIndexType.TREE)
+            .orElse(false);
+        if (!treeIndex) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return connectionManager.getConnection()
+            .thenCompose(TarantoolConnection::getProtocolFeatures)
+            .thenApply(features -> features.contains(TarantoolProtocolFeature.PAGINATION));
+    }
+
+    private TarantoolSelectRequest.Builder selectRequest(Conditions conditions) {
+        TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+        return new TarantoolSelectRequest.Builder()
+            .withSpaceId(spaceId)
+            .withIndexId(indexQuery.getIndexId())
+            .withIteratorType(indexQuery.getIteratorType())
+            .withKeyValues(indexQuery.getKeyValues())
+            .withLimit(conditions.getLimit())
+            .withOffset(conditions.getOffset());
+    }
+
+    private MessagePackValueMapper selectPageMapper() {
+        MessagePackValueMapper mapper = selectPageMapper;
+        if (mapper == null) {
+            // the pages of one cursor are selected one after another, a concurrent duplicate is harmless
+            SelectPageConverter<R> converter = new SelectPageConverter<>(arrayTupleResultMapper());
+            DefaultMessagePackMapper pageMapper = DefaultMessagePackMapperFactory.getInstance().emptyMapper();
+            pageMapper.registerValueConverterWithoutTargetClass(ValueType.MAP, converter);
+            // the position is not returned if no tuples are selected
+            pageMapper.registerValueConverterWithoutTargetClass(ValueType.ARRAY, converter);
+            mapper = pageMapper;
+            selectPageMapper = mapper;
+        }
+        return mapper;
+    }
+
     @Override
     public CompletableFuture<R> update(Conditions conditions, T tuple) {
         return update(conditions, makeOperationsFromTuple(tuple), arrayTupleResultMapper());
@@ -263,6 +364,29 @@ public abstract class TarantoolSpace<T extends Packable, R extends Collection<T>
         return connectionManager.getConnection().thenCompose(c -> c.sendRequest(request, resultMapper));
     }
 
+    /**
+     * Send the requests in one interactive transaction and combine the returned tuples into one result. The requests
+     * are sent together, so the whole batch takes one round-trip plus the commit instead of a round-trip per request
+     */
+    private CompletableFuture<R> sendInTransaction(
+        List<TarantoolRequest> requests,
+        MessagePackValueMapper resultMapper) {
+        if (requests.isEmpty()) {
+            return CompletableFuture.completedFuture(resultMapper.fromValue(ValueFactory.emptyArray()));
+        }
+        return connectionManager.getConnection().thenCompose(connection -> {
+            List<CompletableFuture<ArrayValue>> results = new ArrayList<>(requests.size());
+            return TarantoolStreamConnection.executeTransaction(connection, streamConnection ->
+                    requests.forEach(request -> results.add(streamConnection.sendRequest(request, rawTuplesMapper))))
+                .thenCompose(v -> CompletableFuture.allOf(results.toArray(new CompletableFuture[0])))
+                .thenApply(v -> {
+                    List<Value> tuples = new ArrayList<>(results.size());
+                    results.forEach(result -> result.join().forEach(tuples::add));
+                    return resultMapper.fromValue(ValueFactory.newArray(tuples));
+                });
+        });
+    }
+
     @Override
     public TarantoolSpaceMetadata getMetadata() {
         return spaceMetadata;
@@ -287,4 +411,56 @@ public abstract class TarantoolSpace<T extends Packable, R extends Collection<T>
                 return operation;
             }).collect(Collectors.toList());
     }
+
+    private static DefaultMessagePackMapper createRawTuplesMapper() {
+        DefaultMessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().emptyMapper();
+        mapper.registerValueConverterWithoutTargetClass(ValueType.ARRAY, new RawTuplesConverter());
+        return mapper;
+    }
+
+    /**
+     * Keeps the tuples returned in the response as is, so that the tuples of several responses can be combined
+     */
+    private static final class RawTuplesConverter implements ValueConverter<ArrayValue, ArrayValue> {
+
+        private static final long serialVersionUID = 20221018L;
+
+        @Override
+        public ArrayValue fromValue(ArrayValue value) {
+            return value;
+        }
+    }
+
+    /**
+     * Converts the select response body containing the tuples and the position of the last tuple, or only the tuples
+     */
+    private static final class SelectPageConverter<R> implements ValueConverter<Value, TarantoolSelectPage<R>> {
+
+        private static final long serialVersionUID = 20221018L;
+
+        private static final Value IPROTO_DATA = ValueFactory.newInteger(0x30);
+        private static final Value IPROTO_POSITION = ValueFactory.newInteger(0x35);
+
+        private final MessagePackValueMapper tuplesMapper;
+
+        SelectPageConverter(MessagePackValueMapper tuplesMapper) {
+            this.tuplesMapper = tuplesMapper;
+        }
+
+        @Override
+        public TarantoolSelectPage<R> fromValue(Value value) {
+            if (value.isArrayValue()) {
+                return new TarantoolSelectPage<>(tuplesMapper.fromValue(value), null);
+            }
+            Map<Value, Value> body = value.asMapValue().map();
+            Value position = body.get(IPROTO_POSITION);
+            return new TarantoolSelectPage<>(tuplesMapper.fromValue(body.get(IPROTO_DATA)),
+                position != null ? position.asRawValue().asByteArray() : null);
+        }
+
+        @Override
+        public boolean canConvertValue(Value value) {
+            return value.isArrayValue() || value.asMapValue().map().containsKey(IPROTO_DATA);
+        }
+    }
 }
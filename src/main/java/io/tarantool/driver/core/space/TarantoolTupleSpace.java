@@ -4,7 +4,6 @@ import io.tarantool.driver.api.TarantoolCallOperations;
 import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.conditions.Conditions;
-import io.tarantool.driver.api.cursor.OffsetCursor;
 import io.tarantool.driver.api.cursor.TarantoolCursor;
 import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
@@ -62,7 +61,7 @@ public class TarantoolTupleSpace extends
 
     @Override
     public TarantoolCursor<TarantoolTuple> cursor(Conditions conditions, int batchSize) {
-        return new OffsetCursor<>(this, conditions, batchSize);
+        return new PositionCursor<>(this, conditions, batchSize);
     }
 
     @Override
@@ -138,6 +138,33 @@ public class TarantoolTupleImpl implements TarantoolTuple {
         }
     }
 
+    /**
+     * Construct an instance of {@link TarantoolTuple} reading the serialized tuple directly from the unpacker.
+     * Used for converting Tarantool server responses into Java entities without unpacking the whole response first.
+     *
+     * @param unpacker      unpacker positioned at the start of a serialized Tarantool tuple
+     * @param mapper        provides conversion between MessagePack values and Java objects
+     * @param spaceMetadata provides field names and other metadata
+     * @throws IOException if the tuple cannot be read from the unpacker
+     */
+    public TarantoolTupleImpl(MessageUnpacker unpacker, MessagePackMapper mapper, TarantoolSpaceMetadata spaceMetadata)
+        throws IOException {
+        Assert.notNull(mapper, "MessagePack mapper should not be null");
+
+        this.mapper = mapper;
+        this.spaceMetadata = spaceMetadata;
+
+        int size = unpacker.unpackArrayHeader();
+        this.fields.ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            if (unpacker.tryUnpackNil()) {
+                fields.add(TarantoolNullField.INSTANCE);
+            } else {
+                fields.add(new TarantoolFieldImpl(unpacker.unpackValue()));
+            }
+        }
+    }
+
     @Override
     public boolean hasMetadata() {
         return spaceMetadata != null && spaceMetadata.getSpaceFormatMetadata() != null &&
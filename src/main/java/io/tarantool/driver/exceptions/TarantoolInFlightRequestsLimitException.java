@@ -0,0 +1,35 @@
+package io.tarantool.driver.exceptions;
+
+/**
+ * Represents an error where a request cannot be sent because the connection has reached the maximum number of
+ * in-flight requests and the request cannot wait for a free slot
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolInFlightRequestsLimitException extends TarantoolClientException {
+
+    /**
+     * Create an exception for a request rejected immediately
+     *
+     * @param limit the maximum number of in-flight requests per connection
+     */
+    public TarantoolInFlightRequestsLimitException(int limit) {
+        super("In-flight requests limit reached: %d", limit);
+    }
+
+    /**
+     * Create an exception for a request which has not been sent within the queue timeout
+     *
+     * @param limit        the maximum number of in-flight requests per connection
+     * @param queueTimeout the time the request has waited for being sent, milliseconds
+     */
+    public TarantoolInFlightRequestsLimitException(int limit, int queueTimeout) {
+        super("In-flight requests limit reached: %d, the request has not been sent within %d ms",
+            limit, queueTimeout);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,15 @@
+package io.tarantool.driver.exceptions;
+
+/**
+ * Corresponds to an exception that occurs when a prepared SQL statement cannot be executed anymore: either the
+ * database schema has changed since the statement was prepared, or the statement has been released on the server.
+ * <p>
+ * The statement must be prepared again. The client does it automatically for the statements it has prepared itself.
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolStaleStatementException extends TarantoolException {
+    public TarantoolStaleStatementException(String errorMessage) {
+        super(errorMessage);
+    }
+}
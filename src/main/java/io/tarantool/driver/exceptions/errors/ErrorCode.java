@@ -7,7 +7,8 @@ package io.tarantool.driver.exceptions.errors;
  * @author Oleg Kuznetsov
  */
 enum ErrorCode {
-    NO_SUCH_PROCEDURE(33L), ACCESS_DENIED(42L), NO_CONNECTION(77L), TIMEOUT(78L);
+    NO_SUCH_PROCEDURE(33L), ACCESS_DENIED(42L), NO_CONNECTION(77L), TIMEOUT(78L), WRONG_SCHEMA_VERSION(109L),
+    WRONG_QUERY_ID(211L);
     private final Long code;
 
     ErrorCode(Long code) {
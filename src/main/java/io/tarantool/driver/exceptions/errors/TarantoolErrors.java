@@ -5,6 +5,7 @@ import io.tarantool.driver.exceptions.TarantoolException;
 import io.tarantool.driver.exceptions.TarantoolInternalException;
 import io.tarantool.driver.exceptions.TarantoolInternalNetworkException;
 import io.tarantool.driver.exceptions.TarantoolNoSuchProcedureException;
+import io.tarantool.driver.exceptions.TarantoolStaleStatementException;
 import io.tarantool.driver.protocol.TarantoolErrorResult;
 import org.msgpack.value.Value;
 
@@ -146,6 +147,11 @@ public class TarantoolErrors {
                 return new TarantoolAccessDeniedException(exceptionMessage);
             }
 
+            if (ErrorCode.WRONG_SCHEMA_VERSION.getCode().equals(code) ||
+                ErrorCode.WRONG_QUERY_ID.getCode().equals(code)) {
+                return new TarantoolStaleStatementException(exceptionMessage);
+            }
+
             return new TarantoolInternalException(exceptionMessage);
         }
 
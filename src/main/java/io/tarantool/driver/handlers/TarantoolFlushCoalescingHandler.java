@@ -0,0 +1,139 @@
+package io.tarantool.driver.handlers;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+/**
+ * Coalesces the flushes of the requests written within one event loop tick, e.g. a burst of requests sent from many
+ * application threads, or the queued requests sent while the responses are read from the channel, so they are sent
+ * to the socket with one system call instead of one per request.
+ * <p>
+ * A flush requested while a read is in progress is postponed until the read is complete. Otherwise it is postponed
+ * until the tasks already queued in the event loop are run, so with a low load the flush runs right after the current
+ * task. In both cases the pending writes are flushed earlier if their number or total size reaches the configured
+ * limits. Should be placed between the frame decoder and the frame encoder, so that the read messages are already
+ * decoded and the written messages are already encoded.
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolFlushCoalescingHandler extends ChannelDuplexHandler {
+
+    private final int maxPendingWrites;
+    private final int maxPendingBytes;
+    private final Runnable flushTask;
+    private ChannelHandlerContext ctx;
+    private int pendingWrites;
+    private long pendingBytes;
+    private boolean readInProgress;
+    private boolean flushPending;
+    private boolean flushScheduled;
+
+    /**
+     * Basic constructor.
+     *
+     * @param maxPendingWrites the number of written messages after which the flush is not postponed
+     * @param maxPendingBytes  the total size of written messages after which the flush is not postponed, bytes
+     */
+    public TarantoolFlushCoalescingHandler(int maxPendingWrites, int maxPendingBytes) {
+        this.maxPendingWrites = maxPendingWrites;
+        this.maxPendingBytes = maxPendingBytes;
+        this.flushTask = () -> {
+            flushScheduled = false;
+            // if a read has started meanwhile, the flush is done when it is complete
+            if (!readInProgress) {
+                flushIfNeeded(ctx);
+            }
+        };
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        pendingWrites++;
+        if (msg instanceof ByteBuf) {
+            pendingBytes += ((ByteBuf) msg).readableBytes();
+        }
+        ctx.write(msg, promise);
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) {
+        if (pendingWrites >= maxPendingWrites || pendingBytes >= maxPendingBytes) {
+            flushNow(ctx);
+            return;
+        }
+        flushPending = true;
+        // while reading, the flush is done when the read is complete
+        if (!readInProgress && !flushScheduled) {
+            flushScheduled = true;
+            ctx.channel().eventLoop().execute(flushTask);
+        }
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        readInProgress = true;
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        readInProgress = false;
+        flushIfNeeded(ctx);
+        ctx.fireChannelReadComplete();
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+        if (!ctx.channel().isWritable()) {
+            // the outbound buffer must be flushed for becoming writable again
+            flushIfNeeded(ctx);
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        readInProgress = false;
+        flushIfNeeded(ctx);
+        ctx.fireExceptionCaught(cause);
+    }
+
+    @Override
+    public void disconnect(ChannelHandlerContext ctx, ChannelPromise promise) {
+        readInProgress = false;
+        flushIfNeeded(ctx);
+        ctx.disconnect(promise);
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) {
+        readInProgress = false;
+        flushIfNeeded(ctx);
+        ctx.close(promise);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        flushIfNeeded(ctx);
+    }
+
+    private void flushIfNeeded(ChannelHandlerContext ctx) {
+        if (flushPending) {
+            flushNow(ctx);
+        }
+    }
+
+    private void flushNow(ChannelHandlerContext ctx) {
+        flushPending = false;
+        pendingWrites = 0;
+        pendingBytes = 0;
+        ctx.flush();
+    }
+}
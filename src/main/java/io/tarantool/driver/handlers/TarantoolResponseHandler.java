@@ -1,22 +1,55 @@
 package io.tarantool.driver.handlers;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.DecoderException;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolClientMetrics;
+import io.tarantool.driver.codecs.ByteBufMessageBufferInput;
 import io.tarantool.driver.core.RequestFutureManager;
 import io.tarantool.driver.core.TarantoolRequestMetadata;
 import io.tarantool.driver.exceptions.TarantoolDecoderException;
 import io.tarantool.driver.exceptions.errors.TarantoolErrors;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.mappers.StreamingResultMapper;
+import io.tarantool.driver.protocol.NotEmptyTarantoolResponseBody;
 import io.tarantool.driver.protocol.TarantoolErrorResult;
 import io.tarantool.driver.protocol.TarantoolOkResult;
 import io.tarantool.driver.protocol.TarantoolResponse;
+import io.tarantool.driver.protocol.TarantoolResponseBody;
+import io.tarantool.driver.protocol.TarantoolResponseType;
+import org.msgpack.core.MessageFormat;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Basic Tarantool server response handler. Dispatches incoming message either to an error or a normal result handler.
+ * <p>
+ * If the response holds the raw result data and the request result mapper is a {@link StreamingResultMapper}
+ * which would convert the data with its streaming converter, the result is read directly from the raw data without
+ * unpacking it into values first. The frame decoder keeps the raw data for such requests even if the lazy response
+ * body mode is disabled. The unpacker for the raw data is reused for all results mapped in the network I/O thread.
+ * <p>
+ * The response time of each request is recorded in the request registry, so that the connection selection
+ * strategies can prefer the faster connections. The service requests without a result mapper, like pings, are
+ * completed with null result and their response time is recorded by the request sender. The schema version
+ * returned in the response headers is recorded in the request registry as well.
+ * <p>
+ * The messages sent by the server with <code>box.session.push()</code> before the final response share the request
+ * sync ID. They are passed to the push handler of the request one by one as they arrive, so that the request may
+ * receive an arbitrarily large result in chunks, or are skipped if the request has no push handler.
+ * <p>
+ * If the result mapping executor is configured, the results of large enough responses are mapped and the request
+ * futures are completed in that executor, so that the network I/O thread is not blocked by the result mapping.
  *
  * @author Alexey Kuzin
  */
@@ -26,16 +59,60 @@ public class TarantoolResponseHandler extends SimpleChannelInboundHandler<Tarant
     private final TarantoolErrors.TarantoolBoxErrorFactory boxErrorFactory
         = new TarantoolErrors.TarantoolBoxErrorFactory();
     private final RequestFutureManager futureManager;
+    private final Executor resultMappingExecutor;
+    private final int resultMappingThreshold;
+    private final TarantoolClientMetrics clientMetrics;
+    private final ByteBufMessageBufferInput rawDataInput = new ByteBufMessageBufferInput();
+    private final MessageUnpacker rawDataUnpacker = MessagePack.DEFAULT_UNPACKER_CONFIG.newUnpacker(rawDataInput);
 
     public TarantoolResponseHandler(RequestFutureManager futureManager) {
+        this(futureManager, null, TarantoolClientConfig.DEFAULT_RESULT_MAPPING_THRESHOLD,
+            TarantoolClientMetrics.NOOP);
+    }
+
+    /**
+     * Create a handler with the result mapping options from the client configuration
+     *
+     * @param futureManager request futures registry
+     * @param config        client configuration, provides the result mapping options
+     */
+    public TarantoolResponseHandler(RequestFutureManager futureManager, TarantoolClientConfig config) {
+        this(futureManager, config.getResultMappingExecutor(), config.getResultMappingThreshold(),
+            config.getClientMetrics());
+    }
+
+    /**
+     * Basic constructor.
+     *
+     * @param futureManager          request futures registry
+     * @param resultMappingExecutor  executor for mapping the large results, may be null
+     * @param resultMappingThreshold minimal response size in bytes for mapping the result in the executor
+     * @param clientMetrics          client metrics collector
+     */
+    public TarantoolResponseHandler(
+        RequestFutureManager futureManager,
+        Executor resultMappingExecutor,
+        int resultMappingThreshold,
+        TarantoolClientMetrics clientMetrics) {
         super();
         this.futureManager = futureManager;
+        this.resultMappingExecutor = resultMappingExecutor;
+        this.resultMappingThreshold = resultMappingThreshold;
+        this.clientMetrics = clientMetrics;
     }
 
     @Override
     protected void channelRead0(ChannelHandlerContext ctx, TarantoolResponse tarantoolResponse) throws Exception {
-        TarantoolRequestMetadata requestMeta = futureManager.getRequest(tarantoolResponse.getSyncId());
+        futureManager.recordSchemaVersion(tarantoolResponse.getSchemaVersion());
+        if (tarantoolResponse.getResponseType() == TarantoolResponseType.IPROTO_CHUNK) {
+            handlePush(tarantoolResponse);
+            return;
+        }
+        TarantoolRequestMetadata requestMeta = futureManager.removeRequest(tarantoolResponse.getSyncId());
         if (requestMeta != null) {
+            if (requestMeta.getMapper() != null) {
+                futureManager.recordResponseTime(System.nanoTime() - requestMeta.getSubmittedAt());
+            }
             CompletableFuture<?> requestFuture = requestMeta.getFuture();
             if (!requestFuture.isDone()) {
                 switch (tarantoolResponse.getResponseType()) {
@@ -45,12 +122,9 @@ public class TarantoolResponseHandler extends SimpleChannelInboundHandler<Tarant
                         requestFuture.completeExceptionally(boxErrorFactory.create(errorResult));
                         break;
                     case IPROTO_OK:
-                        try {
-                            TarantoolOkResult okResult = new TarantoolOkResult(tarantoolResponse.getSyncId(),
-                                tarantoolResponse.getBody().getData());
-                            requestFuture.complete(requestMeta.getMapper().fromValue(okResult.getData()));
-                        } catch (Throwable e) {
-                            requestFuture.completeExceptionally(e);
+                        if (resultMappingExecutor == null || tarantoolResponse.getSize() < resultMappingThreshold ||
+                            !submitResultMapping(requestMeta, tarantoolResponse)) {
+                            completeRequest(requestMeta, tarantoolResponse, rawDataInput, rawDataUnpacker);
                         }
                 }
             }
@@ -59,11 +133,101 @@ public class TarantoolResponseHandler extends SimpleChannelInboundHandler<Tarant
         }
     }
 
+    private void handlePush(TarantoolResponse tarantoolResponse) {
+        TarantoolRequestMetadata requestMeta = futureManager.getRequest(tarantoolResponse.getSyncId());
+        if (requestMeta == null || requestMeta.getPushHandler() == null || requestMeta.getFuture().isDone()) {
+            log.debug("Pushed message for request {} is skipped", tarantoolResponse.getSyncId());
+            return;
+        }
+        try {
+            // the pushed value is wrapped into a single-element array
+            for (Value value : tarantoolResponse.getBody().getData().asArrayValue()) {
+                requestMeta.getPushHandler().accept(value);
+            }
+        } catch (Throwable e) {
+            // the final response will be ignored
+            futureManager.removeRequest(tarantoolResponse.getSyncId());
+            requestMeta.getFuture().completeExceptionally(e);
+        }
+    }
+
+    private boolean submitResultMapping(TarantoolRequestMetadata requestMeta, TarantoolResponse tarantoolResponse) {
+        tarantoolResponse.retain();
+        long submittedAt = System.nanoTime();
+        try {
+            resultMappingExecutor.execute(() -> {
+                clientMetrics.recordResultMappingQueueingDelay(System.nanoTime() - submittedAt);
+                ByteBufMessageBufferInput input = new ByteBufMessageBufferInput();
+                try (MessageUnpacker unpacker = MessagePack.DEFAULT_UNPACKER_CONFIG.newUnpacker(input)) {
+                    completeRequest(requestMeta, tarantoolResponse, input, unpacker);
+                } catch (IOException e) {
+                    log.debug("Failed to close the result unpacker", e);
+                } finally {
+                    tarantoolResponse.release();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            tarantoolResponse.release();
+            log.debug("Result mapping task for request {} is rejected, mapping in the I/O thread",
+                tarantoolResponse.getSyncId());
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void completeRequest(
+        TarantoolRequestMetadata requestMeta, TarantoolResponse tarantoolResponse,
+        ByteBufMessageBufferInput input, MessageUnpacker unpacker) {
+        CompletableFuture<Object> requestFuture = (CompletableFuture<Object>) requestMeta.getFuture();
+        try {
+            requestFuture.complete(mapResult(
+                tarantoolResponse.getSyncId(), tarantoolResponse.getBody(), requestMeta.getMapper(), input, unpacker));
+        } catch (Throwable e) {
+            requestFuture.completeExceptionally(e);
+        } finally {
+            input.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T mapResult(
+        long syncId, TarantoolResponseBody body, MessagePackValueMapper mapper,
+        ByteBufMessageBufferInput input, MessageUnpacker unpacker) throws IOException {
+        if (mapper == null) {
+            // service requests like ping do not expect any result
+            return null;
+        }
+        if (mapper instanceof StreamingResultMapper && body instanceof NotEmptyTarantoolResponseBody) {
+            ByteBuf rawData = ((NotEmptyTarantoolResponseBody) body).getRawData();
+            StreamingResultMapper<?> streamingMapper = (StreamingResultMapper<?>) mapper;
+            if (rawData != null && streamingMapper.canUnpack(
+                MessageFormat.valueOf(rawData.getByte(rawData.readerIndex())).getValueType())) {
+                // the same converter must be selected as for the unpacked value, so check the data first
+                input.reset(rawData.duplicate());
+                unpacker.reset(input);
+                if (streamingMapper.canConvertUnpacked(unpacker)) {
+                    input.reset(rawData.duplicate());
+                    unpacker.reset(input);
+                    return (T) streamingMapper.fromUnpacker(unpacker);
+                }
+            }
+        }
+        TarantoolOkResult okResult = new TarantoolOkResult(syncId, body.getData());
+        return mapper.fromValue(okResult.getData());
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        rawDataUnpacker.close();
+        super.handlerRemoved(ctx);
+    }
+
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
         if (cause instanceof DecoderException && cause.getCause() instanceof TarantoolDecoderException) {
             TarantoolDecoderException ex = (TarantoolDecoderException) cause.getCause();
-            TarantoolRequestMetadata requestMeta = futureManager.getRequest(ex.getHeader().getSync());
+            TarantoolRequestMetadata requestMeta = futureManager.removeRequest(ex.getHeader().getSync());
             if (requestMeta != null) {
                 CompletableFuture<?> requestFuture = requestMeta.getFuture();
                 if (!requestFuture.isDone()) {
@@ -1,23 +1,30 @@
 package io.tarantool.driver.mappers;
 
+import io.tarantool.driver.mappers.converters.StreamingValueConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
 import io.tarantool.driver.mappers.converters.ValueConverterWithInputTypeWrapper;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueType;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
 /**
- * Base class for result tuple mappers
+ * Base class for result tuple mappers. If the mapper is created with a single result converter which implements
+ * {@link StreamingValueConverter}, the result can be read directly from the raw response data. Registering another
+ * converter for the same MessagePack type disables streaming, since the latter converter takes precedence.
  *
  * @param <T> target result type
  * @author Alexey Kuzin
  * @author Artyom Dubinin
  */
-public abstract class AbstractResultMapper<T> implements MessagePackValueMapper {
+public abstract class AbstractResultMapper<T> implements MessagePackValueMapper, StreamingResultMapper<T> {
 
     protected final MessagePackValueMapper valueMapper;
+    private final ValueType streamingValueType;
+    private volatile StreamingValueConverter<? extends Value, ? extends T> streamingConverter;
 
     /**
      * Basic constructor
@@ -31,6 +38,8 @@ public abstract class AbstractResultMapper<T> implements MessagePackValueMapper
         ValueConverter<? extends Value, ? extends T> resultConverter,
         Class<? extends T> resultClass) {
         this.valueMapper = valueMapper;
+        this.streamingValueType = ValueType.ARRAY;
+        this.streamingConverter = asStreamingConverter(resultConverter);
         valueMapper.registerValueConverter(ValueType.ARRAY, resultClass, resultConverter);
     }
 
@@ -38,6 +47,8 @@ public abstract class AbstractResultMapper<T> implements MessagePackValueMapper
         MessagePackValueMapper valueMapper,
         ValueConverter<? extends Value, ? extends T> resultConverter) {
         this.valueMapper = valueMapper;
+        this.streamingValueType = ValueType.ARRAY;
+        this.streamingConverter = asStreamingConverter(resultConverter);
         valueMapper.registerValueConverterWithoutTargetClass(ValueType.ARRAY, resultConverter);
     }
 
@@ -47,6 +58,8 @@ public abstract class AbstractResultMapper<T> implements MessagePackValueMapper
         ValueConverter<? extends Value, ? extends T> resultConverter,
         Class<? extends T> resultClass) {
         this.valueMapper = valueMapper;
+        this.streamingValueType = valueType;
+        this.streamingConverter = asStreamingConverter(resultConverter);
         valueMapper.registerValueConverter(valueType, resultClass, resultConverter);
     }
 
@@ -55,6 +68,8 @@ public abstract class AbstractResultMapper<T> implements MessagePackValueMapper
         ValueType valueType,
         ValueConverter<? extends Value, ? extends T> resultConverter) {
         this.valueMapper = valueMapper;
+        this.streamingValueType = valueType;
+        this.streamingConverter = asStreamingConverter(resultConverter);
         valueMapper.registerValueConverterWithoutTargetClass(valueType, resultConverter);
     }
 
@@ -63,6 +78,8 @@ public abstract class AbstractResultMapper<T> implements MessagePackValueMapper
         List<ValueConverterWithInputTypeWrapper<O>> converters,
         Class<? extends T> resultClass) {
         this.valueMapper = valueMapper;
+        this.streamingValueType = null;
+        this.streamingConverter = null;
         for (ValueConverterWithInputTypeWrapper<O> converter :
             converters) {
             valueMapper.registerValueConverter(
@@ -76,6 +93,8 @@ public abstract class AbstractResultMapper<T> implements MessagePackValueMapper
         MessagePackValueMapper valueMapper,
         List<ValueConverterWithInputTypeWrapper<O>> converters) {
         this.valueMapper = valueMapper;
+        this.streamingValueType = null;
+        this.streamingConverter = null;
         for (ValueConverterWithInputTypeWrapper<O> converter :
             converters) {
             valueMapper.registerValueConverterWithoutTargetClass(
@@ -94,18 +113,31 @@ public abstract class AbstractResultMapper<T> implements MessagePackValueMapper
         return valueMapper.fromValue(v, targetClass);
     }
 
+    @Override
+    public <O> O readValue(MessageUnpacker unpacker) throws IOException, MessagePackValueMapperException {
+        return valueMapper.readValue(unpacker);
+    }
+
     @Override
     public <V extends Value, O> void registerValueConverter(
         ValueType valueType,
         Class<? extends O> objectClass,
         ValueConverter<V, ? extends O> converter) {
         valueMapper.registerValueConverter(valueType, objectClass, converter);
+        disableStreaming(valueType);
     }
 
     @Override
     public <V extends Value, O> void registerValueConverterWithoutTargetClass(
         ValueType valueType, ValueConverter<V, ? extends O> converter) {
         valueMapper.registerValueConverterWithoutTargetClass(valueType, converter);
+        disableStreaming(valueType);
+    }
+
+    private void disableStreaming(ValueType valueType) {
+        if (valueType == streamingValueType) {
+            streamingConverter = null;
+        }
     }
 
     @Override
@@ -114,4 +146,41 @@ public abstract class AbstractResultMapper<T> implements MessagePackValueMapper
         Class<O> objectClass) {
         return valueMapper.getValueConverter(valueType, objectClass);
     }
+
+    @Override
+    public boolean canUnpack(ValueType valueType) {
+        return streamingConverter != null && streamingValueType == valueType;
+    }
+
+    @Override
+    public boolean canConvertUnpacked(MessageUnpacker unpacker) throws MessagePackValueMapperException {
+        StreamingValueConverter<? extends Value, ? extends T> converter = streamingConverter;
+        try {
+            return converter != null && converter.canConvertUnpacked(unpacker);
+        } catch (IOException e) {
+            throw new MessagePackValueMapperException("Failed to read the result data", e);
+        }
+    }
+
+    @Override
+    public T fromUnpacker(MessageUnpacker unpacker) throws MessagePackValueMapperException {
+        StreamingValueConverter<? extends Value, ? extends T> converter = streamingConverter;
+        if (converter == null) {
+            throw new MessagePackValueMapperException("The result converter does not support streaming");
+        }
+        try {
+            return converter.fromUnpacker(unpacker);
+        } catch (IOException e) {
+            throw new MessagePackValueMapperException("Failed to read the result data", e);
+        }
+    }
+
+    private static <T> StreamingValueConverter<? extends Value, ? extends T> asStreamingConverter(
+        ValueConverter<? extends Value, ? extends T> resultConverter) {
+        if (resultConverter instanceof StreamingValueConverter &&
+            ((StreamingValueConverter<? extends Value, ? extends T>) resultConverter).canUnpack()) {
+            return (StreamingValueConverter<? extends Value, ? extends T>) resultConverter;
+        }
+        return null;
+    }
 }
@@ -4,16 +4,31 @@ import io.tarantool.driver.api.MessagePackMapperBuilder;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.mappers.converters.ConverterWrapper;
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.StreamingValueConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
 import io.tarantool.driver.mappers.converters.object.DefaultListToArrayValueConverter;
 import io.tarantool.driver.mappers.converters.object.DefaultMapToMapValueConverter;
+import io.tarantool.driver.mappers.converters.object.DefaultNilValueToNullConverter;
 import io.tarantool.driver.mappers.converters.value.defaults.DefaultArrayValueToListConverter;
+import io.tarantool.driver.mappers.converters.value.defaults.DefaultBinaryValueToByteArrayConverter;
+import io.tarantool.driver.mappers.converters.value.defaults.DefaultBooleanValueToBooleanConverter;
+import io.tarantool.driver.mappers.converters.value.defaults.DefaultFloatValueToDoubleConverter;
+import io.tarantool.driver.mappers.converters.value.defaults.DefaultIntegerValueToIntegerConverter;
+import io.tarantool.driver.mappers.converters.value.defaults.DefaultIntegerValueToLongConverter;
 import io.tarantool.driver.mappers.converters.value.defaults.DefaultMapValueToMapConverter;
 import io.tarantool.driver.mappers.converters.value.defaults.DefaultNullToNilValueConverter;
+import io.tarantool.driver.mappers.converters.value.defaults.DefaultStringValueToStringConverter;
+import org.msgpack.core.MessageFormat;
+import org.msgpack.core.MessageStringCodingException;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.NilValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueType;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -110,6 +125,83 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
         return fromValue(v, getter);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The scalar entities are read directly from the unpacker if the converter selected for their type is the default
+     * one, as well as the arrays and maps if the default list and map converters are selected for them. Otherwise,
+     * the entity is unpacked into a {@link Value} and converted with {@link #fromValue(Value)}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <O> O readValue(MessageUnpacker unpacker) throws IOException {
+        MessageFormat format = unpacker.getNextFormat();
+        ValueType valueType = format.getValueType();
+        List<ConverterWrapper<ValueConverter<? extends Value, ?>>> converters =
+            valueConverters.getOrDefault(valueType, Collections.emptyList());
+        Class<?> converterClass = converters.isEmpty() ? null : converters.get(0).getConverter().getClass();
+        switch (valueType) {
+            case NIL:
+                if (converterClass == DefaultNilValueToNullConverter.class) {
+                    unpacker.unpackNil();
+                    return null;
+                }
+                break;
+            case BOOLEAN:
+                if (converterClass == DefaultBooleanValueToBooleanConverter.class) {
+                    return (O) Boolean.valueOf(unpacker.unpackBoolean());
+                }
+                break;
+            case INTEGER:
+                // the integers out of the int range fall through to the next default converter
+                if (format != MessageFormat.UINT64 &&
+                    converterClass == DefaultIntegerValueToIntegerConverter.class && converters.size() > 1 &&
+                    converters.get(1).getConverter().getClass() == DefaultIntegerValueToLongConverter.class) {
+                    long value = unpacker.unpackLong();
+                    if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                        return (O) Integer.valueOf((int) value);
+                    }
+                    return (O) Long.valueOf(value);
+                }
+                break;
+            case FLOAT:
+                if (converterClass == DefaultFloatValueToDoubleConverter.class) {
+                    return (O) Double.valueOf(unpacker.unpackDouble());
+                }
+                break;
+            case STRING:
+                if (converterClass == DefaultStringValueToStringConverter.class) {
+                    return (O) decodeString(unpacker.readPayload(unpacker.unpackRawStringHeader()));
+                }
+                break;
+            case BINARY:
+                if (converterClass == DefaultBinaryValueToByteArrayConverter.class) {
+                    return (O) unpacker.readPayload(unpacker.unpackBinaryHeader());
+                }
+                break;
+            case ARRAY:
+            case MAP:
+                if (converterClass == DefaultArrayValueToListConverter.class ||
+                    converterClass == DefaultMapValueToMapConverter.class) {
+                    return ((StreamingValueConverter<?, O>) converters.get(0).getConverter()).fromUnpacker(unpacker);
+                }
+                break;
+            default:
+        }
+        return fromValue(unpacker.unpackValue());
+    }
+
+    /**
+     * Decode the string strictly, like {@link org.msgpack.value.StringValue#asString()} does
+     */
+    private static String decodeString(byte[] bytes) {
+        try {
+            return StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(bytes)).toString();
+        } catch (CharacterCodingException e) {
+            throw new MessageStringCodingException(e);
+        }
+    }
+
     private <V extends Value, O> O fromValue(V v, Function<ValueType, Optional<ValueConverter<V, O>>> getter) {
         Optional<ValueConverter<V, O>> converter = findValueConverter(v.getValueType(), getter);
         if (!converter.isPresent()) {
@@ -102,7 +102,9 @@ public final class MapperReflectionUtils {
             for (Type iface : genericInterfaces) {
                 if (iface instanceof ParameterizedType) {
                     ParameterizedType parameterizedType = (ParameterizedType) iface;
-                    if (Class.forName(parameterizedType.getRawType().getTypeName()).isAssignableFrom(interfaceClass)) {
+                    Class<?> rawType = Class.forName(parameterizedType.getRawType().getTypeName());
+                    // sub-interfaces are expected to keep the type parameters order
+                    if (rawType.isAssignableFrom(interfaceClass) || interfaceClass.isAssignableFrom(rawType)) {
                         return getParameterType(parameterizedType, parameterTypePosition);
                     }
                 }
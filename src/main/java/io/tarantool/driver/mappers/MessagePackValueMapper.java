@@ -1,9 +1,11 @@
 package io.tarantool.driver.mappers;
 
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueType;
 
+import java.io.IOException;
 import java.util.Optional;
 
 /**
@@ -38,6 +40,21 @@ public interface MessagePackValueMapper {
      */
     <V extends Value, O> O fromValue(V v, Class<O> targetClass) throws MessagePackValueMapperException;
 
+    /**
+     * Read the next MessagePack entity from the unpacker and convert it to a Java object, selecting the converter
+     * the same way as {@link #fromValue(Value)}. The unpacker is positioned after the entity end when the method
+     * returns. By default, the entity is unpacked into a {@link Value} first.
+     *
+     * @param unpacker configured {@link MessageUnpacker} positioned at the entity start
+     * @param <O>      target object type
+     * @return Java object
+     * @throws IOException                     if the data cannot be read from the unpacker
+     * @throws MessagePackValueMapperException if the corresponding conversion cannot be performed
+     */
+    default <O> O readValue(MessageUnpacker unpacker) throws IOException, MessagePackValueMapperException {
+        return fromValue(unpacker.unpackValue());
+    }
+
     /**
      * Adds a MessagePack entity converter to this mappers instance.
      *
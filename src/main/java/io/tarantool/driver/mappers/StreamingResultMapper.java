@@ -0,0 +1,41 @@
+package io.tarantool.driver.mappers;
+
+import io.tarantool.driver.mappers.converters.StreamingValueConverter;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.ValueType;
+
+/**
+ * Result mapper which is able to read the result directly from the raw response data using a
+ * {@link StreamingValueConverter}
+ *
+ * @param <T> target result type
+ * @author Alexey Kuzin
+ */
+public interface StreamingResultMapper<T> {
+    /**
+     * Check if the result of the specified MessagePack type can be read directly from the unpacker
+     *
+     * @param valueType MessagePack type of the result data
+     * @return true, if {@link #fromUnpacker(MessageUnpacker)} can be used
+     */
+    boolean canUnpack(ValueType valueType);
+
+    /**
+     * Check if the result data at the unpacker position will be converted by the streaming converter, that is the
+     * same converter which would be selected for the unpacked result value. The unpacker is used only for the check.
+     *
+     * @param unpacker configured {@link MessageUnpacker} positioned at the result data start
+     * @return true, if {@link #fromUnpacker(MessageUnpacker)} can be used for the data
+     * @throws MessagePackValueMapperException if the data cannot be read
+     */
+    boolean canConvertUnpacked(MessageUnpacker unpacker) throws MessagePackValueMapperException;
+
+    /**
+     * Read the result data from the unpacker and convert it to the result object
+     *
+     * @param unpacker configured {@link MessageUnpacker} positioned at the result data start
+     * @return result object
+     * @throws MessagePackValueMapperException if the conversion cannot be performed
+     */
+    T fromUnpacker(MessageUnpacker unpacker) throws MessagePackValueMapperException;
+}
@@ -0,0 +1,49 @@
+package io.tarantool.driver.mappers.converters;
+
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.Value;
+
+import java.io.IOException;
+
+/**
+ * Value converter which is also able to read the source MessagePack entity directly from a {@link MessageUnpacker},
+ * without building the intermediate {@link Value} tree first. Used for mapping the raw response data.
+ *
+ * @param <V> the source MessagePack entity type
+ * @param <O> the target object type
+ * @author Alexey Kuzin
+ */
+public interface StreamingValueConverter<V extends Value, O> extends ValueConverter<V, O> {
+    /**
+     * Read the next MessagePack entity from the unpacker and convert it to a Java object. The unpacker must be
+     * positioned at the entity start, and it must be positioned after the entity end when the method returns.
+     *
+     * @param unpacker configured {@link MessageUnpacker}
+     * @return object
+     * @throws IOException if the data cannot be read from the unpacker
+     */
+    O fromUnpacker(MessageUnpacker unpacker) throws IOException;
+
+    /**
+     * Optional method for determining if this specific converter instance can read entities from the unpacker.
+     * Converters delegating to other converters without streaming support should return false.
+     *
+     * @return true, if the converter can read entities from the unpacker
+     */
+    default boolean canUnpack() {
+        return true;
+    }
+
+    /**
+     * Streaming counterpart of {@link #canConvertValue(Value)}. Checks if the MessagePack entity at the unpacker
+     * position can be converted by this converter. The unpacker is used only for the check, so it may be left at
+     * an arbitrary position. Converters overriding {@link #canConvertValue(Value)} must override this method too.
+     *
+     * @param unpacker configured {@link MessageUnpacker} positioned at the entity start
+     * @return true, if the entity can be converted
+     * @throws IOException if the data cannot be read from the unpacker
+     */
+    default boolean canConvertUnpacked(MessageUnpacker unpacker) throws IOException {
+        return true;
+    }
+}
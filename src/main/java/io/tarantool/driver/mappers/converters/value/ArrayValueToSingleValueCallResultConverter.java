@@ -3,17 +3,21 @@ package io.tarantool.driver.mappers.converters.value;
 import io.tarantool.driver.api.SingleValueCallResult;
 import io.tarantool.driver.core.SingleValueCallResultImpl;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
-import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.mappers.converters.StreamingValueConverter;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.ArrayValue;
 
+import java.io.IOException;
+
 /**
- * Converter of the stored function call result into a {@link SingleValueCallResult} with mapper inside
+ * Converter of the stored function call result into a {@link SingleValueCallResult} with mapper inside. The results
+ * without errors are read directly from the unpacker, the results with errors are converted from {@link ArrayValue}.
  *
  * @author Alexey Kuzin
  * @author Artyom Dubinin
  */
 public class ArrayValueToSingleValueCallResultConverter<T>
-    implements ValueConverter<ArrayValue, SingleValueCallResult<T>> {
+    implements StreamingValueConverter<ArrayValue, SingleValueCallResult<T>> {
 
     private static final long serialVersionUID = 7218783308373068532L;
 
@@ -27,4 +31,15 @@ public class ArrayValueToSingleValueCallResultConverter<T>
     public SingleValueCallResult<T> fromValue(ArrayValue value) {
         return new SingleValueCallResultImpl<>(value, valueMapper);
     }
+
+    @Override
+    public SingleValueCallResult<T> fromUnpacker(MessageUnpacker unpacker) throws IOException {
+        return new SingleValueCallResultImpl<>(unpacker, valueMapper);
+    }
+
+    @Override
+    public boolean canConvertUnpacked(MessageUnpacker unpacker) throws IOException {
+        // [nil, error] and [result, errors] are parsed from the value
+        return unpacker.unpackArrayHeader() <= 1;
+    }
 }
@@ -2,18 +2,23 @@ package io.tarantool.driver.mappers.converters.value;
 
 import io.tarantool.driver.api.SingleValueCallResult;
 import io.tarantool.driver.core.SingleValueCallResultImpl;
+import io.tarantool.driver.mappers.converters.StreamingValueConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.Value;
 
+import java.io.IOException;
+
 /**
- * Converter of the stored function call result into a {@link SingleValueCallResult} with converter inside
+ * Converter of the stored function call result into a {@link SingleValueCallResult} with converter inside. The results
+ * without errors are read directly from the unpacker if the inner converter supports that.
  *
  * @author Alexey Kuzin
  * @author Artyom Dubinin
  */
 public class ArrayValueToSingleValueCallResultSimpleConverter<T>
-    implements ValueConverter<ArrayValue, SingleValueCallResult<T>> {
+    implements StreamingValueConverter<ArrayValue, SingleValueCallResult<T>> {
 
     private static final long serialVersionUID = 5062622344994604532L;
 
@@ -27,4 +32,21 @@ public class ArrayValueToSingleValueCallResultSimpleConverter<T>
     public SingleValueCallResult<T> fromValue(ArrayValue value) {
         return new SingleValueCallResultImpl<>(value, valueConverter);
     }
+
+    @Override
+    public SingleValueCallResult<T> fromUnpacker(MessageUnpacker unpacker) throws IOException {
+        return new SingleValueCallResultImpl<>(unpacker, (StreamingValueConverter<Value, T>) valueConverter);
+    }
+
+    @Override
+    public boolean canUnpack() {
+        return valueConverter instanceof StreamingValueConverter &&
+            ((StreamingValueConverter<Value, T>) valueConverter).canUnpack();
+    }
+
+    @Override
+    public boolean canConvertUnpacked(MessageUnpacker unpacker) throws IOException {
+        // [nil, error] and [result, errors] are parsed from the value
+        return unpacker.unpackArrayHeader() <= 1;
+    }
 }
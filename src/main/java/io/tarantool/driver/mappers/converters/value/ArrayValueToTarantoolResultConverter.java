@@ -3,14 +3,21 @@ package io.tarantool.driver.mappers.converters.value;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.core.TarantoolResultFactory;
 import io.tarantool.driver.core.TarantoolResultImpl;
+import io.tarantool.driver.mappers.converters.StreamingValueConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.ArrayValue;
 
+import java.io.IOException;
+
 /**
+ * Converts an array of tuples to {@link TarantoolResult}. The result can be read directly from the unpacker if the
+ * tuple converter is a {@link StreamingValueConverter}.
+ *
  * @author Artyom Dubinin
  */
 public class ArrayValueToTarantoolResultConverter<T>
-    implements ValueConverter<ArrayValue, TarantoolResult<T>> {
+    implements StreamingValueConverter<ArrayValue, TarantoolResult<T>> {
 
     private static final long serialVersionUID = -1348387430063097175L;
 
@@ -30,4 +37,16 @@ public class ArrayValueToTarantoolResultConverter<T>
     public TarantoolResult<T> fromValue(ArrayValue value) {
         return tarantoolResultFactory.<T>createTarantoolResultImpl(value, valueConverter);
     }
+
+    @Override
+    public TarantoolResult<T> fromUnpacker(MessageUnpacker unpacker) throws IOException {
+        return tarantoolResultFactory.createTarantoolResultImpl(
+            unpacker, (StreamingValueConverter<ArrayValue, T>) valueConverter);
+    }
+
+    @Override
+    public boolean canUnpack() {
+        return valueConverter instanceof StreamingValueConverter &&
+            ((StreamingValueConverter<ArrayValue, T>) valueConverter).canUnpack();
+    }
 }
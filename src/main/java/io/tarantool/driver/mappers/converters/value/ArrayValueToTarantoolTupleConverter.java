@@ -4,16 +4,19 @@ import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
 import io.tarantool.driver.mappers.MessagePackMapper;
-import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.mappers.converters.StreamingValueConverter;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.ArrayValue;
 
+import java.io.IOException;
+
 /**
  * Default {@link ArrayValue} to {@link TarantoolTuple} converter
  *
  * @author Sergey Volgin
  * @author Artyom Dubinin
  */
-public class ArrayValueToTarantoolTupleConverter implements ValueConverter<ArrayValue, TarantoolTuple> {
+public class ArrayValueToTarantoolTupleConverter implements StreamingValueConverter<ArrayValue, TarantoolTuple> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -30,6 +33,11 @@ public class ArrayValueToTarantoolTupleConverter implements ValueConverter<Array
         return new TarantoolTupleImpl(value, mapper, spaceMetadata);
     }
 
+    @Override
+    public TarantoolTuple fromUnpacker(MessageUnpacker unpacker) throws IOException {
+        return new TarantoolTupleImpl(unpacker, mapper, spaceMetadata);
+    }
+
     public TarantoolTuple fromValue(ArrayValue value, TarantoolSpaceMetadata responseMetadata) {
         return new TarantoolTupleImpl(value, mapper, responseMetadata);
     }
@@ -3,8 +3,12 @@ package io.tarantool.driver.mappers.converters.value;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.core.TarantoolResultFactory;
-import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.mappers.converters.StreamingValueConverter;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.ArrayValue;
+import org.msgpack.value.ValueType;
+
+import java.io.IOException;
 
 import static io.tarantool.driver.core.TarantoolResultFactory.getInstance;
 
@@ -12,7 +16,7 @@ import static io.tarantool.driver.core.TarantoolResultFactory.getInstance;
  * @author Artyom Dubinin
  */
 public class ArrayValueToTarantoolTupleResultConverter
-    implements ValueConverter<ArrayValue, TarantoolResult<TarantoolTuple>> {
+    implements StreamingValueConverter<ArrayValue, TarantoolResult<TarantoolTuple>> {
 
     private static final long serialVersionUID = -1348387430063097175L;
 
@@ -31,8 +35,18 @@ public class ArrayValueToTarantoolTupleResultConverter
         return tarantoolResultFactory.createTarantoolTupleResultImpl(value, tupleConverter);
     }
 
+    @Override
+    public TarantoolResult<TarantoolTuple> fromUnpacker(MessageUnpacker unpacker) throws IOException {
+        return tarantoolResultFactory.createTarantoolTupleResultImpl(unpacker, tupleConverter);
+    }
+
     @Override
     public boolean canConvertValue(ArrayValue value) {
         return value.size() == 0 || value.get(0).isArrayValue();
     }
+
+    @Override
+    public boolean canConvertUnpacked(MessageUnpacker unpacker) throws IOException {
+        return unpacker.unpackArrayHeader() == 0 || unpacker.getNextFormat().getValueType() == ValueType.ARRAY;
+    }
 }
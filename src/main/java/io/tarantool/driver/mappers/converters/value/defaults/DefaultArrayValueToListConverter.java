@@ -1,18 +1,22 @@
 package io.tarantool.driver.mappers.converters.value.defaults;
 
 import io.tarantool.driver.mappers.MessagePackValueMapper;
-import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.mappers.converters.StreamingValueConverter;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.ArrayValue;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
- * Default {@link ArrayValue} to {@link List} converter
+ * Default {@link ArrayValue} to {@link List} converter. When reading from the unpacker, the list elements are read
+ * with {@link MessagePackValueMapper#readValue(MessageUnpacker)}.
  *
  * @author Alexey Kuzin
  */
-public class DefaultArrayValueToListConverter implements ValueConverter<ArrayValue, List<?>> {
+public class DefaultArrayValueToListConverter implements StreamingValueConverter<ArrayValue, List<?>> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -26,4 +30,14 @@ public class DefaultArrayValueToListConverter implements ValueConverter<ArrayVal
     public List<?> fromValue(ArrayValue value) {
         return value.list().stream().map(mapper::fromValue).collect(Collectors.toList());
     }
+
+    @Override
+    public List<?> fromUnpacker(MessageUnpacker unpacker) throws IOException {
+        int size = unpacker.unpackArrayHeader();
+        List<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(mapper.readValue(unpacker));
+        }
+        return list;
+    }
 }
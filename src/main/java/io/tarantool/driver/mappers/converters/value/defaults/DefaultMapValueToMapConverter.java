@@ -1,18 +1,22 @@
 package io.tarantool.driver.mappers.converters.value.defaults;
 
 import io.tarantool.driver.mappers.MessagePackValueMapper;
-import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.mappers.converters.StreamingValueConverter;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.MapValue;
+import org.msgpack.value.Value;
 
+import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
- * Default {@link MapValue} converter to {@link Map} converter
+ * Default {@link MapValue} converter to {@link Map} converter. When reading from the unpacker, the map keys and values
+ * are read with {@link MessagePackValueMapper#readValue(MessageUnpacker)}. The entries with nil values are skipped.
  *
  * @author Alexey Kuzin
  */
-public class DefaultMapValueToMapConverter implements ValueConverter<MapValue, Map<?, ?>> {
+public class DefaultMapValueToMapConverter implements StreamingValueConverter<MapValue, Map<?, ?>> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -24,8 +28,33 @@ public class DefaultMapValueToMapConverter implements ValueConverter<MapValue, M
 
     @Override
     public Map<?, ?> fromValue(MapValue value) {
-        return value.map().entrySet().stream()
-            .filter(e -> !e.getValue().isNilValue())
-            .collect(Collectors.toMap(e -> mapper.fromValue(e.getKey()), e -> mapper.fromValue(e.getValue())));
+        Map<Object, Object> map = new HashMap<>();
+        Value[] keyValueArray = value.getKeyValueArray();
+        for (int i = 0; i < keyValueArray.length; i += 2) {
+            Object key = mapper.fromValue(keyValueArray[i]);
+            if (!keyValueArray[i + 1].isNilValue()) {
+                put(map, key, mapper.fromValue(keyValueArray[i + 1]));
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public Map<?, ?> fromUnpacker(MessageUnpacker unpacker) throws IOException {
+        int size = unpacker.unpackMapHeader();
+        Map<Object, Object> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            Object key = mapper.readValue(unpacker);
+            if (!unpacker.tryUnpackNil()) {
+                put(map, key, mapper.readValue(unpacker));
+            }
+        }
+        return map;
+    }
+
+    private static void put(Map<Object, Object> map, Object key, Object value) {
+        if (map.putIfAbsent(key, value) != null) {
+            throw new IllegalStateException(String.format("Duplicate key %s", key));
+        }
     }
 }
@@ -1,15 +1,28 @@
 package io.tarantool.driver.protocol;
 
+import io.netty.buffer.ByteBuf;
+import io.tarantool.driver.codecs.ByteBufMessageBufferInput;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePackException;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.Value;
 
+import java.io.IOException;
+
 /**
- * Represents non-empty body from a map with one key and the actual data as value
+ * Represents non-empty body from a map with one key and the actual data as value.
+ * <p>
+ * The data may be either unpacked eagerly or kept as raw MessagePack bytes, which are unpacked only when
+ * {@link #getData()} is called for the first time. The raw bytes are held until the owning {@link TarantoolResponse}
+ * is released. The lazy body is not thread-safe.
  *
  * @author Alexey Kuzin
  */
 public class NotEmptyTarantoolResponseBody implements TarantoolResponseBody {
     private final TarantoolResponseBodyType responseBodyType;
-    private final Value data;
+    private Value data;
+    private ByteBuf rawData;
 
     /**
      * Basic constructor.
@@ -24,6 +37,19 @@ public class NotEmptyTarantoolResponseBody implements TarantoolResponseBody {
         this.data = data;
     }
 
+    /**
+     * Create a body holding the raw data bytes. The body takes ownership of the passed buffer.
+     *
+     * @param code    first key in the body MP_MAP value
+     * @param rawData buffer containing exactly one packed MessagePack value
+     * @throws TarantoolProtocolException if the specified code doesn't correspond to a valid
+     *                                    {@link TarantoolResponseBodyType}
+     */
+    public NotEmptyTarantoolResponseBody(int code, ByteBuf rawData) throws TarantoolProtocolException {
+        this.responseBodyType = TarantoolResponseBodyType.fromCode(code);
+        this.rawData = rawData;
+    }
+
     @Override
     public TarantoolResponseBodyType getResponseBodyType() {
         return responseBodyType;
@@ -31,6 +57,39 @@ public class NotEmptyTarantoolResponseBody implements TarantoolResponseBody {
 
     @Override
     public Value getData() {
+        if (data == null && rawData != null) {
+            data = unpackRawData(rawData);
+            release();
+        }
         return data;
     }
+
+    /**
+     * Get the raw data bytes if the data has not been unpacked yet. The returned buffer is owned by this body,
+     * its reader index must not be changed.
+     *
+     * @return a buffer containing one packed MessagePack value or null
+     */
+    public ByteBuf getRawData() {
+        return rawData;
+    }
+
+    /**
+     * Release the raw data bytes if they are held
+     */
+    void release() {
+        if (rawData != null) {
+            rawData.release();
+            rawData = null;
+        }
+    }
+
+    private static Value unpackRawData(ByteBuf rawData) {
+        try (MessageUnpacker unpacker = MessagePack.DEFAULT_UNPACKER_CONFIG.newUnpacker(
+            new ByteBufMessageBufferInput(rawData.duplicate()))) {
+            return unpacker.unpackValue();
+        } catch (IOException | MessagePackException e) {
+            throw new TarantoolClientException("Failed to unpack the response body data", e);
+        }
+    }
 }
@@ -9,7 +9,7 @@ import org.msgpack.value.Value;
  */
 public class TarantoolErrorResult {
 
-    private final Long syncId;
+    private final long syncId;
     private final Long errorCode;
     private final String errorMessage;
 
@@ -21,7 +21,7 @@ public class TarantoolErrorResult {
      * @param body      response body containing the error message
      * @throws TarantoolProtocolException if the specified body is invalid
      */
-    public TarantoolErrorResult(Long syncId, Long errorCode, Value body) throws TarantoolProtocolException {
+    public TarantoolErrorResult(long syncId, Long errorCode, Value body) throws TarantoolProtocolException {
         this.syncId = syncId;
         this.errorCode = errorCode;
         if (!body.isStringValue()) {
@@ -35,7 +35,7 @@ public class TarantoolErrorResult {
      *
      * @return a number
      */
-    public Long getSyncId() {
+    public long getSyncId() {
         return syncId;
     }
 
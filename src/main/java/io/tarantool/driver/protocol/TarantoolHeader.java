@@ -1,11 +1,15 @@
 package io.tarantool.driver.protocol;
 
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.IntegerValue;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
+import org.msgpack.value.ValueType;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -24,10 +28,12 @@ public final class TarantoolHeader implements Packable {
     private static final int IPROTO_LSN = 0x03;
     private static final int IPROTO_TIMESTAMP = 0x04;
     private static final int IPROTO_SCHEMA_VERSION = 0x05;
+    private static final int IPROTO_STREAM_ID = 0x0a;
 
-    private Long sync;
+    private long sync;
     private Long code;
     private Long schemaVersion;
+    private Long streamId;
     private Long replicaId;
     private Long lsn;
     private Double timestamp;
@@ -35,22 +41,37 @@ public final class TarantoolHeader implements Packable {
     private TarantoolHeader() {
     }
 
-    TarantoolHeader(Long sync, Long code) {
+    TarantoolHeader(long sync, Long code) {
         this.sync = sync;
         this.code = code;
     }
 
-    TarantoolHeader(Long sync, Long code, Long schemaVersion) {
+    TarantoolHeader(long sync, Long code, Long schemaVersion) {
         this.sync = sync;
         this.code = code;
         this.schemaVersion = schemaVersion;
     }
 
-    public void setSync(Long sync) {
+    /**
+     * Create a copy of this header with the specified request ID (sync ID)
+     *
+     * @param sync request ID
+     * @return new header instance
+     */
+    TarantoolHeader withSync(long sync) {
+        TarantoolHeader copy = new TarantoolHeader(sync, code, schemaVersion);
+        copy.streamId = streamId;
+        copy.replicaId = replicaId;
+        copy.lsn = lsn;
+        copy.timestamp = timestamp;
+        return copy;
+    }
+
+    public void setSync(long sync) {
         this.sync = sync;
     }
 
-    public Long getSync() {
+    public long getSync() {
         return sync;
     }
 
@@ -70,6 +91,20 @@ public final class TarantoolHeader implements Packable {
         return schemaVersion;
     }
 
+    /**
+     * Set the ID of the stream the request belongs to. The server processes the requests of one stream sequentially,
+     * and the requests of a stream with an interactive transaction started are executed within that transaction
+     *
+     * @param streamId stream ID, must be positive, or null if the request does not belong to a stream
+     */
+    public void setStreamId(Long streamId) {
+        this.streamId = streamId;
+    }
+
+    public Long getStreamId() {
+        return streamId;
+    }
+
     public void setReplicaId(Long replicaId) {
         this.replicaId = replicaId;
     }
@@ -106,9 +141,31 @@ public final class TarantoolHeader implements Packable {
         if (schemaVersion != null) {
             values.put(ValueFactory.newInteger(IPROTO_SCHEMA_VERSION), ValueFactory.newInteger(schemaVersion));
         }
+        if (streamId != null) {
+            values.put(ValueFactory.newInteger(IPROTO_STREAM_ID), ValueFactory.newInteger(streamId));
+        }
         return ValueFactory.newMap(values);
     }
 
+    /**
+     * Writes the current header contents directly with the passed {@link MessagePacker}, without building
+     * an intermediate MessagePack {@link Value}
+     *
+     * @param packer configured {@link MessagePacker}
+     * @throws IOException if packing failed
+     */
+    public void toMessagePack(MessagePacker packer) throws IOException {
+        packer.packMapHeader(2 + (schemaVersion != null ? 1 : 0) + (streamId != null ? 1 : 0));
+        packer.packInt(IPROTO_REQUEST_TYPE).packLong(code);
+        packer.packInt(IPROTO_SYNC).packLong(sync);
+        if (schemaVersion != null) {
+            packer.packInt(IPROTO_SCHEMA_VERSION).packLong(schemaVersion);
+        }
+        if (streamId != null) {
+            packer.packInt(IPROTO_STREAM_ID).packLong(streamId);
+        }
+    }
+
     /**
      * Creates an instance of {@link TarantoolHeader} from MessagePack {@link Value}
      *
@@ -124,6 +181,7 @@ public final class TarantoolHeader implements Packable {
         }
         Map<Value, Value> values = value.asMapValue().map();
         TarantoolHeader header = new TarantoolHeader();
+        boolean hasSync = false;
         for (Value key : values.keySet()) {
             if (!key.isIntegerValue()) {
                 throw new TarantoolProtocolException("TarantoolHeader keys must be of MP_INT type");
@@ -138,10 +196,14 @@ public final class TarantoolHeader implements Packable {
                     break;
                 case IPROTO_SYNC:
                     header.setSync(field.asIntegerValue().asLong());
+                    hasSync = true;
                     break;
                 case IPROTO_SCHEMA_VERSION:
                     header.setSchemaVersion(field.asIntegerValue().asLong());
                     break;
+                case IPROTO_STREAM_ID:
+                    header.setStreamId(field.asIntegerValue().asLong());
+                    break;
                 case IPROTO_LSN:
                     header.setLsn(field.asIntegerValue().asLong());
                     break;
@@ -153,10 +215,72 @@ public final class TarantoolHeader implements Packable {
                     break;
             }
         }
+        return checkMandatoryFields(header, hasSync);
+    }
+
+    /**
+     * Creates an instance of {@link TarantoolHeader} reading the header map directly with the passed
+     * {@link MessageUnpacker}, without building an intermediate MessagePack {@link Value}
+     *
+     * @param unpacker configured {@link MessageUnpacker}, positioned at the header map
+     * @return a {@link TarantoolHeader} instance
+     * @throws TarantoolProtocolException if the next value is not a map, mandatory fields are absent or have
+     *                                    wrong type
+     * @throws IOException                if unpacking failed
+     */
+    public static TarantoolHeader fromMessagePack(MessageUnpacker unpacker)
+        throws TarantoolProtocolException, IOException {
+        if (unpacker.getNextFormat().getValueType() != ValueType.MAP) {
+            throw new TarantoolProtocolException("TarantoolHeader can be unpacked only from MP_MAP, received "
+                + unpacker.unpackValue());
+        }
+        int size = unpacker.unpackMapHeader();
+        TarantoolHeader header = new TarantoolHeader();
+        boolean hasSync = false;
+        for (int i = 0; i < size; i++) {
+            if (unpacker.getNextFormat().getValueType() != ValueType.INTEGER) {
+                throw new TarantoolProtocolException("TarantoolHeader keys must be of MP_INT type");
+            }
+            int key = unpacker.unpackInt();
+            if (!unpacker.getNextFormat().getValueType().isNumberType()) {
+                throw new TarantoolProtocolException("TarantoolHeader values must be of MP_INT type");
+            }
+            switch (key) {
+                case IPROTO_REQUEST_TYPE:
+                    header.setCode(unpacker.unpackLong());
+                    break;
+                case IPROTO_SYNC:
+                    header.setSync(unpacker.unpackLong());
+                    hasSync = true;
+                    break;
+                case IPROTO_SCHEMA_VERSION:
+                    header.setSchemaVersion(unpacker.unpackLong());
+                    break;
+                case IPROTO_STREAM_ID:
+                    header.setStreamId(unpacker.unpackLong());
+                    break;
+                case IPROTO_LSN:
+                    header.setLsn(unpacker.unpackLong());
+                    break;
+                case IPROTO_REPLICA_ID:
+                    header.setReplicaId(unpacker.unpackLong());
+                    break;
+                case IPROTO_TIMESTAMP:
+                    header.setTimestamp(unpacker.unpackDouble());
+                    break;
+                default:
+                    unpacker.skipValue();
+            }
+        }
+        return checkMandatoryFields(header, hasSync);
+    }
+
+    private static TarantoolHeader checkMandatoryFields(TarantoolHeader header, boolean hasSync)
+        throws TarantoolProtocolException {
         if (header.getCode() == null) {
             throw new TarantoolProtocolException("No request or response code found");
         }
-        if (header.getSync() == null) {
+        if (!hasSync) {
             throw new TarantoolProtocolException("No sync ID found");
         }
         return header;
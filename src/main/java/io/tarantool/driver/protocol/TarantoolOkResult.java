@@ -9,7 +9,7 @@ import org.msgpack.value.Value;
  */
 public class TarantoolOkResult {
 
-    private final Long syncId;
+    private final long syncId;
     private final Value data;
 
     /**
@@ -18,7 +18,7 @@ public class TarantoolOkResult {
      * @param syncId the request ID passed back from Tarantool server
      * @param body   response body containing the result data
      */
-    public TarantoolOkResult(Long syncId, Value body) {
+    public TarantoolOkResult(long syncId, Value body) {
         this.syncId = syncId;
         this.data = body;
     }
@@ -28,7 +28,7 @@ public class TarantoolOkResult {
      *
      * @return a number
      */
-    public Long getSyncId() {
+    public long getSyncId() {
         return syncId;
     }
 
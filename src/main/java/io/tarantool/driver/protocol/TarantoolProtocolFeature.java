@@ -0,0 +1,49 @@
+package io.tarantool.driver.protocol;
+
+import java.util.Optional;
+
+/**
+ * Optional features of the Tarantool binary protocol, negotiated between the client and the server with the
+ * IPROTO_ID request.
+ * See <a href="https://www.tarantool.io/en/doc/latest/dev_guide/internals/iproto/keys/#iproto-features">
+ * https://www.tarantool.io/en/doc/latest/dev_guide/internals/iproto/keys/#iproto-features</a>
+ *
+ * @author Alexey Kuzin
+ */
+public enum TarantoolProtocolFeature {
+    STREAMS(0),
+    TRANSACTIONS(1),
+    ERROR_EXTENSION(2),
+    WATCHERS(3),
+    PAGINATION(4);
+
+    /**
+     * Version of the binary protocol supported by the client
+     */
+    public static final long PROTOCOL_VERSION = 3;
+
+    private final int code;
+
+    TarantoolProtocolFeature(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Get the feature by its code
+     *
+     * @param code feature code
+     * @return the feature or empty value, if the feature is not known to the client
+     */
+    public static Optional<TarantoolProtocolFeature> fromCode(long code) {
+        for (TarantoolProtocolFeature feature : values()) {
+            if (feature.code == code) {
+                return Optional.of(feature);
+            }
+        }
+        return Optional.empty();
+    }
+}
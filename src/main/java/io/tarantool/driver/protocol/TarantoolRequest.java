@@ -4,10 +4,10 @@ import io.tarantool.driver.exceptions.TarantoolDecoderException;
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import org.msgpack.core.MessagePackException;
 import org.msgpack.core.MessagePacker;
+import org.msgpack.value.Value;
 
 import java.io.IOException;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Supplier;
+import java.util.function.Consumer;
 
 /**
  * Base class for all kinds of requests to Tarantool server.
@@ -18,23 +18,56 @@ import java.util.function.Supplier;
  */
 public class TarantoolRequest {
 
-    private static final AtomicLong syncId = new AtomicLong(0);
-    private static final Supplier<Long> syncIdSupplier =
-        () -> syncId.updateAndGet(n -> (n >= Long.MAX_VALUE) ? 1 : n + 1);
+    /**
+     * Sync ID of a request which is not sent yet. The actual sync ID is assigned by the connection to a copy of the
+     * request when it is written to the channel, see {@link #withSyncId(long)}.
+     */
+    public static final long UNASSIGNED_SYNC_ID = 0L;
 
     private final TarantoolHeader header;
     private final TarantoolRequestBody body;
+    private Consumer<Value> pushHandler;
 
     /**
-     * Basic constructor. Sets an auto-incremented request ID into the Tarantool packet header.
+     * Basic constructor. The request ID (sync ID) is assigned later by the connection the request is sent through,
+     * since it must be unique only within a single connection.
      *
      * @param type request type code supported by Tarantool
      * @param body request body, may be empty
      * @see TarantoolRequestType
      */
     public TarantoolRequest(TarantoolRequestType type, TarantoolRequestBody body) {
-        this.header = new TarantoolHeader(syncIdSupplier.get(), type.getCode());
+        this(UNASSIGNED_SYNC_ID, type, body);
+    }
+
+    /**
+     * Create a request with a predefined request ID (sync ID)
+     *
+     * @param syncId request ID
+     * @param type   request type code supported by Tarantool
+     * @param body   request body, may be empty
+     * @see TarantoolRequestType
+     */
+    protected TarantoolRequest(long syncId, TarantoolRequestType type, TarantoolRequestBody body) {
+        this.header = new TarantoolHeader(syncId, type.getCode());
+        this.body = body;
+    }
+
+    private TarantoolRequest(TarantoolHeader header, TarantoolRequestBody body, Consumer<Value> pushHandler) {
+        this.header = header;
         this.body = body;
+        this.pushHandler = pushHandler;
+    }
+
+    /**
+     * Create a copy of this request with the specified request ID (sync ID). The copy shares the body and the push
+     * handler with this request. This request is not changed, so it may be sent again while the copy is in flight.
+     *
+     * @param syncId request ID
+     * @return new request instance
+     */
+    public TarantoolRequest withSyncId(long syncId) {
+        return new TarantoolRequest(header.withSync(syncId), body, pushHandler);
     }
 
     /**
@@ -55,6 +88,27 @@ public class TarantoolRequest {
         return body;
     }
 
+    /**
+     * Set the handler for the out-of-band messages sent by the server before the final response with
+     * <code>box.session.push()</code>. The messages are ignored if the handler is not set. The handler is called
+     * in the network I/O thread in the order the messages are received, all the messages are handled before the
+     * request future is completed.
+     *
+     * @param pushHandler handler receiving the pushed values, may be null
+     */
+    public void setPushHandler(Consumer<Value> pushHandler) {
+        this.pushHandler = pushHandler;
+    }
+
+    /**
+     * Get the handler for the out-of-band messages sent by the server before the final response
+     *
+     * @return the handler or null, if the messages are ignored
+     */
+    public Consumer<Value> getPushHandler() {
+        return pushHandler;
+    }
+
     /**
      * Encode incapsulated data using {@link MessagePacker}
      *
@@ -65,7 +119,7 @@ public class TarantoolRequest {
     public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper)
         throws TarantoolDecoderException {
         try {
-            packer.packValue(header.toMessagePackValue(mapper));
+            header.toMessagePack(packer);
             packer.packValue(body.toMessagePackValue(mapper));
         } catch (IOException | MessagePackException e) {
             throw new TarantoolDecoderException(header, e);
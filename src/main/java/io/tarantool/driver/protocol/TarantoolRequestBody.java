@@ -28,7 +28,8 @@ public class TarantoolRequestBody implements Packable {
 
     /**
      * Basic constructor. Takes a typical {@link Map} with {@code Integer} keys and {@code Object} values.
-     * Converts values into MessagePack entities using the passed instance of {@link MessagePackObjectMapper}.
+     * Converts values into MessagePack entities using the passed instance of {@link MessagePackObjectMapper}, except
+     * the values which are already MessagePack entities.
      * See <a href="https://www.tarantool.io/en/doc/2.3/dev_guide/internals/box_protocol/#binary-protocol-requests">
      * https://www.tarantool.io/en/doc/2.3/dev_guide/internals/box_protocol/#binary-protocol-requests</a>
      *
@@ -41,7 +42,10 @@ public class TarantoolRequestBody implements Packable {
         try {
             this.values = new HashMap<>(body.size(), 1);
             for (Integer key : body.keySet()) {
-                values.put(ValueFactory.newInteger(key), mapper.toValue(body.get(key)));
+                Object value = body.get(key);
+                // the values which must be packed with a specific MessagePack type are passed as is
+                values.put(ValueFactory.newInteger(key),
+                    value instanceof Value ? (Value) value : mapper.toValue(value));
             }
         } catch (MessagePackValueMapperException e) {
             throw new TarantoolProtocolException(e);
@@ -11,11 +11,20 @@ public enum TarantoolRequestFieldType {
     IPROTO_LIMIT(0x12),
     IPROTO_OFFSET(0x13),
     IPROTO_ITERATOR(0x14),
+    IPROTO_FETCH_POSITION(0x1f),
     IPROTO_KEY(0x20),
     IPROTO_TUPLE(0x21),
     IPROTO_FUNCTION_NAME(0x22),
     IPROTO_EXPRESSION(0x27),
-    IPROTO_OPS(0x28);
+    IPROTO_OPS(0x28),
+    IPROTO_OPTIONS(0x2b),
+    IPROTO_AFTER_POSITION(0x2e),
+    IPROTO_SQL_TEXT(0x40),
+    IPROTO_SQL_BIND(0x41),
+    IPROTO_STMT_ID(0x43),
+    IPROTO_VERSION(0x54),
+    IPROTO_FEATURES(0x55),
+    IPROTO_TIMEOUT(0x56);
 
     private final int code;
 
@@ -17,9 +17,16 @@ public enum TarantoolRequestType {
     IPROTO_EVAL(0x08),
     IPROTO_UPSERT(0x09),
     IPROTO_CALL(0x0a),
+    IPROTO_EXECUTE(0x0b),
+    IPROTO_PREPARE(0x0d),
+    IPROTO_BEGIN(0x0e),
+    IPROTO_COMMIT(0x0f),
+    IPROTO_ROLLBACK(0x10),
+    IPROTO_PING(0x40),
     IPROTO_SUBSCRIBE(0x42),
     IPROTO_JOIN(0x41),
-    IPROTO_FETCH_SNAP(0x45);
+    IPROTO_FETCH_SNAP(0x45),
+    IPROTO_ID(0x49);
 
     private final long code;
 
@@ -1,13 +1,18 @@
 package io.tarantool.driver.protocol;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.util.AbstractReferenceCounted;
 import io.tarantool.driver.exceptions.TarantoolDecoderException;
 import org.msgpack.core.MessagePackException;
 import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.msgpack.value.ValueType;
 
 import java.io.IOException;
-import java.util.Iterator;
+import java.util.Map;
+import java.util.function.LongPredicate;
 
 /**
  * Base class for all kinds of responses received from Tarantool server.
@@ -16,40 +21,59 @@ import java.util.Iterator;
  * <a href="https://www.tarantool.io/en/doc/latest/dev_guide/internals/box_protocol/#binary-protocol-responses-if-no-error-and-no-sql">
  * https://www.tarantool.io/en/doc/latest/dev_guide/internals/box_protocol/#binary-protocol-responses-if-no-error-and
  * -no-sql</a>
+ * <p>
+ * The response may hold the raw body data bytes (see {@link NotEmptyTarantoolResponseBody}), which are released
+ * together with the response.
  *
  * @author Alexey Kuzin
  */
-public final class TarantoolResponse {
-    private final Long syncId;
+public final class TarantoolResponse extends AbstractReferenceCounted {
+    private static final int IPROTO_DATA = 0x30;
+    private static final int IPROTO_METADATA = 0x32;
+    private static final int IPROTO_POSITION = 0x35;
+    private static final int IPROTO_SQL_INFO = 0x42;
+
+    private final long syncId;
     private final Long code;
+    private final Long schemaVersion;
     private final TarantoolResponseBody body;
     private final TarantoolResponseType responseType;
+    private final int size;
 
     /**
      * Basic constructor.
      *
-     * @param syncId the request ID passed back from Tarantool server
-     * @param code   the result code returned in response header
-     * @param body   response body
+     * @param syncId        the request ID passed back from Tarantool server
+     * @param code          the result code returned in response header
+     * @param schemaVersion the schema version returned in response header, may be null
+     * @param body          response body
+     * @param size          packed response size in bytes
      * @throws TarantoolProtocolException if the passed body is invalid
      * @see MapValue
      */
-    private TarantoolResponse(Long syncId, Long code, TarantoolResponseBody body) throws TarantoolProtocolException {
+    private TarantoolResponse(long syncId, Long code, Long schemaVersion, TarantoolResponseBody body, int size)
+        throws TarantoolProtocolException {
         TarantoolResponseType responseType = TarantoolResponseType.fromCode(code);
         switch (responseType) {
             case IPROTO_OK:
-                switch (body.getResponseBodyType()) {
-                    case IPROTO_SQL:
-                        throw new UnsupportedOperationException("Tarantool SQL is not supported yet");
-                    case IPROTO_ERROR:
-                        throw new TarantoolProtocolException(
-                            "Response body first key for IPROTO_OK code must be either IPROTO_DATA or IPROTO_SQL");
+                if (body.getResponseBodyType() == TarantoolResponseBodyType.IPROTO_ERROR) {
+                    throw new TarantoolProtocolException(
+                        "Response body first key for IPROTO_OK code must be IPROTO_DATA, IPROTO_POSITION, " +
+                            "IPROTO_SQL or IPROTO_ID");
+                }
+                break;
+            case IPROTO_CHUNK:
+                if (body.getResponseBodyType() != TarantoolResponseBodyType.IPROTO_DATA) {
+                    throw new TarantoolProtocolException(
+                        "Response body first key for IPROTO_CHUNK code must be IPROTO_DATA");
                 }
                 break;
             case IPROTO_NOT_OK:
                 switch (body.getResponseBodyType()) {
                     case IPROTO_DATA:
                     case IPROTO_SQL:
+                    case IPROTO_POSITION:
+                    case IPROTO_ID:
                         throw new TarantoolProtocolException(
                             "Response body first key for code other from IPROTO_OK must be only IPROTO_ERROR");
                 }
@@ -57,7 +81,9 @@ public final class TarantoolResponse {
         this.responseType = responseType;
         this.syncId = syncId;
         this.code = code;
+        this.schemaVersion = schemaVersion;
         this.body = body;
+        this.size = size;
     }
 
     /**
@@ -65,7 +91,7 @@ public final class TarantoolResponse {
      *
      * @return a number
      */
-    public Long getSyncId() {
+    public long getSyncId() {
         return syncId;
     }
 
@@ -98,6 +124,34 @@ public final class TarantoolResponse {
         return code;
     }
 
+    /**
+     * Get the version of the database schema the request was processed with
+     *
+     * @return schema version or null, if it is not returned by the server
+     */
+    public Long getSchemaVersion() {
+        return schemaVersion;
+    }
+
+    /**
+     * Get the packed response size, excluding the frame length prefix
+     *
+     * @return size in bytes
+     */
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public TarantoolResponse touch(Object hint) {
+        return this;
+    }
+
+    @Override
+    protected void deallocate() {
+        releaseBody(body);
+    }
+
     /**
      * Create Tarantool response from the decoded binary data using {@link MessageUnpacker}
      *
@@ -107,34 +161,147 @@ public final class TarantoolResponse {
      */
     public static TarantoolResponse fromMessagePack(MessageUnpacker unpacker)
         throws TarantoolProtocolException {
+        return fromMessagePack(unpacker, null);
+    }
+
+    /**
+     * Create Tarantool response from the decoded binary data using {@link MessageUnpacker}. If the frame buffer is
+     * specified, the IPROTO_DATA value is not unpacked, but is kept in the response body as a retained slice of
+     * the frame buffer.
+     *
+     * @param unpacker configured {@link MessageUnpacker}
+     * @param frame    the buffer which the unpacker reads the packet from, with the reader index pointing at
+     *                 the packet start. May be null
+     * @return Tarantool response populated from the decoded binary data
+     * @throws TarantoolProtocolException if the unpacked data is invalid
+     */
+    public static TarantoolResponse fromMessagePack(MessageUnpacker unpacker, ByteBuf frame)
+        throws TarantoolProtocolException {
+        return fromMessagePack(unpacker, frame, null);
+    }
+
+    /**
+     * Create Tarantool response from the decoded binary data using {@link MessageUnpacker}. If the frame buffer is
+     * specified and the predicate accepts the response sync ID, the IPROTO_DATA value is not unpacked, but is kept in
+     * the response body as a retained slice of the frame buffer.
+     *
+     * @param unpacker    configured {@link MessageUnpacker}
+     * @param frame       the buffer which the unpacker reads the packet from, with the reader index pointing at
+     *                    the packet start. May be null
+     * @param keepRawData checks if the raw data must be kept for the specified sync ID. If null, the raw data is
+     *                    kept for all responses
+     * @return Tarantool response populated from the decoded binary data
+     * @throws TarantoolProtocolException if the unpacked data is invalid
+     */
+    public static TarantoolResponse fromMessagePack(MessageUnpacker unpacker, ByteBuf frame, LongPredicate keepRawData)
+        throws TarantoolProtocolException {
+        int frameStart = frame != null ? frame.readerIndex() : 0;
+        long start = unpacker.getTotalReadBytes();
         TarantoolHeader header = null;
+        TarantoolResponseBody responseBody = new EmptyTarantoolResponseBody();
         try {
-            header = TarantoolHeader.fromMessagePackValue(unpacker.unpackValue());
-            TarantoolResponseBody responseBody = new EmptyTarantoolResponseBody();
+            header = TarantoolHeader.fromMessagePack(unpacker);
 
             if (unpacker.hasNext()) {
-                Value bodyMap = unpacker.unpackValue();
-                if (!bodyMap.isMapValue()) {
+                if (unpacker.getNextFormat().getValueType() != ValueType.MAP) {
                     throw new TarantoolProtocolException("Response body must be of MP_MAP type");
                 }
-                MapValue values = bodyMap.asMapValue();
-                Iterator<Value> it = values.keySet().iterator();
-                if (it.hasNext()) {
-                    Value key = it.next();
-                    if (!key.isIntegerValue()) {
+                int bodySize = unpacker.unpackMapHeader();
+                if (bodySize > 0) {
+                    if (unpacker.getNextFormat().getValueType() != ValueType.INTEGER) {
                         throw new TarantoolProtocolException("Response body first key must be of MP_INT type");
                     }
-                    responseBody = new NotEmptyTarantoolResponseBody(
-                        key.asIntegerValue().asInt(), values.map().get(key));
+                    int code = unpacker.unpackInt();
+                    TarantoolResponseBodyType bodyType = TarantoolResponseBodyType.fromCode(code);
+                    if (bodyType == TarantoolResponseBodyType.IPROTO_SQL ||
+                        bodyType == TarantoolResponseBodyType.IPROTO_ID) {
+                        responseBody = new NotEmptyTarantoolResponseBody(code, unpackBodyMap(unpacker, code, bodySize));
+                    } else if (bodyType == TarantoolResponseBodyType.IPROTO_POSITION) {
+                        // the select result with the position of the last tuple
+                        responseBody = new NotEmptyTarantoolResponseBody(
+                            IPROTO_POSITION, unpackBodyMap(unpacker, code, bodySize));
+                    } else if (bodyType == TarantoolResponseBodyType.IPROTO_DATA && bodySize > 1) {
+                        // e.g. the EXECUTE response with IPROTO_METADATA following IPROTO_DATA, or the select
+                        // response with IPROTO_POSITION
+                        responseBody = dataBody(unpackBodyMap(unpacker, code, bodySize));
+                    } else if (bodyType == TarantoolResponseBodyType.IPROTO_DATA) {
+                        boolean keepRaw = frame != null && (keepRawData == null || keepRawData.test(header.getSync()));
+                        if (keepRaw) {
+                            int dataStart = (int) (unpacker.getTotalReadBytes() - start);
+                            unpacker.skipValue();
+                            int dataLength = (int) (unpacker.getTotalReadBytes() - start) - dataStart;
+                            responseBody = new NotEmptyTarantoolResponseBody(
+                                code, frame.retainedSlice(frameStart + dataStart, dataLength));
+                        } else {
+                            responseBody = new NotEmptyTarantoolResponseBody(code, unpacker.unpackValue());
+                        }
+                    } else {
+                        responseBody = new NotEmptyTarantoolResponseBody(code, unpacker.unpackValue());
+                    }
                 }
             }
 
-            return new TarantoolResponse(header.getSync(), header.getCode(), responseBody);
+            return new TarantoolResponse(header.getSync(), header.getCode(), header.getSchemaVersion(), responseBody,
+                (int) (unpacker.getTotalReadBytes() - start));
         } catch (IOException | MessagePackException e) {
+            releaseBody(responseBody);
             if (header != null) {
                 throw new TarantoolDecoderException(header, e);
             }
             throw new TarantoolProtocolException(e);
+        } catch (TarantoolProtocolException | RuntimeException e) {
+            releaseBody(responseBody);
+            throw e;
+        }
+    }
+
+    /**
+     * The SQL response body contains several keys in arbitrary order, e.g. IPROTO_METADATA and IPROTO_DATA for
+     * queries or IPROTO_SQL_INFO for the data modification statements, so the whole body map is unpacked. The same
+     * applies to the IPROTO_ID response body with the protocol version and features. The first key is already read by
+     * the caller. The select response body contains IPROTO_POSITION next to IPROTO_DATA if the position is requested.
+     * The whole map is also unpacked if IPROTO_DATA is followed by other keys, since they may come in any order.
+     */
+    private static MapValue unpackBodyMap(MessageUnpacker unpacker, int firstKey, int bodySize) throws IOException {
+        Value[] keyValues = new Value[bodySize * 2];
+        keyValues[0] = ValueFactory.newInteger(firstKey);
+        keyValues[1] = unpacker.unpackValue();
+        for (int i = 2; i < keyValues.length; i++) {
+            keyValues[i] = unpacker.unpackValue();
+        }
+        return ValueFactory.newMap(keyValues);
+    }
+
+    /**
+     * Select the body type by the keys following IPROTO_DATA. The SQL keys make it an SQL response body, and
+     * IPROTO_POSITION makes it a select response with the position. Otherwise, only the IPROTO_DATA value is kept,
+     * and the unknown keys are ignored.
+     */
+    private static TarantoolResponseBody dataBody(MapValue body) throws TarantoolProtocolException {
+        Value data = null;
+        boolean hasPosition = false;
+        for (Map.Entry<Value, Value> entry : body.map().entrySet()) {
+            if (!entry.getKey().isIntegerValue()) {
+                continue;
+            }
+            int key = entry.getKey().asIntegerValue().asInt();
+            if (key == IPROTO_DATA) {
+                data = entry.getValue();
+            } else if (key == IPROTO_POSITION) {
+                hasPosition = true;
+            } else if (key == IPROTO_METADATA || key == IPROTO_SQL_INFO) {
+                return new NotEmptyTarantoolResponseBody(key, body);
+            }
+        }
+        if (hasPosition) {
+            return new NotEmptyTarantoolResponseBody(IPROTO_POSITION, body);
+        }
+        return new NotEmptyTarantoolResponseBody(IPROTO_DATA, data);
+    }
+
+    private static void releaseBody(TarantoolResponseBody body) {
+        if (body instanceof NotEmptyTarantoolResponseBody) {
+            ((NotEmptyTarantoolResponseBody) body).release();
         }
     }
 }
@@ -7,7 +7,9 @@ public enum TarantoolResponseBodyType {
     EMPTY,
     IPROTO_DATA,
     IPROTO_ERROR,
-    IPROTO_SQL;
+    IPROTO_SQL,
+    IPROTO_POSITION,
+    IPROTO_ID;
 
     public static TarantoolResponseBodyType fromCode(int code) throws TarantoolProtocolException {
         switch (code) {
@@ -15,8 +17,17 @@ public enum TarantoolResponseBodyType {
                 return IPROTO_DATA;
             case 0x31:
                 return IPROTO_ERROR;
-            case 0x42:
+            case 0x32: // IPROTO_METADATA
+            case 0x33: // IPROTO_BIND_METADATA
+            case 0x34: // IPROTO_BIND_COUNT
+            case 0x42: // IPROTO_SQL_INFO
+            case 0x43: // IPROTO_STMT_ID
                 return IPROTO_SQL;
+            case 0x35:
+                return IPROTO_POSITION;
+            case 0x54: // IPROTO_VERSION
+            case 0x55: // IPROTO_FEATURES
+                return IPROTO_ID;
             default:
                 throw new TarantoolProtocolException("Unsupported Tarantool response body key {}", code);
         }
@@ -12,6 +12,7 @@ public enum TarantoolResponseType {
     IPROTO_UPDATE,
     IPROTO_DELETE,
     IPROTO_UPSERT,
+    IPROTO_CHUNK,
     IPROTO_NOT_OK;
 
     public static TarantoolResponseType fromCode(long code) throws TarantoolProtocolException {
@@ -27,6 +28,8 @@ public enum TarantoolResponseType {
             return IPROTO_DELETE;
         } else if (code == 0x09) {
             return IPROTO_UPSERT;
+        } else if (code == 0x80) {
+            return IPROTO_CHUNK;
         } else if (code >= 0x8000) {
             return IPROTO_NOT_OK;
         } else {
@@ -24,9 +24,12 @@ public final class TarantoolAuthRequest extends TarantoolRequest {
 
     private static final int IPROTO_USER_NAME = 0x23;
     private static final int IPROTO_AUTH_DATA = 0x21;
+    // the auth request is the only one in flight until the connection is established, and its response is consumed
+    // by the authentication handler, so the request ID may be constant
+    private static final long AUTH_SYNC_ID = 1L;
 
     private TarantoolAuthRequest(TarantoolRequestBody body) {
-        super(TarantoolRequestType.IPROTO_AUTH, body);
+        super(AUTH_SYNC_ID, TarantoolRequestType.IPROTO_AUTH, body);
     }
 
     /**
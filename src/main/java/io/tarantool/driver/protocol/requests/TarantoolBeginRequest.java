@@ -0,0 +1,61 @@
+package io.tarantool.driver.protocol.requests;
+
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestBody;
+import io.tarantool.driver.protocol.TarantoolRequestFieldType;
+import io.tarantool.driver.protocol.TarantoolRequestType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Begin request, starts an interactive transaction in the stream specified in the request header. The subsequent
+ * requests of the same stream are executed within the transaction until the commit or rollback request is received.
+ * See <a href="https://www.tarantool.io/en/doc/latest/dev_guide/internals/box_protocol/#binary-protocol-requests">
+ * https://www.tarantool.io/en/doc/latest/dev_guide/internals/box_protocol/#binary-protocol-requests</a>
+ *
+ * @author Alexey Kuzin
+ */
+public final class TarantoolBeginRequest extends TarantoolRequest {
+
+    private TarantoolBeginRequest(TarantoolRequestBody body) {
+        super(TarantoolRequestType.IPROTO_BEGIN, body);
+    }
+
+    /**
+     * Tarantool begin request builder
+     */
+    public static class Builder {
+
+        Map<Integer, Object> bodyMap;
+
+        public Builder() {
+            this.bodyMap = new HashMap<>(1, 1);
+        }
+
+        /**
+         * Specify the transaction timeout. The server rolls back the transaction if it is not committed within the
+         * timeout. By default, the server-side <code>box.cfg.txn_timeout</code> value is used
+         *
+         * @param timeoutMs timeout in milliseconds
+         * @return builder
+         */
+        public Builder withTimeout(long timeoutMs) {
+            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_TIMEOUT.getCode(), timeoutMs / 1000.0);
+            return this;
+        }
+
+        /**
+         * Build a {@link TarantoolBeginRequest} instance
+         *
+         * @param mapper configured {@link MessagePackObjectMapper} instance
+         * @return instance of begin request
+         * @throws TarantoolProtocolException if the request body cannot be converted
+         */
+        public TarantoolBeginRequest build(MessagePackObjectMapper mapper) throws TarantoolProtocolException {
+            return new TarantoolBeginRequest(new TarantoolRequestBody(bodyMap, mapper));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.tarantool.driver.protocol.requests;
+
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestBody;
+import io.tarantool.driver.protocol.TarantoolRequestFieldType;
+import io.tarantool.driver.protocol.TarantoolRequestType;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL execute request. The statement is specified either with its text or with the ID of a prepared statement.
+ * See <a href="https://www.tarantool.io/en/doc/latest/dev_guide/internals/box_protocol/#binary-protocol-requests">
+ * https://www.tarantool.io/en/doc/latest/dev_guide/internals/box_protocol/#binary-protocol-requests</a>
+ *
+ * @author Alexey Kuzin
+ */
+public final class TarantoolExecuteRequest extends TarantoolRequest {
+
+    private TarantoolExecuteRequest(TarantoolRequestBody body) {
+        super(TarantoolRequestType.IPROTO_EXECUTE, body);
+    }
+
+    /**
+     * Tarantool execute request builder
+     */
+    public static class Builder {
+
+        Map<Integer, Object> bodyMap;
+        Long schemaVersion;
+
+        public Builder() {
+            this.bodyMap = new HashMap<>(3, 1);
+            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_SQL_BIND.getCode(), Collections.emptyList());
+            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_OPTIONS.getCode(), Collections.emptyList());
+        }
+
+        /**
+         * Specify the SQL statement text
+         *
+         * @param statementText SQL statement text
+         * @return builder
+         */
+        public Builder withStatementText(String statementText) {
+            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_SQL_TEXT.getCode(), statementText);
+            return this;
+        }
+
+        /**
+         * Specify the prepared statement ID
+         *
+         * @param statementId prepared statement ID
+         * @return builder
+         */
+        public Builder withStatementId(long statementId) {
+            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_STMT_ID.getCode(), statementId);
+            return this;
+        }
+
+        /**
+         * Specify the values bound to the statement parameters
+         *
+         * @param parameters parameter values
+         * @return builder
+         */
+        public Builder withParameters(List<?> parameters) {
+            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_SQL_BIND.getCode(), parameters);
+            return this;
+        }
+
+        /**
+         * Specify the schema version the prepared statement is compiled for. The server rejects the request with
+         * the <code>ER_WRONG_SCHEMA_VERSION</code> error if the current schema version is different
+         *
+         * @param schemaVersion schema version
+         * @return builder
+         */
+        public Builder withSchemaVersion(long schemaVersion) {
+            this.schemaVersion = schemaVersion;
+            return this;
+        }
+
+        /**
+         * Build a {@link TarantoolExecuteRequest} instance
+         *
+         * @param mapper configured {@link MessagePackObjectMapper} instance
+         * @return instance of execute request
+         * @throws TarantoolProtocolException if neither or both of the statement text and ID are specified
+         */
+        public TarantoolExecuteRequest build(MessagePackObjectMapper mapper) throws TarantoolProtocolException {
+            if (bodyMap.containsKey(TarantoolRequestFieldType.IPROTO_SQL_TEXT.getCode()) ==
+                bodyMap.containsKey(TarantoolRequestFieldType.IPROTO_STMT_ID.getCode())) {
+                throw new TarantoolProtocolException(
+                    "Either SQL statement text or statement ID must be specified in the execute request");
+            }
+
+            TarantoolExecuteRequest request = new TarantoolExecuteRequest(new TarantoolRequestBody(bodyMap, mapper));
+            request.getHeader().setSchemaVersion(schemaVersion);
+            return request;
+        }
+    }
+}
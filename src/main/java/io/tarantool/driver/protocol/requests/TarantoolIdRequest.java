@@ -0,0 +1,85 @@
+package io.tarantool.driver.protocol.requests;
+
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolProtocolFeature;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestBody;
+import io.tarantool.driver.protocol.TarantoolRequestFieldType;
+import io.tarantool.driver.protocol.TarantoolRequestType;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * ID request, used for negotiating the binary protocol version and features with the server. The server responds
+ * with its own protocol version and the features it supports. The servers older than 2.10 do not support this
+ * request and respond with an error.
+ * See <a href="https://www.tarantool.io/en/doc/latest/dev_guide/internals/box_protocol/#binary-protocol-requests">
+ * https://www.tarantool.io/en/doc/latest/dev_guide/internals/box_protocol/#binary-protocol-requests</a>
+ *
+ * @author Alexey Kuzin
+ */
+public final class TarantoolIdRequest extends TarantoolRequest {
+
+    private TarantoolIdRequest(TarantoolRequestBody body) {
+        super(TarantoolRequestType.IPROTO_ID, body);
+    }
+
+    /**
+     * Tarantool ID request builder
+     */
+    public static class Builder {
+
+        Map<Integer, Object> bodyMap;
+
+        public Builder() {
+            this.bodyMap = new HashMap<>(2, 1);
+            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_VERSION.getCode(),
+                TarantoolProtocolFeature.PROTOCOL_VERSION);
+        }
+
+        /**
+         * Specify the binary protocol version supported by the client
+         *
+         * @param version protocol version
+         * @return builder
+         */
+        public Builder withProtocolVersion(long version) {
+            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_VERSION.getCode(), version);
+            return this;
+        }
+
+        /**
+         * Specify the protocol features supported by the client
+         *
+         * @param features supported features
+         * @return builder
+         */
+        public Builder withFeatures(Collection<TarantoolProtocolFeature> features) {
+            List<Integer> codes = features.stream()
+                .map(TarantoolProtocolFeature::getCode)
+                .collect(Collectors.toList());
+            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_FEATURES.getCode(), codes);
+            return this;
+        }
+
+        /**
+         * Build a {@link TarantoolIdRequest} instance
+         *
+         * @param mapper configured {@link MessagePackObjectMapper} instance
+         * @return instance of ID request
+         * @throws TarantoolProtocolException if the features are not specified
+         */
+        public TarantoolIdRequest build(MessagePackObjectMapper mapper) throws TarantoolProtocolException {
+            if (!bodyMap.containsKey(TarantoolRequestFieldType.IPROTO_FEATURES.getCode())) {
+                throw new TarantoolProtocolException("Protocol features must be specified in the ID request");
+            }
+
+            return new TarantoolIdRequest(new TarantoolRequestBody(bodyMap, mapper));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.tarantool.driver.protocol.requests;
+
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestBody;
+import io.tarantool.driver.protocol.TarantoolRequestType;
+
+/**
+ * Ping request, used for checking that the connection is alive.
+ * See <a href="https://www.tarantool.io/en/doc/latest/dev_guide/internals/box_protocol/#binary-protocol-requests">
+ * https://www.tarantool.io/en/doc/latest/dev_guide/internals/box_protocol/#binary-protocol-requests</a>
+ *
+ * @author Alexey Kuzin
+ */
+public final class TarantoolPingRequest extends TarantoolRequest {
+
+    /**
+     * Basic constructor. The request has an empty body
+     */
+    public TarantoolPingRequest() {
+        super(TarantoolRequestType.IPROTO_PING, new TarantoolRequestBody());
+    }
+}
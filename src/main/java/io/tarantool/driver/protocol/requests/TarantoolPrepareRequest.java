@@ -0,0 +1,77 @@
+package io.tarantool.driver.protocol.requests;
+
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestBody;
+import io.tarantool.driver.protocol.TarantoolRequestFieldType;
+import io.tarantool.driver.protocol.TarantoolRequestType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Prepare request. If the SQL statement text is specified, the statement is prepared and its ID is returned in the
+ * response. If the statement ID is specified, the previously prepared statement is released (unprepared).
+ * See <a href="https://www.tarantool.io/en/doc/latest/dev_guide/internals/box_protocol/#binary-protocol-requests">
+ * https://www.tarantool.io/en/doc/latest/dev_guide/internals/box_protocol/#binary-protocol-requests</a>
+ *
+ * @author Alexey Kuzin
+ */
+public final class TarantoolPrepareRequest extends TarantoolRequest {
+
+    private TarantoolPrepareRequest(TarantoolRequestBody body) {
+        super(TarantoolRequestType.IPROTO_PREPARE, body);
+    }
+
+    /**
+     * Tarantool prepare request builder
+     */
+    public static class Builder {
+
+        Map<Integer, Object> bodyMap;
+
+        public Builder() {
+            this.bodyMap = new HashMap<>(1, 1);
+        }
+
+        /**
+         * Specify the SQL statement text for preparing
+         *
+         * @param statementText SQL statement text
+         * @return builder
+         */
+        public Builder withStatementText(String statementText) {
+            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_SQL_TEXT.getCode(), statementText);
+            return this;
+        }
+
+        /**
+         * Specify the ID of the prepared statement for unpreparing
+         *
+         * @param statementId prepared statement ID
+         * @return builder
+         */
+        public Builder withStatementId(long statementId) {
+            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_STMT_ID.getCode(), statementId);
+            return this;
+        }
+
+        /**
+         * Build a {@link TarantoolPrepareRequest} instance
+         *
+         * @param mapper configured {@link MessagePackObjectMapper} instance
+         * @return instance of prepare request
+         * @throws TarantoolProtocolException if neither or both of the statement text and ID are specified
+         */
+        public TarantoolPrepareRequest build(MessagePackObjectMapper mapper) throws TarantoolProtocolException {
+            if (bodyMap.containsKey(TarantoolRequestFieldType.IPROTO_SQL_TEXT.getCode()) ==
+                bodyMap.containsKey(TarantoolRequestFieldType.IPROTO_STMT_ID.getCode())) {
+                throw new TarantoolProtocolException(
+                    "Either SQL statement text or statement ID must be specified in the prepare request");
+            }
+
+            return new TarantoolPrepareRequest(new TarantoolRequestBody(bodyMap, mapper));
+        }
+    }
+}
@@ -7,6 +7,7 @@ import io.tarantool.driver.protocol.TarantoolRequest;
 import io.tarantool.driver.protocol.TarantoolRequestBody;
 import io.tarantool.driver.protocol.TarantoolRequestFieldType;
 import io.tarantool.driver.protocol.TarantoolRequestType;
+import org.msgpack.value.ValueFactory;
 
 import java.util.HashMap;
 import java.util.List;
@@ -33,7 +34,7 @@ public final class TarantoolSelectRequest extends TarantoolRequest {
         Map<Integer, Object> bodyMap;
 
         public Builder() {
-            this.bodyMap = new HashMap<>(6, 1);
+            this.bodyMap = new HashMap<>(8, 1);
         }
 
         /**
@@ -102,6 +103,31 @@ public final class TarantoolSelectRequest extends TarantoolRequest {
             return this;
         }
 
+        /**
+         * Request the position of the last selected tuple, which can be passed to the next request for fetching the
+         * tuples after it. Supported by Tarantool 2.11+ for the TREE indexes only.
+         *
+         * @return builder
+         */
+        public Builder withFetchPosition() {
+            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_FETCH_POSITION.getCode(), true);
+            return this;
+        }
+
+        /**
+         * Specify the position returned by a previous request, the tuples after that position will be selected.
+         * Supported by Tarantool 2.11+ for the TREE indexes only.
+         *
+         * @param position opaque position bytes returned by the server
+         * @return builder
+         */
+        public Builder withAfterPosition(byte[] position) {
+            // the position is sent back to the server as MP_STR
+            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_AFTER_POSITION.getCode(),
+                ValueFactory.newString(position));
+            return this;
+        }
+
         /**
          * Build a {@link TarantoolSelectRequest} instance
          *
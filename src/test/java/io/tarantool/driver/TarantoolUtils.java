@@ -34,10 +34,18 @@ public final class TarantoolUtils {
         return versionGreaterOrEqualThen("2.10");
     }
 
+    public static boolean versionWithTransactions() {
+        return versionGreaterOrEqualThen("2.10");
+    }
+
     public static boolean versionWithVarbinary() {
         return versionGreaterOrEqualThen("2.2.1");
     }
 
+    public static boolean versionWithSqlAddColumn() {
+        return versionGreaterOrEqualThen("2.7");
+    }
+
     public static class TarantoolVersion {
         private Integer major;
         private Integer minor;
@@ -1,12 +1,17 @@
 package io.tarantool.driver.api;
 
+import io.netty.channel.ChannelOption;
+import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.handler.ssl.SslContextBuilder;
+import io.tarantool.driver.api.connection.TarantoolTransportType;
 import io.tarantool.driver.auth.SimpleTarantoolCredentials;
 import io.tarantool.driver.core.ClusterTarantoolTupleClient;
 import org.junit.jupiter.api.Test;
 
 import javax.net.ssl.SSLException;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -39,4 +44,28 @@ public class TarantoolClientConfigTest {
         config.setSecure(true);
         assertTrue(config.isSecure());
     }
+
+    @Test
+    public void test_getChannelOptions_shouldOverrideCommonOptions_ifTransportOptionsAreSpecified() {
+        //given
+        final TarantoolClientConfig config = TarantoolClientConfig.builder()
+            .withChannelOption(ChannelOption.SO_KEEPALIVE, false)
+            .withChannelOption(ChannelOption.SO_RCVBUF, 65536)
+            .withChannelOption(TarantoolTransportType.EPOLL, ChannelOption.SO_RCVBUF, 131072)
+            .withChannelOption(TarantoolTransportType.EPOLL, EpollChannelOption.TCP_QUICKACK, true)
+            .build();
+
+        //when
+        Map<ChannelOption<?>, Object> nioOptions = config.getChannelOptions(TarantoolTransportType.NIO);
+        Map<ChannelOption<?>, Object> epollOptions = config.getChannelOptions(TarantoolTransportType.EPOLL);
+
+        //then
+        assertEquals(2, nioOptions.size());
+        assertEquals(false, nioOptions.get(ChannelOption.SO_KEEPALIVE));
+        assertEquals(65536, nioOptions.get(ChannelOption.SO_RCVBUF));
+        assertEquals(3, epollOptions.size());
+        assertEquals(false, epollOptions.get(ChannelOption.SO_KEEPALIVE));
+        assertEquals(131072, epollOptions.get(ChannelOption.SO_RCVBUF));
+        assertEquals(true, epollOptions.get(EpollChannelOption.TCP_QUICKACK));
+    }
 }
@@ -1,11 +1,15 @@
 package io.tarantool.driver.api;
 
+import io.tarantool.driver.exceptions.TarantoolSocketException;
 import org.junit.jupiter.api.Test;
 
 import java.net.InetSocketAddress;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 /**
@@ -161,4 +165,61 @@ public class TarantoolServerAddressTest {
     public void test_should_throwExceptionIfPortIsNegative() {
         assertThrows(IllegalArgumentException.class, () -> new TarantoolServerAddress("localhost:-3301"));
     }
+
+    @Test
+    public void test_should_parseUnixSocketAddress() {
+        //when
+        final TarantoolServerAddress address = new TarantoolServerAddress("unix:/var/run/tarantool/router.sock");
+        final TarantoolServerAddress tarantoolStyleAddress =
+            new TarantoolServerAddress("user:password@unix/:/var/run/tarantool/router.sock");
+
+        //then
+        assertTrue(address.isUnixSocket());
+        assertEquals("/var/run/tarantool/router.sock", address.getSocketPath());
+        assertEquals("unix/", address.getHost());
+        assertEquals(0, address.getPort());
+        assertEquals("unix/:/var/run/tarantool/router.sock", address.toString());
+        assertEquals(address, tarantoolStyleAddress);
+        assertEquals(address.hashCode(), tarantoolStyleAddress.hashCode());
+        assertNotEquals(address, new TarantoolServerAddress("localhost", 3301));
+        assertThrows(TarantoolSocketException.class, address::getSocketAddress);
+    }
+
+    @Test
+    public void test_should_throwException_ifUnixSocketPathIsEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> new TarantoolServerAddress("unix:"));
+        assertThrows(IllegalArgumentException.class, () -> new TarantoolServerAddress("unix/:"));
+    }
+
+    @Test
+    public void test_should_notBeUnixSocket_ifAddressIsTcp() {
+        final TarantoolServerAddress address = new TarantoolServerAddress("localhost:3301");
+
+        assertFalse(address.isUnixSocket());
+        assertEquals(null, address.getSocketPath());
+    }
+
+    @Test
+    public void test_withRouting_should_keepAddressIdentity_ifRoutingAttributesChange() {
+        //given
+        final TarantoolServerAddress address = new TarantoolServerAddress("localhost:3301");
+        final TarantoolServerAddress unixAddress = new TarantoolServerAddress("unix:/tmp/tarantool.sock");
+
+        //when
+        final TarantoolServerAddress routed = address.withRouting(5, false);
+        final TarantoolServerAddress unixRouted = unixAddress.withRouting(0, true);
+
+        //then
+        assertEquals(TarantoolServerAddress.DEFAULT_WEIGHT, address.getWeight());
+        assertTrue(address.isHealthy());
+        assertEquals(5, routed.getWeight());
+        assertFalse(routed.isHealthy());
+        assertEquals(address, routed);
+        assertEquals(address.hashCode(), routed.hashCode());
+        assertTrue(routed.isRoutingChanged(address));
+        assertFalse(routed.isRoutingChanged(address.withRouting(5, false)));
+        assertEquals(unixAddress, unixRouted);
+        assertEquals(0, unixRouted.getWeight());
+        assertThrows(IllegalArgumentException.class, () -> address.withRouting(-1, true));
+    }
 }
@@ -0,0 +1,105 @@
+package io.tarantool.driver.benchmark;
+
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionListeners;
+import io.tarantool.driver.core.TarantoolDaemonThreadFactory;
+import io.tarantool.driver.core.connection.AbstractTarantoolConnectionManager;
+import io.tarantool.driver.core.connection.StubConnectionFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the connection acquisition rate of the connection manager while the connections are constantly broken,
+ * so the requests arrive while the connection init sequence is in progress. The current connection is closed every
+ * 5 ms and a new one is established asynchronously with a delay of 1 ms. Does not require a running Tarantool
+ * instance.
+ * <p>
+ * The requesting threads must never park: run with {@code -prof stack} and check that they stay in the RUNNABLE
+ * state. The {@code deferred} counter shows how many acquisitions were completed after the init sequence.
+ *
+ * @author Alexey Kuzin
+ */
+@State(Scope.Benchmark)
+public class ConnectionAcquisitionBenchmark {
+
+    private static final long CONNECT_DELAY = 1; // milliseconds
+    private static final long BREAK_INTERVAL = 5; // milliseconds
+
+    private ScheduledExecutorService connectScheduler;
+    private AbstractTarantoolConnectionManager connectionManager;
+
+    @Setup(Level.Trial)
+    public void doSetup() {
+        connectScheduler = Executors.newSingleThreadScheduledExecutor(
+            new TarantoolDaemonThreadFactory("benchmark-connect"));
+        TarantoolClientConfig config = new TarantoolClientConfig();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config,
+            command -> connectScheduler.schedule(command, CONNECT_DELAY, TimeUnit.MILLISECONDS));
+        TarantoolServerAddress address = new TarantoolServerAddress("localhost", 3301);
+        connectionManager = new AbstractTarantoolConnectionManager(
+            config, connectionFactory, new TarantoolConnectionListeners()) {
+            @Override
+            protected Collection<TarantoolServerAddress> getAddresses() {
+                return Collections.singletonList(address);
+            }
+        };
+        connectScheduler.scheduleWithFixedDelay(
+            this::breakConnection, BREAK_INTERVAL, BREAK_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    private void breakConnection() {
+        CompletableFuture<TarantoolConnection> connection = connectionManager.getConnection();
+        if (connection.isDone() && !connection.isCompletedExceptionally()) {
+            // makes the next requests start the init sequence in the FULL mode
+            try {
+                connection.join().close();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void doTearDown() {
+        connectScheduler.shutdownNow();
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class AcquisitionCounters {
+        public long deferred;
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Threads(4)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void acquireConnection(AcquisitionCounters counters, Blackhole bh) {
+        CompletableFuture<TarantoolConnection> connection = connectionManager.getConnection();
+        if (!connection.isDone()) {
+            counters.deferred++;
+        }
+        bh.consume(connection);
+    }
+}
@@ -0,0 +1,155 @@
+package io.tarantool.driver.benchmark;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.ReplayingDecoder;
+import io.tarantool.driver.codecs.MessagePackFrameDecoder;
+import io.tarantool.driver.protocol.TarantoolResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Compares the current response frame decoder with the former {@link ReplayingDecoder}-based implementation.
+ * Does not require a running Tarantool instance.
+ * <p>
+ * The large frame results vary a lot between short runs, since they are dominated by building the
+ * {@link org.msgpack.value.Value} tree, so the measurement is longer and made in two forks.
+ *
+ * @author Alexey Kuzin
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class FrameDecoderBenchmark {
+
+    @Param({"16", "1000"})
+    public int tuples;
+
+    private byte[] frame;
+    private EmbeddedChannel streamingChannel;
+    private EmbeddedChannel replayingChannel;
+
+    @Setup(Level.Trial)
+    public void doSetup() throws IOException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packMapHeader(3)
+            .packInt(0x00).packInt(0)
+            .packInt(0x01).packLong(1)
+            .packInt(0x05).packInt(100);
+        packer.packMapHeader(1).packInt(0x30).packArrayHeader(tuples);
+        for (int i = 0; i < tuples; i++) {
+            packer.packArrayHeader(4).packInt(i).packString("tuple_" + i).packDouble(i * 1.5).packBoolean(true);
+        }
+        byte[] body = packer.toByteArray();
+        frame = new byte[body.length + 5];
+        frame[0] = MessagePack.Code.UINT32;
+        frame[1] = (byte) (body.length >>> 24);
+        frame[2] = (byte) (body.length >>> 16);
+        frame[3] = (byte) (body.length >>> 8);
+        frame[4] = (byte) body.length;
+        System.arraycopy(body, 0, frame, 5, body.length);
+
+        streamingChannel = new EmbeddedChannel(new MessagePackFrameDecoder());
+        replayingChannel = new EmbeddedChannel(new ReplayingMessagePackFrameDecoder());
+    }
+
+    @TearDown(Level.Trial)
+    public void doTearDown() {
+        streamingChannel.finishAndReleaseAll();
+        replayingChannel.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    @Fork(2)
+    @BenchmarkMode(Mode.Throughput)
+    public void decodeStreaming(Blackhole bh) {
+        decode(streamingChannel, bh);
+    }
+
+    @Benchmark
+    @Fork(2)
+    @BenchmarkMode(Mode.Throughput)
+    public void decodeReplaying(Blackhole bh) {
+        decode(replayingChannel, bh);
+    }
+
+    private void decode(EmbeddedChannel channel, Blackhole bh) {
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.directBuffer(frame.length);
+        buffer.writeBytes(frame);
+        channel.writeInbound(buffer);
+        bh.consume(channel.<Object>readInbound());
+    }
+
+    /**
+     * The former decoder implementation, kept as a baseline
+     */
+    private static final class ReplayingMessagePackFrameDecoder extends ReplayingDecoder<DecoderState> {
+
+        private static final int MINIMAL_HEADER_SIZE = 5; // MP_UINT32
+        private int size;
+
+        ReplayingMessagePackFrameDecoder() {
+            super(DecoderState.LENGTH);
+        }
+
+        @Override
+        protected void decode(ChannelHandlerContext channelHandlerContext, ByteBuf byteBuf, List<Object> list)
+            throws Exception {
+
+            switch (state()) {
+                case LENGTH:
+                    ByteBuf lenBuf = byteBuf.readBytes(MINIMAL_HEADER_SIZE);
+                    try (ByteBufInputStream in = new ByteBufInputStream(lenBuf)) {
+                        MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(in);
+                        size = unpacker.unpackInt();
+                        unpacker.close();
+                        checkpoint(DecoderState.BODY);
+                    }
+                    lenBuf.release();
+                case BODY:
+                    if (size > 0) {
+                        if (byteBuf.readableBytes() < size) {
+                            return;
+                        }
+                        ByteBuf bodyBuf = byteBuf.readBytes(size);
+                        try (ByteBufInputStream in = new ByteBufInputStream(bodyBuf)) {
+                            MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(in);
+                            list.add(TarantoolResponse.fromMessagePack(unpacker));
+                            unpacker.close();
+                            size = 0;
+                        }
+                        bodyBuf.release();
+                    }
+                    checkpoint(DecoderState.LENGTH);
+                    break;
+                default:
+                    throw new Error("Shouldn't reach here.");
+            }
+        }
+    }
+
+    private enum DecoderState {
+        LENGTH,
+        BODY
+    }
+}
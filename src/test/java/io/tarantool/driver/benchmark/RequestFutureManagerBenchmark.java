@@ -0,0 +1,140 @@
+package io.tarantool.driver.benchmark;
+
+import io.netty.util.HashedWheelTimer;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.core.RequestFutureManager;
+import io.tarantool.driver.core.TarantoolDaemonThreadFactory;
+import io.tarantool.driver.core.TarantoolRequestMetadata;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the request registration and completion throughput of {@link RequestFutureManager} with 16 producer
+ * threads, compared with the former implementation based on a scheduled executor and a {@link ConcurrentHashMap}.
+ * Does not require a running Tarantool instance.
+ *
+ * @author Alexey Kuzin
+ */
+@State(Scope.Benchmark)
+public class RequestFutureManagerBenchmark {
+
+    private static final int REQUEST_TIMEOUT = 1000;
+    private static final int REQUESTS_PER_THREAD = 1024;
+    private static final AtomicLong syncIds = new AtomicLong();
+
+    private HashedWheelTimer timer;
+    private ScheduledExecutorService scheduler;
+    private RequestFutureManager manager;
+    private LegacyRequestFutureManager legacyManager;
+
+    @Setup(Level.Trial)
+    public void doSetup() {
+        TarantoolClientConfig config = new TarantoolClientConfig.Builder()
+            .withRequestTimeout(REQUEST_TIMEOUT)
+            .build();
+        timer = new HashedWheelTimer(new TarantoolDaemonThreadFactory("benchmark-timeout"),
+            10, TimeUnit.MILLISECONDS);
+        scheduler = Executors.newSingleThreadScheduledExecutor(new TarantoolDaemonThreadFactory("benchmark-timeout"));
+        manager = new RequestFutureManager(config, timer);
+        legacyManager = new LegacyRequestFutureManager(scheduler);
+    }
+
+    @TearDown(Level.Trial)
+    public void doTearDown() {
+        timer.stop();
+        scheduler.shutdownNow();
+    }
+
+    @State(Scope.Thread)
+    public static class Requests {
+        private final TarantoolRequest[] requests = new TarantoolRequest[REQUESTS_PER_THREAD];
+        private int next;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            for (int i = 0; i < requests.length; i++) {
+                requests[i] = new TarantoolRequest(TarantoolRequestType.IPROTO_CALL, null);
+                requests[i].getHeader().setSync(syncIds.incrementAndGet());
+            }
+        }
+
+        TarantoolRequest next() {
+            TarantoolRequest request = requests[next];
+            next = (next + 1) & (REQUESTS_PER_THREAD - 1);
+            return request;
+        }
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Threads(16)
+    @BenchmarkMode(Mode.Throughput)
+    public Object submitAndComplete(Requests requests) {
+        TarantoolRequest request = requests.next();
+        CompletableFuture<Object> future = manager.submitRequest(request, null);
+        TarantoolRequestMetadata requestMeta = manager.removeRequest(request.getHeader().getSync());
+        future.complete(requestMeta);
+        return future;
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Threads(16)
+    @BenchmarkMode(Mode.Throughput)
+    public Object submitAndCompleteLegacy(Requests requests) {
+        TarantoolRequest request = requests.next();
+        CompletableFuture<Object> future = legacyManager.submitRequest(request);
+        CompletableFuture<?> registered = legacyManager.getRequest(request.getHeader().getSync());
+        future.complete(registered);
+        return future;
+    }
+
+    /**
+     * The former request registry: one scheduled task per request and a map with boxed keys, cleaned up by
+     * a completion callback
+     */
+    private static final class LegacyRequestFutureManager {
+        private final ScheduledExecutorService timeoutScheduler;
+        private final Map<Long, CompletableFuture<?>> requestFutures = new ConcurrentHashMap<>();
+
+        LegacyRequestFutureManager(ScheduledExecutorService timeoutScheduler) {
+            this.timeoutScheduler = timeoutScheduler;
+        }
+
+        <T> CompletableFuture<T> submitRequest(TarantoolRequest request) {
+            CompletableFuture<T> requestFuture = new CompletableFuture<>();
+            long requestId = request.getHeader().getSync();
+            requestFuture.whenComplete((r, e) -> requestFutures.remove(requestId));
+            requestFutures.put(requestId, requestFuture);
+            timeoutScheduler.schedule(() -> {
+                if (!requestFuture.isDone()) {
+                    requestFuture.completeExceptionally(new TimeoutException());
+                }
+            }, REQUEST_TIMEOUT, TimeUnit.MILLISECONDS);
+            return requestFuture;
+        }
+
+        CompletableFuture<?> getRequest(Long requestId) {
+            return requestFutures.get(requestId);
+        }
+    }
+}
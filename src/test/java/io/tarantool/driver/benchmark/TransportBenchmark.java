@@ -0,0 +1,91 @@
+package io.tarantool.driver.benchmark;
+
+import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.TarantoolClientFactory;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.connection.TarantoolTransportType;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.TarantoolContainer;
+import org.testcontainers.containers.output.Slf4jLogConsumer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the request latency and throughput of the client with different network transports. A transport which
+ * is not available on the current platform falls back to NIO, that is reported in the log.
+ *
+ * @author Alexey Kuzin
+ */
+@State(Scope.Benchmark)
+public class TransportBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final Logger log = LoggerFactory.getLogger(TransportBenchmark.class);
+
+    @Param({"NIO", "EPOLL", "IO_URING"})
+    public TarantoolTransportType transportType;
+
+    private TarantoolContainer tarantoolContainer;
+    private TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> tarantoolClient;
+
+    @Setup(Level.Trial)
+    public void doSetup() {
+        tarantoolContainer = new TarantoolContainer()
+            .withScriptFileName("org/testcontainers/containers/benchmark.lua")
+            .withLogConsumer(new Slf4jLogConsumer(log));
+        tarantoolContainer.start();
+        tarantoolClient = TarantoolClientFactory.createClient()
+            .withAddress(tarantoolContainer.getHost(), tarantoolContainer.getPort())
+            .withCredentials(tarantoolContainer.getUsername(), tarantoolContainer.getPassword())
+            .withTransportType(transportType)
+            .build();
+        log.info("Connected to Tarantool {}, requested transport {}",
+            tarantoolClient.getVersion(), tarantoolClient.getConfig().getTransportType());
+    }
+
+    @TearDown(Level.Trial)
+    public void doTearDown() throws Exception {
+        tarantoolClient.close();
+        tarantoolContainer.close();
+    }
+
+    @Benchmark
+    @Fork(1)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void singleRequestLatency(Blackhole bh) {
+        bh.consume(tarantoolClient.call("empty_function", Collections.emptyList()).join());
+    }
+
+    @Benchmark
+    @Fork(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void concurrentRequestsThroughput(Blackhole bh) {
+        List<CompletableFuture<List<?>>> futures = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            futures.add(tarantoolClient.call("empty_function", Collections.emptyList()));
+        }
+        futures.forEach(future -> bh.consume(future.join()));
+    }
+}
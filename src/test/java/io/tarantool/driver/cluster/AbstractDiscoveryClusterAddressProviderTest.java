@@ -0,0 +1,164 @@
+package io.tarantool.driver.cluster;
+
+import io.tarantool.driver.api.TarantoolClientResources;
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.connection.TarantoolTransportType;
+import io.tarantool.driver.core.TarantoolClientResourcesImpl;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+class AbstractDiscoveryClusterAddressProviderTest {
+
+    private static final TarantoolServerAddress ADDRESS = new TarantoolServerAddress("localhost", 3301);
+
+    @Test
+    void test_startDiscoveryTask_shouldNotBlockSharedScheduler_ifDiscoveryIsInProgress() throws Exception {
+        //given
+        TarantoolClientResources resources = TarantoolClientResourcesImpl.builder()
+            .withTransportType(TarantoolTransportType.NIO)
+            .withEventLoopThreadsNumber(1)
+            .build();
+        CompletableFuture<Collection<TarantoolServerAddress>> discovered = new CompletableFuture<>();
+        TestDiscoveryClusterAddressProvider provider = new TestDiscoveryClusterAddressProvider(
+            discoveryConfig(resources), discovered);
+
+        try {
+            //when
+            CompletableFuture<Boolean> otherTask = new CompletableFuture<>();
+            resources.getTimeoutScheduler().schedule(() -> otherTask.complete(true), 10, TimeUnit.MILLISECONDS);
+
+            //then
+            assertTrue(otherTask.get(1, TimeUnit.SECONDS));
+            assertEquals(1, provider.discoveries.get());
+            discovered.complete(Collections.singletonList(ADDRESS));
+            assertEquals(Collections.singletonList(ADDRESS), provider.getAddresses());
+        } finally {
+            provider.close();
+            resources.close();
+        }
+    }
+
+    @Test
+    void test_close_shouldKeepSharedSchedulerRunning_ifDiscoveryTaskIsCancelled() throws Exception {
+        //given
+        TarantoolClientResources resources = TarantoolClientResourcesImpl.builder()
+            .withTransportType(TarantoolTransportType.NIO)
+            .withEventLoopThreadsNumber(1)
+            .build();
+        TestDiscoveryClusterAddressProvider provider = new TestDiscoveryClusterAddressProvider(
+            discoveryConfig(resources), CompletableFuture.completedFuture(Collections.singletonList(ADDRESS)));
+        assertEquals(Collections.singletonList(ADDRESS), provider.getAddresses());
+
+        try {
+            //when
+            provider.close();
+
+            //then
+            assertEquals(1, resources.refCnt());
+            assertFalse(resources.getTimeoutScheduler().isShutdown());
+            CompletableFuture<Boolean> otherTask = new CompletableFuture<>();
+            resources.getTimeoutScheduler().execute(() -> otherTask.complete(!Thread.currentThread().isInterrupted()));
+            assertTrue(otherTask.get(1, TimeUnit.SECONDS));
+        } finally {
+            resources.close();
+        }
+    }
+
+    @Test
+    void test_getAddressesAsync_shouldCompleteAfterFirstDiscovery() throws Exception {
+        //given
+        TarantoolClientResources resources = TarantoolClientResourcesImpl.builder()
+            .withTransportType(TarantoolTransportType.NIO)
+            .withEventLoopThreadsNumber(1)
+            .build();
+        CompletableFuture<Collection<TarantoolServerAddress>> discovered = new CompletableFuture<>();
+        TestDiscoveryClusterAddressProvider provider = new TestDiscoveryClusterAddressProvider(
+            discoveryConfig(resources), discovered);
+
+        try {
+            //when
+            CompletableFuture<Collection<TarantoolServerAddress>> addresses = provider.getAddressesAsync();
+
+            //then
+            assertFalse(addresses.isDone());
+            discovered.complete(Collections.singletonList(ADDRESS));
+            assertEquals(Collections.singletonList(ADDRESS), addresses.get(1, TimeUnit.SECONDS));
+        } finally {
+            provider.close();
+            resources.close();
+        }
+    }
+
+    @Test
+    void test_getAddressesAsync_shouldFail_ifProviderIsClosedBeforeDiscovery() {
+        //given
+        TarantoolClientResources resources = TarantoolClientResourcesImpl.builder()
+            .withTransportType(TarantoolTransportType.NIO)
+            .withEventLoopThreadsNumber(1)
+            .build();
+        TestDiscoveryClusterAddressProvider provider = new TestDiscoveryClusterAddressProvider(
+            discoveryConfig(resources), new CompletableFuture<>());
+        CompletableFuture<Collection<TarantoolServerAddress>> addresses = provider.getAddressesAsync();
+
+        try {
+            //when
+            provider.close();
+
+            //then
+            ExecutionException e = assertThrows(ExecutionException.class, () -> addresses.get(1, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof TarantoolClientException);
+            assertThrows(TarantoolClientException.class, provider::getAddresses);
+        } finally {
+            resources.close();
+        }
+    }
+
+    private static TarantoolClusterDiscoveryConfig discoveryConfig(TarantoolClientResources resources) {
+        return new TarantoolClusterDiscoveryConfig.Builder()
+            .withEndpoint(new TarantoolClusterDiscoveryEndpoint() {
+            })
+            .withDelay(10)
+            .withClientResources(resources)
+            .build();
+    }
+
+    private static class TestDiscoveryClusterAddressProvider extends AbstractDiscoveryClusterAddressProvider {
+
+        private final CompletableFuture<Collection<TarantoolServerAddress>> discovered;
+        private final AtomicInteger discoveries = new AtomicInteger();
+
+        TestDiscoveryClusterAddressProvider(
+            TarantoolClusterDiscoveryConfig discoveryConfig,
+            CompletableFuture<Collection<TarantoolServerAddress>> discovered) {
+            super(discoveryConfig);
+            this.discovered = discovered;
+            startDiscoveryTask();
+        }
+
+        @Override
+        protected Collection<TarantoolServerAddress> discoverAddresses() {
+            return discovered.join();
+        }
+
+        @Override
+        protected CompletableFuture<Collection<TarantoolServerAddress>> discoverAddressesAsync() {
+            discoveries.incrementAndGet();
+            return discovered;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.tarantool.driver.cluster;
+
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.connection.ConnectionSelectionStrategy;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.WeightedStrategyFactory;
+import io.tarantool.driver.core.connection.StubTarantoolConnection;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+class ServerNodeInfoTest {
+
+    @Test
+    void test_toServerAddress_shouldUsePriorityAsWeight_ifWeightIsNotSpecified() {
+        assertEquals(3, node("localhost:3301", "healthy", 3, null).toServerAddress().getWeight());
+    }
+
+    @Test
+    void test_toServerAddress_shouldUseDefaultWeight_ifPriorityIsZero() {
+        TarantoolServerAddress address = node("localhost:3301", "healthy", 0, null).toServerAddress();
+
+        assertEquals(TarantoolServerAddress.DEFAULT_WEIGHT, address.getWeight());
+        assertTrue(address.isHealthy());
+    }
+
+    @Test
+    void test_toServerAddress_shouldUseWeight_ifWeightIsSpecified() {
+        TarantoolServerAddress address = node("localhost:3301", "unhealthy", 5, 0).toServerAddress();
+
+        assertEquals(0, address.getWeight());
+        assertFalse(address.isHealthy());
+    }
+
+    @Test
+    void test_toServerAddress_shouldBalanceNodesEvenly_ifAllPrioritiesAreZero() {
+        //given
+        StubTarantoolConnection first = new StubTarantoolConnection("127.0.0.1", 3301);
+        StubTarantoolConnection second = new StubTarantoolConnection("127.0.0.2", 3301);
+        StubTarantoolConnection unhealthy = new StubTarantoolConnection("127.0.0.3", 3301);
+        Map<TarantoolServerAddress, List<TarantoolConnection>> connections = new LinkedHashMap<>();
+        connections.put(node("127.0.0.1:3301", "healthy", 0, null).toServerAddress(),
+            Collections.singletonList(first));
+        connections.put(node("127.0.0.2:3301", "available", 0, null).toServerAddress(),
+            Collections.singletonList(second));
+        connections.put(node("127.0.0.3:3301", "unhealthy", 0, null).toServerAddress(),
+            Collections.singletonList(unhealthy));
+        ConnectionSelectionStrategy strategy =
+            new WeightedStrategyFactory(0).createForAddresses(new TarantoolClientConfig(), connections);
+
+        //when
+        int firstSelections = 0;
+        for (int i = 0; i < 1000; i++) {
+            TarantoolConnection connection = strategy.next();
+            assertNotSame(unhealthy, connection);
+            if (connection == first) {
+                firstSelections++;
+            }
+        }
+
+        //then
+        assertTrue(firstSelections > 400 && firstSelections < 600, "Selections of the first node: " +
+            firstSelections);
+    }
+
+    private static ServerNodeInfo node(String uri, String status, Integer priority, Integer weight) {
+        ServerNodeInfo node = new ServerNodeInfo();
+        node.setUri(uri);
+        node.setStatus(status);
+        node.setPriority(priority);
+        node.setWeight(weight);
+        return node;
+    }
+}
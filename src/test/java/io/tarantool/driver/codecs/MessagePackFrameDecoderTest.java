@@ -0,0 +1,296 @@
+package io.tarantool.driver.codecs;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+import io.tarantool.driver.protocol.NotEmptyTarantoolResponseBody;
+import io.tarantool.driver.protocol.TarantoolResponse;
+import io.tarantool.driver.protocol.TarantoolResponseBodyType;
+import io.tarantool.driver.protocol.TarantoolResponseType;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessagePackFrameDecoderTest {
+
+    @Test
+    void test_decode_shouldReturnResponses_ifSeveralFramesInOneBuffer() throws IOException {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameDecoder());
+        ByteBuf frames = Unpooled.wrappedBuffer(frame(1, "abc"), frame(2, "def"));
+
+        //when
+        channel.writeInbound(frames);
+
+        //then
+        assertResponse(channel.readInbound(), 1, "abc");
+        assertResponse(channel.readInbound(), 2, "def");
+        assertNull(channel.readInbound());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void test_decode_shouldWaitForFullFrame_ifFrameIsSplit() throws IOException {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameDecoder());
+        byte[] frame = frame(42, "split");
+
+        //when
+        for (int i = 0; i < frame.length - 1; i++) {
+            channel.writeInbound(Unpooled.wrappedBuffer(frame, i, 1));
+            assertNull(channel.readInbound());
+        }
+        channel.writeInbound(Unpooled.wrappedBuffer(frame, frame.length - 1, 1));
+
+        //then
+        assertResponse(channel.readInbound(), 42, "split");
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void test_decode_shouldReturnResponse_ifBufferIsDirect() throws IOException {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameDecoder());
+        char[] chars = new char[20000];
+        Arrays.fill(chars, 'x');
+        String data = new String(chars);
+        byte[] frame = frame(7, data);
+        ByteBuf buffer = Unpooled.directBuffer(frame.length);
+        buffer.writeBytes(frame);
+
+        //when
+        channel.writeInbound(buffer);
+
+        //then
+        assertResponse(channel.readInbound(), 7, data);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void test_decode_shouldKeepRawData_ifLazyResponseBodyIsEnabled() throws IOException {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameDecoder(true));
+        ByteBuf buffer = Unpooled.wrappedBuffer(frame(3, "lazy"));
+
+        //when
+        channel.writeInbound(buffer);
+        TarantoolResponse response = channel.readInbound();
+
+        //then
+        NotEmptyTarantoolResponseBody body = (NotEmptyTarantoolResponseBody) response.getBody();
+        assertNotNull(body.getRawData());
+        assertEquals(1, buffer.refCnt());
+        assertResponse(response, 3, "lazy");
+        assertNull(body.getRawData());
+        assertTrue(response.release());
+        assertEquals(0, buffer.refCnt());
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void test_release_shouldReleaseRawData_ifDataIsNotUnpacked() throws IOException {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameDecoder(true));
+        ByteBuf buffer = Unpooled.wrappedBuffer(frame(4, "unused"));
+        channel.writeInbound(buffer);
+        TarantoolResponse response = channel.readInbound();
+
+        //when
+        response.release();
+
+        //then
+        assertEquals(0, buffer.refCnt());
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void test_decode_shouldThrowException_ifFrameSizeIsNotUnsignedInteger() {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameDecoder());
+
+        //then
+        assertThrows(DecoderException.class,
+            () -> channel.writeInbound(Unpooled.wrappedBuffer(new byte[]{(byte) 0xa1, 0x61})));
+        channel.releaseInbound();
+    }
+
+    @Test
+    void test_decode_shouldKeepPosition_ifSelectResponseContainsPosition() throws IOException {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameDecoder(true));
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packMapHeader(2)
+            .packInt(0x00).packInt(0)
+            .packInt(0x01).packLong(5);
+        packer.packMapHeader(2)
+            .packInt(0x35).packRawStringHeader(2).writePayload(new byte[]{(byte) 0x91, 0x01})
+            .packInt(0x30).packArrayHeader(1).packString("tuple");
+        byte[] body = packer.toByteArray();
+        ByteBuf frame = Unpooled.buffer(body.length + 5);
+        frame.writeByte(MessagePack.Code.UINT32).writeInt(body.length).writeBytes(body);
+
+        //when
+        channel.writeInbound(frame);
+
+        //then
+        TarantoolResponse response = channel.readInbound();
+        assertEquals(TarantoolResponseBodyType.IPROTO_POSITION, response.getBody().getResponseBodyType());
+        Map<Value, Value> data = response.getBody().getData().asMapValue().map();
+        assertEquals("tuple", data.get(ValueFactory.newInteger(0x30)).asArrayValue().get(0).asStringValue().asString());
+        assertEquals(2, data.get(ValueFactory.newInteger(0x35)).asRawValue().asByteArray().length);
+        response.release();
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void test_decode_shouldKeepPosition_ifPositionFollowsData() throws IOException {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameDecoder(true));
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packMapHeader(2)
+            .packInt(0x00).packInt(0)
+            .packInt(0x01).packLong(6);
+        packer.packMapHeader(2)
+            .packInt(0x30).packArrayHeader(1).packString("tuple")
+            .packInt(0x35).packRawStringHeader(2).writePayload(new byte[]{(byte) 0x91, 0x01});
+
+        //when
+        channel.writeInbound(frame(packer));
+
+        //then
+        TarantoolResponse response = channel.readInbound();
+        assertEquals(TarantoolResponseBodyType.IPROTO_POSITION, response.getBody().getResponseBodyType());
+        Map<Value, Value> data = response.getBody().getData().asMapValue().map();
+        assertEquals("tuple", data.get(ValueFactory.newInteger(0x30)).asArrayValue().get(0).asStringValue().asString());
+        assertEquals(2, data.get(ValueFactory.newInteger(0x35)).asRawValue().asByteArray().length);
+        response.release();
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void test_decode_shouldKeepPosition_ifPositionFollowsDataInPooledDirectBuffer() throws IOException {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameDecoder(true));
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packMapHeader(2)
+            .packInt(0x00).packInt(0)
+            .packInt(0x01).packLong(8);
+        packer.packMapHeader(2)
+            .packInt(0x30).packArrayHeader(1).packString("direct")
+            .packInt(0x35).packRawStringHeader(2).writePayload(new byte[]{(byte) 0x91, 0x01});
+        ByteBuf heapFrame = frame(packer);
+        ByteBuf frame = PooledByteBufAllocator.DEFAULT.directBuffer(heapFrame.readableBytes());
+        frame.writeBytes(heapFrame);
+        heapFrame.release();
+
+        //when
+        channel.writeInbound(frame);
+
+        //then
+        TarantoolResponse response = channel.readInbound();
+        assertEquals(TarantoolResponseBodyType.IPROTO_POSITION, response.getBody().getResponseBodyType());
+        Map<Value, Value> data = response.getBody().getData().asMapValue().map();
+        assertEquals("direct",
+            data.get(ValueFactory.newInteger(0x30)).asArrayValue().get(0).asStringValue().asString());
+        assertEquals(2, data.get(ValueFactory.newInteger(0x35)).asRawValue().asByteArray().length);
+        response.release();
+        assertEquals(0, frame.refCnt());
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void test_decode_shouldUnpackWholeBody_ifDataIsFollowedByOtherKeys() throws IOException {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameDecoder(true));
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packMapHeader(2)
+            .packInt(0x00).packInt(0)
+            .packInt(0x01).packLong(7);
+        packer.packMapHeader(3)
+            .packInt(0x30).packArrayHeader(1).packString("raw")
+            .packString("unknown").packInt(1)
+            .packInt(0x36).packArrayHeader(0);
+
+        //when
+        channel.writeInbound(frame(packer));
+
+        //then
+        TarantoolResponse response = channel.readInbound();
+        NotEmptyTarantoolResponseBody body = (NotEmptyTarantoolResponseBody) response.getBody();
+        assertNull(body.getRawData());
+        assertResponse(response, 7, "raw");
+        assertEquals(response.getSize(), packer.getTotalWrittenBytes());
+        response.release();
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void test_decode_shouldReturnSqlBody_ifExecuteResponseStartsWithData() throws IOException {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameDecoder(true));
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packMapHeader(2)
+            .packInt(0x00).packInt(0)
+            .packInt(0x01).packLong(9);
+        packer.packMapHeader(2)
+            .packInt(0x30).packArrayHeader(1).packArrayHeader(1).packInt(1)
+            .packInt(0x32).packArrayHeader(1).packMapHeader(2)
+            .packInt(0x00).packString("ID")
+            .packInt(0x01).packString("integer");
+
+        //when
+        channel.writeInbound(frame(packer));
+
+        //then
+        TarantoolResponse response = channel.readInbound();
+        assertEquals(TarantoolResponseBodyType.IPROTO_SQL, response.getBody().getResponseBodyType());
+        Map<Value, Value> data = response.getBody().getData().asMapValue().map();
+        assertEquals(1, data.get(ValueFactory.newInteger(0x30)).asArrayValue().size());
+        assertEquals(1, data.get(ValueFactory.newInteger(0x32)).asArrayValue().size());
+        response.release();
+        assertFalse(channel.finish());
+    }
+
+    private static void assertResponse(Object message, long syncId, String data) {
+        TarantoolResponse response = (TarantoolResponse) message;
+        assertEquals(syncId, response.getSyncId());
+        assertEquals(TarantoolResponseType.IPROTO_OK, response.getResponseType());
+        assertEquals(TarantoolResponseBodyType.IPROTO_DATA, response.getBody().getResponseBodyType());
+        assertEquals(data, response.getBody().getData().asArrayValue().get(0).asStringValue().asString());
+    }
+
+    private static byte[] frame(long syncId, String data) throws IOException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packMapHeader(2)
+            .packInt(0x00).packInt(0)
+            .packInt(0x01).packLong(syncId);
+        packer.packMapHeader(1)
+            .packInt(0x30).packArrayHeader(1).packString(data);
+        byte[] body = packer.toByteArray();
+        ByteBuf frame = Unpooled.buffer(body.length + 5);
+        frame.writeByte(MessagePack.Code.UINT32).writeInt(body.length).writeBytes(body);
+        return frame.array();
+    }
+
+    private static ByteBuf frame(MessageBufferPacker packer) {
+        byte[] body = packer.toByteArray();
+        ByteBuf frame = Unpooled.buffer(body.length + 5);
+        frame.writeByte(MessagePack.Code.UINT32).writeInt(body.length).writeBytes(body);
+        return frame;
+    }
+}
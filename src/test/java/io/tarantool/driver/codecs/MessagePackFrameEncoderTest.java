@@ -0,0 +1,64 @@
+package io.tarantool.driver.codecs;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.protocol.TarantoolHeader;
+import io.tarantool.driver.protocol.TarantoolRequestType;
+import io.tarantool.driver.protocol.requests.TarantoolCallRequest;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class MessagePackFrameEncoderTest {
+
+    private static final MessagePackMapper mapper =
+        DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    @Test
+    void test_encode_shouldWriteLengthPrefixedFrames() throws Exception {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameEncoder(mapper));
+        char[] chars = new char[20000];
+        Arrays.fill(chars, 'x');
+        String bigArgument = new String(chars);
+        TarantoolCallRequest first = new TarantoolCallRequest.Builder()
+            .withFunctionName("first").withArguments(Collections.singletonList(bigArgument)).build(mapper);
+        TarantoolCallRequest second = new TarantoolCallRequest.Builder()
+            .withFunctionName("second").withArguments(Arrays.asList(1, "two")).build(mapper);
+
+        //when
+        channel.writeOutbound(first, second);
+
+        //then
+        assertFrame(channel.readOutbound(), first.getHeader().getSync(), "first", bigArgument);
+        assertFrame(channel.readOutbound(), second.getHeader().getSync(), "second", 1L, "two");
+        assertFalse(channel.finish());
+    }
+
+    private static void assertFrame(ByteBuf frame, long syncId, String functionName, Object... arguments)
+        throws Exception {
+        try (ByteBufInputStream in = new ByteBufInputStream(frame, true)) {
+            MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(in);
+            assertEquals(frame.readableBytes() - 5, unpacker.unpackInt());
+            TarantoolHeader header = TarantoolHeader.fromMessagePackValue(unpacker.unpackValue());
+            assertEquals(syncId, header.getSync());
+            assertEquals(TarantoolRequestType.IPROTO_CALL.getCode(), header.getCode());
+            Map<Value, Value> body = unpacker.unpackValue().asMapValue().map();
+            assertEquals(functionName, body.get(ValueFactory.newInteger(0x22)).asStringValue().asString());
+            assertEquals(mapper.toValue(Arrays.asList(arguments)), body.get(ValueFactory.newInteger(0x21)));
+            assertFalse(unpacker.hasNext());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.tarantool.driver.core;
+
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.connection.ConnectionSelectionStrategy;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.LatencyAwareStrategyFactory;
+import io.tarantool.driver.core.connection.StubTarantoolConnection;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+class LatencyAwareStrategyTest {
+
+    private static final TarantoolClientConfig config = new TarantoolClientConfig();
+
+    @Test
+    void test_next_shouldSelectFasterConnection_ifProbingIsDisabled() {
+        //given
+        StubTarantoolConnection near = connection("127.0.0.1", TimeUnit.MILLISECONDS.toNanos(1));
+        StubTarantoolConnection far = connection("127.0.0.2", TimeUnit.MILLISECONDS.toNanos(10));
+        ConnectionSelectionStrategy strategy =
+            new LatencyAwareStrategyFactory(0).create(config, Arrays.asList(near, far));
+
+        //when-then
+        for (int i = 0; i < 100; i++) {
+            assertSame(near, strategy.next());
+        }
+    }
+
+    @Test
+    void test_next_shouldSelectSlowerConnection_ifFasterOneIsLoaded() {
+        //given
+        StubTarantoolConnection near = connection("127.0.0.1", TimeUnit.MILLISECONDS.toNanos(1));
+        StubTarantoolConnection far = connection("127.0.0.2", TimeUnit.MILLISECONDS.toNanos(10));
+        near.setPendingRequestsCount(20);
+        ConnectionSelectionStrategy strategy =
+            new LatencyAwareStrategyFactory(0).create(config, Arrays.asList(near, far));
+
+        //when-then
+        assertSame(far, strategy.next());
+    }
+
+    @Test
+    void test_next_shouldSelectNotMeasuredConnection_ifOthersHaveResponseTime() {
+        //given
+        StubTarantoolConnection measured = connection("127.0.0.1", TimeUnit.MILLISECONDS.toNanos(1));
+        StubTarantoolConnection added = connection("127.0.0.2", 0);
+        ConnectionSelectionStrategy strategy =
+            new LatencyAwareStrategyFactory(0).create(config, Arrays.asList(measured, added));
+
+        //when-then
+        assertSame(added, strategy.next());
+    }
+
+    @Test
+    void test_next_shouldProbeSlowerConnection_ifProbingIsEnabled() {
+        //given
+        StubTarantoolConnection near = connection("127.0.0.1", TimeUnit.MILLISECONDS.toNanos(1));
+        StubTarantoolConnection far = connection("127.0.0.2", TimeUnit.MILLISECONDS.toNanos(10));
+        ConnectionSelectionStrategy strategy =
+            LatencyAwareStrategyFactory.INSTANCE.create(config, Arrays.asList(near, far));
+
+        //when
+        int farSelections = 0;
+        for (int i = 0; i < 10000; i++) {
+            TarantoolConnection connection = strategy.next();
+            if (connection == far) {
+                farSelections++;
+            }
+        }
+
+        //then
+        // the probing requests are sent to a random connection, half of them to the slower one
+        assertTrue(farSelections > 100 && farSelections < 500, "Selections of the slower connection: " +
+            farSelections);
+    }
+
+    @Test
+    void test_constructor_shouldThrowException_ifProbeRatioIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyAwareStrategyFactory(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> new LatencyAwareStrategyFactory(1));
+    }
+
+    private static StubTarantoolConnection connection(String host, long averageResponseTime) {
+        StubTarantoolConnection connection = new StubTarantoolConnection(host, 3301);
+        connection.setAverageResponseTime(averageResponseTime);
+        return connection;
+    }
+}
@@ -0,0 +1,139 @@
+package io.tarantool.driver.core;
+
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.connection.ConnectionSelectionStrategy;
+import io.tarantool.driver.api.connection.ConnectionSelectionStrategyFactory;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.LeastOutstandingRequestsStrategyFactory;
+import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.RoundRobinStrategyFactory;
+import io.tarantool.driver.core.connection.StubTarantoolConnection;
+import io.tarantool.driver.exceptions.NoAvailableConnectionsException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+class LeastOutstandingRequestsStrategyTest {
+
+    private static final TarantoolClientConfig config = new TarantoolClientConfig();
+
+    @Test
+    void test_next_shouldSelectLessLoadedConnection_ifPendingRequestsCountsDiffer() {
+        //given
+        StubTarantoolConnection loaded = new StubTarantoolConnection("127.0.0.1", 3301);
+        StubTarantoolConnection idle = new StubTarantoolConnection("127.0.0.2", 3301);
+        loaded.setPendingRequestsCount(10);
+        ConnectionSelectionStrategy strategy =
+            LeastOutstandingRequestsStrategyFactory.INSTANCE.create(config, Arrays.asList(loaded, idle));
+
+        //when
+        List<TarantoolConnection> selected = IntStream.range(0, 100)
+            .mapToObj(i -> strategy.next())
+            .collect(Collectors.toList());
+
+        //then
+        selected.forEach(connection -> assertSame(idle, connection));
+    }
+
+    @Test
+    void test_next_shouldSkipClosedConnections_ifSomeConnectionsAreClosed() {
+        //given
+        List<StubTarantoolConnection> connections = IntStream.range(0, 10)
+            .mapToObj(i -> new StubTarantoolConnection("127.0.0.1", 3301 + i))
+            .collect(Collectors.toList());
+        ConnectionSelectionStrategy strategy =
+            LeastOutstandingRequestsStrategyFactory.INSTANCE.create(config, new ArrayList<>(connections));
+
+        //when
+        for (int i = 1; i < connections.size(); i++) {
+            connections.get(i).close();
+        }
+
+        //then
+        for (int i = 0; i < 100; i++) {
+            assertSame(connections.get(0), strategy.next());
+        }
+        connections.get(0).close();
+        assertThrows(NoAvailableConnectionsException.class, strategy::next);
+    }
+
+    @Test
+    void test_next_shouldThrowException_ifNoConnections() {
+        //given
+        ConnectionSelectionStrategy strategy =
+            LeastOutstandingRequestsStrategyFactory.INSTANCE.create(config, Collections.emptyList());
+
+        //when-then
+        assertThrows(IllegalArgumentException.class,
+            () -> LeastOutstandingRequestsStrategyFactory.INSTANCE.create(config, null));
+        assertThrows(NoAvailableConnectionsException.class, strategy::next);
+    }
+
+    @Test
+    void test_next_shouldReduceTailLatency_ifOneServerIsSlow() {
+        //given
+        // 4 servers process the requests one by one, the last one is 20 times slower than the others
+        int[] serviceTimes = {1, 1, 1, 20};
+
+        //when
+        long roundRobinLatency = simulateTailLatency(RoundRobinStrategyFactory.INSTANCE, serviceTimes);
+        long leastOutstandingLatency =
+            simulateTailLatency(LeastOutstandingRequestsStrategyFactory.INSTANCE, serviceTimes);
+
+        //then
+        assertTrue(leastOutstandingLatency * 10 < roundRobinLatency, String.format(
+            "p99 latency: least outstanding requests %d, round robin %d",
+            leastOutstandingLatency, roundRobinLatency));
+    }
+
+    /**
+     * Sends 2 requests per time unit for 10000 time units and returns the 99th percentile of the request latency
+     */
+    private static long simulateTailLatency(ConnectionSelectionStrategyFactory factory, int[] serviceTimes) {
+        List<StubTarantoolConnection> connections = IntStream.range(0, serviceTimes.length)
+            .mapToObj(i -> new StubTarantoolConnection("127.0.0.1", 3301 + i))
+            .collect(Collectors.toList());
+        Map<TarantoolConnection, Integer> servers = new HashMap<>();
+        List<ArrayDeque<Long>> completionTimes = new ArrayList<>();
+        for (int i = 0; i < connections.size(); i++) {
+            servers.put(connections.get(i), i);
+            completionTimes.add(new ArrayDeque<>());
+        }
+        ConnectionSelectionStrategy strategy = factory.create(config, new ArrayList<>(connections));
+        List<Long> latencies = new ArrayList<>();
+        for (long now = 0; now < 10000; now++) {
+            for (int i = 0; i < connections.size(); i++) {
+                ArrayDeque<Long> pending = completionTimes.get(i);
+                while (!pending.isEmpty() && pending.peekFirst() <= now) {
+                    pending.pollFirst();
+                }
+                connections.get(i).setPendingRequestsCount(pending.size());
+            }
+            for (int request = 0; request < 2; request++) {
+                int server = servers.get(strategy.next());
+                ArrayDeque<Long> pending = completionTimes.get(server);
+                long startTime = pending.isEmpty() ? now : pending.peekLast();
+                long completionTime = startTime + serviceTimes[server];
+                pending.addLast(completionTime);
+                connections.get(server).setPendingRequestsCount(pending.size());
+                latencies.add(completionTime - now);
+            }
+        }
+        Collections.sort(latencies);
+        return latencies.get(latencies.size() * 99 / 100);
+    }
+}
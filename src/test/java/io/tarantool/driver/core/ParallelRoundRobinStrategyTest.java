@@ -1,6 +1,7 @@
 package io.tarantool.driver.core;
 
 import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolServerAddress;
 import io.tarantool.driver.api.connection.ConnectionSelectionStrategy;
 import io.tarantool.driver.api.connection.TarantoolConnection;
 import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.ParallelRoundRobinStrategyFactory;
@@ -10,7 +11,9 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -48,6 +51,30 @@ public class ParallelRoundRobinStrategyTest {
         assertEquals("127.0.0.1", ((CustomConnection) strategy.next()).getHost());
     }
 
+    @Test
+    public void testGetAddressForServersWithDifferentPoolSizes() {
+        Map<TarantoolServerAddress, List<TarantoolConnection>> connections = new LinkedHashMap<>();
+        connections.put(new TarantoolServerAddress("127.0.0.1", 3001), Arrays.asList(
+            new CustomConnection("127.0.0.1", 3001),
+            new CustomConnection("127.0.0.1", 3002),
+            new CustomConnection("127.0.0.1", 3003)
+        ));
+        connections.put(new TarantoolServerAddress("127.0.0.2", 3001), Collections.singletonList(
+            new CustomConnection("127.0.0.2", 3001)
+        ));
+
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+            .withConnections(2)
+            .build();
+        ConnectionSelectionStrategy strategy =
+            ParallelRoundRobinStrategyFactory.INSTANCE.createForAddresses(config, connections);
+
+        assertEquals("127.0.0.1", ((CustomConnection) strategy.next()).getHost());
+        assertEquals("127.0.0.2", ((CustomConnection) strategy.next()).getHost());
+        assertEquals("127.0.0.1", ((CustomConnection) strategy.next()).getHost());
+        assertEquals("127.0.0.2", ((CustomConnection) strategy.next()).getHost());
+    }
+
     @Test
     public void testBoundaryCases() {
         List<TarantoolConnection> connections = new ArrayList<>();
@@ -0,0 +1,45 @@
+package io.tarantool.driver.core;
+
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.TarantoolTransaction;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+class ProxyTarantoolClientTest {
+
+    @Test
+    void test_transaction_shouldRejectSpaceOperations_ifTheyAreExecutedOnStorages() throws Exception {
+        //given
+        TarantoolClientConfig config = new TarantoolClientConfig();
+        ClusterTarantoolTupleClient clusterClient = new ClusterTarantoolTupleClient(
+            config, new TarantoolServerAddress("localhost", 3301));
+        try (ProxyTarantoolTupleClient client = new ProxyTarantoolTupleClient(clusterClient)) {
+            TarantoolTransaction<TarantoolTuple, TarantoolResult<TarantoolTuple>> transaction = client.transaction();
+
+            //when
+            CompletableFuture<List<?>> called = transaction.call("router_function", 1, 2);
+
+            //then
+            assertThrows(TarantoolClientException.class, () -> transaction.space("test_space"));
+            assertThrows(TarantoolClientException.class, () -> transaction.space(512));
+            assertFalse(called.isDone());
+            transaction.rollback().join();
+            assertTrue(called.isCompletedExceptionally());
+            assertThrows(CompletionException.class, called::join);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package io.tarantool.driver.core;
+
+import io.netty.util.HashedWheelTimer;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestFutureManagerTest {
+
+    private HashedWheelTimer timer;
+    private RequestFutureManager manager;
+
+    @BeforeEach
+    void setUp() {
+        timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS);
+        manager = new RequestFutureManager(new TarantoolClientConfig(), timer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    void test_removeRequest_shouldReturnRequestOnce_ifRequestIsSubmitted() {
+        //given
+        TarantoolRequest request = new TarantoolRequest(TarantoolRequestType.IPROTO_CALL, null);
+        CompletableFuture<Object> future = manager.submitRequest(request, null);
+        long syncId = request.getHeader().getSync();
+
+        //when
+        TarantoolRequestMetadata requestMeta = manager.removeRequest(syncId);
+
+        //then
+        assertSame(future, requestMeta.getFuture());
+        assertNull(manager.removeRequest(syncId));
+        assertNull(manager.getRequest(syncId));
+    }
+
+    @Test
+    void test_submitRequest_shouldFailFuture_ifTimeoutExpires() {
+        //given
+        TarantoolRequest request = new TarantoolRequest(TarantoolRequestType.IPROTO_CALL, null);
+
+        //when
+        CompletableFuture<Object> future = manager.submitRequest(request, 50, null);
+
+        //then
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof TimeoutException);
+        assertNull(manager.getRequest(request.getHeader().getSync()));
+    }
+
+    @Test
+    void test_submitRequest_shouldKeepRequestsApart_ifManyRequestsAreSubmitted() {
+        //given
+        TarantoolRequest[] requests = new TarantoolRequest[1000];
+        for (int i = 0; i < requests.length; i++) {
+            requests[i] = new TarantoolRequest(TarantoolRequestType.IPROTO_CALL, null);
+            requests[i].getHeader().setSync(i + 1L);
+            manager.submitRequest(requests[i], null);
+        }
+
+        //when
+        for (int i = 0; i < requests.length; i += 2) {
+            manager.removeRequest(requests[i].getHeader().getSync()).getFuture().complete(null);
+        }
+
+        //then
+        for (int i = 0; i < requests.length; i++) {
+            TarantoolRequestMetadata requestMeta = manager.getRequest(requests[i].getHeader().getSync());
+            if (i % 2 == 0) {
+                assertNull(requestMeta);
+            } else {
+                assertFalse(requestMeta.getFuture().isDone());
+            }
+        }
+    }
+
+    @Test
+    void test_getPendingRequestsCount_shouldCountRegisteredRequests_ifRequestsAreRemovedOrExpired() throws Exception {
+        //given
+        TarantoolRequest answered = new TarantoolRequest(TarantoolRequestType.IPROTO_CALL, null);
+        answered.getHeader().setSync(1L);
+        TarantoolRequest expiring = new TarantoolRequest(TarantoolRequestType.IPROTO_CALL, null);
+        expiring.getHeader().setSync(2L);
+        TarantoolRequest waiting = new TarantoolRequest(TarantoolRequestType.IPROTO_CALL, null);
+        waiting.getHeader().setSync(3L);
+        manager.submitRequest(answered, null);
+        CompletableFuture<Object> expired = manager.submitRequest(expiring, 50, null);
+        manager.submitRequest(waiting, null);
+        assertEquals(3, manager.getPendingRequestsCount());
+
+        //when
+        manager.removeRequest(1L);
+        manager.removeRequest(1L);
+        assertThrows(ExecutionException.class, () -> expired.get(5, TimeUnit.SECONDS));
+
+        //then
+        assertEquals(1, manager.getPendingRequestsCount());
+    }
+
+    @Test
+    void test_getIdleTime_shouldBeZero_ifRequestsArePending() throws Exception {
+        //given
+        TarantoolRequest request = new TarantoolRequest(TarantoolRequestType.IPROTO_CALL, null);
+        request.getHeader().setSync(1L);
+        Thread.sleep(10);
+        assertTrue(manager.getIdleTime() >= TimeUnit.MILLISECONDS.toNanos(10));
+
+        //when
+        manager.submitRequest(request, null);
+
+        //then
+        assertEquals(0, manager.getIdleTime());
+        manager.removeRequest(1L);
+        manager.recordResponseTime(1000);
+        assertTrue(manager.getIdleTime() < TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    @Test
+    void test_recordPingTime_shouldUpdateAverageWithoutResettingIdleTime_ifPingIsCompleted() throws Exception {
+        //given
+        Thread.sleep(10);
+
+        //when
+        manager.recordPingTime(5000);
+
+        //then
+        assertEquals(5000, manager.getAverageResponseTime());
+        assertTrue(manager.getIdleTime() >= TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    @Test
+    void test_recordResponseTime_shouldMoveAverageTowardsNewSamples_ifSamplesAreRecorded() throws Exception {
+        //given
+        manager.recordResponseTime(1000);
+        assertEquals(1000, manager.getAverageResponseTime());
+        Thread.sleep(50);
+
+        //when
+        manager.recordResponseTime(101000);
+
+        //then
+        long average = manager.getAverageResponseTime();
+        assertTrue(average > 1000 && average < 101000, "Average response time: " + average);
+    }
+
+    @Test
+    void test_recordSchemaVersion_shouldNotifyListener_ifVersionChangesFromKnownOne() {
+        //given
+        List<Long> changes = new ArrayList<>();
+        RequestFutureManager listened = new RequestFutureManager(new TarantoolClientConfig(), timer, changes::add);
+
+        //when
+        listened.recordSchemaVersion(null);
+        listened.recordSchemaVersion(80L);
+        listened.recordSchemaVersion(80L);
+        listened.recordSchemaVersion(81L);
+        listened.recordSchemaVersion(null);
+
+        //then
+        assertEquals(Collections.singletonList(81L), changes);
+        assertEquals(81L, listened.getSchemaVersion());
+    }
+}
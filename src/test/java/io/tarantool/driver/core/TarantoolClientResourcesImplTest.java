@@ -0,0 +1,103 @@
+package io.tarantool.driver.core;
+
+import io.netty.util.Timeout;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolClientResources;
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.connection.TarantoolTransportType;
+import io.tarantool.driver.core.connection.TarantoolTransport;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+class TarantoolClientResourcesImplTest {
+
+    @Test
+    void test_close_shouldKeepResourcesRunning_ifTheyAreUsedByOtherClients() throws Exception {
+        //given
+        TarantoolClientResources resources = TarantoolClientResourcesImpl.builder()
+            .withTransportType(TarantoolTransportType.NIO)
+            .withEventLoopThreadsNumber(1)
+            .build();
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+            .withClientResources(resources)
+            .build();
+        ClusterTarantoolTupleClient first = new ClusterTarantoolTupleClient(config, new TarantoolServerAddress());
+        ClusterTarantoolTupleClient second = new ClusterTarantoolTupleClient(config, new TarantoolServerAddress());
+        assertEquals(3, resources.refCnt());
+
+        //when
+        resources.close();
+        first.close();
+        first.close();
+
+        //then
+        assertEquals(1, resources.refCnt());
+        assertFalse(resources.getEventLoopGroup().isShuttingDown());
+        assertFalse(resources.getTimeoutScheduler().isShutdown());
+        second.close();
+        assertEquals(0, resources.refCnt());
+        assertTrue(resources.getEventLoopGroup().isShuttingDown());
+        assertTrue(resources.getTimeoutScheduler().isShutdown());
+        assertThrows(RejectedExecutionException.class, () -> resources.getCallbackExecutor().execute(() -> {
+        }));
+        assertThrows(IllegalStateException.class, () -> resources.getRequestTimeoutTimer()
+            .newTimeout(timeout -> {
+            }, 1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void test_close_shouldStopTimerAndExecutor_ifTheyAreStartedOnFirstUse() throws Exception {
+        //given
+        TarantoolClientResources resources = TarantoolClientResourcesImpl.builder()
+            .withTransportType(TarantoolTransportType.NIO)
+            .withEventLoopThreadsNumber(1)
+            .build();
+        CompletableFuture<Boolean> executed = new CompletableFuture<>();
+        resources.getCallbackExecutor().execute(() -> executed.complete(true));
+        Timeout timeout = resources.getRequestTimeoutTimer().newTimeout(t -> {
+        }, 1, TimeUnit.HOURS);
+        assertFalse(timeout.isExpired());
+
+        //when
+        resources.close();
+
+        //then
+        assertTrue(executed.get(1, TimeUnit.SECONDS));
+        assertThrows(RejectedExecutionException.class, () -> resources.getCallbackExecutor().execute(() -> {
+        }));
+        assertThrows(IllegalStateException.class, () -> resources.getRequestTimeoutTimer()
+            .newTimeout(t -> {
+            }, 1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void test_build_shouldUseSpecifiedTransport_ifItIsAvailable() {
+        //when
+        TarantoolClientResourcesImpl resources = TarantoolClientResourcesImpl.builder()
+            .withTransportType(TarantoolTransportType.NIO)
+            .withEventLoopThreadsNumber(1)
+            .build();
+
+        //then
+        try {
+            TarantoolTransport transport = resources.getTransport();
+            assertEquals(TarantoolTransportType.NIO, transport.getType());
+            assertEquals(TarantoolTransportType.NIO, resources.getTransportType());
+            assertSame(transport, resources.getTransport());
+        } finally {
+            resources.close();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package io.tarantool.driver.core;
+
+import io.netty.channel.Channel;
+import io.tarantool.driver.TarantoolVersion;
+import io.tarantool.driver.api.TarantoolSqlResult;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionCloseListener;
+import io.tarantool.driver.api.connection.TarantoolConnectionFailureListener;
+import io.tarantool.driver.core.metadata.SqlResponseToTarantoolSqlResultConverter;
+import io.tarantool.driver.exceptions.TarantoolStaleStatementException;
+import io.tarantool.driver.mappers.DefaultMessagePackMapper;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.mappers.converters.value.ArrayValueToTarantoolTupleConverter;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestFieldType;
+import io.tarantool.driver.protocol.TarantoolRequestType;
+import org.junit.jupiter.api.Test;
+import org.msgpack.value.MapValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.msgpack.value.ValueType;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+class TarantoolStatementCacheTest {
+
+    private static final MessagePackMapper mapper =
+        DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+    private static final MessagePackValueMapper resultMapper = sqlResultMapper();
+
+    @Test
+    void test_execute_shouldPrepareStatementOnce_ifStatementIsExecutedRepeatedly() throws Exception {
+        //given
+        SqlServerConnection connection = new SqlServerConnection();
+        TarantoolStatementCache cache = new TarantoolStatementCache(2);
+
+        //when
+        List<TarantoolSqlResult> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(execute(cache, connection, "SELECT * FROM t WHERE id = ?", i));
+        }
+
+        //then
+        assertEquals(Arrays.asList("PREPARE", "EXECUTE", "EXECUTE", "EXECUTE"), connection.requestTypes());
+        assertEquals(1, cache.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(1, results.get(i).size());
+            assertEquals(i, results.get(i).get(0).getInteger("ID"));
+            assertEquals("string", results.get(i).getMetadata().get().getFieldByName("NAME").get().getFieldType());
+        }
+        Value statementId = ValueFactory.newInteger("SELECT * FROM t WHERE id = ?".hashCode());
+        assertTrue(connection.requests.stream().skip(1).allMatch(r -> statementId.equals(r.statementId)));
+    }
+
+    @Test
+    void test_execute_shouldUnprepareLeastRecentlyUsedStatement_ifCacheIsFull() throws Exception {
+        //given
+        SqlServerConnection connection = new SqlServerConnection();
+        TarantoolStatementCache cache = new TarantoolStatementCache(2);
+        execute(cache, connection, "SELECT 1", 1);
+        execute(cache, connection, "SELECT 2", 2);
+        execute(cache, connection, "SELECT 1", 1);
+        connection.requests.clear();
+
+        //when
+        execute(cache, connection, "SELECT 3", 3);
+
+        //then
+        assertEquals(Arrays.asList("PREPARE", "UNPREPARE", "EXECUTE"), connection.requestTypes());
+        assertEquals(ValueFactory.newInteger("SELECT 2".hashCode()), connection.requests.get(1).statementId);
+        assertEquals(2, cache.size());
+        connection.requests.clear();
+        execute(cache, connection, "SELECT 1", 1);
+        assertEquals(Collections.singletonList("EXECUTE"), connection.requestTypes());
+    }
+
+    @Test
+    void test_execute_shouldPrepareStatementAgain_ifServerRejectsStaleStatement() throws Exception {
+        //given
+        SqlServerConnection connection = new SqlServerConnection();
+        TarantoolStatementCache cache = new TarantoolStatementCache(2);
+        execute(cache, connection, "SELECT * FROM t WHERE id = ?", 1);
+        connection.requests.clear();
+
+        //when
+        connection.rejectedExecutions = 1;
+        TarantoolSqlResult result = execute(cache, connection, "SELECT * FROM t WHERE id = ?", 2);
+
+        //then
+        assertEquals(Arrays.asList("EXECUTE", "PREPARE", "EXECUTE"), connection.requestTypes());
+        assertEquals(2, result.get(0).getInteger("ID"));
+
+        // the execution is retried only once
+        connection.rejectedExecutions = 2;
+        ExecutionException e = assertThrows(ExecutionException.class,
+            () -> cache.execute(connection, "SELECT * FROM t WHERE id = ?", Collections.singletonList(3),
+                mapper, resultMapper).get());
+        assertTrue(e.getCause() instanceof TarantoolStaleStatementException);
+    }
+
+    @Test
+    void test_execute_shouldPrepareStatementAgain_ifSchemaVersionChanges() throws Exception {
+        //given
+        SqlServerConnection connection = new SqlServerConnection();
+        TarantoolStatementCache cache = new TarantoolStatementCache(2);
+        execute(cache, connection, "SELECT * FROM t WHERE id = ?", 1);
+        connection.requests.clear();
+
+        //when
+        connection.schemaVersion = 2;
+        execute(cache, connection, "SELECT * FROM t WHERE id = ?", 2);
+
+        //then
+        assertEquals(Arrays.asList("PREPARE", "EXECUTE"), connection.requestTypes());
+        assertEquals(Long.valueOf(2), connection.requests.get(1).schemaVersion);
+        assertEquals(1, cache.size());
+    }
+
+    private static TarantoolSqlResult execute(
+        TarantoolStatementCache cache, TarantoolConnection connection, String statement, int id)
+        throws Exception {
+        return cache.execute(connection, statement, Collections.singletonList(id), mapper, resultMapper).get();
+    }
+
+    private static MessagePackValueMapper sqlResultMapper() {
+        DefaultMessagePackMapper resultMapper = DefaultMessagePackMapperFactory.getInstance().emptyMapper();
+        resultMapper.registerValueConverterWithoutTargetClass(ValueType.MAP,
+            new SqlResponseToTarantoolSqlResultConverter(new ArrayValueToTarantoolTupleConverter(mapper, null)));
+        return resultMapper;
+    }
+
+    private static final class SentRequest {
+        private final String type;
+        private final Value statementId;
+        private final Long schemaVersion;
+
+        SentRequest(String type, Value statementId, Long schemaVersion) {
+            this.type = type;
+            this.statementId = statementId;
+            this.schemaVersion = schemaVersion;
+        }
+    }
+
+    /**
+     * Imitates the server side of the SQL requests. The statement ID is the hash code of the statement text, the
+     * statements return one row with the first bound parameter value
+     */
+    private static final class SqlServerConnection implements TarantoolConnection {
+        private static final Value IPROTO_STMT_ID = ValueFactory.newInteger(0x43);
+
+        private final List<SentRequest> requests = new ArrayList<>();
+        private volatile long schemaVersion = 1;
+        private int rejectedExecutions;
+
+        List<String> requestTypes() {
+            return requests.stream().map(r -> r.type).collect(Collectors.toList());
+        }
+
+        @Override
+        public <T> CompletableFuture<T> sendRequest(TarantoolRequest request, MessagePackValueMapper mapper) {
+            MapValue body = request.getBody().toMessagePackValue(null).asMapValue();
+            Value statementText = body.map().get(ValueFactory.newInteger(
+                TarantoolRequestFieldType.IPROTO_SQL_TEXT.getCode()));
+            Value statementId = body.map().get(IPROTO_STMT_ID);
+            CompletableFuture<T> result = new CompletableFuture<>();
+            if (request.getHeader().getCode() == TarantoolRequestType.IPROTO_PREPARE.getCode()) {
+                if (statementText == null) {
+                    requests.add(new SentRequest("UNPREPARE", statementId, null));
+                    result.complete(null);
+                } else {
+                    requests.add(new SentRequest("PREPARE", null, null));
+                    result.complete(mapper.fromValue(ValueFactory.newMap(IPROTO_STMT_ID,
+                        ValueFactory.newInteger(statementText.asStringValue().asString().hashCode()))));
+                }
+                return result;
+            }
+            requests.add(new SentRequest("EXECUTE", statementId, request.getHeader().getSchemaVersion()));
+            if (rejectedExecutions > 0) {
+                rejectedExecutions--;
+                result.completeExceptionally(new TarantoolStaleStatementException("Wrong schema version"));
+                return result;
+            }
+            Value id = body.map().get(ValueFactory.newInteger(TarantoolRequestFieldType.IPROTO_SQL_BIND.getCode()))
+                .asArrayValue().get(0);
+            Value response = ValueFactory.newMap(
+                ValueFactory.newInteger(0x32), ValueFactory.newArray(
+                    column("ID", "integer"), column("NAME", "string")),
+                ValueFactory.newInteger(0x30), ValueFactory.newArray(
+                    ValueFactory.newArray(id, ValueFactory.newString("abc"))));
+            result.complete(mapper.fromValue(response));
+            return result;
+        }
+
+        private static Value column(String name, String type) {
+            return ValueFactory.newMap(
+                ValueFactory.newInteger(0x00), ValueFactory.newString(name),
+                ValueFactory.newInteger(0x01), ValueFactory.newString(type));
+        }
+
+        @Override
+        public long getSchemaVersion() {
+            return schemaVersion;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return InetSocketAddress.createUnresolved("localhost", 3301);
+        }
+
+        @Override
+        public TarantoolVersion getVersion() {
+            return null;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public Channel getChannel() {
+            return null;
+        }
+
+        @Override
+        public void addConnectionFailureListener(TarantoolConnectionFailureListener listener) {
+        }
+
+        @Override
+        public void addConnectionCloseListener(TarantoolConnectionCloseListener listener) {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package io.tarantool.driver.core;
+
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.connection.ConnectionSelectionStrategy;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.WeightedStrategyFactory;
+import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategyType;
+import io.tarantool.driver.core.connection.StubTarantoolConnection;
+import io.tarantool.driver.exceptions.NoAvailableConnectionsException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+class WeightedStrategyTest {
+
+    private static final TarantoolClientConfig config = new TarantoolClientConfig();
+
+    @Test
+    void test_next_shouldSelectConnectionsProportionally_ifServerWeightsDiffer() {
+        //given
+        StubTarantoolConnection heavy = new StubTarantoolConnection("127.0.0.1", 3301);
+        StubTarantoolConnection light = new StubTarantoolConnection("127.0.0.2", 3301);
+        Map<TarantoolServerAddress, List<TarantoolConnection>> connections = new LinkedHashMap<>();
+        connections.put(address("127.0.0.1", 3, true), Collections.singletonList(heavy));
+        connections.put(address("127.0.0.2", 1, true), Collections.singletonList(light));
+        ConnectionSelectionStrategy strategy = new WeightedStrategyFactory().createForAddresses(config, connections);
+
+        //when
+        int heavySelections = countSelections(strategy, heavy, 10000);
+
+        //then
+        assertTrue(heavySelections > 7000 && heavySelections < 8000, "Selections of the heavy server: " +
+            heavySelections);
+    }
+
+    @Test
+    void test_next_shouldNotSelectUnhealthyServer_ifDrainPeriodIsOver() {
+        //given
+        StubTarantoolConnection healthy = new StubTarantoolConnection("127.0.0.1", 3301);
+        StubTarantoolConnection unhealthy = new StubTarantoolConnection("127.0.0.2", 3301);
+        Map<TarantoolServerAddress, List<TarantoolConnection>> connections = new LinkedHashMap<>();
+        connections.put(address("127.0.0.1", 1, true), Collections.singletonList(healthy));
+        connections.put(address("127.0.0.2", 10, false), Collections.singletonList(unhealthy));
+        ConnectionSelectionStrategy strategy = new WeightedStrategyFactory(0).createForAddresses(config, connections);
+
+        //when-then
+        for (int i = 0; i < 100; i++) {
+            assertSame(healthy, strategy.next());
+        }
+        healthy.close();
+        assertSame(unhealthy, strategy.next());
+    }
+
+    @Test
+    void test_next_shouldDrainUnhealthyServerGradually_ifDrainPeriodIsSet() {
+        //given
+        StubTarantoolConnection healthy = new StubTarantoolConnection("127.0.0.1", 3301);
+        StubTarantoolConnection unhealthy = new StubTarantoolConnection("127.0.0.2", 3301);
+        Map<TarantoolServerAddress, List<TarantoolConnection>> connections = new LinkedHashMap<>();
+        connections.put(address("127.0.0.1", 1, true), Collections.singletonList(healthy));
+        connections.put(address("127.0.0.2", 1, false), Collections.singletonList(unhealthy));
+        ConnectionSelectionStrategy strategy =
+            new WeightedStrategyFactory(60_000).createForAddresses(config, connections);
+
+        //when
+        int unhealthySelections = countSelections(strategy, unhealthy, 10000);
+
+        //then
+        // the weight of the unhealthy server has not decreased significantly yet
+        assertTrue(unhealthySelections > 4000 && unhealthySelections < 5200, "Selections of the unhealthy server: " +
+            unhealthySelections);
+    }
+
+    @Test
+    void test_createForAddresses_shouldContinueDrain_ifStrategyIsRecreated() throws InterruptedException {
+        //given
+        StubTarantoolConnection healthy = new StubTarantoolConnection("127.0.0.1", 3301);
+        StubTarantoolConnection unhealthy = new StubTarantoolConnection("127.0.0.2", 3301);
+        Map<TarantoolServerAddress, List<TarantoolConnection>> connections = new LinkedHashMap<>();
+        connections.put(address("127.0.0.1", 1, true), Collections.singletonList(healthy));
+        connections.put(address("127.0.0.2", 1, false), Collections.singletonList(unhealthy));
+        WeightedStrategyFactory factory = new WeightedStrategyFactory(100);
+        factory.createForAddresses(config, connections);
+        Thread.sleep(150);
+
+        //when
+        ConnectionSelectionStrategy strategy = factory.createForAddresses(config, connections);
+
+        //then
+        for (int i = 0; i < 100; i++) {
+            assertSame(healthy, strategy.next());
+        }
+    }
+
+    @Test
+    void test_createForAddresses_shouldRestartDrain_ifServerWasHealthyAgain() throws InterruptedException {
+        //given
+        StubTarantoolConnection healthy = new StubTarantoolConnection("127.0.0.1", 3301);
+        StubTarantoolConnection recovered = new StubTarantoolConnection("127.0.0.2", 3301);
+        Map<TarantoolServerAddress, List<TarantoolConnection>> connections = new LinkedHashMap<>();
+        connections.put(address("127.0.0.1", 1, true), Collections.singletonList(healthy));
+        connections.put(address("127.0.0.2", 1, false), Collections.singletonList(recovered));
+        WeightedStrategyFactory factory = new WeightedStrategyFactory(1000);
+        factory.createForAddresses(config, connections);
+        Thread.sleep(1050);
+        connections.remove(address("127.0.0.2", 1, false));
+        connections.put(address("127.0.0.2", 1, true), Collections.singletonList(recovered));
+        factory.createForAddresses(config, connections);
+        connections.remove(address("127.0.0.2", 1, true));
+        connections.put(address("127.0.0.2", 1, false), Collections.singletonList(recovered));
+
+        //when
+        ConnectionSelectionStrategy strategy = factory.createForAddresses(config, connections);
+
+        //then
+        int recoveredSelections = countSelections(strategy, recovered, 1000);
+        assertTrue(recoveredSelections > 300 && recoveredSelections < 600, "Selections of the recovered server: " +
+            recoveredSelections);
+    }
+
+    @Test
+    void test_next_shouldSelectHealthyConnection_ifSelectedConnectionIsClosed() {
+        //given
+        StubTarantoolConnection closed = new StubTarantoolConnection("127.0.0.1", 3301);
+        StubTarantoolConnection healthy = new StubTarantoolConnection("127.0.0.2", 3301);
+        StubTarantoolConnection drained = new StubTarantoolConnection("127.0.0.3", 3301);
+        Map<TarantoolServerAddress, List<TarantoolConnection>> connections = new LinkedHashMap<>();
+        // the scan from the last healthy connection must not go to the unhealthy ones
+        connections.put(address("127.0.0.2", 1, true), Collections.singletonList(healthy));
+        connections.put(address("127.0.0.1", 1000, true), Collections.singletonList(closed));
+        connections.put(address("127.0.0.3", 1, false), Collections.singletonList(drained));
+        ConnectionSelectionStrategy strategy = new WeightedStrategyFactory(0).createForAddresses(config, connections);
+
+        //when
+        closed.close();
+
+        //then
+        for (int i = 0; i < 100; i++) {
+            assertSame(healthy, strategy.next());
+        }
+    }
+
+    @Test
+    void test_next_shouldSelectDrainingConnection_ifHealthyConnectionsAreClosed() {
+        //given
+        StubTarantoolConnection closed = new StubTarantoolConnection("127.0.0.1", 3301);
+        StubTarantoolConnection draining = new StubTarantoolConnection("127.0.0.2", 3301);
+        StubTarantoolConnection drained = new StubTarantoolConnection("127.0.0.3", 3301);
+        Map<TarantoolServerAddress, List<TarantoolConnection>> connections = new LinkedHashMap<>();
+        connections.put(address("127.0.0.1", 1, true), Collections.singletonList(closed));
+        connections.put(address("127.0.0.2", 1, false), Collections.singletonList(draining));
+        connections.put(address("127.0.0.3", 0, false), Collections.singletonList(drained));
+        ConnectionSelectionStrategy strategy =
+            new WeightedStrategyFactory(60_000).createForAddresses(config, connections);
+
+        //when
+        closed.close();
+
+        //then
+        for (int i = 0; i < 100; i++) {
+            assertSame(draining, strategy.next());
+        }
+        draining.close();
+        assertSame(drained, strategy.next());
+    }
+
+    @Test
+    void test_createForAddresses_shouldRestartDrain_ifServerLeftClusterAndReturned() throws InterruptedException {
+        //given
+        StubTarantoolConnection healthy = new StubTarantoolConnection("127.0.0.1", 3301);
+        StubTarantoolConnection returned = new StubTarantoolConnection("127.0.0.2", 3301);
+        Map<TarantoolServerAddress, List<TarantoolConnection>> connections = new LinkedHashMap<>();
+        connections.put(address("127.0.0.1", 1, true), Collections.singletonList(healthy));
+        connections.put(address("127.0.0.2", 1, false), Collections.singletonList(returned));
+        WeightedStrategyFactory factory = new WeightedStrategyFactory(1000);
+        factory.createForAddresses(config, connections);
+        Thread.sleep(1050);
+        connections.remove(address("127.0.0.2", 1, false));
+        factory.createForAddresses(config, connections);
+        connections.put(address("127.0.0.2", 1, false), Collections.singletonList(returned));
+
+        //when
+        ConnectionSelectionStrategy strategy = factory.createForAddresses(config, connections);
+
+        //then
+        int returnedSelections = countSelections(strategy, returned, 1000);
+        assertTrue(returnedSelections > 300 && returnedSelections < 600, "Selections of the returned server: " +
+            returnedSelections);
+    }
+
+    @Test
+    void test_value_shouldCreateFactoryForEachClient_ifStrategyIsWeighted() {
+        assertNotSame(TarantoolConnectionSelectionStrategyType.WEIGHTED.value(),
+            TarantoolConnectionSelectionStrategyType.WEIGHTED.value());
+    }
+
+    @Test
+    void test_next_shouldSelectAnyConnection_ifAllWeightsAreZero() {
+        //given
+        StubTarantoolConnection first = new StubTarantoolConnection("127.0.0.1", 3301);
+        StubTarantoolConnection second = new StubTarantoolConnection("127.0.0.2", 3301);
+        Map<TarantoolServerAddress, List<TarantoolConnection>> connections = new LinkedHashMap<>();
+        connections.put(address("127.0.0.1", 0, true), Collections.singletonList(first));
+        connections.put(address("127.0.0.2", 0, true), Collections.singletonList(second));
+        ConnectionSelectionStrategy strategy = new WeightedStrategyFactory().createForAddresses(config, connections);
+
+        //when-then
+        int firstSelections = countSelections(strategy, first, 1000);
+        assertTrue(firstSelections > 0 && firstSelections < 1000, "Selections of the first server: " +
+            firstSelections);
+        first.close();
+        second.close();
+        assertThrows(NoAvailableConnectionsException.class, strategy::next);
+    }
+
+    @Test
+    void test_constructor_shouldThrowException_ifDrainPeriodIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> new WeightedStrategyFactory(-1));
+    }
+
+    private static TarantoolServerAddress address(String host, int weight, boolean healthy) {
+        return new TarantoolServerAddress(host, 3301).withRouting(weight, healthy);
+    }
+
+    private static int countSelections(ConnectionSelectionStrategy strategy, TarantoolConnection connection,
+                                       int total) {
+        int selections = 0;
+        for (int i = 0; i < total; i++) {
+            if (strategy.next() == connection) {
+                selections++;
+            }
+        }
+        return selections;
+    }
+}
@@ -0,0 +1,371 @@
+package io.tarantool.driver.core.connection;
+
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolClientMetrics;
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionListeners;
+import io.tarantool.driver.exceptions.TarantoolConnectionException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+class AbstractTarantoolConnectionManagerTest {
+
+    private static final TarantoolServerAddress ADDRESS = new TarantoolServerAddress("localhost", 3301);
+
+    @Test
+    void test_getConnection_shouldNotBlock_ifInitSequenceIsInProgress() throws Exception {
+        //given
+        TarantoolClientConfig config = new TarantoolClientConfig();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        AbstractTarantoolConnectionManager connectionManager = newConnectionManager(config, connectionFactory);
+        CompletableFuture<TarantoolConnection> first = connectionManager.getConnection();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        //when
+        CompletableFuture<TarantoolConnection> second;
+        try {
+            Future<CompletableFuture<TarantoolConnection>> waiting = executor.submit(connectionManager::getConnection);
+            second = waiting.get(1, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        //then
+        assertFalse(first.isDone());
+        assertFalse(second.isDone());
+        connectionFactory.completePending();
+        assertSame(first.get(), second.get());
+    }
+
+    @Test
+    void test_getConnection_shouldFailWaitingRequests_ifInitSequenceFails() {
+        //given
+        TarantoolClientConfig config = new TarantoolClientConfig();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        AbstractTarantoolConnectionManager connectionManager = newConnectionManager(config, connectionFactory);
+        CompletableFuture<TarantoolConnection> first = connectionManager.getConnection();
+        CompletableFuture<TarantoolConnection> second = connectionManager.getConnection();
+
+        //when
+        connectionFactory.failPending(new RuntimeException("Connection refused"));
+
+        //then
+        ExecutionException e = assertThrows(ExecutionException.class, first::get);
+        assertTrue(e.getCause() instanceof TarantoolConnectionException);
+        e = assertThrows(ExecutionException.class, second::get);
+        assertTrue(e.getCause() instanceof TarantoolConnectionException);
+
+        // the next request starts the init sequence again
+        CompletableFuture<TarantoolConnection> third = connectionManager.getConnection();
+        assertFalse(third.isDone());
+        connectionFactory.completePending();
+        assertTrue(third.join().isConnected());
+    }
+
+    @Test
+    void test_getConnection_shouldNotBlock_ifAddressesAreNotDiscovered() throws Exception {
+        //given
+        TarantoolClientConfig config = new TarantoolClientConfig();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        CompletableFuture<Collection<TarantoolServerAddress>> addresses = new CompletableFuture<>();
+        AbstractTarantoolConnectionManager connectionManager =
+            new AbstractTarantoolConnectionManager(config, connectionFactory, new TarantoolConnectionListeners()) {
+                @Override
+                protected Collection<TarantoolServerAddress> getAddresses() {
+                    return addresses.join();
+                }
+
+                @Override
+                protected CompletableFuture<Collection<TarantoolServerAddress>> getAddressesAsync() {
+                    return addresses;
+                }
+            };
+
+        //when
+        CompletableFuture<TarantoolConnection> connection = connectionManager.getConnection();
+
+        //then
+        assertFalse(connection.isDone());
+        assertEquals(0, connectionFactory.getPendingCount());
+        addresses.complete(Collections.singletonList(ADDRESS));
+        assertEquals(1, connectionFactory.getPendingCount());
+        connectionFactory.completePending();
+        assertTrue(connection.get(1, TimeUnit.SECONDS).isConnected());
+    }
+
+    @Test
+    void test_close_shouldNotBlock_ifInitSequenceIsInProgress() throws Exception {
+        //given
+        TarantoolClientConfig config = new TarantoolClientConfig();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        AbstractTarantoolConnectionManager connectionManager = newConnectionManager(config, connectionFactory);
+        CompletableFuture<TarantoolConnection> connection = connectionManager.getConnection();
+
+        //when
+        connectionManager.close();
+
+        //then
+        assertFalse(connection.isDone());
+        connectionFactory.completePending();
+        assertFalse(connection.get(1, TimeUnit.SECONDS).isConnected());
+    }
+
+    @Test
+    void test_getConnection_shouldUseCurrentConnections_ifPartialInitSequenceIsInProgress() {
+        //given
+        TarantoolClientConfig config = new TarantoolClientConfig.Builder()
+            .withConnections(2)
+            .withBackgroundReconnect(false)
+            .build();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        AbstractTarantoolConnectionManager connectionManager = newConnectionManager(config, connectionFactory);
+        CompletableFuture<TarantoolConnection> initial = connectionManager.getConnection();
+        connectionFactory.completePending();
+        StubTarantoolConnection failed = (StubTarantoolConnection) initial.join();
+        failed.fail(new RuntimeException("Connection reset"));
+
+        //when
+        CompletableFuture<TarantoolConnection> reconnecting = connectionManager.getConnection();
+        CompletableFuture<TarantoolConnection> waiting = connectionManager.getConnection();
+
+        //then
+        assertFalse(reconnecting.isDone());
+        assertTrue(waiting.isDone());
+        TarantoolConnection alive = waiting.join();
+        assertNotSame(failed, alive);
+        assertTrue(alive.isConnected());
+        connectionFactory.completePending();
+        assertTrue(reconnecting.join().isConnected());
+    }
+
+    @Test
+    void test_getConnection_shouldNotStartInitSequence_ifConnectionIsReconnectedInBackground() throws Exception {
+        //given
+        RecordingClientMetrics metrics = new RecordingClientMetrics();
+        TarantoolClientConfig config = new TarantoolClientConfig.Builder()
+            .withConnections(2)
+            .withReconnectInitialDelay(10)
+            .withClientMetrics(metrics)
+            .build();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            StubConnectionFactory connectionFactory = new StubConnectionFactory(config, null, scheduler);
+            AbstractTarantoolConnectionManager connectionManager = newConnectionManager(config, connectionFactory);
+            CompletableFuture<TarantoolConnection> initial = connectionManager.getConnection();
+            connectionFactory.completePending();
+            StubTarantoolConnection failed = (StubTarantoolConnection) initial.join();
+
+            //when
+            failed.fail(new RuntimeException("Connection reset"));
+
+            //then
+            for (int i = 0; i < 10; i++) {
+                CompletableFuture<TarantoolConnection> connection = connectionManager.getConnection();
+                assertTrue(connection.isDone());
+                assertNotSame(failed, connection.join());
+            }
+            waitFor(() -> connectionFactory.getPendingCount() == 1);
+            connectionFactory.failPending(new RuntimeException("Connection refused"));
+            waitFor(() -> connectionFactory.getPendingCount() == 1);
+            connectionFactory.completePending();
+            waitFor(() -> metrics.successes.get() == 1);
+            assertEquals(1, metrics.failures.get());
+            Set<TarantoolConnection> selected = new HashSet<>();
+            for (int i = 0; i < 10; i++) {
+                selected.add(connectionManager.getConnection().join());
+            }
+            assertEquals(2, selected.size());
+            assertFalse(selected.contains(failed));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void test_resizePools_shouldGrowPool_ifConnectionsAreOverloaded() {
+        //given
+        TarantoolClientConfig config = new TarantoolClientConfig.Builder()
+            .withMaxConnections(4)
+            .withConnectionGrowthThreshold(2)
+            .build();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        AbstractTarantoolConnectionManager connectionManager = newConnectionManager(config, connectionFactory);
+        CompletableFuture<TarantoolConnection> initial = connectionManager.getConnection();
+        connectionFactory.completePending();
+        StubTarantoolConnection first = (StubTarantoolConnection) initial.join();
+
+        //when
+        first.setPendingRequestsCount(1);
+        connectionManager.resizePools();
+
+        //then
+        assertEquals(0, connectionFactory.getPendingCount());
+        first.setPendingRequestsCount(2);
+        connectionManager.resizePools();
+        assertEquals(1, connectionFactory.getPendingCount());
+        // the pool is not grown again until the new connections are established
+        connectionManager.resizePools();
+        assertEquals(1, connectionFactory.getPendingCount());
+        connectionFactory.completePending();
+        assertEquals(2, selectConnections(connectionManager).size());
+
+        // the pool size is doubled, but does not exceed the maximum
+        first.setPendingRequestsCount(4);
+        connectionManager.resizePools();
+        assertEquals(2, connectionFactory.getPendingCount());
+        connectionFactory.completePending();
+        first.setPendingRequestsCount(100);
+        connectionManager.resizePools();
+        assertEquals(0, connectionFactory.getPendingCount());
+        assertEquals(4, selectConnections(connectionManager).size());
+    }
+
+    @Test
+    void test_resizePools_shouldCloseIdleConnections_ifPoolIsOverMinimumSize() {
+        //given
+        TarantoolClientConfig config = new TarantoolClientConfig.Builder()
+            .withMaxConnections(2)
+            .withConnectionGrowthThreshold(1)
+            .withIdleConnectionTimeout(1000)
+            .build();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        AbstractTarantoolConnectionManager connectionManager = newConnectionManager(config, connectionFactory);
+        CompletableFuture<TarantoolConnection> initial = connectionManager.getConnection();
+        connectionFactory.completePending();
+        StubTarantoolConnection first = (StubTarantoolConnection) initial.join();
+        first.setPendingRequestsCount(1);
+        connectionManager.resizePools();
+        connectionFactory.completePending();
+        Set<TarantoolConnection> connections = selectConnections(connectionManager);
+        connections.remove(first);
+        StubTarantoolConnection second = (StubTarantoolConnection) connections.iterator().next();
+
+        //when
+        second.setIdleTime(TimeUnit.SECONDS.toNanos(2));
+        second.setPendingRequestsCount(1);
+        connectionManager.resizePools();
+
+        //then
+        // the connection is removed from the pool, but is closed only after its pending requests complete
+        assertEquals(Collections.singleton(first), selectConnections(connectionManager));
+        assertTrue(second.isConnected());
+        connectionManager.resizePools();
+        assertTrue(second.isConnected());
+        second.setPendingRequestsCount(0);
+        connectionManager.resizePools();
+        assertFalse(second.isConnected());
+        assertTrue(first.isConnected());
+    }
+
+    @Test
+    void test_areConnectionsAlive_shouldReturnTrue_ifPoolIsGrownUpToMaximumSize() {
+        //given
+        TarantoolClientConfig config = new TarantoolClientConfig.Builder()
+            .withMaxConnections(2)
+            .withConnectionGrowthThreshold(1)
+            .build();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        AbstractTarantoolConnectionManager connectionManager = newConnectionManager(config, connectionFactory);
+        CompletableFuture<TarantoolConnection> initial = connectionManager.getConnection();
+        connectionFactory.completePending();
+        StubTarantoolConnection first = (StubTarantoolConnection) initial.join();
+        assertTrue(connectionManager.areConnectionsAlive());
+
+        //when
+        first.setPendingRequestsCount(1);
+        connectionManager.resizePools();
+        connectionFactory.completePending();
+
+        //then
+        assertEquals(2, selectConnections(connectionManager).size());
+        assertTrue(connectionManager.areConnectionsAlive());
+        first.close();
+        assertTrue(connectionManager.areConnectionsAlive());
+        selectConnections(connectionManager).forEach(connection -> ((StubTarantoolConnection) connection).close());
+        assertFalse(connectionManager.areConnectionsAlive());
+    }
+
+    @Test
+    void test_areAddressesChanged_shouldReturnTrue_ifRoutingAttributesChange() {
+        //given
+        TarantoolClientConfig config = new TarantoolClientConfig();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        AtomicReference<TarantoolServerAddress> address = new AtomicReference<>(ADDRESS);
+        AbstractTarantoolConnectionManager connectionManager =
+            new AbstractTarantoolConnectionManager(config, connectionFactory, new TarantoolConnectionListeners()) {
+                @Override
+                protected Collection<TarantoolServerAddress> getAddresses() {
+                    return Collections.singletonList(address.get());
+                }
+            };
+        CompletableFuture<TarantoolConnection> connection = connectionManager.getConnection();
+        connectionFactory.completePending();
+        connection.join();
+
+        //when-then
+        assertFalse(connectionManager.areAddressesChanged());
+        address.set(ADDRESS.withRouting(TarantoolServerAddress.DEFAULT_WEIGHT, false));
+        assertTrue(connectionManager.areAddressesChanged());
+    }
+
+    private static Set<TarantoolConnection> selectConnections(AbstractTarantoolConnectionManager connectionManager) {
+        Set<TarantoolConnection> selected = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            selected.add(connectionManager.getConnection().join());
+        }
+        return selected;
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition is not met within 5 seconds");
+            Thread.sleep(5);
+        }
+    }
+
+    private static final class RecordingClientMetrics implements TarantoolClientMetrics {
+        private final AtomicInteger successes = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        @Override
+        public void recordReconnectAttempt(TarantoolServerAddress address, boolean success, long durationNanos) {
+            (success ? successes : failures).incrementAndGet();
+        }
+    }
+
+    private static AbstractTarantoolConnectionManager newConnectionManager(
+        TarantoolClientConfig config, TarantoolConnectionFactory connectionFactory) {
+        return new AbstractTarantoolConnectionManager(config, connectionFactory, new TarantoolConnectionListeners()) {
+            @Override
+            protected Collection<TarantoolServerAddress> getAddresses() {
+                return Collections.singletonList(ADDRESS);
+            }
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package io.tarantool.driver.core.connection;
+
+import io.netty.bootstrap.Bootstrap;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionListeners;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Connection factory creating {@link StubTarantoolConnection} instances. The connections are either established
+ * asynchronously by the specified executor, or stay pending until {@link #completePending()} or
+ * {@link #failPending(Throwable)} is called.
+ *
+ * @author Alexey Kuzin
+ */
+public final class StubConnectionFactory extends TarantoolConnectionFactory {
+
+    private final Executor connectExecutor;
+    private final Queue<Map.Entry<TarantoolServerAddress, CompletableFuture<TarantoolConnection>>> pending =
+        new ConcurrentLinkedQueue<>();
+
+    /**
+     * Create a factory which leaves the connection futures pending
+     *
+     * @param config client config
+     */
+    public StubConnectionFactory(TarantoolClientConfig config) {
+        this(config, null);
+    }
+
+    /**
+     * Create a factory which establishes the connections asynchronously
+     *
+     * @param config          client config
+     * @param connectExecutor executor completing the connection futures
+     */
+    public StubConnectionFactory(TarantoolClientConfig config, Executor connectExecutor) {
+        this(config, connectExecutor, null);
+    }
+
+    /**
+     * Create a factory which establishes the connections asynchronously and provides a scheduler for the
+     * connection tasks
+     *
+     * @param config          client config
+     * @param connectExecutor executor completing the connection futures, or null for leaving them pending
+     * @param scheduler       scheduled executor for the connection tasks
+     */
+    public StubConnectionFactory(TarantoolClientConfig config, Executor connectExecutor,
+                                 ScheduledExecutorService scheduler) {
+        super(config, new Bootstrap(), scheduler, null);
+        this.connectExecutor = connectExecutor;
+    }
+
+    /**
+     * Get the number of the connections waiting for {@link #completePending()} or {@link #failPending(Throwable)}
+     *
+     * @return number of pending connections
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public Collection<CompletableFuture<TarantoolConnection>> multiConnection(
+        TarantoolServerAddress serverAddress,
+        int connections,
+        TarantoolConnectionListeners connectionListeners) {
+        List<CompletableFuture<TarantoolConnection>> result = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            CompletableFuture<TarantoolConnection> connection = connectExecutor == null ?
+                new CompletableFuture<>() :
+                CompletableFuture.supplyAsync(() -> newConnection(serverAddress), connectExecutor);
+            if (connectExecutor == null) {
+                pending.add(new AbstractMap.SimpleEntry<>(serverAddress, connection));
+            }
+            result.add(connection);
+        }
+        return result;
+    }
+
+    /**
+     * Establish all pending connections
+     */
+    public void completePending() {
+        Map.Entry<TarantoolServerAddress, CompletableFuture<TarantoolConnection>> entry;
+        while ((entry = pending.poll()) != null) {
+            entry.getValue().complete(newConnection(entry.getKey()));
+        }
+    }
+
+    /**
+     * Fail all pending connections
+     *
+     * @param e failure cause
+     */
+    public void failPending(Throwable e) {
+        Map.Entry<TarantoolServerAddress, CompletableFuture<TarantoolConnection>> entry;
+        while ((entry = pending.poll()) != null) {
+            entry.getValue().completeExceptionally(e);
+        }
+    }
+
+    private static TarantoolConnection newConnection(TarantoolServerAddress serverAddress) {
+        return new StubTarantoolConnection(serverAddress.getHost(), serverAddress.getPort());
+    }
+}
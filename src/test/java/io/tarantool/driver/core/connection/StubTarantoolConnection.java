@@ -0,0 +1,137 @@
+package io.tarantool.driver.core.connection;
+
+import io.netty.channel.Channel;
+import io.tarantool.driver.TarantoolVersion;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionCloseListener;
+import io.tarantool.driver.api.connection.TarantoolConnectionFailureListener;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.TarantoolProtocolFeature;
+import io.tarantool.driver.protocol.TarantoolRequest;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Connection without a network channel for testing the connection management
+ *
+ * @author Alexey Kuzin
+ */
+public final class StubTarantoolConnection implements TarantoolConnection {
+
+    private final SocketAddress remoteAddress;
+    private final List<TarantoolConnectionFailureListener> failureListeners = new CopyOnWriteArrayList<>();
+    private final List<TarantoolConnectionCloseListener> closeListeners = new CopyOnWriteArrayList<>();
+    private volatile boolean connected = true;
+    private volatile int pendingRequestsCount;
+    private volatile long averageResponseTime;
+    private volatile long idleTime;
+    private volatile Set<TarantoolProtocolFeature> protocolFeatures = Collections.emptySet();
+
+    public StubTarantoolConnection(SocketAddress remoteAddress) {
+        this.remoteAddress = remoteAddress;
+    }
+
+    public StubTarantoolConnection(String host, int port) {
+        this(InetSocketAddress.createUnresolved(host, port));
+    }
+
+    /**
+     * Mark the connection as disconnected and notify the failure listeners
+     *
+     * @param e failure cause
+     */
+    public void fail(Throwable e) {
+        connected = false;
+        failureListeners.forEach(listener -> listener.onConnectionFailure(this, e));
+    }
+
+    public void setPendingRequestsCount(int pendingRequestsCount) {
+        this.pendingRequestsCount = pendingRequestsCount;
+    }
+
+    public void setAverageResponseTime(long averageResponseTime) {
+        this.averageResponseTime = averageResponseTime;
+    }
+
+    public void setIdleTime(long idleTime) {
+        this.idleTime = idleTime;
+    }
+
+    public void setProtocolFeatures(Set<TarantoolProtocolFeature> protocolFeatures) {
+        this.protocolFeatures = protocolFeatures;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return remoteAddress instanceof InetSocketAddress ? (InetSocketAddress) remoteAddress : null;
+    }
+
+    @Override
+    public SocketAddress getRemoteSocketAddress() {
+        return remoteAddress;
+    }
+
+    @Override
+    public TarantoolVersion getVersion() {
+        return null;
+    }
+
+    @Override
+    public boolean isConnected() {
+        return connected;
+    }
+
+    @Override
+    public int getPendingRequestsCount() {
+        return pendingRequestsCount;
+    }
+
+    @Override
+    public long getAverageResponseTime() {
+        return averageResponseTime;
+    }
+
+    @Override
+    public long getIdleTime() {
+        return idleTime;
+    }
+
+    @Override
+    public CompletableFuture<Set<TarantoolProtocolFeature>> getProtocolFeatures() {
+        return CompletableFuture.completedFuture(protocolFeatures);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+        return new CompletableFuture<>();
+    }
+
+    @Override
+    public Channel getChannel() {
+        return null;
+    }
+
+    @Override
+    public void addConnectionFailureListener(TarantoolConnectionFailureListener listener) {
+        failureListeners.add(listener);
+    }
+
+    @Override
+    public void addConnectionCloseListener(TarantoolConnectionCloseListener listener) {
+        closeListeners.add(listener);
+    }
+
+    @Override
+    public void close() {
+        if (connected) {
+            connected = false;
+            closeListeners.forEach(listener -> listener.onConnectionClosed(this));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package io.tarantool.driver.core.connection;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.util.HashedWheelTimer;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionListeners;
+import io.tarantool.driver.api.connection.TarantoolTransportType;
+import io.tarantool.driver.auth.SimpleTarantoolCredentials;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+class TarantoolConnectionFactoryTest {
+
+    private static final String GREETING = "Tarantool 2.11.0 (Binary) 00000000-0000-0000-0000-000000000000";
+
+    private final TarantoolClientConfig config = TarantoolClientConfig.builder()
+        // an empty user name disables the authentication
+        .withCredentials(new SimpleTarantoolCredentials("", ""))
+        .build();
+    private HashedWheelTimer timer;
+    private ScheduledExecutorService timeoutScheduler;
+
+    @BeforeEach
+    void setUp() {
+        timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS);
+        timeoutScheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+        timeoutScheduler.shutdownNow();
+    }
+
+    @Test
+    void test_multiConnection_shouldFail_ifUnixSocketIsNotSupportedByTransport() {
+        //given
+        TarantoolTransport transport = TarantoolTransport.forType(TarantoolTransportType.NIO);
+        EventLoopGroup group = transport.newEventLoopGroup(1);
+        try {
+            TarantoolConnectionFactory factory = newFactory(transport, group);
+
+            //when
+            Collection<CompletableFuture<TarantoolConnection>> connections = factory.multiConnection(
+                new TarantoolServerAddress("unix:/tmp/tarantool.sock"), 2, new TarantoolConnectionListeners());
+
+            //then
+            assertEquals(2, connections.size());
+            for (CompletableFuture<TarantoolConnection> connection : connections) {
+                ExecutionException e = assertThrows(ExecutionException.class, connection::get);
+                assertTrue(e.getCause() instanceof TarantoolClientException);
+            }
+        } finally {
+            group.shutdownGracefully();
+        }
+    }
+
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    void test_multiConnection_shouldConnectToUnixSocket_ifTransportIsEpoll(@TempDir Path tempDir) throws Exception {
+        //given
+        assumeTrue(Epoll.isAvailable());
+        TarantoolTransport transport = TarantoolTransport.forType(TarantoolTransportType.EPOLL);
+        EventLoopGroup group = transport.newEventLoopGroup(1);
+        String socketPath = tempDir.resolve("tarantool.sock").toString();
+        Channel server = new ServerBootstrap()
+            .group(group)
+            .channel(EpollServerDomainSocketChannel.class)
+            .childHandler(new GreetingHandler())
+            .bind(new DomainSocketAddress(socketPath)).sync().channel();
+        try {
+            TarantoolConnectionFactory factory = newFactory(transport, group);
+
+            //when
+            Collection<CompletableFuture<TarantoolConnection>> connections = factory.multiConnection(
+                new TarantoolServerAddress("unix:" + socketPath), 1, new TarantoolConnectionListeners());
+
+            //then
+            TarantoolConnection connection = connections.iterator().next().get(5, TimeUnit.SECONDS);
+            assertTrue(connection.isConnected());
+            assertEquals(new DomainSocketAddress(socketPath), connection.getRemoteSocketAddress());
+            assertNull(connection.getRemoteAddress());
+            assertEquals(GREETING, connection.getVersion().toString());
+            connection.close();
+        } finally {
+            server.close().sync();
+            group.shutdownGracefully();
+        }
+    }
+
+    private TarantoolConnectionFactory newFactory(TarantoolTransport transport, EventLoopGroup group) {
+        Bootstrap bootstrap = new Bootstrap()
+            .group(group)
+            .channel(transport.getSocketChannelClass());
+        return new TarantoolConnectionFactory(config, bootstrap, transport, timeoutScheduler, timer);
+    }
+
+    /**
+     * Sends the greeting of a Tarantool server which does not require authentication
+     */
+    private static final class GreetingHandler extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) {
+            byte[] greeting = new byte[128];
+            Arrays.fill(greeting, (byte) ' ');
+            byte[] version = GREETING.getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(version, 0, greeting, 0, version.length);
+            greeting[63] = '\n';
+            greeting[127] = '\n';
+            ctx.writeAndFlush(Unpooled.wrappedBuffer(greeting));
+        }
+    }
+}
@@ -0,0 +1,417 @@
+package io.tarantool.driver.core.connection;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.util.HashedWheelTimer;
+import io.tarantool.driver.TarantoolVersionHolder;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.codecs.MessagePackFrameDecoder;
+import io.tarantool.driver.core.RequestFutureManager;
+import io.tarantool.driver.exceptions.TarantoolInFlightRequestsLimitException;
+import io.tarantool.driver.handlers.TarantoolResponseHandler;
+import io.tarantool.driver.protocol.TarantoolProtocolFeature;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+class TarantoolConnectionImplTest {
+
+    private HashedWheelTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    void test_sendRequest_shouldAssignSyncIdsPerConnection_ifRequestsAreSentToSeveralConnections() {
+        //given
+        EmbeddedChannel firstChannel = new EmbeddedChannel();
+        EmbeddedChannel secondChannel = new EmbeddedChannel();
+        TarantoolConnectionImpl first = newConnection(firstChannel);
+        TarantoolConnectionImpl second = newConnection(secondChannel);
+
+        //when
+        first.sendRequest(newRequest(), null);
+        first.sendRequest(newRequest(), null);
+        second.sendRequest(newRequest(), null);
+
+        //then
+        assertEquals(1L, ((TarantoolRequest) firstChannel.readOutbound()).getHeader().getSync());
+        assertEquals(2L, ((TarantoolRequest) firstChannel.readOutbound()).getHeader().getSync());
+        assertEquals(1L, ((TarantoolRequest) secondChannel.readOutbound()).getHeader().getSync());
+    }
+
+    @Test
+    void test_sendRequest_shouldRegisterRequestWithAssignedSyncId_ifRequestIsWritten() {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel();
+        RequestFutureManager requestManager = new RequestFutureManager(new TarantoolClientConfig(), timer);
+        TarantoolConnectionImpl connection =
+            new TarantoolConnectionImpl(requestManager, new TarantoolVersionHolder(), channel);
+        TarantoolRequest request = newRequest();
+
+        //when
+        CompletableFuture<Object> future = connection.sendRequest(request, null);
+
+        //then
+        TarantoolRequest written = channel.readOutbound();
+        assertSame(request.getBody(), written.getBody());
+        assertEquals(TarantoolRequest.UNASSIGNED_SYNC_ID, request.getHeader().getSync());
+        assertSame(future, requestManager.removeRequest(written.getHeader().getSync()).getFuture());
+    }
+
+    @Test
+    void test_sendRequest_shouldKeepBothRequestsInFlight_ifRequestIsResentBeforeResponse() {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel();
+        RequestFutureManager requestManager = new RequestFutureManager(new TarantoolClientConfig(), timer);
+        TarantoolConnectionImpl connection =
+            new TarantoolConnectionImpl(requestManager, new TarantoolVersionHolder(), channel);
+        TarantoolRequest request = newRequest();
+
+        //when
+        CompletableFuture<Object> first = connection.sendRequest(request, null);
+        CompletableFuture<Object> resent = connection.sendRequest(request, null);
+
+        //then
+        long firstSync = ((TarantoolRequest) channel.readOutbound()).getHeader().getSync();
+        long resentSync = ((TarantoolRequest) channel.readOutbound()).getHeader().getSync();
+        assertEquals(1L, firstSync);
+        assertEquals(2L, resentSync);
+        assertEquals(TarantoolRequest.UNASSIGNED_SYNC_ID, request.getHeader().getSync());
+        assertSame(first, requestManager.removeRequest(firstSync).getFuture());
+        assertSame(resent, requestManager.removeRequest(resentSync).getFuture());
+    }
+
+    @Test
+    void test_sendRequest_shouldRejectRequest_ifInFlightLimitIsReachedAndQueueTimeoutIsNotSet() {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel();
+        TarantoolConnectionImpl connection = newConnection(channel, limitedConfig(1, 0));
+        CompletableFuture<Object> first = connection.sendRequest(newRequest(), null);
+
+        //when
+        CompletableFuture<Object> second = connection.sendRequest(newRequest(), null);
+
+        //then
+        assertFalse(first.isDone());
+        ExecutionException e = assertThrows(ExecutionException.class, second::get);
+        assertTrue(e.getCause() instanceof TarantoolInFlightRequestsLimitException);
+        assertEquals(1L, ((TarantoolRequest) channel.readOutbound()).getHeader().getSync());
+        assertNull(channel.readOutbound());
+    }
+
+    @Test
+    void test_sendRequest_shouldSendQueuedRequest_ifInFlightRequestIsCompleted() {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel();
+        RequestFutureManager requestManager = new RequestFutureManager(new TarantoolClientConfig(), timer);
+        TarantoolConnectionImpl connection = new TarantoolConnectionImpl(
+            requestManager, new TarantoolVersionHolder(), channel, limitedConfig(1, 10000));
+        connection.sendRequest(newRequest(), null);
+        CompletableFuture<Object> queued = connection.sendRequest(newRequest(), null);
+        TarantoolRequest sent = channel.readOutbound();
+        assertNull(channel.readOutbound());
+
+        //when
+        requestManager.removeRequest(sent.getHeader().getSync()).getFuture().complete(null);
+
+        //then
+        assertEquals(2L, ((TarantoolRequest) channel.readOutbound()).getHeader().getSync());
+        assertFalse(queued.isDone());
+    }
+
+    @Test
+    void test_sendRequest_shouldFailQueuedRequest_ifQueueTimeoutExpires() throws Exception {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel();
+        TarantoolConnectionImpl connection = newConnection(channel, limitedConfig(1, 10));
+        connection.sendRequest(newRequest(), null);
+        CompletableFuture<Object> queued = connection.sendRequest(newRequest(), null);
+
+        //when
+        Thread.sleep(50);
+        channel.runScheduledPendingTasks();
+
+        //then
+        ExecutionException e = assertThrows(ExecutionException.class, queued::get);
+        assertTrue(e.getCause() instanceof TarantoolInFlightRequestsLimitException);
+    }
+
+    @Test
+    void test_sendRequest_shouldQueueRequest_ifChannelIsNotWritable() {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel();
+        TarantoolConnectionImpl connection = newConnection(channel, limitedConfig(10, 10000));
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, false);
+
+        //when
+        connection.sendRequest(newRequest(), null);
+        assertNull(channel.readOutbound());
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, true);
+        channel.runPendingTasks();
+
+        //then
+        assertEquals(1L, ((TarantoolRequest) channel.readOutbound()).getHeader().getSync());
+    }
+
+    @Test
+    void test_sendBatch_shouldFlushOnce_ifSeveralRequestsAreSent() {
+        //given
+        AtomicInteger writes = new AtomicInteger();
+        AtomicInteger flushes = new AtomicInteger();
+        EmbeddedChannel channel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter() {
+            @Override
+            public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+                writes.incrementAndGet();
+                promise.setSuccess();
+            }
+
+            @Override
+            public void flush(ChannelHandlerContext ctx) {
+                flushes.incrementAndGet();
+            }
+        });
+        TarantoolConnectionImpl connection = newConnection(channel);
+
+        //when
+        connection.sendBatch(() -> {
+            for (int i = 0; i < 3; i++) {
+                connection.sendRequest(newRequest(), null);
+            }
+        });
+
+        //then
+        assertEquals(3, writes.get());
+        assertEquals(1, flushes.get());
+    }
+
+    @Test
+    void test_ping_shouldRecordRoundTripTime_ifPingResponseIsReceived() throws Exception {
+        //given
+        TarantoolClientConfig config = new TarantoolClientConfig.Builder().withPingInterval(1000).build();
+        RequestFutureManager requestManager = new RequestFutureManager(config, timer);
+        EmbeddedChannel channel = new EmbeddedChannel(
+            new MessagePackFrameDecoder(false), new TarantoolResponseHandler(requestManager, config));
+        TarantoolConnectionImpl connection =
+            new TarantoolConnectionImpl(requestManager, new TarantoolVersionHolder(), channel, config);
+        Thread.sleep(10);
+
+        //when
+        channel.pipeline().fireUserEventTriggered(IdleStateEvent.FIRST_READER_IDLE_STATE_EVENT);
+        channel.pipeline().fireUserEventTriggered(IdleStateEvent.READER_IDLE_STATE_EVENT);
+
+        //then
+        TarantoolRequest ping = channel.readOutbound();
+        assertEquals(TarantoolRequestType.IPROTO_PING.getCode(), ping.getHeader().getCode());
+        // only one ping is sent at a time
+        assertNull(channel.readOutbound());
+        assertEquals(0, connection.getPingTime());
+
+        channel.writeInbound(Unpooled.wrappedBuffer(emptyResponseFrame(ping.getHeader().getSync())));
+        assertTrue(connection.getPingTime() > 0);
+        assertEquals(connection.getPingTime(), connection.getAverageResponseTime());
+        // the ping is not counted as the connection activity
+        assertTrue(connection.getIdleTime() >= TimeUnit.MILLISECONDS.toNanos(10));
+        assertTrue(connection.isConnected());
+    }
+
+    @Test
+    void test_ping_shouldCloseConnection_ifPingResponseIsNotReceivedWithinReadTimeout() throws Exception {
+        //given
+        TarantoolClientConfig config = new TarantoolClientConfig.Builder()
+            .withPingInterval(1000)
+            .withReadTimeout(1)
+            .build();
+        EmbeddedChannel channel = new EmbeddedChannel();
+        TarantoolConnectionImpl connection = newConnection(channel, config);
+        AtomicInteger failures = new AtomicInteger();
+        connection.addConnectionFailureListener((c, e) -> failures.incrementAndGet());
+
+        //when
+        channel.pipeline().fireUserEventTriggered(IdleStateEvent.FIRST_READER_IDLE_STATE_EVENT);
+        Thread.sleep(10);
+        channel.runScheduledPendingTasks();
+
+        //then
+        assertFalse(connection.isConnected());
+        assertEquals(1, failures.get());
+    }
+
+    @Test
+    void test_getProtocolFeatures_shouldNegotiateFeaturesOnce_ifServerSupportsIdRequest() throws Exception {
+        //given
+        TarantoolClientConfig config = new TarantoolClientConfig();
+        RequestFutureManager requestManager = new RequestFutureManager(config, timer);
+        EmbeddedChannel channel = new EmbeddedChannel(
+            new MessagePackFrameDecoder(false), new TarantoolResponseHandler(requestManager, config));
+        TarantoolConnectionImpl connection =
+            new TarantoolConnectionImpl(requestManager, new TarantoolVersionHolder(), channel, config);
+
+        //when
+        CompletableFuture<Set<TarantoolProtocolFeature>> features = connection.getProtocolFeatures();
+        CompletableFuture<Set<TarantoolProtocolFeature>> repeated = connection.getProtocolFeatures();
+
+        //then
+        assertSame(features, repeated);
+        TarantoolRequest id = channel.readOutbound();
+        assertEquals(TarantoolRequestType.IPROTO_ID.getCode(), id.getHeader().getCode());
+        assertNull(channel.readOutbound());
+        assertFalse(features.isDone());
+
+        // the features unknown to the client or not requested by it are skipped
+        MessageBufferPacker body = MessagePack.newDefaultBufferPacker();
+        body.packMapHeader(2)
+            .packInt(0x54).packInt(4)
+            .packInt(0x55).packArrayHeader(4).packInt(0).packInt(1).packInt(3).packInt(100);
+        channel.writeInbound(Unpooled.wrappedBuffer(responseFrame(id.getHeader().getSync(), 0, body)));
+        assertEquals(EnumSet.of(TarantoolProtocolFeature.STREAMS, TarantoolProtocolFeature.TRANSACTIONS),
+            features.get());
+        assertSame(features, connection.getProtocolFeatures());
+    }
+
+    @Test
+    void test_getProtocolFeatures_shouldReturnNoFeatures_ifServerDoesNotSupportIdRequest() throws Exception {
+        //given
+        TarantoolClientConfig config = new TarantoolClientConfig();
+        RequestFutureManager requestManager = new RequestFutureManager(config, timer);
+        EmbeddedChannel channel = new EmbeddedChannel(
+            new MessagePackFrameDecoder(false), new TarantoolResponseHandler(requestManager, config));
+        TarantoolConnectionImpl connection =
+            new TarantoolConnectionImpl(requestManager, new TarantoolVersionHolder(), channel, config);
+
+        //when
+        CompletableFuture<Set<TarantoolProtocolFeature>> features = connection.getProtocolFeatures();
+        TarantoolRequest id = channel.readOutbound();
+        MessageBufferPacker body = MessagePack.newDefaultBufferPacker();
+        body.packMapHeader(1).packInt(0x31).packString("Unknown request type 73");
+        channel.writeInbound(Unpooled.wrappedBuffer(responseFrame(id.getHeader().getSync(), 0x8000 | 48, body)));
+
+        //then
+        assertEquals(Collections.emptySet(), features.get());
+    }
+
+    @Test
+    void test_sendRequest_shouldPassPushedValuesToHandler_ifServerPushesBeforeResponse() throws Exception {
+        //given
+        TarantoolClientConfig config = new TarantoolClientConfig();
+        RequestFutureManager requestManager = new RequestFutureManager(config, timer);
+        EmbeddedChannel channel = new EmbeddedChannel(
+            new MessagePackFrameDecoder(false), new TarantoolResponseHandler(requestManager, config));
+        TarantoolConnectionImpl connection =
+            new TarantoolConnectionImpl(requestManager, new TarantoolVersionHolder(), channel, config);
+        List<Value> pushed = new ArrayList<>();
+        TarantoolRequest streaming = newRequest();
+        streaming.setPushHandler(pushed::add);
+        TarantoolRequest plain = newRequest();
+
+        //when
+        CompletableFuture<Object> streamingFuture = connection.sendRequest(streaming, null);
+        CompletableFuture<Object> plainFuture = connection.sendRequest(plain, null);
+        long streamingSync = ((TarantoolRequest) channel.readOutbound()).getHeader().getSync();
+        long plainSync = ((TarantoolRequest) channel.readOutbound()).getHeader().getSync();
+        channel.writeInbound(Unpooled.wrappedBuffer(responseFrame(streamingSync, 0x80, pushBody(1))));
+        channel.writeInbound(Unpooled.wrappedBuffer(responseFrame(plainSync, 0x80, pushBody(100))));
+        channel.writeInbound(Unpooled.wrappedBuffer(responseFrame(streamingSync, 0x80, pushBody(2))));
+
+        //then
+        assertEquals(Arrays.asList(ValueFactory.newInteger(1), ValueFactory.newInteger(2)), pushed);
+        assertFalse(streamingFuture.isDone());
+        assertFalse(plainFuture.isDone());
+        channel.writeInbound(Unpooled.wrappedBuffer(emptyResponseFrame(streamingSync)));
+        channel.writeInbound(Unpooled.wrappedBuffer(emptyResponseFrame(plainSync)));
+        assertNull(streamingFuture.get());
+        assertNull(plainFuture.get());
+        assertEquals(0, requestManager.getPendingRequestsCount());
+    }
+
+    private static MessageBufferPacker pushBody(int value) throws IOException {
+        MessageBufferPacker body = MessagePack.newDefaultBufferPacker();
+        body.packMapHeader(1).packInt(0x30).packArrayHeader(1).packInt(value);
+        return body;
+    }
+
+    private static byte[] emptyResponseFrame(long syncId) throws IOException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packMapHeader(2)
+            .packInt(0x00).packInt(0)
+            .packInt(0x01).packLong(syncId);
+        packer.packMapHeader(0);
+        byte[] body = packer.toByteArray();
+        ByteBuf frame = Unpooled.buffer(body.length + 5);
+        frame.writeByte(MessagePack.Code.UINT32).writeInt(body.length).writeBytes(body);
+        return frame.array();
+    }
+
+    private static byte[] responseFrame(long syncId, int code, MessageBufferPacker body) throws IOException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packMapHeader(2)
+            .packInt(0x00).packInt(code)
+            .packInt(0x01).packLong(syncId);
+        packer.writePayload(body.toByteArray());
+        byte[] packet = packer.toByteArray();
+        ByteBuf frame = Unpooled.buffer(packet.length + 5);
+        frame.writeByte(MessagePack.Code.UINT32).writeInt(packet.length).writeBytes(packet);
+        return frame.array();
+    }
+
+    private TarantoolConnectionImpl newConnection(EmbeddedChannel channel, TarantoolClientConfig config) {
+        return new TarantoolConnectionImpl(new RequestFutureManager(config, timer),
+            new TarantoolVersionHolder(), channel, config);
+    }
+
+    private static TarantoolClientConfig limitedConfig(int maxInFlightRequests, int inFlightQueueTimeout) {
+        return new TarantoolClientConfig.Builder()
+            .withMaxInFlightRequests(maxInFlightRequests)
+            .withInFlightQueueTimeout(inFlightQueueTimeout)
+            .build();
+    }
+
+    private TarantoolConnectionImpl newConnection(EmbeddedChannel channel) {
+        return new TarantoolConnectionImpl(
+            new RequestFutureManager(new TarantoolClientConfig(), timer), new TarantoolVersionHolder(), channel);
+    }
+
+    private static TarantoolRequest newRequest() {
+        return new TarantoolRequest(TarantoolRequestType.IPROTO_CALL, null);
+    }
+}
@@ -0,0 +1,242 @@
+package io.tarantool.driver.core.connection;
+
+import io.netty.channel.Channel;
+import io.tarantool.driver.TarantoolVersion;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionCloseListener;
+import io.tarantool.driver.api.connection.TarantoolConnectionFailureListener;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.TarantoolInternalException;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.TarantoolProtocolFeature;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestBody;
+import io.tarantool.driver.protocol.TarantoolRequestType;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+class TarantoolStreamConnectionTest {
+
+    @Test
+    void test_executeTransaction_shouldCommitInOneBatch_ifAllOperationsSucceed() throws Exception {
+        //given
+        RecordingConnection connection = new RecordingConnection(
+            EnumSet.of(TarantoolProtocolFeature.STREAMS, TarantoolProtocolFeature.TRANSACTIONS));
+
+        //when
+        CompletableFuture<Void> result = TarantoolStreamConnection.executeTransaction(connection, stream -> {
+            stream.sendRequest(newInsertRequest(), null);
+            stream.sendRequest(newInsertRequest(), null);
+        });
+
+        //then
+        assertNull(result.get());
+        assertEquals(Arrays.asList(TarantoolRequestType.IPROTO_BEGIN, TarantoolRequestType.IPROTO_INSERT,
+            TarantoolRequestType.IPROTO_INSERT, TarantoolRequestType.IPROTO_COMMIT), connection.requestTypes());
+        assertEquals(1, connection.batches);
+        Long streamId = connection.requests.get(0).getHeader().getStreamId();
+        assertTrue(streamId > 0);
+        assertTrue(connection.requests.stream().allMatch(r -> streamId.equals(r.getHeader().getStreamId())));
+
+        // each transaction is executed in a new stream
+        RecordingConnection another = new RecordingConnection(connection.features);
+        TarantoolStreamConnection.executeTransaction(another, stream -> stream.sendRequest(newInsertRequest(), null))
+            .get();
+        assertNotEquals(streamId, another.requests.get(0).getHeader().getStreamId());
+    }
+
+    @Test
+    void test_executeTransaction_shouldRollback_ifOperationFails() {
+        //given
+        RecordingConnection connection = new RecordingConnection(
+            EnumSet.of(TarantoolProtocolFeature.STREAMS, TarantoolProtocolFeature.TRANSACTIONS));
+        TarantoolInternalException failure = new TarantoolInternalException("Duplicate key exists");
+
+        //when
+        CompletableFuture<Void> result = TarantoolStreamConnection.executeTransaction(connection, stream -> {
+            stream.sendRequest(newInsertRequest(), null);
+            connection.failure = failure;
+            stream.sendRequest(newInsertRequest(), null);
+            connection.failure = null;
+        });
+
+        //then
+        ExecutionException e = assertThrows(ExecutionException.class, result::get);
+        assertSame(failure, e.getCause());
+        assertEquals(Arrays.asList(TarantoolRequestType.IPROTO_BEGIN, TarantoolRequestType.IPROTO_INSERT,
+            TarantoolRequestType.IPROTO_INSERT, TarantoolRequestType.IPROTO_ROLLBACK), connection.requestTypes());
+    }
+
+    @Test
+    void test_executeTransaction_shouldNotSendRequests_ifServerDoesNotSupportTransactions() {
+        //given
+        RecordingConnection connection = new RecordingConnection(Collections.emptySet());
+
+        //when
+        CompletableFuture<Void> result = TarantoolStreamConnection.executeTransaction(connection,
+            stream -> stream.sendRequest(newInsertRequest(), null));
+
+        //then
+        ExecutionException e = assertThrows(ExecutionException.class, result::get);
+        assertTrue(e.getCause() instanceof TarantoolClientException);
+        assertTrue(connection.requests.isEmpty());
+    }
+
+    @Test
+    void test_executeTransaction_shouldAwaitRequests_ifTheyAreSentFromOperationCallbacks() throws Exception {
+        //given
+        RecordingConnection connection = new RecordingConnection(
+            EnumSet.of(TarantoolProtocolFeature.STREAMS, TarantoolProtocolFeature.TRANSACTIONS));
+        connection.deferred = new ArrayList<>();
+
+        //when
+        CompletableFuture<Void> result = TarantoolStreamConnection.executeTransaction(connection,
+            stream -> stream.sendRequest(newInsertRequest(), null)
+                .thenRun(() -> stream.sendRequest(newInsertRequest(), null)));
+        connection.completeDeferred();
+
+        //then
+        assertFalse(result.isDone());
+        assertEquals(Arrays.asList(TarantoolRequestType.IPROTO_BEGIN, TarantoolRequestType.IPROTO_INSERT,
+            TarantoolRequestType.IPROTO_INSERT), connection.requestTypes());
+        connection.completeDeferred();
+        connection.completeDeferred();
+        assertNull(result.get(1, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(TarantoolRequestType.IPROTO_BEGIN, TarantoolRequestType.IPROTO_INSERT,
+            TarantoolRequestType.IPROTO_INSERT, TarantoolRequestType.IPROTO_COMMIT), connection.requestTypes());
+    }
+
+    @Test
+    void test_sendRequest_shouldFail_ifTransactionIsFinished() throws Exception {
+        //given
+        RecordingConnection connection = new RecordingConnection(
+            EnumSet.of(TarantoolProtocolFeature.STREAMS, TarantoolProtocolFeature.TRANSACTIONS));
+        AtomicReference<TarantoolConnection> streamHolder = new AtomicReference<>();
+        TarantoolStreamConnection.executeTransaction(connection, streamHolder::set).get();
+
+        //when
+        CompletableFuture<Object> late = streamHolder.get().sendRequest(newInsertRequest(), null);
+
+        //then
+        ExecutionException e = assertThrows(ExecutionException.class, late::get);
+        assertTrue(e.getCause() instanceof TarantoolClientException);
+        assertEquals("transaction is already finished", e.getCause().getMessage());
+        assertEquals(Arrays.asList(TarantoolRequestType.IPROTO_BEGIN, TarantoolRequestType.IPROTO_COMMIT),
+            connection.requestTypes());
+    }
+
+    private static TarantoolRequest newInsertRequest() {
+        return new TarantoolRequest(TarantoolRequestType.IPROTO_INSERT, new TarantoolRequestBody());
+    }
+
+    /**
+     * Records the sent requests and completes them immediately
+     */
+    private static final class RecordingConnection implements TarantoolConnection {
+        private final StubTarantoolConnection stub = new StubTarantoolConnection("localhost", 3301);
+        private final Set<TarantoolProtocolFeature> features;
+        private final List<TarantoolRequest> requests = new ArrayList<>();
+        private Throwable failure;
+        private int batches;
+        private List<CompletableFuture<Object>> deferred;
+
+        RecordingConnection(Set<TarantoolProtocolFeature> features) {
+            this.features = features;
+        }
+
+        void completeDeferred() {
+            List<CompletableFuture<Object>> futures = new ArrayList<>(deferred);
+            deferred.clear();
+            futures.forEach(f -> f.complete(null));
+        }
+
+        List<TarantoolRequestType> requestTypes() {
+            return requests.stream()
+                .map(r -> Arrays.stream(TarantoolRequestType.values())
+                    .filter(type -> type.getCode() == r.getHeader().getCode())
+                    .findFirst().get())
+                .collect(Collectors.toList());
+        }
+
+        @Override
+        public CompletableFuture<Set<TarantoolProtocolFeature>> getProtocolFeatures() {
+            return CompletableFuture.completedFuture(features);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletableFuture<T> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+            requests.add(request);
+            CompletableFuture<T> result = new CompletableFuture<>();
+            if (deferred != null) {
+                deferred.add((CompletableFuture<Object>) result);
+            } else if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(null);
+            }
+            return result;
+        }
+
+        @Override
+        public void sendBatch(Runnable batch) {
+            batches++;
+            batch.run();
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return stub.getRemoteAddress();
+        }
+
+        @Override
+        public TarantoolVersion getVersion() {
+            return null;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public Channel getChannel() {
+            return null;
+        }
+
+        @Override
+        public void addConnectionFailureListener(TarantoolConnectionFailureListener listener) {
+        }
+
+        @Override
+        public void addConnectionCloseListener(TarantoolConnectionCloseListener listener) {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.tarantool.driver.core.connection;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.tarantool.driver.api.connection.TarantoolTransportType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+class TarantoolTransportTest {
+
+    @Test
+    void test_forType_shouldReturnNioTransport_ifNioIsRequested() {
+        //when
+        TarantoolTransport transport = TarantoolTransport.forType(TarantoolTransportType.NIO);
+
+        //then
+        assertEquals(TarantoolTransportType.NIO, transport.getType());
+        assertEquals(NioSocketChannel.class, transport.getSocketChannelClass());
+        EventLoopGroup group = transport.newEventLoopGroup(1);
+        try {
+            assertTrue(group instanceof NioEventLoopGroup);
+        } finally {
+            group.shutdownGracefully();
+        }
+    }
+
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    void test_forType_shouldReturnEpollTransport_ifEpollIsAvailable() {
+        //given
+        assumeTrue(Epoll.isAvailable());
+
+        //when
+        TarantoolTransport auto = TarantoolTransport.forType(TarantoolTransportType.AUTO);
+        TarantoolTransport epoll = TarantoolTransport.forType(TarantoolTransportType.EPOLL);
+
+        //then
+        assertEquals(TarantoolTransportType.EPOLL, auto.getType());
+        assertEquals(TarantoolTransportType.EPOLL, epoll.getType());
+        assertEquals(EpollSocketChannel.class, epoll.getSocketChannelClass());
+        EventLoopGroup group = epoll.newEventLoopGroup(1);
+        try {
+            assertTrue(group instanceof EpollEventLoopGroup);
+        } finally {
+            group.shutdownGracefully();
+        }
+    }
+
+    @Test
+    void test_forType_shouldFallBackToNio_ifIOUringIsNotOnClasspath() {
+        //when
+        TarantoolTransport transport = TarantoolTransport.forType(TarantoolTransportType.IO_URING);
+
+        //then
+        assertEquals(TarantoolTransportType.NIO, transport.getType());
+        assertEquals(NioSocketChannel.class, transport.getSocketChannelClass());
+    }
+}
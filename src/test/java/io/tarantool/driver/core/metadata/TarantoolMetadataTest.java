@@ -0,0 +1,157 @@
+package io.tarantool.driver.core.metadata;
+
+import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.api.metadata.TarantoolMetadataContainer;
+import io.tarantool.driver.api.metadata.TarantoolMetadataProvider;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+class TarantoolMetadataTest {
+
+    @Test
+    void test_refreshInBackground_shouldKeepOldMetadata_ifNewMetadataIsNotLoadedYet() {
+        //given
+        StubMetadataProvider provider = new StubMetadataProvider(container("old_space", 512));
+        TarantoolMetadata metadata = new TarantoolMetadata(provider);
+        assertTrue(metadata.getSpaceByName("old_space").isPresent());
+
+        //when
+        metadata.refreshInBackground();
+
+        //then
+        assertEquals(1, provider.pending.size());
+        assertTrue(metadata.getSpaceByName("old_space").isPresent());
+        assertFalse(metadata.getSpaceByName("new_space").isPresent());
+
+        provider.complete(container("new_space", 513));
+        assertFalse(metadata.getSpaceByName("old_space").isPresent());
+        assertFalse(metadata.getSpaceById(512).isPresent());
+        Optional<TarantoolSpaceMetadata> space = metadata.getSpaceByName("new_space");
+        assertTrue(space.isPresent());
+        assertEquals(513, space.get().getSpaceId());
+        assertEquals(space, metadata.getSpaceById(513));
+        assertEquals(2, provider.requests);
+    }
+
+    @Test
+    void test_refreshInBackground_shouldMakeOneMoreRefresh_ifCalledSeveralTimesDuringRefresh() {
+        //given
+        StubMetadataProvider provider = new StubMetadataProvider(container("first_space", 512));
+        TarantoolMetadata metadata = new TarantoolMetadata(provider);
+        assertTrue(metadata.getSpaceByName("first_space").isPresent());
+        metadata.refreshInBackground();
+
+        //when
+        metadata.refreshInBackground();
+        metadata.refreshInBackground();
+        metadata.refreshInBackground();
+
+        //then
+        assertEquals(2, provider.requests);
+        provider.complete(container("second_space", 513));
+        assertEquals(3, provider.requests);
+        assertTrue(metadata.getSpaceByName("second_space").isPresent());
+
+        provider.complete(container("third_space", 514));
+        assertEquals(3, provider.requests);
+        assertTrue(provider.pending.isEmpty());
+        assertFalse(metadata.getSpaceByName("second_space").isPresent());
+        assertTrue(metadata.getSpaceByName("third_space").isPresent());
+    }
+
+    @Test
+    void test_refreshInBackground_shouldDoNothing_ifMetadataIsNotLoadedYet() {
+        //given
+        StubMetadataProvider provider = new StubMetadataProvider(container("test_space", 512));
+        TarantoolMetadata metadata = new TarantoolMetadata(provider);
+
+        //when
+        metadata.refreshInBackground();
+
+        //then
+        assertEquals(0, provider.requests);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void test_deprecatedMapFields_shouldReflectCurrentSnapshot() {
+        //given
+        StubMetadataProvider provider = new StubMetadataProvider(container("old_space", 512));
+        TarantoolMetadata metadata = new TarantoolMetadata(provider);
+        assertTrue(metadata.getSpaceByName("old_space").isPresent());
+        assertTrue(metadata.spaceMetadataByName.containsKey("old_space"));
+        assertEquals("old_space", metadata.spaceMetadataById.get(512).getSpaceName());
+
+        //when
+        metadata.refreshInBackground();
+        provider.complete(container("new_space", 513));
+
+        //then
+        assertEquals(Collections.singleton("new_space"), metadata.spaceMetadataByName.keySet());
+        assertFalse(metadata.spaceMetadataById.containsKey(512));
+        assertEquals("new_space", metadata.spaceMetadataById.get(513).getSpaceName());
+        assertTrue(metadata.indexMetadataBySpaceName.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> metadata.spaceMetadataByName.remove("new_space"));
+    }
+
+    private static TarantoolMetadataContainer container(String spaceName, int spaceId) {
+        TarantoolSpaceMetadataImpl spaceMetadata = new TarantoolSpaceMetadataImpl();
+        spaceMetadata.setSpaceId(spaceId);
+        spaceMetadata.setSpaceName(spaceName);
+        spaceMetadata.setSpaceFormatMetadata(Collections.emptyMap());
+        Map<String, TarantoolSpaceMetadata> spaces = new HashMap<>();
+        spaces.put(spaceName, spaceMetadata);
+        return new TarantoolMetadataContainer() {
+            @Override
+            public Map<String, TarantoolSpaceMetadata> getSpaceMetadataByName() {
+                return spaces;
+            }
+
+            @Override
+            public Map<String, Map<String, TarantoolIndexMetadata>> getIndexMetadataBySpaceName() {
+                return Collections.emptyMap();
+            }
+        };
+    }
+
+    private static class StubMetadataProvider implements TarantoolMetadataProvider {
+
+        private final Queue<CompletableFuture<TarantoolMetadataContainer>> pending = new ConcurrentLinkedQueue<>();
+        private final TarantoolMetadataContainer initial;
+        private int requests;
+
+        StubMetadataProvider(TarantoolMetadataContainer initial) {
+            this.initial = initial;
+        }
+
+        @Override
+        public CompletableFuture<TarantoolMetadataContainer> getMetadata() {
+            if (requests++ == 0) {
+                return CompletableFuture.completedFuture(initial);
+            }
+            CompletableFuture<TarantoolMetadataContainer> result = new CompletableFuture<>();
+            pending.add(result);
+            return result;
+        }
+
+        void complete(TarantoolMetadataContainer container) {
+            pending.remove().complete(container);
+        }
+    }
+}
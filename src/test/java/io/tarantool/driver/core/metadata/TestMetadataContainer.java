@@ -3,6 +3,7 @@ package io.tarantool.driver.core.metadata;
 import io.tarantool.driver.api.metadata.TarantoolFieldMetadata;
 import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
 import io.tarantool.driver.api.metadata.TarantoolIndexPartMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexType;
 import io.tarantool.driver.api.metadata.TarantoolMetadataContainer;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 
@@ -25,6 +26,10 @@ public class TestMetadataContainer implements TarantoolMetadataContainer {
     private final TarantoolIndexMetadataImpl testIndexMetadata4;
 
     public TestMetadataContainer() {
+        this(null);
+    }
+
+    public TestMetadataContainer(TarantoolIndexType primaryIndexType) {
         testSpaceMetadata = new TarantoolSpaceMetadataImpl();
         testSpaceMetadata.setSpaceId(512);
         testSpaceMetadata.setSpaceName("test");
@@ -43,6 +48,7 @@ public class TestMetadataContainer implements TarantoolMetadataContainer {
         testPrimaryIndexMetadata.setIndexId(0);
         testPrimaryIndexMetadata.setIndexName("primary");
         testPrimaryIndexMetadata.setSpaceId(512);
+        testPrimaryIndexMetadata.setIndexType(primaryIndexType);
         testPrimaryIndexMetadata.setIndexParts(Collections.singletonList(
             new TarantoolIndexPartMetadataImpl(0, "string", 1))
         );
@@ -0,0 +1,248 @@
+package io.tarantool.driver.core.space;
+
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.cursor.TarantoolCursor;
+import io.tarantool.driver.api.metadata.TarantoolIndexType;
+import io.tarantool.driver.api.tuple.operations.TupleOperations;
+import io.tarantool.driver.core.connection.StubTarantoolConnection;
+import io.tarantool.driver.core.connection.TarantoolConnectionManager;
+import io.tarantool.driver.core.metadata.TarantoolMetadata;
+import io.tarantool.driver.core.metadata.TestMetadataContainer;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.protocol.TarantoolProtocolFeature;
+import org.junit.jupiter.api.Test;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+class PositionCursorTest {
+
+    private static final Set<TarantoolProtocolFeature> PAGINATION = EnumSet.of(TarantoolProtocolFeature.PAGINATION);
+
+    @Test
+    void test_next_shouldSelectPagesAfterPosition_ifIndexIsTreeAndPaginationIsSupported() {
+        //given
+        TestSpace space = new TestSpace(TarantoolIndexType.TREE, PAGINATION, 10);
+        TarantoolCursor<TestTuple> cursor = new PositionCursor<>(space, Conditions.any(), 3);
+
+        //when
+        List<Integer> values = fetchAll(cursor);
+
+        //then
+        assertEquals(range(0, 10), values);
+        assertTrue(space.offsetSelects.isEmpty());
+        assertEquals(Arrays.asList(0L, 0L, 0L, 0L), space.pageOffsets);
+        assertNull(space.pagePositions.get(0));
+        assertArrayEquals(new byte[]{2}, space.pagePositions.get(1));
+        assertArrayEquals(new byte[]{5}, space.pagePositions.get(2));
+        assertArrayEquals(new byte[]{8}, space.pagePositions.get(3));
+    }
+
+    @Test
+    void test_next_shouldStopSelectingPages_ifPageIsEmpty() {
+        //given
+        TestSpace space = new TestSpace(TarantoolIndexType.TREE, PAGINATION, 6);
+        TarantoolCursor<TestTuple> cursor = new PositionCursor<>(space, Conditions.any(), 3);
+
+        //when
+        List<Integer> values = fetchAll(cursor);
+
+        //then
+        assertEquals(range(0, 6), values);
+        assertEquals(3, space.pagePositions.size());
+        assertTrue(space.offsetSelects.isEmpty());
+    }
+
+    @Test
+    void test_next_shouldSelectWithOffset_ifIndexIsNotTree() {
+        //given
+        TestSpace space = new TestSpace(TarantoolIndexType.HASH, PAGINATION, 10);
+        TarantoolCursor<TestTuple> cursor = new PositionCursor<>(space, Conditions.any(), 3);
+
+        //when
+        List<Integer> values = fetchAll(cursor);
+
+        //then
+        assertEquals(range(0, 10), values);
+        assertTrue(space.pagePositions.isEmpty());
+        assertEquals(Arrays.asList(0L, 3L, 6L, 9L, 10L), space.offsetSelects);
+    }
+
+    @Test
+    void test_next_shouldSelectWithOffset_ifPaginationIsNotSupported() {
+        //given
+        TestSpace space = new TestSpace(TarantoolIndexType.TREE, Collections.emptySet(), 10);
+        TarantoolCursor<TestTuple> cursor = new PositionCursor<>(space, Conditions.any(), 3);
+
+        //when
+        List<Integer> values = fetchAll(cursor);
+
+        //then
+        assertEquals(range(0, 10), values);
+        assertTrue(space.pagePositions.isEmpty());
+        assertEquals(Arrays.asList(0L, 3L, 6L, 9L, 10L), space.offsetSelects);
+    }
+
+    @Test
+    void test_next_shouldApplyInitialOffsetToFirstPageOnly_ifOffsetIsSpecified() {
+        //given
+        TestSpace space = new TestSpace(TarantoolIndexType.TREE, PAGINATION, 10);
+        TarantoolCursor<TestTuple> cursor = new PositionCursor<>(space, Conditions.any().withOffset(2).withLimit(6), 4);
+
+        //when
+        List<Integer> values = fetchAll(cursor);
+
+        //then
+        assertEquals(range(2, 8), values);
+        assertEquals(Arrays.asList(2L, 0L), space.pageOffsets);
+        assertArrayEquals(new byte[]{5}, space.pagePositions.get(1));
+        assertTrue(space.offsetSelects.isEmpty());
+    }
+
+    @Test
+    void test_next_shouldAddInitialOffsetToEachSelect_ifSelectingWithOffset() {
+        //given
+        TestSpace space = new TestSpace(TarantoolIndexType.HASH, PAGINATION, 10);
+        TarantoolCursor<TestTuple> cursor = new PositionCursor<>(space, Conditions.any().withOffset(2).withLimit(6), 4);
+
+        //when
+        List<Integer> values = fetchAll(cursor);
+
+        //then
+        assertEquals(range(2, 8), values);
+        assertEquals(Arrays.asList(2L, 6L), space.offsetSelects);
+        assertTrue(space.pagePositions.isEmpty());
+    }
+
+    private static List<Integer> fetchAll(TarantoolCursor<TestTuple> cursor) {
+        List<Integer> values = new ArrayList<>();
+        while (cursor.next()) {
+            values.add(cursor.get().value);
+        }
+        return values;
+    }
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+
+    private static TarantoolConnectionManager connectionManager(Set<TarantoolProtocolFeature> features) {
+        StubTarantoolConnection connection = new StubTarantoolConnection("localhost", 3301);
+        connection.setProtocolFeatures(features);
+        return new TarantoolConnectionManager() {
+            @Override
+            public CompletableFuture<TarantoolConnection> getConnection() {
+                return CompletableFuture.completedFuture(connection);
+            }
+
+            @Override
+            public boolean refresh() {
+                return false;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static final class TestTuple implements Packable {
+
+        private final int value;
+
+        TestTuple(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public Value toMessagePackValue(MessagePackObjectMapper mapper) {
+            return ValueFactory.newInteger(value);
+        }
+    }
+
+    /**
+     * Selects the tuples from memory, the position is the index of the last selected tuple
+     */
+    private static final class TestSpace extends TarantoolSpace<TestTuple, List<TestTuple>> {
+
+        private final List<TestTuple> tuples;
+        private final List<Long> offsetSelects = new ArrayList<>();
+        private final List<Long> pageOffsets = new ArrayList<>();
+        private final List<byte[]> pagePositions = new ArrayList<>();
+
+        TestSpace(TarantoolIndexType indexType, Set<TarantoolProtocolFeature> features, int tuplesCount) {
+            this(new TarantoolMetadata(
+                () -> CompletableFuture.completedFuture(new TestMetadataContainer(indexType))), features, tuplesCount);
+        }
+
+        private TestSpace(TarantoolMetadata metadata, Set<TarantoolProtocolFeature> features, int tuplesCount) {
+            super(new TarantoolClientConfig(), connectionManager(features), metadata,
+                metadata.getSpaceByName("test").get());
+            this.tuples = IntStream.range(0, tuplesCount).mapToObj(TestTuple::new).collect(Collectors.toList());
+        }
+
+        @Override
+        public CompletableFuture<List<TestTuple>> select(Conditions conditions) {
+            offsetSelects.add(conditions.getOffset());
+            return CompletableFuture.completedFuture(slice(conditions.getOffset(), conditions.getLimit()));
+        }
+
+        @Override
+        CompletableFuture<TarantoolSelectPage<List<TestTuple>>> selectPage(
+            Conditions conditions, byte[] afterPosition) {
+            pageOffsets.add(conditions.getOffset());
+            pagePositions.add(afterPosition);
+            long start = (afterPosition == null ? 0 : afterPosition[0] + 1) + conditions.getOffset();
+            List<TestTuple> page = slice(start, conditions.getLimit());
+            byte[] position = page.isEmpty() ? null : new byte[]{(byte) (start + page.size() - 1)};
+            return CompletableFuture.completedFuture(new TarantoolSelectPage<>(page, position));
+        }
+
+        private List<TestTuple> slice(long offset, long limit) {
+            int from = (int) Math.min(offset, tuples.size());
+            int to = (int) Math.min(from + limit, tuples.size());
+            return new ArrayList<>(tuples.subList(from, to));
+        }
+
+        @Override
+        protected TupleOperations makeOperationsFromTuple(TestTuple tuple) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected MessagePackValueMapper arrayTupleResultMapper() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TarantoolCursor<TestTuple> cursor(Conditions conditions, int batchSize) {
+            return new PositionCursor<>(this, conditions, batchSize);
+        }
+
+        @Override
+        public TarantoolCursor<TestTuple> cursor(Conditions conditions) {
+            return cursor(conditions, 3);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package io.tarantool.driver.handlers;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.local.LocalChannel;
+import io.netty.util.ReferenceCountUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * @author Alexey Kuzin
+ */
+class TarantoolFlushCoalescingHandlerTest {
+
+    @Test
+    void test_flush_shouldFlushAtTickEnd_ifNoReadIsInProgress() {
+        //given
+        FlushCounter flushCounter = new FlushCounter();
+        EmbeddedChannel channel = new EmbeddedChannel(flushCounter, new TarantoolFlushCoalescingHandler(64, 1024));
+
+        //when
+        channel.writeAndFlush(frame(10));
+        channel.writeAndFlush(frame(10));
+        assertEquals(0, flushCounter.flushes);
+        channel.runPendingTasks();
+
+        //then
+        assertEquals(1, flushCounter.flushes);
+        assertEquals(2, flushCounter.writes);
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void test_flush_shouldFlushOnce_ifRequestsAreSentFromOutsideEventLoop() throws Exception {
+        //given
+        EventLoopGroup group = new DefaultEventLoopGroup(1);
+        try {
+            FlushCounter flushCounter = new FlushCounter();
+            Channel channel = new LocalChannel();
+            channel.pipeline().addLast(flushCounter, new TarantoolFlushCoalescingHandler(64, 1024));
+            group.register(channel).sync();
+            // hold the event loop, so that the writes from this thread are queued as separate tasks
+            CountDownLatch eventLoopBlocked = new CountDownLatch(1);
+            channel.eventLoop().execute(() -> {
+                try {
+                    eventLoopBlocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            //when
+            int requests = 10;
+            for (int i = 0; i < requests; i++) {
+                channel.writeAndFlush(frame(10));
+            }
+            eventLoopBlocked.countDown();
+
+            //then
+            // the flush task is queued when the first write runs, so it is done before a task queued after that
+            channel.eventLoop().submit(() -> { }).get(1, TimeUnit.SECONDS);
+            int[] counters = channel.eventLoop()
+                .submit(() -> new int[]{flushCounter.writes, flushCounter.flushes})
+                .get(1, TimeUnit.SECONDS);
+            assertEquals(requests, counters[0]);
+            assertEquals(1, counters[1]);
+            channel.close().sync();
+        } finally {
+            group.shutdownGracefully().sync();
+        }
+    }
+
+    @Test
+    void test_flush_shouldFlushOnce_ifRequestsAreWrittenWhileReading() {
+        //given
+        FlushCounter flushCounter = new FlushCounter();
+        EmbeddedChannel channel = new EmbeddedChannel(flushCounter, new TarantoolFlushCoalescingHandler(64, 1024));
+        channel.pipeline().fireChannelRead("response");
+
+        //when
+        channel.writeAndFlush(frame(10));
+        channel.writeAndFlush(frame(10));
+        channel.writeAndFlush(frame(10));
+        assertEquals(0, flushCounter.flushes);
+        channel.pipeline().fireChannelReadComplete();
+
+        //then
+        assertEquals(1, flushCounter.flushes);
+        assertEquals(3, flushCounter.writes);
+        assertEquals("response", channel.readInbound());
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void test_flush_shouldFlushImmediately_ifMaxPendingWritesIsReachedWhileReading() {
+        //given
+        FlushCounter flushCounter = new FlushCounter();
+        EmbeddedChannel channel = new EmbeddedChannel(flushCounter, new TarantoolFlushCoalescingHandler(2, 1024));
+        channel.pipeline().fireChannelRead("response");
+
+        //when
+        channel.writeAndFlush(frame(10));
+        channel.writeAndFlush(frame(10));
+
+        //then
+        assertEquals(1, flushCounter.flushes);
+        assertEquals(2, flushCounter.writes);
+        channel.pipeline().fireChannelReadComplete();
+        assertEquals(1, flushCounter.flushes);
+        assertEquals("response", channel.readInbound());
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void test_flush_shouldFlushImmediately_ifMaxPendingBytesIsReachedWhileReading() {
+        //given
+        FlushCounter flushCounter = new FlushCounter();
+        EmbeddedChannel channel = new EmbeddedChannel(flushCounter, new TarantoolFlushCoalescingHandler(64, 1024));
+        channel.pipeline().fireChannelRead("response");
+
+        //when
+        channel.writeAndFlush(frame(10));
+        channel.writeAndFlush(frame(1024));
+
+        //then
+        assertEquals(1, flushCounter.flushes);
+        assertEquals(2, flushCounter.writes);
+        assertEquals("response", channel.readInbound());
+        assertFalse(channel.finish());
+    }
+
+    private static ByteBuf frame(int size) {
+        return Unpooled.wrappedBuffer(new byte[size]);
+    }
+
+    /**
+     * Consumes the written messages, so the embedded channel does not run the pending tasks on each write
+     */
+    private static final class FlushCounter extends ChannelOutboundHandlerAdapter {
+        private int writes;
+        private int flushes;
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            writes++;
+            ReferenceCountUtil.release(msg);
+            promise.setSuccess();
+        }
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) {
+            flushes++;
+        }
+    }
+}
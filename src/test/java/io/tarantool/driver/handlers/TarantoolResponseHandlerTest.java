@@ -0,0 +1,398 @@
+package io.tarantool.driver.handlers;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.HashedWheelTimer;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolClientMetrics;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.TarantoolSqlResult;
+import io.tarantool.driver.api.metadata.TarantoolFieldMetadata;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.codecs.MessagePackFrameDecoder;
+import io.tarantool.driver.core.RequestFutureManager;
+import io.tarantool.driver.core.metadata.SqlResponseToTarantoolSqlResultConverter;
+import io.tarantool.driver.mappers.DefaultMessagePackMapper;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.mappers.TarantoolResultMapper;
+import io.tarantool.driver.mappers.TarantoolTupleResultMapperFactoryImpl;
+import io.tarantool.driver.mappers.converters.StreamingValueConverter;
+import io.tarantool.driver.mappers.converters.value.ArrayValueToTarantoolResultConverter;
+import io.tarantool.driver.mappers.converters.value.ArrayValueToTarantoolTupleConverter;
+import io.tarantool.driver.mappers.converters.value.ArrayValueToTarantoolTupleResultConverter;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.protocol.requests.TarantoolCallRequest;
+import io.tarantool.driver.protocol.requests.TarantoolExecuteRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.ValueType;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TarantoolResponseHandlerTest {
+
+    private static final MessagePackMapper mapper =
+        DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    private HashedWheelTimer timeoutTimer;
+    private RequestFutureManager futureManager;
+
+    @BeforeEach
+    void setUp() {
+        timeoutTimer = new HashedWheelTimer();
+        futureManager = new RequestFutureManager(new TarantoolClientConfig(), timeoutTimer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timeoutTimer.stop();
+    }
+
+    @Test
+    void test_channelRead_shouldMapResult_ifResponseHoldsRawData() throws Exception {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(
+            new MessagePackFrameDecoder(true), new TarantoolResponseHandler(futureManager));
+        TarantoolResultMapper<TarantoolTuple> resultMapper = TarantoolTupleResultMapperFactoryImpl.getInstance()
+            .withArrayValueToTarantoolTupleResultConverter(mapper);
+        TarantoolCallRequest request = new TarantoolCallRequest.Builder()
+            .withFunctionName("select").build(mapper);
+        CompletableFuture<TarantoolResult<TarantoolTuple>> future =
+            futureManager.submitRequest(request, resultMapper);
+        ByteBuf frame = Unpooled.wrappedBuffer(frame(request.getHeader().getSync()));
+
+        //when
+        channel.writeInbound(frame);
+
+        //then
+        TarantoolResult<TarantoolTuple> result = future.get();
+        assertEquals(2, result.size());
+        assertEquals("abc", result.get(0).getString(0));
+        assertEquals(1, result.get(0).getInteger(1));
+        assertEquals("def", result.get(1).getString(0));
+        assertEquals(0, frame.refCnt());
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void test_channelRead_shouldReadResultFromRawData_ifLazyResponseBodyIsDisabled() throws Exception {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(
+            new MessagePackFrameDecoder(false, futureManager::isStreamingResultExpected),
+            new TarantoolResponseHandler(futureManager));
+        AtomicInteger unpackedTuples = new AtomicInteger();
+        TarantoolResultMapper<String> resultMapper = new TarantoolResultMapper<>(
+            DefaultMessagePackMapperFactory.getInstance().emptyMapper(),
+            new ArrayValueToTarantoolResultConverter<>(new StreamingValueConverter<ArrayValue, String>() {
+                @Override
+                public String fromUnpacker(MessageUnpacker unpacker) throws IOException {
+                    unpackedTuples.incrementAndGet();
+                    int size = unpacker.unpackArrayHeader();
+                    String value = unpacker.unpackString();
+                    for (int i = 1; i < size; i++) {
+                        unpacker.skipValue();
+                    }
+                    return value;
+                }
+
+                @Override
+                public String fromValue(ArrayValue value) {
+                    return value.get(0).asStringValue().asString();
+                }
+            }));
+        TarantoolCallRequest request = new TarantoolCallRequest.Builder()
+            .withFunctionName("select").build(mapper);
+        CompletableFuture<TarantoolResult<String>> future = futureManager.submitRequest(request, resultMapper);
+
+        //when
+        channel.writeInbound(Unpooled.wrappedBuffer(frame(request.getHeader().getSync())));
+
+        //then
+        assertEquals(Arrays.asList("abc", "def"), future.get());
+        assertEquals(2, unpackedTuples.get());
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void test_channelRead_shouldMapResultFromValue_ifStreamingConverterCannotConvertData() throws Exception {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(
+            new MessagePackFrameDecoder(true), new TarantoolResponseHandler(futureManager));
+        DefaultMessagePackMapper valueMapper = DefaultMessagePackMapperFactory.getInstance().emptyMapper();
+        valueMapper.registerValueConverterWithoutTargetClass(ValueType.ARRAY, v -> "not tuples");
+        TarantoolResultMapper<TarantoolTuple> resultMapper = new TarantoolResultMapper<>(valueMapper,
+            new ArrayValueToTarantoolTupleResultConverter(new ArrayValueToTarantoolTupleConverter(mapper, null)));
+        TarantoolCallRequest request = new TarantoolCallRequest.Builder()
+            .withFunctionName("select").build(mapper);
+        CompletableFuture<Object> future = futureManager.submitRequest(request, resultMapper);
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packMapHeader(1).packInt(0x30).packArrayHeader(2).packInt(1).packInt(2);
+
+        //when
+        channel.writeInbound(Unpooled.wrappedBuffer(frame(request.getHeader().getSync(), 1, packer.toByteArray())));
+
+        //then
+        assertEquals("not tuples", future.get());
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void test_channelRead_shouldMapResultFromValue_ifConverterIsRegisteredAfterResultConverter() throws Exception {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(
+            new MessagePackFrameDecoder(true), new TarantoolResponseHandler(futureManager));
+        TarantoolResultMapper<TarantoolTuple> resultMapper = TarantoolTupleResultMapperFactoryImpl.getInstance()
+            .withArrayValueToTarantoolTupleResultConverter(mapper);
+        resultMapper.registerValueConverterWithoutTargetClass(ValueType.ARRAY, v -> "overridden");
+        TarantoolCallRequest request = new TarantoolCallRequest.Builder()
+            .withFunctionName("select").build(mapper);
+        CompletableFuture<Object> future = futureManager.submitRequest(request, resultMapper);
+
+        //when
+        channel.writeInbound(Unpooled.wrappedBuffer(frame(request.getHeader().getSync())));
+
+        //then
+        assertFalse(resultMapper.canUnpack(ValueType.ARRAY));
+        assertEquals("overridden", future.get());
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void test_channelRead_shouldMapResultInExecutor_ifResponseIsLargerThanThreshold() throws Exception {
+        //given
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "result-mapping"));
+        AtomicLong queueingDelay = new AtomicLong(-1);
+        TarantoolClientConfig config = new TarantoolClientConfig.Builder()
+            .withResultMappingExecutor(executor)
+            .withResultMappingThreshold(10)
+            .withClientMetrics(new TarantoolClientMetrics() {
+                @Override
+                public void recordResultMappingQueueingDelay(long queueingDelayNanos) {
+                    queueingDelay.set(queueingDelayNanos);
+                }
+            })
+            .build();
+        EmbeddedChannel channel = new EmbeddedChannel(
+            new MessagePackFrameDecoder(true), new TarantoolResponseHandler(futureManager, config));
+        TarantoolResultMapper<TarantoolTuple> resultMapper = TarantoolTupleResultMapperFactoryImpl.getInstance()
+            .withArrayValueToTarantoolTupleResultConverter(mapper);
+        TarantoolCallRequest request = new TarantoolCallRequest.Builder()
+            .withFunctionName("select").build(mapper);
+        CompletableFuture<String> future = futureManager.<TarantoolResult<TarantoolTuple>>submitRequest(
+            request, resultMapper).thenApply(r -> Thread.currentThread().getName());
+        ByteBuf frame = Unpooled.wrappedBuffer(frame(request.getHeader().getSync()));
+
+        try {
+            //when
+            channel.writeInbound(frame);
+
+            //then
+            assertEquals("result-mapping", future.get());
+            assertTrue(queueingDelay.get() >= 0);
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+            assertEquals(0, frame.refCnt());
+            assertFalse(channel.finish());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void test_channelRead_shouldMapResultInline_ifResponseIsSmallerThanThreshold() throws Exception {
+        //given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        TarantoolClientConfig config = new TarantoolClientConfig.Builder()
+            .withResultMappingExecutor(executor)
+            .withResultMappingThreshold(1024)
+            .build();
+        EmbeddedChannel channel = new EmbeddedChannel(
+            new MessagePackFrameDecoder(), new TarantoolResponseHandler(futureManager, config));
+        TarantoolResultMapper<TarantoolTuple> resultMapper = TarantoolTupleResultMapperFactoryImpl.getInstance()
+            .withArrayValueToTarantoolTupleResultConverter(mapper);
+        TarantoolCallRequest request = new TarantoolCallRequest.Builder()
+            .withFunctionName("select").build(mapper);
+        CompletableFuture<TarantoolResult<TarantoolTuple>> future =
+            futureManager.submitRequest(request, resultMapper);
+
+        try {
+            //when
+            channel.writeInbound(Unpooled.wrappedBuffer(frame(request.getHeader().getSync())));
+
+            //then
+            assertTrue(future.isDone());
+            assertEquals(2, future.get().size());
+            assertFalse(channel.finish());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void test_channelRead_shouldRecordResponseTime_ifResponseIsReceived() throws Exception {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(
+            new MessagePackFrameDecoder(), new TarantoolResponseHandler(futureManager));
+        TarantoolCallRequest request = new TarantoolCallRequest.Builder()
+            .withFunctionName("select").build(mapper);
+        futureManager.submitRequest(request, mapper);
+        assertEquals(0, futureManager.getAverageResponseTime());
+        Thread.sleep(10);
+
+        //when
+        channel.writeInbound(Unpooled.wrappedBuffer(frame(request.getHeader().getSync())));
+
+        //then
+        assertTrue(futureManager.getAverageResponseTime() >= TimeUnit.MILLISECONDS.toNanos(10));
+        assertEquals(0, futureManager.getPendingRequestsCount());
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void test_channelRead_shouldMapSqlResult_ifResponseHoldsSqlBody() throws Exception {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(
+            new MessagePackFrameDecoder(true), new TarantoolResponseHandler(futureManager));
+        TarantoolExecuteRequest request = new TarantoolExecuteRequest.Builder()
+            .withStatementText("SELECT * FROM t").build(mapper);
+        CompletableFuture<TarantoolSqlResult> future = futureManager.submitRequest(request, sqlResultMapper());
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packMapHeader(2)
+            .packInt(0x32).packArrayHeader(2)
+            .packMapHeader(2).packInt(0x00).packString("NAME").packInt(0x01).packString("string")
+            .packMapHeader(3).packInt(0x00).packString("VALUE").packInt(0x01).packString("integer")
+            .packInt(0x03).packBoolean(true)
+            .packInt(0x30).packArrayHeader(2)
+            .packArrayHeader(2).packString("abc").packInt(1)
+            .packArrayHeader(2).packString("def").packNil();
+
+        //when
+        channel.writeInbound(Unpooled.wrappedBuffer(frame(request.getHeader().getSync(), 7, packer.toByteArray())));
+
+        //then
+        TarantoolSqlResult result = future.get();
+        assertEquals(2, result.size());
+        assertEquals(2, result.getRowCount());
+        assertEquals("abc", result.get(0).getString("NAME"));
+        assertEquals(1, result.get(0).getInteger("VALUE"));
+        assertNull(result.get(1).getInteger("VALUE"));
+        TarantoolFieldMetadata field = result.getMetadata().get().getFieldByName("VALUE").get();
+        assertEquals(1, field.getFieldPosition());
+        assertTrue(field.getIsNullable());
+        assertEquals(7, futureManager.getSchemaVersion());
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void test_channelRead_shouldKeepColumnPositions_ifColumnNamesAreRepeated() throws Exception {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(
+            new MessagePackFrameDecoder(true), new TarantoolResponseHandler(futureManager));
+        TarantoolExecuteRequest request = new TarantoolExecuteRequest.Builder()
+            .withStatementText("SELECT a.id, b.id, a.id FROM a JOIN b ON a.id = b.id").build(mapper);
+        CompletableFuture<TarantoolSqlResult> future = futureManager.submitRequest(request, sqlResultMapper());
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packMapHeader(2)
+            .packInt(0x30).packArrayHeader(1)
+            .packArrayHeader(3).packInt(1).packInt(2).packInt(3)
+            .packInt(0x32).packArrayHeader(3)
+            .packMapHeader(2).packInt(0x00).packString("ID").packInt(0x01).packString("integer")
+            .packMapHeader(2).packInt(0x00).packString("ID").packInt(0x01).packString("integer")
+            .packMapHeader(2).packInt(0x00).packString("ID").packInt(0x01).packString("integer");
+
+        //when
+        channel.writeInbound(Unpooled.wrappedBuffer(frame(request.getHeader().getSync(), 7, packer.toByteArray())));
+
+        //then
+        TarantoolSqlResult result = future.get();
+        assertEquals(1, result.size());
+        assertEquals(1, result.get(0).getInteger("ID"));
+        assertEquals(2, result.get(0).getInteger("ID_1"));
+        assertEquals(3, result.get(0).getInteger("ID_2"));
+        TarantoolSpaceMetadata metadata = result.getMetadata().get();
+        assertEquals(3, metadata.getSpaceFormatMetadata().size());
+        assertEquals(2, metadata.getFieldPositionByName("ID_2"));
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void test_channelRead_shouldMapSqlInfo_ifResponseHoldsDataModificationResult() throws Exception {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(
+            new MessagePackFrameDecoder(), new TarantoolResponseHandler(futureManager));
+        TarantoolExecuteRequest request = new TarantoolExecuteRequest.Builder()
+            .withStatementText("INSERT INTO t VALUES (NULL), (NULL)").build(mapper);
+        CompletableFuture<TarantoolSqlResult> future = futureManager.submitRequest(request, sqlResultMapper());
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packMapHeader(1)
+            .packInt(0x42).packMapHeader(2)
+            .packInt(0x00).packInt(2)
+            .packInt(0x01).packArrayHeader(2).packInt(10).packInt(11);
+
+        //when
+        channel.writeInbound(Unpooled.wrappedBuffer(frame(request.getHeader().getSync(), 7, packer.toByteArray())));
+
+        //then
+        TarantoolSqlResult result = future.get();
+        assertTrue(result.isEmpty());
+        assertFalse(result.getMetadata().isPresent());
+        assertEquals(2, result.getRowCount());
+        assertEquals(Arrays.asList(10L, 11L), result.getAutoincrementIds());
+        assertFalse(channel.finish());
+    }
+
+    private static MessagePackValueMapper sqlResultMapper() {
+        DefaultMessagePackMapper resultMapper = DefaultMessagePackMapperFactory.getInstance().emptyMapper();
+        resultMapper.registerValueConverterWithoutTargetClass(ValueType.MAP,
+            new SqlResponseToTarantoolSqlResultConverter(new ArrayValueToTarantoolTupleConverter(mapper, null)));
+        return resultMapper;
+    }
+
+    private static byte[] frame(long syncId, long schemaVersion, byte[] body) throws IOException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packMapHeader(3)
+            .packInt(0x00).packInt(0)
+            .packInt(0x01).packLong(syncId)
+            .packInt(0x05).packLong(schemaVersion);
+        packer.writePayload(body);
+        byte[] packet = packer.toByteArray();
+        ByteBuf frame = Unpooled.buffer(packet.length + 5);
+        frame.writeByte(MessagePack.Code.UINT32).writeInt(packet.length).writeBytes(packet);
+        return frame.array();
+    }
+
+    private static byte[] frame(long syncId) throws IOException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packMapHeader(2)
+            .packInt(0x00).packInt(0)
+            .packInt(0x01).packLong(syncId);
+        packer.packMapHeader(1)
+            .packInt(0x30).packArrayHeader(2)
+            .packArrayHeader(2).packString("abc").packInt(1)
+            .packArrayHeader(2).packString("def").packInt(2);
+        byte[] body = packer.toByteArray();
+        ByteBuf frame = Unpooled.buffer(body.length + 5);
+        frame.writeByte(MessagePack.Code.UINT32).writeInt(body.length).writeBytes(body);
+        return frame.array();
+    }
+}
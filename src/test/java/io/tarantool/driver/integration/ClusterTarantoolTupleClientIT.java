@@ -39,6 +39,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -365,6 +366,28 @@ public class ClusterTarantoolTupleClientIT extends SharedTarantoolContainer {
         assertEquals("Hello, 1 abc", resultTwoParams.get(2));
     }
 
+    @Test
+    public void callWithPushHandlerTest() throws Exception {
+        List<Object> pushedValues = new CopyOnWriteArrayList<>();
+
+        List<?> result = client.call("user_function_push_values", Collections.singletonList(3),
+            pushedValues::add).get();
+
+        assertEquals(Arrays.asList(1, 2, 3), pushedValues);
+        assertEquals(Collections.singletonList(3), result);
+    }
+
+    @Test
+    public void callWithPushHandlerTest_shouldFailResult_ifHandlerThrows() {
+        ExecutionException e = assertThrows(ExecutionException.class,
+            () -> client.call("user_function_push_values", Collections.singletonList(3), value -> {
+                throw new IllegalStateException("Handler failure");
+            }).get());
+
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertEquals("Handler failure", e.getCause().getMessage());
+    }
+
     @Test
     public void callForTarantoolResultTest() throws Exception {
         MessagePackMapper defaultMapper = client.getConfig().getMessagePackMapper();
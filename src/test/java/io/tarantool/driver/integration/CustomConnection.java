@@ -10,6 +10,7 @@ import io.tarantool.driver.mappers.MessagePackValueMapper;
 import io.tarantool.driver.protocol.TarantoolRequest;
 
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -33,6 +34,11 @@ public class CustomConnection implements TarantoolConnection {
         return connection.getRemoteAddress();
     }
 
+    @Override
+    public SocketAddress getRemoteSocketAddress() throws TarantoolClientException {
+        return connection.getRemoteSocketAddress();
+    }
+
     @Override
     public TarantoolVersion getVersion() throws TarantoolClientException {
         return connection.getVersion();
@@ -0,0 +1,71 @@
+package io.tarantool.driver.integration;
+
+import io.tarantool.driver.api.TarantoolPipeline;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+@Testcontainers
+public class PipelineIT extends SharedTarantoolContainer {
+
+    private static final String TEST_SPACE_NAME = "test_space";
+
+    private static final DefaultMessagePackMapperFactory mapperFactory = DefaultMessagePackMapperFactory.getInstance();
+
+    @BeforeAll
+    public static void setUp() {
+        startContainer();
+        assertTrue(container.isRunning());
+        initClient();
+    }
+
+    @Test
+    public void test_execute_shouldCompleteAllOperations_ifOperationsAreAddedToPipeline() {
+        //given
+        client.space(TEST_SPACE_NAME).truncate().join();
+        TarantoolPipeline<TarantoolTuple, TarantoolResult<TarantoolTuple>> pipeline = client.pipeline();
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+            pipeline.space(TEST_SPACE_NAME);
+        List<CompletableFuture<TarantoolResult<TarantoolTuple>>> inserted = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            List<Object> values = Arrays.asList(i, "a" + i, "Book " + i, "Author " + i, 2000 + i);
+            inserted.add(testSpace.insert(new TarantoolTupleImpl(values, mapperFactory.defaultComplexTypesMapper())));
+        }
+        CompletableFuture<List<?>> called = pipeline.call("user_function_two_param", 1, 2);
+        CompletableFuture<Integer> singleResult =
+            pipeline.callForSingleResult("user_function_no_param", Collections.emptyList(), Integer.class);
+
+        //when
+        assertFalse(called.isDone());
+        pipeline.execute().join();
+
+        //then
+        for (CompletableFuture<TarantoolResult<TarantoolTuple>> future : inserted) {
+            assertEquals(1, future.join().size());
+        }
+        assertEquals(Arrays.asList(1, 2, "Hello, 1 2"), called.join());
+        assertEquals(5, singleResult.join());
+        assertEquals(10, client.space(TEST_SPACE_NAME).select(Conditions.any()).join().size());
+        assertThrows(IllegalStateException.class, pipeline::execute);
+    }
+}
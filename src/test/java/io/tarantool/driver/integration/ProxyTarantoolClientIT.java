@@ -25,6 +25,7 @@ import io.tarantool.driver.api.SingleValueCallResult;
 import io.tarantool.driver.api.TarantoolClient;
 import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.TarantoolClusterAddressProvider;
+import io.tarantool.driver.api.TarantoolPipeline;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.TarantoolServerAddress;
 import io.tarantool.driver.api.conditions.Conditions;
@@ -679,6 +680,33 @@ public class ProxyTarantoolClientIT extends SharedCartridgeContainer {
         assertNotNull(thrown, "Exception was not thrown");
     }
 
+    @Test
+    public void test_pipeline_shouldExecuteProxyOperations_ifOperationsAreAddedToPipeline() {
+        //given
+        TarantoolPipeline<TarantoolTuple, TarantoolResult<TarantoolTuple>> pipeline = client.pipeline();
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> profileSpace =
+            pipeline.space(TEST_SPACE_NAME);
+        List<CompletableFuture<TarantoolResult<TarantoolTuple>>> inserted = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            inserted.add(profileSpace.insert(tupleFactory.create(500_000 + i, null, "FIO", 50 + i, 100 + i)));
+        }
+        CompletableFuture<Integer> called = pipeline.callForSingleResult(
+            "returning_number", Collections.emptyList(), Integer.class);
+
+        //when
+        assertFalse(called.isDone());
+        pipeline.execute().join();
+
+        //then
+        for (CompletableFuture<TarantoolResult<TarantoolTuple>> future : inserted) {
+            assertEquals(1, future.join().size());
+        }
+        assertEquals(2, called.join());
+        assertEquals(10, client.space(TEST_SPACE_NAME)
+            .select(Conditions.greaterOrEquals(PK_FIELD_NAME, 500_000).andLessThan(PK_FIELD_NAME, 500_010))
+            .join().size());
+    }
+
     @Test
     public void test_should_reconnect_ifReconnectIsInvoked() throws Exception {
         assertEquals(3, getAliveConnections());
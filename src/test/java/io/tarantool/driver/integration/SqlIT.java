@@ -0,0 +1,118 @@
+package io.tarantool.driver.integration;
+
+import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.TarantoolClientFactory;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.TarantoolSqlResult;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.TarantoolContainer;
+import org.testcontainers.containers.output.Slf4jLogConsumer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+@Testcontainers
+@EnabledIf("io.tarantool.driver.TarantoolUtils#versionWithSqlAddColumn")
+public class SqlIT {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlIT.class);
+    private static final String tarantoolVersion = System.getenv().get("TARANTOOL_VERSION");
+
+    @Container
+    private static final TarantoolContainer container = new TarantoolContainer(
+        String.format("tarantool/tarantool:%s-centos7", tarantoolVersion != null ? tarantoolVersion : "2.10.5"))
+        .withScriptFileName("org/testcontainers/containers/sql.lua")
+        .withLogConsumer(new Slf4jLogConsumer(log));
+
+    private static TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> client;
+
+    @BeforeAll
+    public static void setUp() {
+        assertTrue(container.isRunning());
+        client = TarantoolClientFactory.createClient()
+            .withAddress(container.getHost(), container.getPort())
+            .withCredentials(container.getUsername(), container.getPassword())
+            .build();
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        client.close();
+    }
+
+    @Test
+    public void test_execute_shouldPrepareStatementOnce_ifStatementIsExecutedRepeatedly() {
+        //given
+        String statement = "SELECT name FROM accounts WHERE id = ?";
+        long preparedBefore = preparedStatementsCount();
+
+        //when
+        TarantoolSqlResult first = client.execute(statement, Collections.singletonList(1)).join();
+        long preparedAfterFirst = preparedStatementsCount();
+        TarantoolSqlResult second = client.execute(statement, Collections.singletonList(2)).join();
+        long preparedAfterSecond = preparedStatementsCount();
+
+        //then
+        assertEquals(1, first.size());
+        assertEquals("Alice", first.get(0).getString("NAME"));
+        assertEquals(1, second.size());
+        assertEquals("Bob", second.get(0).getString("NAME"));
+        assertEquals(preparedBefore + 1, preparedAfterFirst);
+        assertEquals(preparedAfterFirst, preparedAfterSecond);
+    }
+
+    @Test
+    public void test_execute_shouldPrepareStatementAgain_ifSchemaIsChanged() {
+        //given
+        String statement = "SELECT * FROM events";
+        TarantoolSqlResult before = client.execute(statement).join();
+        assertEquals(2, before.getMetadata().get().getSpaceFormatMetadata().size());
+
+        //when
+        client.eval("box.execute([[ALTER TABLE events ADD COLUMN note STRING]])").join();
+        TarantoolSqlResult after = client.execute(statement).join();
+
+        //then
+        TarantoolSpaceMetadata metadata = after.getMetadata().get();
+        assertEquals(3, metadata.getSpaceFormatMetadata().size());
+        assertEquals(2, metadata.getFieldPositionByName("NOTE"));
+        assertEquals(1, after.size());
+        assertEquals("login", after.get(0).getString("KIND"));
+        assertNull(after.get(0).getString("NOTE"));
+    }
+
+    @Test
+    public void test_execute_shouldKeepColumnPositions_ifColumnNamesAreRepeated() {
+        //when
+        TarantoolSqlResult result = client.execute(
+            "SELECT a.id, b.id, b.balance FROM accounts a JOIN balances b ON a.id = b.id ORDER BY a.id").join();
+
+        //then
+        assertEquals(Arrays.asList("ID", "ID_1", "BALANCE"),
+            Arrays.asList(result.getMetadata().get().getSpaceFormatMetadata().keySet().toArray()));
+        assertEquals(2, result.size());
+        assertEquals(2, result.get(1).getInteger("ID"));
+        assertEquals(2, result.get(1).getInteger("ID_1"));
+        assertEquals(50, result.get(1).getInteger("BALANCE"));
+    }
+
+    private static long preparedStatementsCount() {
+        return ((Number) client.eval("return box.info.sql().cache.stmt_count").join().get(0)).longValue();
+    }
+}
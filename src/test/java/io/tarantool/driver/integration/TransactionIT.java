@@ -0,0 +1,169 @@
+package io.tarantool.driver.integration;
+
+import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.TarantoolClientFactory;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.TarantoolTransaction;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.api.tuple.operations.TupleOperations;
+import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.TarantoolContainer;
+import org.testcontainers.containers.output.Slf4jLogConsumer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+@Testcontainers
+@EnabledIf("io.tarantool.driver.TarantoolUtils#versionWithTransactions")
+public class TransactionIT {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionIT.class);
+    private static final String ACCOUNTS_SPACE = "accounts";
+    private static final String tarantoolVersion = System.getenv().get("TARANTOOL_VERSION");
+
+    @Container
+    private static final TarantoolContainer container = new TarantoolContainer(
+        String.format("tarantool/tarantool:%s-centos7", tarantoolVersion != null ? tarantoolVersion : "2.10.5"))
+        .withScriptFileName("org/testcontainers/containers/transactions.lua")
+        .withLogConsumer(new Slf4jLogConsumer(log));
+
+    private static TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> client;
+    private static MessagePackMapper mapper;
+
+    @BeforeAll
+    public static void setUp() {
+        assertTrue(container.isRunning());
+        client = TarantoolClientFactory.createClient()
+            .withAddress(container.getHost(), container.getPort())
+            .withCredentials(container.getUsername(), container.getPassword())
+            .build();
+        mapper = client.getConfig().getMessagePackMapper();
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        client.close();
+    }
+
+    @BeforeEach
+    public void truncateSpace() {
+        client.space(ACCOUNTS_SPACE).truncate().join();
+    }
+
+    @Test
+    public void test_insertMany_shouldInsertAllTuples() {
+        //given
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> accounts =
+            client.space(ACCOUNTS_SPACE);
+        List<TarantoolTuple> tuples = Arrays.asList(account(1, "Alice", 100), account(2, "Bob", 50));
+
+        //when
+        TarantoolResult<TarantoolTuple> inserted = accounts.insertMany(tuples).join();
+
+        //then
+        assertEquals(2, inserted.size());
+        assertEquals(2, accounts.select(Conditions.any()).join().size());
+    }
+
+    @Test
+    public void test_insertMany_shouldInsertNothing_ifOneTupleFails() {
+        //given
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> accounts =
+            client.space(ACCOUNTS_SPACE);
+        accounts.insert(account(2, "Bob", 50)).join();
+        List<TarantoolTuple> tuples = Arrays.asList(account(1, "Alice", 100), account(2, "Bob", 50));
+
+        //when
+        CompletionException e = assertThrows(CompletionException.class, () -> accounts.insertMany(tuples).join());
+
+        //then
+        assertTrue(e.getCause().getMessage().contains("Duplicate key exists"));
+        TarantoolResult<TarantoolTuple> selected = accounts.select(Conditions.any()).join();
+        assertEquals(1, selected.size());
+        assertEquals(2, selected.get(0).getInteger("id"));
+    }
+
+    @Test
+    public void test_transaction_shouldCommitAllOperations() {
+        //given
+        client.space(ACCOUNTS_SPACE).insertMany(Arrays.asList(account(1, "Alice", 100), account(2, "Bob", 50)))
+            .join();
+        TarantoolTransaction<TarantoolTuple, TarantoolResult<TarantoolTuple>> transaction = client.transaction();
+        CompletableFuture<TarantoolResult<TarantoolTuple>> debit = transaction.space(ACCOUNTS_SPACE)
+            .update(Conditions.indexEquals("primary", Arrays.asList(1)), TupleOperations.subtract("balance", 30));
+        CompletableFuture<TarantoolResult<TarantoolTuple>> credit = transaction.space(ACCOUNTS_SPACE)
+            .update(Conditions.indexEquals("primary", Arrays.asList(2)), TupleOperations.add("balance", 30));
+
+        //when
+        transaction.commit().join();
+
+        //then
+        assertEquals(70, debit.join().get(0).getInteger("balance"));
+        assertEquals(80, credit.join().get(0).getInteger("balance"));
+        TarantoolResult<TarantoolTuple> selected = client.space(ACCOUNTS_SPACE).select(Conditions.any()).join();
+        assertEquals(70, selected.get(0).getInteger("balance"));
+        assertEquals(80, selected.get(1).getInteger("balance"));
+    }
+
+    @Test
+    public void test_transaction_shouldRollbackAllOperations_ifOneOperationFails() {
+        //given
+        client.space(ACCOUNTS_SPACE).insert(account(1, "Alice", 100)).join();
+        TarantoolTransaction<TarantoolTuple, TarantoolResult<TarantoolTuple>> transaction = client.transaction();
+        transaction.space(ACCOUNTS_SPACE)
+            .update(Conditions.indexEquals("primary", Arrays.asList(1)), TupleOperations.subtract("balance", 30));
+        // the balance is unsigned, so it cannot become negative
+        transaction.space(ACCOUNTS_SPACE)
+            .update(Conditions.indexEquals("primary", Arrays.asList(1)), TupleOperations.subtract("balance", 100));
+
+        //when
+        assertThrows(CompletionException.class, () -> transaction.commit().join());
+
+        //then
+        TarantoolResult<TarantoolTuple> selected = client.space(ACCOUNTS_SPACE).select(Conditions.any()).join();
+        assertEquals(100, selected.get(0).getInteger("balance"));
+        assertThrows(IllegalStateException.class, transaction::commit);
+    }
+
+    @Test
+    public void test_transaction_shouldNotExecuteRolledBackOperations() {
+        //given
+        TarantoolTransaction<TarantoolTuple, TarantoolResult<TarantoolTuple>> transaction = client.transaction();
+        CompletableFuture<TarantoolResult<TarantoolTuple>> inserted =
+            transaction.space(ACCOUNTS_SPACE).insert(account(1, "Alice", 100));
+
+        //when
+        transaction.rollback().join();
+
+        //then
+        CompletionException e = assertThrows(CompletionException.class, inserted::join);
+        assertTrue(e.getCause() instanceof TarantoolClientException);
+        assertTrue(client.space(ACCOUNTS_SPACE).select(Conditions.any()).join().isEmpty());
+    }
+
+    private static TarantoolTuple account(int id, String name, int balance) {
+        return new TarantoolTupleImpl(Arrays.asList(id, name, balance), mapper);
+    }
+}
@@ -2,26 +2,39 @@ package io.tarantool.driver.mappers;
 
 import io.tarantool.driver.CustomTuple;
 import io.tarantool.driver.CustomTupleResult;
+import io.tarantool.driver.api.SingleValueCallResult;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.api.tuple.TarantoolTupleResult;
 import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.exceptions.TarantoolTupleConversionException;
+import io.tarantool.driver.mappers.converters.StreamingValueConverter;
 import io.tarantool.driver.mappers.factories.ArrayValueToTarantoolResultMapperFactory;
 import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
 import io.tarantool.driver.mappers.factories.ResultMapperFactoryFactory;
 import io.tarantool.driver.mappers.factories.ResultMapperFactoryFactoryImpl;
 import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.StringValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
+import org.msgpack.value.ValueType;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TarantoolResultMapperTest {
     @Test
@@ -101,4 +114,155 @@ class TarantoolResultMapperTest {
         assertEquals(2, result.get(1).getId());
         assertEquals("efgh", result.get(1).getName());
     }
+
+    @Test
+    void testStreamingWithArrayTarantoolTuple() throws IOException {
+        MessagePackMapper defaultMapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        TarantoolTupleResultMapperFactory tarantoolTupleResultMapperFactory =
+            TarantoolTupleResultMapperFactoryImpl.getInstance();
+        TarantoolResultMapper<TarantoolTuple> mapper = tarantoolTupleResultMapperFactory.
+            withArrayValueToTarantoolTupleResultConverter(defaultMapper);
+        List<Object> nestedList = Arrays.asList("nested", "array", 1);
+        TarantoolTuple tupleOne = new TarantoolTupleImpl(Arrays.asList("abc", 1234, nestedList), defaultMapper);
+        TarantoolTuple tupleTwo = new TarantoolTupleImpl(Arrays.asList("def", null, 5678), defaultMapper);
+        ArrayValue testTuples = ValueFactory.newArray(
+            tupleOne.toMessagePackValue(defaultMapper), tupleTwo.toMessagePackValue(defaultMapper));
+        assertTrue(mapper.canUnpack(ValueType.ARRAY));
+        assertFalse(mapper.canUnpack(ValueType.MAP));
+        TarantoolResult<TarantoolTuple> result = mapper.fromUnpacker(unpackerFor(testTuples));
+        assertTrue(result instanceof TarantoolTupleResult);
+        assertEquals(2, result.size());
+        assertEquals("abc", result.get(0).getString(0));
+        assertEquals(1234, result.get(0).getInteger(1));
+        assertEquals(nestedList, result.get(0).getList(2));
+        assertEquals("def", result.get(1).getString(0));
+        assertFalse(result.get(1).getObject(1).isPresent());
+        assertEquals(5678, result.get(1).getInteger(2));
+    }
+
+    @Test
+    void testStreamingIsNotSupportedWithRowsMetadataTarantoolTuple() {
+        MessagePackMapper defaultMapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        TarantoolResultMapper<TarantoolTuple> mapper = TarantoolTupleResultMapperFactoryImpl.getInstance()
+            .withRowsMetadataToTarantoolTupleResultConverter(defaultMapper);
+        assertFalse(mapper.canUnpack(ValueType.ARRAY));
+        assertFalse(mapper.canUnpack(ValueType.MAP));
+    }
+
+    @Test
+    void testStreamingWithCustomTuple() throws IOException {
+        MessagePackMapper defaultMapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        defaultMapper.registerObjectConverter(CustomTuple.class, ArrayValue.class, t ->
+            ValueFactory.newArray(ValueFactory.newInteger(t.getId()), ValueFactory.newString(t.getName())));
+        ArrayValueToTarantoolResultMapperFactory<CustomTuple> mapperFactory
+            = new ResultMapperFactoryFactoryImpl().rowsMetadataStructureResultMapperFactory();
+        TarantoolResultMapper<CustomTuple> mapper = mapperFactory.withArrayValueToTarantoolResultConverter(
+            new StreamingValueConverter<ArrayValue, CustomTuple>() {
+                @Override
+                public CustomTuple fromUnpacker(MessageUnpacker unpacker) throws IOException {
+                    unpacker.unpackArrayHeader();
+                    return new CustomTuple(unpacker.unpackInt(), unpacker.unpackString());
+                }
+
+                @Override
+                public CustomTuple fromValue(ArrayValue value) {
+                    List<Value> values = value.list();
+                    return new CustomTuple(values.get(0).asIntegerValue().asInt(),
+                        values.get(1).asStringValue().asString());
+                }
+            });
+        ArrayValue testTuples = ValueFactory.newArray(Arrays.asList(
+            defaultMapper.toValue(new CustomTuple(1, "abcd")), defaultMapper.toValue(new CustomTuple(2, "efgh"))));
+        assertTrue(mapper.canUnpack(ValueType.ARRAY));
+        TarantoolResult<CustomTuple> result = mapper.fromUnpacker(unpackerFor(testTuples));
+        assertEquals(Arrays.asList(new CustomTuple(1, "abcd"), new CustomTuple(2, "efgh")), result);
+    }
+
+    @Test
+    void testStreamingIsNotSupportedWithValueOnlyConverter() {
+        ArrayValueToTarantoolResultMapperFactory<CustomTuple> mapperFactory
+            = new ResultMapperFactoryFactoryImpl().rowsMetadataStructureResultMapperFactory();
+        TarantoolResultMapper<CustomTuple> mapper = mapperFactory.withArrayValueToTarantoolResultConverter(
+            v -> new CustomTuple(v.get(0).asIntegerValue().asInt(), v.get(1).asStringValue().asString()));
+        assertFalse(mapper.canUnpack(ValueType.ARRAY));
+    }
+
+    @Test
+    void testStreamingWithSingleValueResult() throws IOException {
+        //given
+        MessagePackMapper defaultMapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        DefaultSingleValueResultMapper<Object> mapper =
+            new DefaultSingleValueResultMapper<>(defaultMapper, Object.class);
+        Map<String, Object> nestedMap = new HashMap<>();
+        nestedMap.put("int", 1);
+        nestedMap.put("long", 1L << 40);
+        nestedMap.put("double", 2.5);
+        nestedMap.put("boolean", true);
+        nestedMap.put("list", Arrays.asList("a", null, -3));
+        MapValue resultValue = defaultMapper.toValue(nestedMap);
+        ArrayValue callResult = ValueFactory.newArray(resultValue);
+
+        //when
+        SingleValueCallResult<Object> result = mapper.fromUnpacker(unpackerFor(callResult));
+
+        //then
+        assertTrue(mapper.canUnpack(ValueType.ARRAY));
+        assertTrue(mapper.canConvertUnpacked(unpackerFor(callResult)));
+        assertEquals(nestedMap, result.value());
+        assertEquals(mapper.fromValue(callResult, SingleValueCallResult.class).value(), result.value());
+        assertNull(mapper.fromUnpacker(unpackerFor(ValueFactory.newArray(ValueFactory.newNil()))).value());
+        assertNull(mapper.fromUnpacker(unpackerFor(ValueFactory.emptyArray())).value());
+        assertFalse(mapper.canConvertUnpacked(unpackerFor(
+            ValueFactory.newArray(ValueFactory.newNil(), ValueFactory.newString("ERROR")))));
+    }
+
+    @Test
+    void testStreamingWithDuplicateMapKeys() {
+        //given
+        MessagePackMapper defaultMapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        DefaultSingleValueResultMapper<Object> mapper =
+            new DefaultSingleValueResultMapper<>(defaultMapper, Object.class);
+        MapValue duplicateKeys = ValueFactory.newMap(
+            ValueFactory.newString("key"), ValueFactory.newInteger(1),
+            ValueFactory.newString("key"), ValueFactory.newInteger(2));
+        ArrayValue callResult = ValueFactory.newArray(duplicateKeys);
+
+        //when
+        IllegalStateException streamingError =
+            assertThrows(IllegalStateException.class, () -> mapper.fromUnpacker(unpackerFor(callResult)));
+        IllegalStateException valueError =
+            assertThrows(IllegalStateException.class, () -> defaultMapper.fromValue(duplicateKeys));
+
+        //then
+        assertEquals("Duplicate key key", streamingError.getMessage());
+        assertEquals(valueError.getMessage(), streamingError.getMessage());
+    }
+
+    @Test
+    void testStreamingWithNotTupleItem() throws IOException {
+        //given
+        MessagePackMapper defaultMapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        TarantoolResultMapper<TarantoolTuple> mapper = TarantoolTupleResultMapperFactoryImpl.getInstance()
+            .withArrayValueToTarantoolTupleResultConverter(defaultMapper);
+        TarantoolTuple tuple = new TarantoolTupleImpl(Arrays.asList("abc", 1234), defaultMapper);
+        ArrayValue testTuples = ValueFactory.newArray(
+            tuple.toMessagePackValue(defaultMapper), ValueFactory.newString("not a tuple"));
+        MessageUnpacker unpacker = unpackerFor(testTuples);
+
+        //when
+        TarantoolTupleConversionException streamingError =
+            assertThrows(TarantoolTupleConversionException.class, () -> mapper.fromUnpacker(unpacker));
+        TarantoolTupleConversionException valueError =
+            assertThrows(TarantoolTupleConversionException.class,
+                () -> mapper.fromValue(testTuples, TarantoolTupleResult.class));
+
+        //then
+        assertEquals(valueError.getMessage(), streamingError.getMessage());
+    }
+
+    private static MessageUnpacker unpackerFor(Value value) throws IOException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packValue(value);
+        return MessagePack.newDefaultUnpacker(packer.toByteArray());
+    }
 }
@@ -17,11 +17,14 @@ import org.msgpack.value.ValueFactory;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Alexey Kuzin
@@ -46,6 +49,33 @@ public class TarantoolSelectRequestTest {
         assertArrayEquals(buildSelectRequest(expected, request.getHeader().getSync()), selectRequestToBytes(request));
     }
 
+    @Test
+    public void test_build_shouldPackPositionAsString_ifAfterPositionIsSpecified() throws Exception {
+        //given
+        byte[] position = new byte[]{(byte) 0x91, (byte) 0xff, 0x00, 0x7f};
+
+        //when
+        TarantoolSelectRequest request = new TarantoolSelectRequest.Builder()
+            .withSpaceId(512)
+            .withIndexId(0)
+            .withOffset(0)
+            .withLimit(10)
+            .withIteratorType(TarantoolIteratorType.ITER_ALL)
+            .withKeyValues(Collections.emptyList())
+            .withFetchPosition()
+            .withAfterPosition(position)
+            .build(mapper);
+
+        //then
+        Map<Value, Value> body = request.getBody().toMessagePackValue(mapper).asMapValue().map();
+        assertEquals(ValueFactory.newBoolean(true), body.get(
+            ValueFactory.newInteger(TarantoolRequestFieldType.IPROTO_FETCH_POSITION.getCode())));
+        Value afterPosition = body.get(
+            ValueFactory.newInteger(TarantoolRequestFieldType.IPROTO_AFTER_POSITION.getCode()));
+        assertTrue(afterPosition.isStringValue());
+        assertArrayEquals(position, afterPosition.asStringValue().asByteArray());
+    }
+
     private byte[] selectRequestToBytes(TarantoolSelectRequest request) throws TarantoolDecoderException {
         try {
             request.toMessagePack(packer, mapper);
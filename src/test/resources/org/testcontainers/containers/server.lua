@@ -146,6 +146,13 @@ function user_function_two_param(a, b)
     return a, b, 'Hello, ' .. a .. ' ' .. b;
 end
 
+function user_function_push_values(count)
+    for i = 1, count do
+        box.session.push(i)
+    end
+    return count
+end
+
 function user_function_return_long_value()
     local s = {}
     for i = 1, 2800 * 3 do
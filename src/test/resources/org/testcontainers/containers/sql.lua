@@ -0,0 +1,17 @@
+box.cfg {
+    listen = 3301,
+    memtx_memory = 128 * 1024 * 1024, -- 128 Mb
+    log_level = 6,
+}
+-- API user will be able to login with this password
+box.schema.user.create('api_user', { password = 'secret' })
+-- API user will be able to create spaces, add or remove data, execute functions
+box.schema.user.grant('api_user', 'read,write,execute', 'universe')
+
+box.execute([[CREATE TABLE accounts (id INTEGER PRIMARY KEY, name STRING NOT NULL)]])
+box.execute([[CREATE TABLE balances (id INTEGER PRIMARY KEY, balance INTEGER)]])
+box.execute([[CREATE TABLE events (id INTEGER PRIMARY KEY, kind STRING NOT NULL)]])
+
+box.execute([[INSERT INTO accounts VALUES (1, 'Alice'), (2, 'Bob')]])
+box.execute([[INSERT INTO balances VALUES (1, 100), (2, 50)]])
+box.execute([[INSERT INTO events VALUES (1, 'login')]])